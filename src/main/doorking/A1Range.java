@@ -0,0 +1,80 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/** Helpers for ranges in A1 notation, such as {@code Residents!A2:Z}. */
+public class A1Range {
+  private static final Pattern CELLS =
+      Pattern.compile("([A-Z]+)([0-9]*)(?::([A-Z]*)([0-9]*))?");
+
+  private A1Range() {
+  }
+
+  /**
+   * Returns {@code range} with its last column reduced to {@code lastColumn},
+   * counted from the first column of the range (zero based). The first column
+   * is kept, so cell indexes are unchanged. Ranges which cannot be parsed,
+   * such as named ranges, are returned as is.
+   */
+  public static String trimColumns(String range, int lastColumn) {
+    int bang = range.lastIndexOf('!');
+    Matcher matcher = CELLS.matcher(range.substring(bang + 1));
+    if (!matcher.matches() || matcher.group(3) == null) {
+      return range;
+    }
+    int last = toColumnIndex(matcher.group(1)) + lastColumn;
+    String endColumn = matcher.group(3);
+    if (!endColumn.isEmpty() && toColumnIndex(endColumn) <= last) {
+      return range;
+    }
+    return range.substring(0, bang + 1) + matcher.group(1) + matcher.group(2)
+        + ":" + toColumnName(last) + matcher.group(4);
+  }
+
+  /**
+   * Returns the sheet row number of the first row of {@code range}, or 1 if
+   * it does not name one.
+   */
+  public static int getFirstRow(String range) {
+    Matcher matcher = CELLS.matcher(range.substring(range.lastIndexOf('!') + 1));
+    return matcher.matches() && !matcher.group(2).isEmpty()
+        ? Integer.parseInt(matcher.group(2))
+        : 1;
+  }
+
+  static int toColumnIndex(String name) {
+    int index = 0;
+    for (int i = 0; i < name.length(); i++) {
+      index = index * 26 + (name.charAt(i) - 'A' + 1);
+    }
+    return index - 1;
+  }
+
+  static String toColumnName(int index) {
+    StringBuilder name = new StringBuilder();
+    for (int i = index + 1; i > 0; i = (i - 1) / 26) {
+      name.insert(0, (char) ('A' + (i - 1) % 26));
+    }
+    return name.toString();
+  }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.util.Locale;
+
+import com.google.common.base.CharMatcher;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Identifies a household by street and house number. Both are trimmed,
+ * whitespace collapsed and lower-cased, and keys are interned, so equal
+ * addresses share one instance and compare exactly.
+ */
+public final class AddressKey {
+  private static final Interner<AddressKey> interner = Interners.newWeakInterner();
+
+  private final String street;
+  private final String houseNumber;
+  private final int hashCode;
+
+  private AddressKey(String street, String houseNumber) {
+    this.street = street;
+    this.houseNumber = houseNumber;
+    this.hashCode = 31 * street.hashCode() + houseNumber.hashCode();
+  }
+
+  public static AddressKey of(String street, String houseNumber) {
+    return interner.intern(new AddressKey(normalize(street), normalize(houseNumber)));
+  }
+
+  private static String normalize(String text) {
+    return text == null
+        ? ""
+        : CharMatcher.whitespace().trimAndCollapseFrom(text, ' ').toLowerCase(Locale.ROOT);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (!(obj instanceof AddressKey)) {
+      return false;
+    }
+    AddressKey that = (AddressKey) obj;
+    return hashCode == that.hashCode
+        && street.equals(that.street)
+        && houseNumber.equals(that.houseNumber);
+  }
+
+  @Override
+  public String toString() {
+    return houseNumber + " " + street;
+  }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.util.Arrays;
+
+/** A reusable buffer holding the cells of one spreadsheet row as text. */
+public class Cells {
+  private String[] cells = new String[16];
+  private int size;
+
+  public int size() {
+    return size;
+  }
+
+  /** Returns the cell in {@code column}, or null past the end of the row. */
+  public String get(int column) {
+    return column < size ? cells[column] : null;
+  }
+
+  void clear() {
+    Arrays.fill(cells, 0, size, null);
+    size = 0;
+  }
+
+  void add(String cell) {
+    if (size == cells.length) {
+      cells = Arrays.copyOf(cells, size * 2);
+    }
+    cells[size++] = cell;
+  }
+
+  /** Drops trailing empty cells, which the Sheets API omits. */
+  void trimTrailingEmpty() {
+    while (size > 0 && (cells[size - 1] == null || cells[size - 1].isEmpty())) {
+      cells[--size] = null;
+    }
+  }
+}
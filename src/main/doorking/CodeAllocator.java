@@ -0,0 +1,157 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import com.google.common.base.Preconditions;
+
+import doorking.EntryCode.EntryCodeType;
+import doorking.Proto.CodeAllocation;
+import doorking.Proto.CodeRange;
+
+/**
+ * Picks entry codes that are neither in use nor deleted. Each type draws from
+ * its own candidate list, so every candidate is looked at once and allocation
+ * is O(1) amortized.
+ */
+public class CodeAllocator {
+  private final CodeAllocation policy;
+  private final Random random;
+  /** Codes that are in use, deleted, or too close to one that is. */
+  private final EntryCodeSet unavailable = new EntryCodeSet();
+  private final Map<EntryCodeType, Candidates> candidates = new EnumMap<>(EntryCodeType.class);
+
+  public CodeAllocator(CodeAllocation policy, EntryCodeSet usedCodes,
+      EntryCodeSet deletedCodes, Random random) {
+    Preconditions.checkArgument(policy.getMinDistance() >= 1 && policy.getMinDistance() <= 4,
+        "min_distance must be 1 to 4");
+    for (CodeRange range : policy.getReservedRangeList()) {
+      EntryCodeType.valueOf(range.getEntryCodeType().toUpperCase());
+      EntryCodeSet.checkCode(range.getFirst());
+      EntryCodeSet.checkCode(range.getLast());
+      Preconditions.checkArgument(range.getFirst() <= range.getLast(),
+          "Empty range %s", range);
+    }
+    this.policy = policy;
+    this.random = random;
+    usedCodes.stream().forEach(this::markUnavailable);
+    deletedCodes.stream().forEach(this::markUnavailable);
+  }
+
+  public CodeAllocator(CodeAllocation policy, EntryCodeSet usedCodes,
+      EntryCodeSet deletedCodes) {
+    this(policy, usedCodes, deletedCodes, new Random());
+  }
+
+  /**
+   * Returns a free code for {@code type} and reserves it, so it is not
+   * returned again.
+   *
+   * @throws IllegalStateException if there are no free codes left
+   */
+  public int allocate(EntryCodeType type) {
+    Candidates typeCandidates = candidates.computeIfAbsent(type, this::newCandidates);
+    while (typeCandidates.next < typeCandidates.codes.length) {
+      int code = typeCandidates.codes[typeCandidates.next++];
+      if (!unavailable.contains(code)) {
+        markUnavailable(code);
+        return code;
+      }
+    }
+    throw new IllegalStateException("No free " + type + " codes");
+  }
+
+  private static class Candidates {
+    final int[] codes;
+    int next;
+
+    Candidates(int[] codes) {
+      this.codes = codes;
+    }
+  }
+
+  private Candidates newCandidates(EntryCodeType type) {
+    int[] codes = new int[EntryCodeSet.SIZE];
+    int count = 0;
+    for (int code = 0; code < EntryCodeSet.SIZE; code++) {
+      if (isEligible(type, code)) {
+        codes[count++] = code;
+      }
+    }
+    if (policy.getRandom()) {
+      for (int i = count - 1; i > 0; i--) {
+        int j = random.nextInt(i + 1);
+        int swap = codes[i];
+        codes[i] = codes[j];
+        codes[j] = swap;
+      }
+    }
+    int[] eligible = new int[count];
+    System.arraycopy(codes, 0, eligible, 0, count);
+    return new Candidates(eligible);
+  }
+
+  private boolean isEligible(EntryCodeType type, int code) {
+    boolean hasRanges = false;
+    for (CodeRange range : policy.getReservedRangeList()) {
+      boolean inRange = code >= range.getFirst() && code <= range.getLast();
+      if (range.getEntryCodeType().equalsIgnoreCase(type.name())) {
+        if (inRange) {
+          return true;
+        }
+        hasRanges = true;
+      } else if (inRange) {
+        return false;
+      }
+    }
+    return !hasRanges;
+  }
+
+  /** Marks {@code code} and every code within min_distance - 1 digits of it. */
+  private void markUnavailable(int code) {
+    markNeighbors(code, 0, policy.getMinDistance() - 1);
+  }
+
+  private void markNeighbors(int code, int digit, int changes) {
+    unavailable.add(code);
+    if (changes == 0) {
+      return;
+    }
+    for (int position = digit, scale = pow10(digit); position < 4; position++, scale *= 10) {
+      int current = code / scale % 10;
+      for (int value = 0; value < 10; value++) {
+        if (value != current) {
+          markNeighbors(code + (value - current) * scale, position + 1, changes - 1);
+        }
+      }
+    }
+  }
+
+  private static int pow10(int exponent) {
+    int result = 1;
+    for (int i = 0; i < exponent; i++) {
+      result *= 10;
+    }
+    return result;
+  }
+}
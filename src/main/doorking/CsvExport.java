@@ -0,0 +1,85 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import doorking.FlightEvents.CsvExportEvent;
+
+/**
+ * Streams entries to the CSV file for Account Manager. Entries are written to
+ * a temporary file which {@link #commit} renames over the target, so readers
+ * never see a partial export.
+ */
+public class CsvExport implements Closeable, EntrySink {
+  private final Path target;
+  private final Path temp;
+  private final Writer writer;
+  private final CsvWriter csv;
+  private final String accountName;
+  private boolean committed;
+  private int entryCount;
+  private final CsvExportEvent event = FlightEvents.beginCsvExport();
+
+  public CsvExport(Path target, String accountName) throws IOException {
+    this.target = target;
+    this.temp = target.resolveSibling(target.getFileName() + ".tmp");
+    this.writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8);
+    this.csv = new CsvWriter(writer);
+    this.accountName = accountName;
+    csv.raw("ACCOUNT").raw(Entry.getHeaders()).endRow();
+  }
+
+  @Override
+  public void accept(Entry entry) throws IOException {
+    csv.field(accountName);
+    entry.writeCsv(csv);
+    csv.endRow();
+    entryCount++;
+  }
+
+  public int getEntryCount() {
+    return entryCount;
+  }
+
+  /** Closes the temporary file and renames it over the target. */
+  public void commit() throws IOException {
+    writer.close();
+    Files.move(temp, target,
+        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    committed = true;
+    FlightEvents.commit(event, target, entryCount);
+  }
+
+  /** Discards the export unless it was committed. */
+  @Override
+  public void close() throws IOException {
+    if (!committed) {
+      writer.close();
+      Files.deleteIfExists(temp);
+    }
+  }
+}
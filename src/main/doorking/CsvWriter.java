@@ -0,0 +1,120 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes CSV fields straight to a {@link Writer}. Fields are quoted only when
+ * they contain a comma, quote or line break, and numbers are zero-padded
+ * without formatting to a temporary string.
+ */
+public class CsvWriter {
+  private final Writer out;
+  private final char[] digits = new char[11];
+  private boolean firstField = true;
+
+  public CsvWriter(Writer out) {
+    this.out = out;
+  }
+
+  /** Writes {@code text} unquoted and unescaped, such as a header row. */
+  public CsvWriter raw(String text) throws IOException {
+    separate();
+    out.write(text);
+    return this;
+  }
+
+  /** Writes {@code text}, or an empty field if it is null. */
+  public CsvWriter field(String text) throws IOException {
+    separate();
+    if (text == null || !needsQuotes(text)) {
+      if (text != null) {
+        out.write(text);
+      }
+      return this;
+    }
+    out.write('"');
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '"') {
+        out.write('"');
+      }
+      out.write(c);
+    }
+    out.write('"');
+    return this;
+  }
+
+  public CsvWriter field(boolean value) throws IOException {
+    separate();
+    out.write(value ? 'Y' : 'N');
+    return this;
+  }
+
+  /**
+   * Writes {@code value} zero-padded to {@code width} digits, or an empty
+   * field if it is null.
+   */
+  public CsvWriter field(Integer value, int width) throws IOException {
+    separate();
+    if (value == null) {
+      return this;
+    }
+    int remaining = value;
+    if (remaining < 0) {
+      out.write('-');
+      remaining = -remaining;
+    }
+    int start = digits.length;
+    do {
+      digits[--start] = (char) ('0' + remaining % 10);
+      remaining /= 10;
+    } while (remaining > 0);
+    for (int i = digits.length - start; i < width; i++) {
+      out.write('0');
+    }
+    out.write(digits, start, digits.length - start);
+    return this;
+  }
+
+  public void endRow() throws IOException {
+    out.write(System.lineSeparator());
+    firstField = true;
+  }
+
+  private void separate() throws IOException {
+    if (!firstField) {
+      out.write(',');
+    }
+    firstField = false;
+  }
+
+  private static boolean needsQuotes(String text) {
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+        return true;
+      }
+    }
+    return false;
+  }
+}
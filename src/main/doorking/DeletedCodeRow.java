@@ -0,0 +1,58 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+import doorking.Proto.ColumnLayout;
+
+/** A row of the deleted entry code range. */
+public class DeletedCodeRow {
+  /** Field names of a ColumnLayout, in field number order. */
+  static final List<String> FIELDS = ImmutableList.of("entry_code");
+  private static final int ENTRY_CODE = 0;
+
+  /** Default column of each field. */
+  private static final int[][] DEFAULT_COLUMNS = {{0}};
+
+  public final String entryCode;
+
+  public DeletedCodeRow(String entryCode) {
+    this.entryCode = entryCode;
+  }
+
+  static RowLayout layout(ColumnLayout layout) {
+    return new RowLayout(FIELDS, DEFAULT_COLUMNS, layout);
+  }
+
+  public static DeletedCodeRow decode(RowDecoder decoder, Cells cells) {
+    return new DeletedCodeRow(decoder.get(cells, ENTRY_CODE));
+  }
+
+  /** Returns the cells of this row in the default layout. */
+  public List<String> toCells() {
+    List<String> cells = new ArrayList<>();
+    ResidentRow.set(cells, DEFAULT_COLUMNS[ENTRY_CODE][0], entryCode);
+    return cells;
+  }
+}
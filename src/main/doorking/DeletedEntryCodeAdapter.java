@@ -19,26 +19,33 @@
 
 package doorking;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import com.google.common.base.Preconditions;
 
+import doorking.FlightEvents.AdaptEvent;
+
 /** Adapts a custom spreadsheet to a set of entry codes. */
 public class DeletedEntryCodeAdapter {
-  private final List<List<Object>> rows;
+  private final List<DeletedCodeRow> rows;
 
-  public DeletedEntryCodeAdapter(List<List<Object>> rows) {
+  public DeletedEntryCodeAdapter(List<DeletedCodeRow> rows) {
     this.rows = rows;
   }
 
-  private static final int COLUMN_ENTRY_CODE = 0;
+  public EntryCodeSet adapt() {
+    AdaptEvent event = FlightEvents.beginAdapt();
+    try {
+      return adaptRows();
+    } finally {
+      FlightEvents.commit(event, "DeletedEntryCodeAdapter", rows.size(), false);
+    }
+  }
 
-  public Set<Integer> adapt() {
-    Set<Integer> codes = new HashSet<>();
-    for (List<Object> row : rows) {
-      int codeDigits = Integer.parseInt((String) row.get(COLUMN_ENTRY_CODE));
+  private EntryCodeSet adaptRows() {
+    EntryCodeSet codes = new EntryCodeSet();
+    for (DeletedCodeRow row : rows) {
+      int codeDigits = Integer.parseInt(row.entryCode);
       Preconditions.checkState(codes.add(codeDigits), 
           String.format("Duplicate deleted entry code %04d", codeDigits));
     }
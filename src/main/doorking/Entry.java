@@ -19,6 +19,8 @@
 
 package doorking;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -27,6 +29,8 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 
+import doorking.Proto.EntrySnapshot;
+
 /**
  * A DoorKing Entry which will be written to a CSV file for import
  * into Account Manager.
@@ -67,6 +71,46 @@ public class Entry {
     this.isVendor = isVendor;
   }
 
+  public Integer getDirectoryNumber() {
+    return directoryNumber;
+  }
+
+  public Integer getEntryCode() {
+    return entryCode;
+  }
+
+  String getDirectoryDisplayName() {
+    return directoryDisplayName;
+  }
+
+  boolean isHidden() {
+    return isHidden;
+  }
+
+  String getAreaCode() {
+    return areaCode;
+  }
+
+  String getPhoneNumber() {
+    return phoneNumber;
+  }
+
+  Integer getSecurityLevel() {
+    return securityLevel;
+  }
+
+  List<String> getDeviceNumbers() {
+    return deviceNumber;
+  }
+
+  String getNotes() {
+    return notes;
+  }
+
+  boolean isVendor() {
+    return isVendor;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(directoryDisplayName, isHidden, areaCode, phoneNumber,
@@ -101,25 +145,103 @@ public class Entry {
     return COMMA_JOINER.join(HEADERS);
   }
 
-  /** Used to write the CSV */
+  /** Writes the fields of this entry's CSV row. */
+  public void writeCsv(CsvWriter csv) throws IOException {
+    writeCsv(csv, directoryDisplayName, isHidden, areaCode, phoneNumber, directoryNumber,
+        entryCode, securityLevel, deviceNumber, notes, isVendor);
+  }
+
+  /** Writes the fields of a CSV row; shared with {@link EntryTable.View}. */
+  static void writeCsv(CsvWriter csv, String directoryDisplayName, boolean isHidden,
+      String areaCode, String phoneNumber, Integer directoryNumber, Integer entryCode,
+      Integer securityLevel, List<String> deviceNumber, String notes, boolean isVendor)
+      throws IOException {
+    csv.field(directoryDisplayName);
+    csv.field(isHidden);
+    csv.field(areaCode == null ? null : "1" + areaCode);
+    csv.field(phoneNumber);
+    csv.field(directoryNumber, 3);
+    csv.field(entryCode, 4);
+    csv.field(securityLevel, 2);
+    csv.field(deviceNumber.size() < 1 ? null : deviceNumber.get(0));
+    csv.field(notes);
+    csv.field(isVendor);
+    for (int i = 1; i <= 6; i++) {
+      csv.field(i >= deviceNumber.size() ? null : deviceNumber.get(i));
+    }
+  }
+
+  /** Returns the CSV row of this entry. */
   @Override
   public String toString() {
-    List<String> components = new ArrayList<>();
-    components.add(directoryDisplayName == null ? "" : directoryDisplayName);
-    components.add(isHidden ? "Y" : "N");
-    components.add(areaCode == null ? "" : "1" + areaCode);
-    components.add(phoneNumber == null ? "" : phoneNumber);
-    components.add(directoryNumber == null ? "" : String.format("%03d", directoryNumber));
-    components.add(entryCode == null ? "" : String.format("%04d", entryCode));
-    components.add(securityLevel == null ? "" : String.format("%02d", securityLevel));
-    components.add(deviceNumber.size() < 1 ? "" : deviceNumber.get(0));
-    components.add(notes == null ? "" : notes);
-    components.add(isVendor ? "Y" : "N");
-    for (int i = 1; i <= 6; i++) {
-      components.add(i >= deviceNumber.size() ? "" : deviceNumber.get(i));
+    return toCsv(this::writeCsv);
+  }
+
+  interface CsvRow {
+    void writeCsv(CsvWriter csv) throws IOException;
+  }
+
+  static String toCsv(CsvRow row) {
+    return toCsv(null, row);
+  }
+
+  /**
+   * Returns the CSV row led by the {@code accountName} field, as written to
+   * the export, or the row alone if it is null.
+   */
+  static String toCsv(String accountName, CsvRow row) {
+    StringWriter out = new StringWriter();
+    try {
+      CsvWriter csv = new CsvWriter(out);
+      if (accountName != null) {
+        csv.field(accountName);
+      }
+      row.writeCsv(csv);
+    } catch (IOException e) {
+      throw new AssertionError(e);
+    }
+    return out.toString();
+  }
+
+  public EntrySnapshot toSnapshot() {
+    EntrySnapshot.Builder snapshot = EntrySnapshot.newBuilder()
+        .setHidden(isHidden)
+        .addAllDeviceNumber(deviceNumber)
+        .setVendor(isVendor);
+    if (directoryDisplayName != null) {
+      snapshot.setDirectoryDisplayName(directoryDisplayName);
+    }
+    if (areaCode != null) {
+      snapshot.setAreaCode(areaCode);
     }
+    if (phoneNumber != null) {
+      snapshot.setPhoneNumber(phoneNumber);
+    }
+    if (directoryNumber != null) {
+      snapshot.setDirectoryNumber(directoryNumber);
+    }
+    if (entryCode != null) {
+      snapshot.setEntryCode(entryCode);
+      snapshot.setSecurityLevel(securityLevel);
+    }
+    if (notes != null) {
+      snapshot.setNotes(notes);
+    }
+    return snapshot.build();
+  }
 
-    return COMMA_JOINER.join(components);
+  public static Entry fromSnapshot(EntrySnapshot snapshot) {
+    return new Entry(
+        snapshot.hasDirectoryDisplayName() ? snapshot.getDirectoryDisplayName() : null,
+        snapshot.getHidden(),
+        snapshot.hasAreaCode() ? snapshot.getAreaCode() : null,
+        snapshot.hasPhoneNumber() ? snapshot.getPhoneNumber() : null,
+        snapshot.hasDirectoryNumber() ? snapshot.getDirectoryNumber() : null,
+        snapshot.hasEntryCode() ? snapshot.getEntryCode() : null,
+        snapshot.hasSecurityLevel() ? snapshot.getSecurityLevel() : null,
+        ImmutableList.copyOf(snapshot.getDeviceNumberList()),
+        snapshot.hasNotes() ? snapshot.getNotes() : null,
+        snapshot.getVendor());
   }
 
   public static Builder newBuilder() {
@@ -19,94 +19,161 @@
 
 package doorking;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 
 import doorking.EntryCode.EntryCodeType;
 import doorking.EntryCodeAdapter.EntryCodes;
+import doorking.FlightEvents.AdaptEvent;
+import doorking.FlightEvents.ResidentEntriesEvent;
 import doorking.Proto.Config;
 import doorking.Proto.SecurityLevelMapping;
 
 /** Adapts a custom spreadsheet to a list of DoorKing entries. */
 public class EntryAdapter {
   private final Config config;
-  private final List<List<Object>> rows;
+  private final List<ResidentRow> rows;
   private final EntryCodes entryCodes;
 
-  public EntryAdapter(Config config, List<List<Object>> rows,
+  public EntryAdapter(Config config, List<ResidentRow> rows,
       EntryCodes entryCodes) {
     this.config = config;
     this.rows = rows;
     this.entryCodes = entryCodes;
   }
 
-  public List<Entry> adapt() {
+  /**
+   * Passes the entries of each resident row, then the vendor and legacy
+   * resident entries, to {@code sink} as they are adapted.
+   */
+  public void adapt(EntrySink sink) throws IOException {
+    AdaptEvent event = FlightEvents.beginAdapt();
     Map<EntryCodeType, Integer> securityLevelMap = readSecurityLevelMapping(config);
 
-    List<Entry> result = new ArrayList<>();
-    rows.forEach(row -> result.addAll(getResidentEntry(row, securityLevelMap)));
+    try {
+      for (ResidentRow row : rows) {
+        addResidentEntries(row, securityLevelMap, sink, true);
+      }
+      addCodeEntries(securityLevelMap, sink);
+    } finally {
+      FlightEvents.commit(event, "EntryAdapter", rows.size(), false);
+    }
+  }
+
+  /**
+   * Like {@link #adapt(EntrySink)}, but adapts chunks of {@code chunkSize}
+   * resident rows on {@code pool}. Entries are passed to {@code sink} in the
+   * same order, once each chunk is done.
+   */
+  public void adapt(EntrySink sink, ForkJoinPool pool, int chunkSize) throws IOException {
+    AdaptEvent event = FlightEvents.beginAdapt();
+    Map<EntryCodeType, Integer> securityLevelMap = readSecurityLevelMapping(config);
+
+    // On one thread, the first resident at an address takes all its codes;
+    // the same row takes them here, whichever chunk runs first.
+    Map<AddressKey, Integer> owners = new HashMap<>();
+    for (int i = 0; i < rows.size(); i++) {
+      ResidentRow row = rows.get(i);
+      if (row.displayName != null && !row.displayName.isEmpty()) {
+        owners.putIfAbsent(AddressKey.of(row.street, row.houseNumber), i);
+      }
+    }
+
+    List<ForkJoinTask<List<Entry>>> chunks = new ArrayList<>();
+    for (int start = 0; start < rows.size(); start += chunkSize) {
+      int chunkStart = start;
+      int chunkEnd = Math.min(start + chunkSize, rows.size());
+      chunks.add(pool.submit(() -> {
+        List<Entry> entries = new ArrayList<>();
+        for (int i = chunkStart; i < chunkEnd; i++) {
+          ResidentRow row = rows.get(i);
+          Integer owner = owners.get(AddressKey.of(row.street, row.houseNumber));
+          addResidentEntries(row, securityLevelMap, entries::add,
+              owner != null && owner == i);
+        }
+        return entries;
+      }));
+    }
+    try {
+      for (ForkJoinTask<List<Entry>> chunk : chunks) {
+        for (Entry entry : chunk.join()) {
+          sink.accept(entry);
+        }
+      }
+      addCodeEntries(securityLevelMap, sink);
+    } finally {
+      FlightEvents.commit(event, "EntryAdapter", rows.size(), true);
+    }
+  }
 
-    Preconditions.checkState(entryCodes.residentCodes.isEmpty(),
+  /** Checks that every resident code was taken, then adds vendor and legacy entries. */
+  private void addCodeEntries(Map<EntryCodeType, Integer> securityLevelMap, EntrySink sink)
+      throws IOException {
+    Preconditions.checkState(entryCodes.residentCodes.remaining() == 0,
         "Unencoded resident codes: " + entryCodes.residentCodes);
 
-    entryCodes.vendorCodes.forEach((vendorName, entryCode) -> result
-        .add(getVendorEntry(vendorName, entryCode, securityLevelMap)));
+    for (Map.Entry<String, EntryCode> vendor : entryCodes.vendorCodes.entrySet()) {
+      sink.accept(getVendorEntry(vendor.getKey(), vendor.getValue(), securityLevelMap));
+    }
 
-    entryCodes.legacyResidentCodes.forEach((legacyResidentName, entryCode) -> result
-        .add(getLegacyResidentEntry(legacyResidentName, entryCode, securityLevelMap)));
-    return result;
+    for (Map.Entry<String, EntryCode> legacyResident
+        : entryCodes.legacyResidentCodes.entrySet()) {
+      sink.accept(getLegacyResidentEntry(legacyResident.getKey(), legacyResident.getValue(),
+          securityLevelMap));
+    }
   }
 
-  private static final int COLUMN_STREET = 0;
-  private static final int COLUMN_HOUSE_NUMBER = 1;
-  private static final int COLUMN_DIRECTORY_NUMBER = 3;
-  private static final int COLUMN_DISPLAY_NAME = 4;
-  private static final int COLUMN_PHONE_NUMBER = 5;
-  private static final int COLUMN_DEVICE_NUMBER = 6;  // G
-  private static final int COLUMN_DEVICE_NUMBER2 = 7;  // H
-  private static final int COLUMN_DEVICE_NUMBER3 = 8;  // I
-  private static final int COLUMN_DEVICE_NUMBER4 = 9;  // J
-  private static final int COLUMN_DEVICE_NUMBER5 = 10;  // K
-  private static final int COLUMN_DEVICE_NUMBER6 = 11;  // L
-
-  private List<Entry> getResidentEntry(List<Object> row,
-      Map<EntryCodeType, Integer> securityLevelMap) {
-    int key = Objects.hash(row.get(COLUMN_STREET), row.get(COLUMN_HOUSE_NUMBER));
+  /** Adds the entries of {@code row}, taking its codes if {@code takesCodes}. */
+  private void addResidentEntries(ResidentRow row,
+      Map<EntryCodeType, Integer> securityLevelMap, EntrySink sink, boolean takesCodes)
+      throws IOException {
+    ResidentEntriesEvent event = FlightEvents.beginResidentEntries();
+    if (event == null) {
+      expandResident(row, securityLevelMap, sink, takesCodes);
+      return;
+    }
+    int[] entries = {0};
+    expandResident(row, securityLevelMap, entry -> {
+      entries[0]++;
+      sink.accept(entry);
+    }, takesCodes);
+    FlightEvents.commit(event, row.houseNumber + " " + row.street, entries[0]);
+  }
+
+  private void expandResident(ResidentRow row,
+      Map<EntryCodeType, Integer> securityLevelMap, EntrySink sink, boolean takesCodes)
+      throws IOException {
+    AddressKey key = AddressKey.of(row.street, row.houseNumber);
 
     Entry.Builder builder = Entry.newBuilder();
-    String notes = String.format("%s %s", row.get(COLUMN_HOUSE_NUMBER),
-        row.get(COLUMN_STREET));
+    String notes = String.format("%s %s", row.houseNumber, row.street);
     builder.setNotes(notes);
-    String directoryName = (String) row.get(COLUMN_DISPLAY_NAME);
-    if (directoryName.isEmpty()) {
-      return ImmutableList.of();
+    String directoryName = row.displayName;
+    if (directoryName == null || directoryName.isEmpty()) {
+      return;
     }
     builder.setDirectoryDisplayName(directoryName);
 
-    int directoryNumber = getDirectoryNumber(row.get(COLUMN_DIRECTORY_NUMBER));
+    int directoryNumber = getDirectoryNumber(row.directoryNumber);
     builder.setDirectoryNumber(directoryNumber);
 
-    addDeviceNumberFromColumn(COLUMN_DEVICE_NUMBER, row, builder);
-    addDeviceNumberFromColumn(COLUMN_DEVICE_NUMBER2, row, builder);
-    addDeviceNumberFromColumn(COLUMN_DEVICE_NUMBER3, row, builder);
-    addDeviceNumberFromColumn(COLUMN_DEVICE_NUMBER4, row, builder);
-    addDeviceNumberFromColumn(COLUMN_DEVICE_NUMBER5, row, builder);
-    addDeviceNumberFromColumn(COLUMN_DEVICE_NUMBER6, row, builder);
+    row.deviceNumbers.forEach(builder::addDeviceNumber);
 
-    List<String> phoneNumberComponents = splitPhoneNumber(
-        row.get(COLUMN_PHONE_NUMBER));
+    List<String> phoneNumberComponents = splitPhoneNumber(row.phoneNumber);
     if (!phoneNumberComponents.get(0).equals(config.getLocalPhonePrefix())) {
       builder.setAreaCode(phoneNumberComponents.get(0));
     }
     builder.setPhoneNumber(phoneNumberComponents.get(1));
 
-    EntryCode permanentEntryCode = entryCodes.lookupAndRemoveResidentCode(key,
+    EntryCode permanentEntryCode = takeCode(takesCodes, key,
         EntryCodeType.PERMANENT);
     if (permanentEntryCode != null) {
       builder.setEntryCode(permanentEntryCode.code);
@@ -114,14 +181,13 @@ public class EntryAdapter {
     }
     // TODO if there is no entry code, is a security level needed?
 
-    List<Entry> result = new ArrayList<>();
-    result.add(builder.build());
+    sink.accept(builder.build());
 
     // Add hidden entries for additional permanent entry codes.
 
     int suffix = 2;
 
-    while ((permanentEntryCode = entryCodes.lookupAndRemoveResidentCode(key,
+    while ((permanentEntryCode = takeCode(takesCodes, key,
         EntryCodeType.PERMANENT)) != null) {
       builder.clearDeviceNumber();
       builder.clearDirectoryNumber();
@@ -132,13 +198,13 @@ public class EntryAdapter {
       builder.setSecurityLevel(securityLevelMap.get(permanentEntryCode.type));
       builder.setNotes(notes + " permanent");
       builder.markHidden();
-      result.add(builder.build());
+      sink.accept(builder.build());
     }
 
     // Add hidden entries for each limited entry codes.
 
     EntryCode limitedEntryCode = null;
-    while ((limitedEntryCode = entryCodes.lookupAndRemoveResidentCode(key,
+    while ((limitedEntryCode = takeCode(takesCodes, key,
         EntryCodeType.LIMITED)) != null) {
       builder.clearDeviceNumber();
       builder.clearDirectoryNumber();
@@ -149,13 +215,13 @@ public class EntryAdapter {
       builder.setSecurityLevel(securityLevelMap.get(limitedEntryCode.type));
       builder.setNotes(notes + " limited");
       builder.markHidden();
-      result.add(builder.build());
+      sink.accept(builder.build());
     }
 
     // Add hidden entries for each delivery entry codes.
 
     EntryCode deliveryEntryCode = null;
-    while ((deliveryEntryCode = entryCodes.lookupAndRemoveResidentCode(key,
+    while ((deliveryEntryCode = takeCode(takesCodes, key,
         EntryCodeType.DELIVERY)) != null) {
       builder.clearDeviceNumber();
       builder.clearDirectoryNumber();
@@ -166,19 +232,12 @@ public class EntryAdapter {
       builder.setSecurityLevel(securityLevelMap.get(deliveryEntryCode.type));
       builder.setNotes(notes + " delivery");
       builder.markHidden();
-      result.add(builder.build());
+      sink.accept(builder.build());
     }
-
-    return result;
   }
 
-  private void addDeviceNumberFromColumn(int column, List<Object> row, Entry.Builder builder) {
-    if (row.size() > column) {
-      String deviceNumber = (String) row.get(column);
-      if (deviceNumber != null && !deviceNumber.isEmpty()) {
-        builder.addDeviceNumber(deviceNumber);
-      }
-    }
+  private EntryCode takeCode(boolean takesCodes, AddressKey key, EntryCodeType type) {
+    return takesCodes ? entryCodes.lookupAndRemoveResidentCode(key, type) : null;
   }
 
   private Entry getVendorEntry(String name, EntryCode entryCode,
@@ -207,15 +266,13 @@ public class EntryAdapter {
     return builder.build();
   }
 
-  private int getDirectoryNumber(Object obj) {
-    String text = (String) obj;
-    Preconditions.checkState(text.startsWith("#"));
+  private int getDirectoryNumber(String text) {
+    Preconditions.checkState(text != null && text.startsWith("#"));
     return Integer.parseInt(text.substring(1));
   }
 
-  private List<String> splitPhoneNumber(Object obj) {
-    String text = (String) obj;
-    Preconditions.checkState(text.charAt(3) == '-');
+  private List<String> splitPhoneNumber(String text) {
+    Preconditions.checkState(text != null && text.length() > 3 && text.charAt(3) == '-');
     String prefix = text.substring(0, 3);
     String number = text.substring(4);
     return ImmutableList.of(prefix, number);
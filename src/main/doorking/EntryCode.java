@@ -30,11 +30,36 @@ public class EntryCode {
     NEWSPAPER;
   }
 
-  EntryCode(int code, EntryCodeType type) {
+  /**
+   * The canonical instance of each code and type, by type ordinal and code,
+   * created on first use; a sheet uses only a few of the 40,000.
+   */
+  private static final EntryCode[][] CODES =
+      new EntryCode[EntryCodeType.values().length][EntryCodeSet.SIZE];
+
+  private EntryCode(int code, EntryCodeType type) {
     this.code = code;
     this.type = type;
   }
 
+  /** Returns the canonical instance of {@code code} and {@code type}. */
+  static EntryCode of(int code, EntryCodeType type) {
+    EntryCodeSet.checkCode(code);
+    EntryCode[] codes = CODES[type.ordinal()];
+    // Its fields are final, so an instance read without the lock is whole.
+    EntryCode entryCode = codes[code];
+    if (entryCode == null) {
+      synchronized (codes) {
+        entryCode = codes[code];
+        if (entryCode == null) {
+          entryCode = new EntryCode(code, type);
+          codes[code] = entryCode;
+        }
+      }
+    }
+    return entryCode;
+  }
+
   final int code;
   final EntryCodeType type;
 
@@ -19,63 +19,63 @@
 
 package doorking;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.SetMultimap;
+import com.google.common.collect.ImmutableList;
 
 import doorking.EntryCode.EntryCodeType;
+import doorking.FlightEvents.AdaptEvent;
 
 /** Adapts a custom spreadsheet to a set of entry codes and types. */
 public class EntryCodeAdapter {
-  private final List<List<Object>> rows;
-  private final Set<Integer> deletedCodes;
+  private final List<EntryCodeRow> rows;
+  private final EntryCodeSet deletedCodes;
 
-  public EntryCodeAdapter(List<List<Object>> rows, Set<Integer> deletedCodes) {
+  public EntryCodeAdapter(List<EntryCodeRow> rows, EntryCodeSet deletedCodes) {
     this.rows = rows;
     this.deletedCodes = deletedCodes;
   }
 
-  private static final int COLUMN_STREET = 0;
-  private static final int COLUMN_HOUSE_NUMBER = 1;
-  private static final int COLUMN_NAME = 2;
-  private static final int COLUMN_ENTRY_CODE = 3;
-  private static final int COLUMN_ENTRY_CODE_TYPE = 4;
-  private static final int COLUMN_NOTES = 5;
-
   public class EntryCodes {
     public EntryCodes(
-        SetMultimap<Integer, EntryCode> residentCodes,
+        ResidentCodeIndex residentCodes,
         Map<String, EntryCode> vendorCodes,
-        Map<String, EntryCode> legacyResidentCodes) {
+        Map<String, EntryCode> legacyResidentCodes,
+        EntryCodeSet usedCodes) {
       this.residentCodes = residentCodes;
       this.vendorCodes = vendorCodes;
       this.legacyResidentCodes = legacyResidentCodes;
+      this.usedCodes = usedCodes;
     }
 
-    public EntryCode lookupAndRemoveResidentCode(int key, EntryCodeType type) {
-      EntryCode foundCode = null;
-      if (residentCodes.containsKey(key)) {
-        for (EntryCode code : residentCodes.get(key)) {
-          if (code.type == type) {
-            foundCode = code;
-          }
-        }
-      }
-      if (foundCode != null) {
-        Preconditions.checkState(residentCodes.remove(key, foundCode));
-      }
-      return foundCode;
+    public EntryCode lookupAndRemoveResidentCode(AddressKey key, EntryCodeType type) {
+      return residentCodes.take(key, type);
     }
 
-    final SetMultimap<Integer, EntryCode> residentCodes;
+    /** Adds the codes of {@code next}, the codes of the rows after these. */
+    void merge(EntryCodes next) {
+      residentCodes.putAll(next.residentCodes);
+      next.vendorCodes.forEach((name, entryCode) -> Preconditions.checkState(
+          vendorCodes.put(name, entryCode) == null,
+          "Unsupported: multiple codes for vendor " + name));
+      next.legacyResidentCodes.forEach((name, entryCode) -> Preconditions.checkState(
+          legacyResidentCodes.put(name, entryCode) == null,
+          "Unsupported: multiple codes for legacy resident " + name));
+      usedCodes.addAll(next.usedCodes);
+    }
+
+    final ResidentCodeIndex residentCodes;
     final Map<String, EntryCode> vendorCodes;
     final Map<String, EntryCode> legacyResidentCodes;
+    /** Every code on the entry code tab. */
+    final EntryCodeSet usedCodes;
 
     @Override
     public int hashCode() {
@@ -101,28 +101,64 @@ public class EntryCodeAdapter {
   }
 
   public EntryCodes adapt() {
-    SetMultimap<Integer, EntryCode> residentCodes = HashMultimap.create();
-    Map<String, EntryCode> vendorCodes = new HashMap<>();
-    Map<String, EntryCode> legacyResidentCodes = new HashMap<>();
-    for (List<Object> row : rows) {
-      if (row.size() < 4) {
+    AdaptEvent event = FlightEvents.beginAdapt();
+    try {
+      return adapt(rows);
+    } finally {
+      FlightEvents.commit(event, "EntryCodeAdapter", rows.size(), false);
+    }
+  }
+
+  /**
+   * Adapts chunks of {@code chunkSize} rows on {@code pool}, merging them in
+   * row order, so the codes are the same as those of {@link #adapt()}.
+   */
+  public EntryCodes adapt(ForkJoinPool pool, int chunkSize) {
+    AdaptEvent event = FlightEvents.beginAdapt();
+    List<ForkJoinTask<EntryCodes>> chunks = new ArrayList<>();
+    for (int start = 0; start < rows.size(); start += chunkSize) {
+      List<EntryCodeRow> chunk = rows.subList(start, Math.min(start + chunkSize, rows.size()));
+      chunks.add(pool.submit(() -> adapt(chunk)));
+    }
+    EntryCodes result = adapt(ImmutableList.of());
+    try {
+      for (ForkJoinTask<EntryCodes> chunk : chunks) {
+        result.merge(chunk.join());
+      }
+    } finally {
+      FlightEvents.commit(event, "EntryCodeAdapter", rows.size(), true);
+    }
+    return result;
+  }
+
+  private EntryCodes adapt(List<EntryCodeRow> rows) {
+    ResidentCodeIndex residentCodes = new ResidentCodeIndex();
+    EntryCodeSet usedCodes = new EntryCodeSet();
+    // In row order, so that vendor and legacy entries are too.
+    Map<String, EntryCode> vendorCodes = new LinkedHashMap<>();
+    Map<String, EntryCode> legacyResidentCodes = new LinkedHashMap<>();
+    for (EntryCodeRow row : rows) {
+      if (row.entryCode == null) {
         continue;  // no code specified on this row
       }
 
-      int codeDigits = Integer.parseInt((String) row.get(COLUMN_ENTRY_CODE));
+      int codeDigits = Integer.parseInt(row.entryCode);
       Preconditions.checkState(!deletedCodes.contains(codeDigits),
           String.format("Code %04d is present on the deleted entry codes tab",
               codeDigits));
-      String codeType = (String) row.get(COLUMN_ENTRY_CODE_TYPE);
-      EntryCode entryCode = new EntryCode(codeDigits,
+      String codeType = row.entryCodeType;
+      Preconditions.checkState(codeType != null,
+          String.format("Code %04d has no type", codeDigits));
+      usedCodes.add(codeDigits);
+      EntryCode entryCode = EntryCode.of(codeDigits,
           EntryCodeType.valueOf(codeType.toUpperCase()));
 
-      String street = (String) row.get(COLUMN_STREET);
+      String street = row.street;
       if (street == null || street.isEmpty()) {
-        String name = (String) row.get(COLUMN_NAME);
+        String name = row.name;
         if (name == null || name.isEmpty()) {
           // legacy resident code
-          name = (String) row.get(COLUMN_NOTES);
+          name = row.notes;
           Preconditions.checkState(legacyResidentCodes.put(name, entryCode) == null,
               "Unsupported: multiple codes for legacy resident " + name);
           continue;
@@ -133,10 +169,9 @@ public class EntryCodeAdapter {
           continue;
         }
       } else {
-        int key = Objects.hash(street, row.get(COLUMN_HOUSE_NUMBER));
-        residentCodes.put(key, entryCode);
+        residentCodes.put(AddressKey.of(street, row.houseNumber), entryCode);
       }
     }
-    return new EntryCodes(residentCodes, vendorCodes, legacyResidentCodes);
+    return new EntryCodes(residentCodes, vendorCodes, legacyResidentCodes, usedCodes);
   }
 }
\ No newline at end of file
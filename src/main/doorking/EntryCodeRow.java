@@ -0,0 +1,87 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+import doorking.Proto.ColumnLayout;
+
+/** A row of the entry code range. */
+public class EntryCodeRow {
+  /** Field names of a ColumnLayout, in field number order. */
+  static final List<String> FIELDS = ImmutableList.of(
+      "street", "house_number", "name", "entry_code", "entry_code_type", "notes");
+  private static final int STREET = 0;
+  private static final int HOUSE_NUMBER = 1;
+  private static final int NAME = 2;
+  private static final int ENTRY_CODE = 3;
+  private static final int ENTRY_CODE_TYPE = 4;
+  private static final int NOTES = 5;
+
+  /** Default column of each field, A to F. */
+  private static final int[][] DEFAULT_COLUMNS = {{0}, {1}, {2}, {3}, {4}, {5}};
+
+  public final String street;
+  public final String houseNumber;
+  public final String name;
+  /** Null if no code is specified on this row. */
+  public final String entryCode;
+  public final String entryCodeType;
+  public final String notes;
+
+  public EntryCodeRow(String street, String houseNumber, String name,
+      String entryCode, String entryCodeType, String notes) {
+    this.street = street;
+    this.houseNumber = houseNumber;
+    this.name = name;
+    this.entryCode = entryCode;
+    this.entryCodeType = entryCodeType;
+    this.notes = notes;
+  }
+
+  static RowLayout layout(ColumnLayout layout) {
+    return new RowLayout(FIELDS, DEFAULT_COLUMNS, layout);
+  }
+
+  public static EntryCodeRow decode(RowDecoder decoder, Cells cells) {
+    return new EntryCodeRow(
+        decoder.get(cells, STREET),
+        decoder.get(cells, HOUSE_NUMBER),
+        decoder.get(cells, NAME),
+        decoder.get(cells, ENTRY_CODE),
+        decoder.get(cells, ENTRY_CODE_TYPE),
+        decoder.get(cells, NOTES));
+  }
+
+  /** Returns the cells of this row in the default layout. */
+  public List<String> toCells() {
+    List<String> cells = new ArrayList<>();
+    ResidentRow.set(cells, DEFAULT_COLUMNS[STREET][0], street);
+    ResidentRow.set(cells, DEFAULT_COLUMNS[HOUSE_NUMBER][0], houseNumber);
+    ResidentRow.set(cells, DEFAULT_COLUMNS[NAME][0], name);
+    ResidentRow.set(cells, DEFAULT_COLUMNS[ENTRY_CODE][0], entryCode);
+    ResidentRow.set(cells, DEFAULT_COLUMNS[ENTRY_CODE_TYPE][0], entryCodeType);
+    ResidentRow.set(cells, DEFAULT_COLUMNS[NOTES][0], notes);
+    return cells;
+  }
+}
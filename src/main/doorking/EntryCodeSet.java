@@ -0,0 +1,87 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
+import com.google.common.base.Preconditions;
+
+/** A set of 4-digit entry codes, one bit per code. */
+public class EntryCodeSet {
+  /** The number of possible codes, 0000 to 9999. */
+  public static final int SIZE = 10000;
+
+  private final BitSet bits = new BitSet(SIZE);
+
+  /** Adds {@code code}, returning false if it was already present. */
+  public boolean add(int code) {
+    checkCode(code);
+    if (bits.get(code)) {
+      return false;
+    }
+    bits.set(code);
+    return true;
+  }
+
+  /** Adds every code of {@code other}. */
+  public void addAll(EntryCodeSet other) {
+    bits.or(other.bits);
+  }
+
+  public boolean contains(int code) {
+    return code >= 0 && code < SIZE && bits.get(code);
+  }
+
+  public int size() {
+    return bits.cardinality();
+  }
+
+  /** Returns the codes in ascending order. */
+  public IntStream stream() {
+    return bits.stream();
+  }
+
+  /** Returns the lowest code not in this set at or after {@code from}, or -1. */
+  public int nextFree(int from) {
+    int code = bits.nextClearBit(from);
+    return code < SIZE ? code : -1;
+  }
+
+  static void checkCode(int code) {
+    Preconditions.checkArgument(code >= 0 && code < SIZE,
+        "Entry code %s is not 4 digits", code);
+  }
+
+  @Override
+  public int hashCode() {
+    return bits.hashCode();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof EntryCodeSet && bits.equals(((EntryCodeSet) obj).bits);
+  }
+
+  @Override
+  public String toString() {
+    return bits.toString();
+  }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * The entries added, modified and removed since the previous export, each
+ * keyed by {@link Keys}.
+ */
+public class EntryDelta {
+  public final Map<String, String> added = new LinkedHashMap<>();
+  public final Map<String, String> modified = new LinkedHashMap<>();
+  public final Map<String, String> removed = new LinkedHashMap<>();
+
+  /** Passes each key and CSV line of an export to a consumer, in order. */
+  public interface Lines {
+    void forEach(BiConsumer<String, String> consumer) throws IOException;
+  }
+
+  /** Compares two maps of key to CSV line. */
+  public EntryDelta(Map<String, String> previous, Map<String, String> current)
+      throws IOException {
+    this(previous::forEach, new LinkedHashMap<>(current));
+  }
+
+  /**
+   * Compares the {@code previous} lines, read once, with the {@code current}
+   * map of key to CSV line, from which unchanged lines are removed. The
+   * previous export is never held in memory as a whole.
+   */
+  public EntryDelta(Lines previous, Map<String, String> current) throws IOException {
+    Set<String> changed = new HashSet<>();
+    previous.forEach((key, line) -> {
+      String currentLine = current.get(key);
+      if (currentLine == null) {
+        removed.put(key, line);
+      } else if (currentLine.equals(line)) {
+        current.remove(key);
+      } else {
+        changed.add(key);
+      }
+    });
+    current.forEach((key, line) -> (changed.contains(key) ? modified : added).put(key, line));
+  }
+
+  public boolean isEmpty() {
+    return added.isEmpty() && modified.isEmpty() && removed.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%d added, %d modified, %d removed",
+        added.size(), modified.size(), removed.size());
+  }
+
+  /**
+   * Keys entries by directory number, and entries without one by display name
+   * and notes, so that a hidden entry whose code changes shows up as modified.
+   * A key seen again gets a count, such as {@code DIR 12 #2}, so duplicate
+   * entries are compared in order rather than failing the export.
+   */
+  public static class Keys {
+    private final Map<String, Integer> counts = new HashMap<>();
+
+    public String get(Entry entry) {
+      return get(entry.getDirectoryNumber(), entry.getDirectoryDisplayName(), entry.getNotes());
+    }
+
+    public String get(EntryTable.View entry) {
+      return get(entry.getDirectoryNumber(), entry.getDirectoryDisplayName(), entry.getNotes());
+    }
+
+    private String get(Integer directoryNumber, String displayName, String notes) {
+      String key = directoryNumber != null
+          ? "DIR " + directoryNumber
+          : "NAME " + displayName + " / " + notes;
+      int count = counts.merge(key, 1, Integer::sum);
+      return count == 1 ? key : key + " #" + count;
+    }
+  }
+
+  /** Writes the added, modified and removed files next to {@code outputFile}. */
+  public void write(Path outputFile, String header) throws IOException {
+    write(getSiblingFile(outputFile, "added"), header, added);
+    write(getSiblingFile(outputFile, "modified"), header, modified);
+    write(getSiblingFile(outputFile, "removed"), header, removed);
+  }
+
+  private static void write(Path file, String header, Map<String, String> lines)
+      throws IOException {
+    List<String> content = new ArrayList<>();
+    content.add(header);
+    content.addAll(lines.values());
+    Files.write(file, content, StandardCharsets.UTF_8);
+  }
+
+  /** Returns {@code outputFile} with {@code -suffix} before its extension. */
+  static Path getSiblingFile(Path outputFile, String suffix) {
+    String name = outputFile.getFileName().toString();
+    int dot = name.lastIndexOf('.');
+    String siblingName = dot > 0
+        ? name.substring(0, dot) + "-" + suffix + name.substring(dot)
+        : name + "-" + suffix;
+    Path parent = outputFile.getParent();
+    return parent == null ? Paths.get(siblingName) : parent.resolve(siblingName);
+  }
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.io.IOException;
+
+/** Receives entries one at a time as they are adapted. */
+public interface EntrySink {
+  void accept(Entry entry) throws IOException;
+
+  /** Returns a sink which passes each entry to this sink, then to {@code next}. */
+  default EntrySink andThen(EntrySink next) {
+    return entry -> {
+      accept(entry);
+      next.accept(entry);
+    };
+  }
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.WireFormat;
+import doorking.Proto.Config;
+import doorking.Proto.EntryCodeSnapshot;
+import doorking.Proto.EntrySnapshot;
+import doorking.Proto.SyncSnapshot;
+
+/**
+ * Stores the adapted entries and codes of the last sync as a binary protobuf.
+ * Entries are written and read one at a time, so the directory is never held
+ * in memory as a SyncSnapshot.
+ */
+public class EntrySnapshotStore {
+  private final Path file;
+
+  public EntrySnapshotStore(Path file) {
+    this.file = file;
+  }
+
+  /** Returns the store of the snapshot next to {@code outputFile}. */
+  public static EntrySnapshotStore forOutputFile(Path outputFile) {
+    return new EntrySnapshotStore(Paths.get(outputFile + ".snapshot"));
+  }
+
+  /**
+   * Passes the account name and each entry of the stored snapshot to
+   * {@code consumer}, reading one entry at a time. Returns false if there is
+   * no snapshot.
+   */
+  public boolean forEachEntry(BiConsumer<String, Entry> consumer) throws IOException {
+    if (!Files.exists(file)) {
+      return false;
+    }
+    try (InputStream in = Files.newInputStream(file)) {
+      CodedInputStream input = CodedInputStream.newInstance(in);
+      String accountName = "";
+      for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+        switch (WireFormat.getTagFieldNumber(tag)) {
+          case SyncSnapshot.ACCOUNT_NAME_FIELD_NUMBER:
+            accountName = input.readString();
+            break;
+          case SyncSnapshot.ENTRY_FIELD_NUMBER:
+            EntrySnapshot.Builder entry = EntrySnapshot.newBuilder();
+            input.readMessage(entry, ExtensionRegistryLite.getEmptyRegistry());
+            consumer.accept(accountName, Entry.fromSnapshot(entry.build()));
+            break;
+          default:
+            input.skipField(tag);
+        }
+        // The limit applies to the whole stream unless reset.
+        input.resetSizeCounter();
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns a writer of a new snapshot, holding the codes, to which entries
+   * are added as they are adapted. The stored snapshot is only replaced on
+   * {@link Writer#commit}.
+   */
+  public Writer newWriter(Config config, List<EntryCodeRow> codes, EntryCodeSet deletedCodes)
+      throws IOException {
+    return new Writer(newSnapshot(config, codes, deletedCodes).build());
+  }
+
+  /**
+   * Writes a SyncSnapshot field by field: the codes first, then each entry as
+   * another element of its repeated entry field.
+   */
+  public class Writer implements EntrySink, Closeable {
+    private final Path temp = Paths.get(file + ".tmp");
+    private final OutputStream out;
+    private final CodedOutputStream output;
+    private boolean committed;
+
+    private Writer(SyncSnapshot codes) throws IOException {
+      this.out = Files.newOutputStream(temp);
+      this.output = CodedOutputStream.newInstance(out);
+      codes.writeTo(output);
+    }
+
+    @Override
+    public void accept(Entry entry) throws IOException {
+      output.writeMessage(SyncSnapshot.ENTRY_FIELD_NUMBER, entry.toSnapshot());
+    }
+
+    public void commit() throws IOException {
+      output.flush();
+      out.close();
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      committed = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (!committed) {
+        out.close();
+        Files.deleteIfExists(temp);
+      }
+    }
+  }
+
+  /** Returns a snapshot of the codes, without entries. */
+  private static SyncSnapshot.Builder newSnapshot(Config config,
+      List<EntryCodeRow> codes, EntryCodeSet deletedCodes) {
+    SyncSnapshot.Builder snapshot = SyncSnapshot.newBuilder()
+        .setTimestampMillis(System.currentTimeMillis())
+        .setAccountName(config.getAccountName());
+    for (EntryCodeRow row : codes) {
+      if (row.entryCode == null) {
+        continue;
+      }
+      EntryCodeSnapshot.Builder code = EntryCodeSnapshot.newBuilder()
+          .setCode(Integer.parseInt(row.entryCode))
+          .setType(row.entryCodeType.toUpperCase());
+      if (row.street != null) {
+        code.setStreet(row.street);
+      }
+      if (row.houseNumber != null) {
+        code.setHouseNumber(row.houseNumber);
+      }
+      if (row.name != null) {
+        code.setName(row.name);
+      }
+      if (row.notes != null) {
+        code.setNotes(row.notes);
+      }
+      snapshot.addEntryCode(code);
+    }
+    deletedCodes.stream().forEach(snapshot::addDeletedEntryCode);
+    return snapshot;
+  }
+}
@@ -0,0 +1,228 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entries stored by column: numbers in primitive arrays, flags in a byte per
+ * entry, and strings as indexes into a pool holding each distinct string
+ * once. {@link View} reads one entry without copying it out.
+ */
+public class EntryTable {
+  private static final int NONE = -1;
+  private static final byte HIDDEN = 1;
+  private static final byte VENDOR = 2;
+
+  private final String accountName;
+  private final int size;
+  private final int[] directoryNumbers;
+  private final int[] entryCodes;
+  private final int[] securityLevels;
+  private final byte[] flags;
+  private final int[] displayNames;
+  private final int[] areaCodes;
+  private final int[] phoneNumbers;
+  private final int[] notes;
+  /** Device numbers of entry i are deviceNumbers[deviceStarts[i]..deviceStarts[i + 1]). */
+  private final int[] deviceStarts;
+  private final int[] deviceNumbers;
+  private final String[] strings;
+
+  private EntryTable(Builder builder) {
+    this.accountName = builder.accountName;
+    this.size = builder.size;
+    this.directoryNumbers = Arrays.copyOf(builder.directoryNumbers, size);
+    this.entryCodes = Arrays.copyOf(builder.entryCodes, size);
+    this.securityLevels = Arrays.copyOf(builder.securityLevels, size);
+    this.flags = Arrays.copyOf(builder.flags, size);
+    this.displayNames = Arrays.copyOf(builder.displayNames, size);
+    this.areaCodes = Arrays.copyOf(builder.areaCodes, size);
+    this.phoneNumbers = Arrays.copyOf(builder.phoneNumbers, size);
+    this.notes = Arrays.copyOf(builder.notes, size);
+    this.deviceStarts = Arrays.copyOf(builder.deviceStarts, size + 1);
+    this.deviceNumbers = Arrays.copyOf(builder.deviceNumbers, builder.deviceCount);
+    this.strings = builder.strings.toArray(new String[0]);
+  }
+
+  public static Builder newBuilder(String accountName) {
+    return new Builder(accountName);
+  }
+
+  /** Appends entries to growing columns; {@link #build} trims them. */
+  public static class Builder implements EntrySink {
+    private final String accountName;
+    private int size;
+    private int[] directoryNumbers = new int[16];
+    private int[] entryCodes = new int[16];
+    private int[] securityLevels = new int[16];
+    private byte[] flags = new byte[16];
+    private int[] displayNames = new int[16];
+    private int[] areaCodes = new int[16];
+    private int[] phoneNumbers = new int[16];
+    private int[] notes = new int[16];
+    private int[] deviceStarts = new int[17];
+    private int[] deviceNumbers = new int[16];
+    private int deviceCount;
+    private final Map<String, Integer> pool = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    private Builder(String accountName) {
+      this.accountName = accountName;
+    }
+
+    @Override
+    public void accept(Entry entry) {
+      if (size == directoryNumbers.length) {
+        int capacity = size * 2;
+        directoryNumbers = Arrays.copyOf(directoryNumbers, capacity);
+        entryCodes = Arrays.copyOf(entryCodes, capacity);
+        securityLevels = Arrays.copyOf(securityLevels, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        displayNames = Arrays.copyOf(displayNames, capacity);
+        areaCodes = Arrays.copyOf(areaCodes, capacity);
+        phoneNumbers = Arrays.copyOf(phoneNumbers, capacity);
+        notes = Arrays.copyOf(notes, capacity);
+        deviceStarts = Arrays.copyOf(deviceStarts, capacity + 1);
+      }
+      directoryNumbers[size] = toInt(entry.getDirectoryNumber());
+      entryCodes[size] = toInt(entry.getEntryCode());
+      securityLevels[size] = toInt(entry.getSecurityLevel());
+      flags[size] = (byte) ((entry.isHidden() ? HIDDEN : 0) | (entry.isVendor() ? VENDOR : 0));
+      displayNames[size] = intern(entry.getDirectoryDisplayName());
+      areaCodes[size] = intern(entry.getAreaCode());
+      phoneNumbers[size] = intern(entry.getPhoneNumber());
+      notes[size] = intern(entry.getNotes());
+      for (String deviceNumber : entry.getDeviceNumbers()) {
+        if (deviceCount == deviceNumbers.length) {
+          deviceNumbers = Arrays.copyOf(deviceNumbers, deviceCount * 2);
+        }
+        deviceNumbers[deviceCount++] = intern(deviceNumber);
+      }
+      deviceStarts[++size] = deviceCount;
+    }
+
+    private int intern(String text) {
+      if (text == null) {
+        return NONE;
+      }
+      return pool.computeIfAbsent(text, key -> {
+        strings.add(key);
+        return strings.size() - 1;
+      });
+    }
+
+    public EntryTable build() {
+      return new EntryTable(this);
+    }
+  }
+
+  private static int toInt(Integer value) {
+    return value == null ? NONE : value;
+  }
+
+  private static Integer toInteger(int value) {
+    return value == NONE ? null : value;
+  }
+
+  private String string(int index) {
+    return index == NONE ? null : strings[index];
+  }
+
+  public String getAccountName() {
+    return accountName;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /** Returns a view of entry {@code index}. */
+  public View get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Entry " + index + " of " + size);
+    }
+    return new View(index);
+  }
+
+  /** One entry of the table, read from its columns on each call. */
+  public class View implements Entry.CsvRow {
+    private final int index;
+
+    private View(int index) {
+      this.index = index;
+    }
+
+    public Integer getDirectoryNumber() {
+      return toInteger(directoryNumbers[index]);
+    }
+
+    public Integer getEntryCode() {
+      return toInteger(entryCodes[index]);
+    }
+
+    String getDirectoryDisplayName() {
+      return string(displayNames[index]);
+    }
+
+    String getNotes() {
+      return string(notes[index]);
+    }
+
+    public List<String> getDeviceNumbers() {
+      int start = deviceStarts[index];
+      int end = deviceStarts[index + 1];
+      return new AbstractList<String>() {
+        @Override
+        public String get(int i) {
+          if (i < 0 || start + i >= end) {
+            throw new IndexOutOfBoundsException("Device number " + i);
+          }
+          return strings[deviceNumbers[start + i]];
+        }
+
+        @Override
+        public int size() {
+          return end - start;
+        }
+      };
+    }
+
+    @Override
+    public void writeCsv(CsvWriter csv) throws IOException {
+      Entry.writeCsv(csv, string(displayNames[index]), (flags[index] & HIDDEN) != 0,
+          string(areaCodes[index]), string(phoneNumbers[index]), getDirectoryNumber(),
+          getEntryCode(), toInteger(securityLevels[index]), getDeviceNumbers(),
+          string(notes[index]), (flags[index] & VENDOR) != 0);
+    }
+
+    /** Returns the CSV row of this entry, as {@link Entry#toString} does. */
+    @Override
+    public String toString() {
+      return Entry.toCsv(this);
+    }
+  }
+}
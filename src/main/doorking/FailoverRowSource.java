@@ -0,0 +1,94 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import doorking.GoogleRetriever.Result;
+
+/**
+ * Reads from a primary source, falling back to a secondary source (typically
+ * the last good dump) when the primary fails or does not answer in time.
+ * The primary runs on one thread of its own, so a retrieve that was given up
+ * on, but is still blocked, finishes before the next one starts.
+ */
+public class FailoverRowSource implements RowSource {
+  private final RowSource primary;
+  private final RowSource fallback;
+  private final long timeoutMillis;
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(
+      new ThreadFactoryBuilder().setNameFormat("primary-%d").setDaemon(true).build());
+  private final Logger logger = Logger.getLogger(FailoverRowSource.class.getName());
+  private boolean failedOver;
+
+  public FailoverRowSource(RowSource primary, RowSource fallback, long timeoutMillis) {
+    this.primary = primary;
+    this.fallback = fallback;
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  @Override
+  public Result retrieve() throws Exception {
+    Future<Result> future = executor.submit(primary::retrieve);
+    try {
+      Result result = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+      failedOver = false;
+      return result;
+    } catch (Exception e) {
+      future.cancel(true);
+      logger.log(Level.WARNING, "Primary row source failed; using fallback", e);
+      failedOver = true;
+      return fallback.retrieve();
+    }
+  }
+
+  @Override
+  public void commit() throws IOException {
+    (failedOver ? fallback : primary).commit();
+  }
+
+  /** After a failover, the primary may still be running, so only the fallback reports. */
+  @Override
+  public void addMetrics(SyncMetrics metrics) {
+    if (failedOver) {
+      metrics.addCount("failovers", 1);
+      fallback.addMetrics(metrics);
+    } else {
+      primary.addMetrics(metrics);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    executor.shutdownNow();
+    try {
+      primary.close();
+    } finally {
+      fallback.close();
+    }
+  }
+}
@@ -0,0 +1,221 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.JsonGenerator;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+
+import doorking.GoogleRetriever.Result;
+import doorking.Proto.ColumnLayout;
+import doorking.Proto.Config;
+import doorking.ValuesDecoder.RowHandler;
+
+/**
+ * Reads rows from a directory of local dumps. Each range is read from
+ * {@code <name>.json} (a Sheets ValueRange) or {@code <name>.csv}, in the
+ * configured layouts. Dumps written by {@link #write} are in the default
+ * layouts instead, marked by a header row of field names.
+ */
+public class FileRowSource implements RowSource {
+  static final String ENTRIES = "entries";
+  static final String CODES = "codes";
+  static final String DELETED_CODES = "deleted_codes";
+
+  /** The default layouts, with the header row that {@link #write} adds. */
+  private static final List<RowLayout> DUMP_LAYOUTS = RowLayout.forConfig(Config.newBuilder()
+      .setTelephoneEntryLayout(ColumnLayout.newBuilder().setHeaderRow(true))
+      .setEntryCodeLayout(ColumnLayout.newBuilder().setHeaderRow(true))
+      .setDeletedEntryCodeLayout(ColumnLayout.newBuilder().setHeaderRow(true))
+      .build());
+
+  private final File directory;
+  private final List<RowLayout> layouts;
+  private final JsonFactory jsonFactory = Transports.getJsonFactory();
+
+  /** Reads dumps in the default layouts. */
+  public FileRowSource(File directory) {
+    this(directory, RowLayout.defaults());
+  }
+
+  /** Reads dumps in {@code layouts}, in value range order. */
+  public FileRowSource(File directory, List<RowLayout> layouts) {
+    this.directory = directory;
+    this.layouts = layouts;
+  }
+
+  @Override
+  public Result retrieve() throws IOException {
+    List<File> files = ImmutableList.of(find(ENTRIES), find(CODES), find(DELETED_CODES));
+    Result.Builder result = new Result.Builder(layouts, Lists.transform(files, File::getName));
+    for (int i = 0; i < files.size(); i++) {
+      read(files.get(i), forRange(result, i));
+    }
+    return result.build(false);
+  }
+
+  /**
+   * Returns a handler which decodes every row as value range {@code range},
+   * in the default layout if the first row is the header of a dump.
+   */
+  private static RowHandler forRange(Result.Builder result, int range) {
+    List<String> dumpHeader = DUMP_LAYOUTS.get(range).getDefaultHeader();
+    boolean[] first = {true};
+    return (ignored, cells) -> {
+      if (first[0]) {
+        first[0] = false;
+        if (matches(cells, dumpHeader)) {
+          result.setLayout(range, DUMP_LAYOUTS.get(range));
+        }
+      }
+      result.row(range, cells);
+    };
+  }
+
+  private static boolean matches(Cells cells, List<String> header) {
+    if (cells.size() != header.size()) {
+      return false;
+    }
+    for (int i = 0; i < header.size(); i++) {
+      if (!header.get(i).equals(cells.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Writes {@code result} as a dump which this class can read back. */
+  public void write(Result result) throws IOException {
+    Files.createDirectories(directory.toPath());
+    write(ENTRIES, Result.ENTRIES, Lists.transform(result.entries, ResidentRow::toCells));
+    write(CODES, Result.CODES, Lists.transform(result.codes, EntryCodeRow::toCells));
+    write(DELETED_CODES, Result.DELETED_CODES,
+        Lists.transform(result.deletedCodes, DeletedCodeRow::toCells));
+  }
+
+  /** Writes the header of the default layout and the rows as a ValueRange. */
+  private void write(String name, int range, List<List<String>> rows) throws IOException {
+    File file = new File(directory, name + ".json");
+    File temp = new File(directory, name + ".json.tmp");
+    try (OutputStream out = Files.newOutputStream(temp.toPath())) {
+      JsonGenerator generator = jsonFactory.createJsonGenerator(out, StandardCharsets.UTF_8);
+      generator.writeStartObject();
+      generator.writeFieldName("values");
+      generator.writeStartArray();
+      for (List<String> row : Iterables.concat(
+          ImmutableList.of(DUMP_LAYOUTS.get(range).getDefaultHeader()), rows)) {
+        generator.writeStartArray();
+        for (String cell : row) {
+          generator.writeString(cell);
+        }
+        generator.writeEndArray();
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+      generator.flush();
+    }
+    Files.move(temp.toPath(), file.toPath(),
+        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /** Returns the dump of {@code name}, preferring JSON over CSV. */
+  private File find(String name) {
+    File json = new File(directory, name + ".json");
+    if (json.isFile()) {
+      return json;
+    }
+    File csv = new File(directory, name + ".csv");
+    Preconditions.checkState(csv.isFile(), "No dump of %s in %s", name, directory);
+    return csv;
+  }
+
+  private void read(File file, RowHandler handler) throws IOException {
+    if (file.getName().endsWith(".json")) {
+      try (InputStream in = Files.newInputStream(file.toPath())) {
+        new ValuesDecoder(jsonFactory).decode(in, handler);
+      }
+      return;
+    }
+    parseCsv(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8), handler);
+  }
+
+  /**
+   * Parses RFC 4180 CSV. Trailing empty cells are dropped from each row, as
+   * the Sheets API does, since the adapters rely on row length.
+   */
+  static void parseCsv(String text, RowHandler handler) {
+    Cells cells = new Cells();
+    StringBuilder cell = new StringBuilder();
+    boolean quoted = false;
+    boolean empty = true;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (quoted) {
+        if (c != '"') {
+          cell.append(c);
+        } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+          cell.append('"');
+          i++;
+        } else {
+          quoted = false;
+        }
+      } else if (c == '"') {
+        quoted = true;
+        empty = false;
+      } else if (c == ',') {
+        cells.add(cell.toString());
+        cell.setLength(0);
+        empty = false;
+      } else if (c == '\n' || c == '\r') {
+        if (c == '\r' && i + 1 < text.length() && text.charAt(i + 1) == '\n') {
+          i++;
+        }
+        endRow(cells, cell, handler);
+        empty = true;
+      } else {
+        cell.append(c);
+        empty = false;
+      }
+    }
+    if (!empty) {
+      endRow(cells, cell, handler);
+    }
+  }
+
+  private static void endRow(Cells cells, StringBuilder cell, RowHandler handler) {
+    cells.add(cell.toString());
+    cell.setLength(0);
+    cells.trimTrailingEmpty();
+    handler.row(0, cells);
+    cells.clear();
+  }
+}
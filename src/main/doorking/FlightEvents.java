@@ -0,0 +1,210 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events of a sync. Each is begun before and committed
+ * after the work it times. The first use of an event class costs hundreds of
+ * milliseconds, so the begin methods return null, and no event class is
+ * loaded, unless Flight Recorder has been started. Fields which allocate are
+ * only set once shouldCommit() is true.
+ */
+public class FlightEvents {
+  private FlightEvents() {
+  }
+
+  /** Returns true once Flight Recorder is started, at launch or by jcmd. */
+  public static boolean isRecording() {
+    return FlightRecorder.isInitialized();
+  }
+
+  static AuthorizeEvent beginAuthorize() {
+    if (!isRecording()) {
+      return null;
+    }
+    AuthorizeEvent event = new AuthorizeEvent();
+    event.begin();
+    return event;
+  }
+
+  static void commit(AuthorizeEvent event, String method) {
+    if (event != null && event.shouldCommit()) {
+      event.method = method;
+      event.commit();
+    }
+  }
+
+  static FetchEvent beginFetch() {
+    if (!isRecording()) {
+      return null;
+    }
+    FetchEvent event = new FetchEvent();
+    event.begin();
+    return event;
+  }
+
+  static void commit(FetchEvent event, String ranges, long bytes, boolean unchanged) {
+    if (event != null && event.shouldCommit()) {
+      event.ranges = ranges;
+      event.bytes = bytes;
+      event.unchanged = unchanged;
+      event.commit();
+    }
+  }
+
+  static AdaptEvent beginAdapt() {
+    if (!isRecording()) {
+      return null;
+    }
+    AdaptEvent event = new AdaptEvent();
+    event.begin();
+    return event;
+  }
+
+  static void commit(AdaptEvent event, String adapter, int rows, boolean parallel) {
+    if (event != null && event.shouldCommit()) {
+      event.adapter = adapter;
+      event.rows = rows;
+      event.parallel = parallel;
+      event.commit();
+    }
+  }
+
+  /** Returns a begun event if it is enabled, as it is begun per row. */
+  static ResidentEntriesEvent beginResidentEntries() {
+    if (!isRecording()) {
+      return null;
+    }
+    ResidentEntriesEvent event = new ResidentEntriesEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.begin();
+    return event;
+  }
+
+  static void commit(ResidentEntriesEvent event, String address, int entries) {
+    if (event != null && event.shouldCommit()) {
+      event.address = address;
+      event.entries = entries;
+      event.commit();
+    }
+  }
+
+  static CsvExportEvent beginCsvExport() {
+    if (!isRecording()) {
+      return null;
+    }
+    CsvExportEvent event = new CsvExportEvent();
+    event.begin();
+    return event;
+  }
+
+  static void commit(CsvExportEvent event, Path file, int entries) throws IOException {
+    if (event != null && event.shouldCommit()) {
+      event.file = file.toString();
+      event.entries = entries;
+      event.bytes = Files.size(file);
+      event.commit();
+    }
+  }
+
+  @Name("doorking.Authorize")
+  @Label("Authorize")
+  @Category("DoorKing")
+  @Description("Obtaining Google credentials")
+  public static class AuthorizeEvent extends Event {
+    @Label("Method")
+    String method;
+  }
+
+  @Name("doorking.Fetch")
+  @Label("Fetch")
+  @Category("DoorKing")
+  @Description("Retrieving value ranges from Google Sheets, including retries")
+  public static class FetchEvent extends Event {
+    @Label("Ranges")
+    String ranges;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Unchanged")
+    boolean unchanged;
+  }
+
+  @Name("doorking.Adapt")
+  @Label("Adapt")
+  @Category("DoorKing")
+  @Description("One adapter's adapt()")
+  public static class AdaptEvent extends Event {
+    @Label("Adapter")
+    String adapter;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Parallel")
+    boolean parallel;
+  }
+
+  @Name("doorking.ResidentEntries")
+  @Label("Resident Entries")
+  @Category("DoorKing")
+  @Description("Expanding one resident row into entries")
+  @StackTrace(false)
+  public static class ResidentEntriesEvent extends Event {
+    @Label("Address")
+    String address;
+
+    @Label("Entries")
+    int entries;
+  }
+
+  @Name("doorking.CsvExport")
+  @Label("CSV Export")
+  @Category("DoorKing")
+  @Description("Writing the CSV export, from opening to renaming it")
+  public static class CsvExportEvent extends Event {
+    @Label("File")
+    String file;
+
+    @Label("Entries")
+    int entries;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+  }
+}
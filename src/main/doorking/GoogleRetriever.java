@@ -19,101 +19,551 @@
 
 package doorking;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.InetAddress;
 import java.net.InterfaceAddress;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import com.google.api.client.auth.oauth2.AuthorizationCodeFlow;
-import com.google.api.client.auth.oauth2.AuthorizationCodeRequestUrl;
 import com.google.api.client.auth.oauth2.Credential;
-import com.google.api.client.extensions.java6.auth.oauth2.AuthorizationCodeInstalledApp;
 import com.google.api.client.extensions.java6.auth.oauth2.VerificationCodeReceiver;
-import com.google.api.client.extensions.jetty.auth.oauth2.LocalServerReceiver;
 import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeFlow;
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.googleapis.auth.oauth2.GoogleCredential;
+import com.google.api.client.googleapis.services.AbstractGoogleClientRequest;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpResponseException;
 import com.google.api.client.http.HttpTransport;
 import com.google.api.client.json.JsonFactory;
-import com.google.api.client.json.jackson2.JacksonFactory;
 import com.google.api.client.util.store.DataStoreFactory;
 import com.google.api.client.util.store.FileDataStoreFactory;
 import com.google.api.services.sheets.v4.Sheets;
 import com.google.api.services.sheets.v4.SheetsScopes;
-import com.google.api.services.sheets.v4.model.ValueRange;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+import doorking.FlightEvents.AuthorizeEvent;
+import doorking.FlightEvents.FetchEvent;
 import doorking.Proto.Config;
+import doorking.SnapshotCache.Snapshot;
+import doorking.ValuesDecoder.RowHandler;
 
-public class GoogleRetriever {
+public class GoogleRetriever implements RowSource {
   private final Config config;
   private final File dataStoreDirectory;
   private final DataStoreFactory dataStoreFactory;
   private final HttpTransport httpTransport;
   private final JsonFactory jsonFactory;
+  private final SnapshotCache snapshotCache;
+  private final ListeningExecutorService executor;
+  /** Runs the attempts of each fetch, up to an attempt and a hedge per fetch. */
+  private final ExecutorService attemptExecutor;
+  private final Retrier retrier;
+  private final List<RowLayout> layouts;
+  private Sheets service;
+  /**
+   * Snapshots and metrics of the last retrieve. Each retrieve replaces them,
+   * and each fetch writes to those current when it started, so a fetch left
+   * over from an abandoned retrieve cannot change the next one's.
+   */
+  private volatile List<PendingSnapshot> pendingSnapshots = newPendingSnapshots();
+  private volatile SyncMetrics metrics = new SyncMetrics();
   private final Logger logger = Logger.getLogger(GoogleRetriever.class.getName());
 
+  private static final int HTTP_NOT_MODIFIED = 304;
+
   public GoogleRetriever(Config config) throws IOException, GeneralSecurityException {
     this.config = config;
     this.dataStoreDirectory = new File(config.getDataStoreDirectory());
     this.dataStoreFactory = new FileDataStoreFactory(dataStoreDirectory);
-    this.httpTransport = GoogleNetHttpTransport.newTrustedTransport();
-    this.jsonFactory = new JacksonFactory();
+    this.httpTransport = Transports.getHttpTransport();
+    this.jsonFactory = Transports.getJsonFactory();
+    this.executor = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(
+        config.getMaxConcurrentFetches(),
+        new ThreadFactoryBuilder().setNameFormat("fetch-%d").setDaemon(true).build()));
+    this.attemptExecutor = Executors.newFixedThreadPool(2 * config.getMaxConcurrentFetches(),
+        new ThreadFactoryBuilder().setNameFormat("attempt-%d").setDaemon(true).build());
+    this.retrier = new Retrier(config, attemptExecutor);
+    this.layouts = RowLayout.forConfig(config);
+    this.snapshotCache = config.getSnapshotCache()
+        ? new SnapshotCache(dataStoreDirectory, config)
+        : null;
   }
 
   public static class Result {
-    public final List<List<Object>> entries;
-    public final List<List<Object>> codes;
-    public final List<List<Object>> deletedCodes;
-    
-    public Result(List<List<Object>> entries, List<List<Object>> codes,
-        List<List<Object>> deletedCodes) {
+    /** Indexes of the value ranges, in the order they are requested. */
+    public static final int ENTRIES = 0;
+    public static final int CODES = 1;
+    public static final int DELETED_CODES = 2;
+
+    public final List<ResidentRow> entries;
+    public final List<EntryCodeRow> codes;
+    public final List<DeletedCodeRow> deletedCodes;
+    /** True if every range matched its cached snapshot. */
+    public final boolean unchanged;
+    /** The range or dump file each value range was read from. */
+    public final List<String> rangeNames;
+    /** Sheet row of the first row retrieved from each value range. */
+    private final int[] firstRows;
+
+    public Result(List<ResidentRow> entries, List<EntryCodeRow> codes,
+        List<DeletedCodeRow> deletedCodes) {
+      this(entries, codes, deletedCodes, false,
+          ImmutableList.of("entries", "codes", "deleted_codes"), new int[] { 1, 1, 1 });
+    }
+
+    public Result(List<ResidentRow> entries, List<EntryCodeRow> codes,
+        List<DeletedCodeRow> deletedCodes, boolean unchanged, List<String> rangeNames,
+        int[] firstRows) {
       this.entries = entries;
       this.codes = codes;
       this.deletedCodes = deletedCodes;
+      this.unchanged = unchanged;
+      this.rangeNames = rangeNames;
+      this.firstRows = firstRows;
+    }
+
+    /** Returns a result with the same ranges and other rows. */
+    public Result withRows(List<ResidentRow> entries, List<EntryCodeRow> codes,
+        List<DeletedCodeRow> deletedCodes) {
+      return new Result(entries, codes, deletedCodes, unchanged, rangeNames, firstRows);
+    }
+
+    /**
+     * Returns the sheet row of the {@code row}th row retrieved from value
+     * range {@code range}, counting the header and rows above the range.
+     */
+    public int getSheetRow(int range, int row) {
+      return firstRows[range] + row;
+    }
+
+    /**
+     * Decodes rows into typed rows according to their value range, skipping
+     * and compiling from the header row of layouts that have one.
+     */
+    public static class Builder implements RowHandler {
+      private final RowLayout[] layouts;
+      private final List<String> rangeNames;
+      private final RowDecoder[] decoders;
+      private final boolean[] headerRead;
+      private final List<ResidentRow> entries = new ArrayList<>();
+      private final List<EntryCodeRow> codes = new ArrayList<>();
+      private final List<DeletedCodeRow> deletedCodes = new ArrayList<>();
+
+      /**
+       * Decodes {@code layouts} of the {@code rangeNames}, in value range
+       * order. A range in A1 notation gives the sheet row of its first row.
+       */
+      public Builder(List<RowLayout> layouts, List<String> rangeNames) {
+        Preconditions.checkArgument(layouts.size() == rangeNames.size(),
+            "%s layouts for %s ranges", layouts.size(), rangeNames.size());
+        this.layouts = layouts.toArray(new RowLayout[0]);
+        this.rangeNames = rangeNames;
+        this.decoders = new RowDecoder[layouts.size()];
+        this.headerRead = new boolean[layouts.size()];
+        for (int i = 0; i < decoders.length; i++) {
+          decoders[i] = layouts.get(i).getDecoder();
+        }
+      }
+
+      @Override
+      public void row(int range, Cells cells) {
+        Preconditions.checkState(range < decoders.length, "Unexpected value range %s", range);
+        RowLayout layout = layouts[range];
+        if (layout.hasHeaderRow() && !headerRead[range]) {
+          headerRead[range] = true;
+          decoders[range] = layout.compile(cells);
+          return;
+        }
+        RowDecoder decoder = decoders[range];
+        switch (range) {
+          case ENTRIES:
+            entries.add(ResidentRow.decode(decoder, cells));
+            break;
+          case CODES:
+            codes.add(EntryCodeRow.decode(decoder, cells));
+            break;
+          case DELETED_CODES:
+            deletedCodes.add(DeletedCodeRow.decode(decoder, cells));
+            break;
+        }
+      }
+
+      /** Decodes value range {@code range} with {@code layout}; call before its first row. */
+      public void setLayout(int range, RowLayout layout) {
+        layouts[range] = layout;
+        decoders[range] = layout.getDecoder();
+      }
+
+      /** Returns a handler which decodes every row as value range {@code range}. */
+      public RowHandler forRange(int range) {
+        return (ignored, cells) -> row(range, cells);
+      }
+
+      public Result build(boolean unchanged) {
+        int[] firstRows = new int[rangeNames.size()];
+        for (int i = 0; i < firstRows.length; i++) {
+          firstRows[i] = A1Range.getFirstRow(rangeNames.get(i)) + (headerRead[i] ? 1 : 0);
+        }
+        return new Result(entries, codes, deletedCodes, unchanged, rangeNames, firstRows);
+      }
     }
   }
 
+  @Override
   public Result retrieve() throws Exception {
-    Credential credential = authorize();
-    logger.info("Authorized with token: " + credential.getAccessToken());
-    Sheets service = new Sheets.Builder(httpTransport, jsonFactory, credential)
-        .setApplicationName(config.getApplicationName())
-        .build();
-    ValueRange entries = service.spreadsheets().values()
-        .get(config.getSheetId(), config.getTelephoneEntryRange())
-        .execute();
-    ValueRange codes = service.spreadsheets().values()
-        .get(config.getSheetId(), config.getEntryCodeRange())
-        .execute();
-    ValueRange deletedCodes = service.spreadsheets().values()
-        .get(config.getSheetId(), config.getDeletedEntryCodeRange())
-        .execute();
-    return new Result(entries.getValues(), codes.getValues(), deletedCodes.getValues());
-  }
-
-  /** Authorizes the installed application to access user's protected data. */
+    pendingSnapshots = newPendingSnapshots();
+    metrics = new SyncMetrics();
+    int retries = retrier.getRetries();
+    int hedges = retrier.getHedges();
+    try {
+      return retrieve(metrics);
+    } finally {
+      metrics.addCount("retries", retrier.getRetries() - retries);
+      metrics.addCount("hedges", retrier.getHedges() - hedges);
+    }
+  }
+
+  @Override
+  public void addMetrics(SyncMetrics metrics) {
+    metrics.addAll(this.metrics);
+  }
+
+  private Result retrieve(SyncMetrics metrics) throws Exception {
+    if (service == null) {
+      long start = SyncMetrics.startPhase();
+      Credential credential = getCredential();
+      metrics.endPhase("authorize", start);
+      logger.info("Authorized with token: " + credential.getAccessToken());
+      service = new Sheets.Builder(httpTransport, jsonFactory,
+          Transports.withTimeouts(config, credential))
+              .setApplicationName(Transports.getApplicationName(config))
+              .build();
+    }
+    List<String> sheetIds = getSheetIds(config);
+    List<String> ranges = getRanges(config, layouts);
+    if (config.getBatchGet() && ImmutableSet.copyOf(sheetIds).size() == 1) {
+      return retrieveBatch(sheetIds.get(0), ranges);
+    }
+    List<Callable<Response>> fetches = new ArrayList<>();
+    for (int i = 0; i < ranges.size(); i++) {
+      String sheetId = sheetIds.get(i);
+      String range = ranges.get(i);
+      fetches.add(() -> fetch(() -> withOptions(
+          service.spreadsheets().values().get(sheetId, range)
+              .setValueRenderOption(config.getValueRenderOption())
+              .setDateTimeRenderOption(config.getDateTimeRenderOption()),
+          "range,values"),
+          sheetId, ImmutableList.of(range)));
+    }
+    List<Response> responses = fetchAll(fetches);
+    logLatencies();
+    Result.Builder result = new Result.Builder(layouts, ranges);
+    boolean unchanged = true;
+    for (int i = 0; i < responses.size(); i++) {
+      responses.get(i).decode(result.forRange(i));
+      unchanged &= responses.get(i).unchanged;
+    }
+    return result.build(unchanged);
+  }
+
+  /** Returns the sheet id of each range, in {@link Result} order. */
+  static List<String> getSheetIds(Config config) {
+    return ImmutableList.of(
+        config.hasTelephoneEntrySheetId()
+            ? config.getTelephoneEntrySheetId() : config.getSheetId(),
+        config.hasEntryCodeSheetId()
+            ? config.getEntryCodeSheetId() : config.getSheetId(),
+        config.hasDeletedEntryCodeSheetId()
+            ? config.getDeletedEntryCodeSheetId() : config.getSheetId());
+  }
+
+  /**
+   * Returns the ranges, in {@link Result} order, trimmed to the columns the
+   * {@code layouts} read if trim_columns is set. Ranges whose columns are
+   * mapped by header are not trimmed.
+   */
+  static List<String> getRanges(Config config, List<RowLayout> layouts) {
+    List<String> ranges = ImmutableList.of(
+        config.getTelephoneEntryRange(),
+        config.getEntryCodeRange(),
+        config.getDeletedEntryCodeRange());
+    if (!config.getTrimColumns()) {
+      return ranges;
+    }
+    List<String> trimmed = new ArrayList<>();
+    for (int i = 0; i < ranges.size(); i++) {
+      int lastColumn = layouts.get(i).getLastColumn();
+      trimmed.add(lastColumn < 0
+          ? ranges.get(i)
+          : A1Range.trimColumns(ranges.get(i), lastColumn));
+    }
+    return trimmed;
+  }
+
+  /** Retrieves all ranges of one sheet in a single round trip. */
+  private Result retrieveBatch(String sheetId, List<String> ranges) throws Exception {
+    Response response = fetch(() -> withOptions(service.spreadsheets().values()
+        .batchGet(sheetId)
+        .setRanges(ranges)
+        .setValueRenderOption(config.getValueRenderOption())
+        .setDateTimeRenderOption(config.getDateTimeRenderOption()),
+        "valueRanges(range,values)"),
+        sheetId, ranges);
+    logLatencies();
+    // Value ranges are returned in the order requested.
+    Result.Builder result = new Result.Builder(layouts, ranges);
+    int count = response.decode(result);
+    Preconditions.checkState(count == ranges.size(),
+        "Expected %s value ranges from batchGet", ranges.size());
+    return result.build(response.unchanged);
+  }
+
+  /** Applies the minimal fields mask if configured. */
+  private AbstractGoogleClientRequest<?> withOptions(AbstractGoogleClientRequest<?> request,
+      String minimalFields) {
+    if (config.getMinimalFields()) {
+      request.set("fields", minimalFields);
+    }
+    return request;
+  }
+
+  /**
+   * Runs the fetches concurrently, at most max_concurrent_fetches at a time.
+   * If any fetch fails the others are cancelled and its exception is thrown.
+   */
+  private List<Response> fetchAll(List<Callable<Response>> fetches) throws Exception {
+    List<ListenableFuture<Response>> futures = new ArrayList<>();
+    try {
+      for (Callable<Response> fetch : fetches) {
+        futures.add(executor.submit(fetch));
+      }
+      return Futures.allAsList(futures).get();
+    } catch (ExecutionException e) {
+      Throwables.throwIfInstanceOf(e.getCause(), Exception.class);
+      throw e;
+    } finally {
+      futures.forEach(future -> future.cancel(true));
+    }
+  }
+
+  private void logLatencies() {
+    retrier.getHistograms().forEach((name, histogram) ->
+        logger.info("Latency of " + name + ": " + histogram));
+  }
+
+  /**
+   * Saves the snapshots from the last {@link #retrieve()}. Call once the
+   * result has been exported, so that a failed export is retried next time.
+   */
+  @Override
+  public void commit() throws IOException {
+    List<PendingSnapshot> pendingSnapshots = this.pendingSnapshots;
+    synchronized (pendingSnapshots) {
+      for (PendingSnapshot pending : pendingSnapshots) {
+        snapshotCache.store(pending.sheetId, pending.ranges, pending.snapshot);
+      }
+      pendingSnapshots.clear();
+    }
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+    attemptExecutor.shutdownNow();
+  }
+
+  private static List<PendingSnapshot> newPendingSnapshots() {
+    return Collections.synchronizedList(new ArrayList<>());
+  }
+
+  private static class PendingSnapshot {
+    final String sheetId;
+    final List<String> ranges;
+    final Snapshot snapshot;
+
+    PendingSnapshot(String sheetId, List<String> ranges, Snapshot snapshot) {
+      this.sheetId = sheetId;
+      this.ranges = ranges;
+      this.snapshot = snapshot;
+    }
+  }
+
+  private class Response {
+    final byte[] body;
+    final boolean unchanged;
+
+    Response(byte[] body, boolean unchanged) {
+      this.body = body;
+      this.unchanged = unchanged;
+    }
+
+    int decode(RowHandler handler) throws IOException {
+      return new ValuesDecoder(jsonFactory).decode(new ByteArrayInputStream(body), handler);
+    }
+  }
+
+  /**
+   * Executes a request from {@code newRequest} with retries, revalidating
+   * against the cached snapshot of {@code ranges} when one exists.
+   */
+  private Response fetch(Callable<AbstractGoogleClientRequest<?>> newRequest,
+      String sheetId, List<String> ranges) throws Exception {
+    Snapshot snapshot = snapshotCache == null ? null : snapshotCache.load(sheetId, ranges);
+    List<PendingSnapshot> pendingSnapshots = this.pendingSnapshots;
+    SyncMetrics metrics = this.metrics;
+    long start = SyncMetrics.startPhase();
+    String rangeNames = String.join(",", ranges);
+    FetchEvent event = FlightEvents.beginFetch();
+    long bytes = 0;
+    boolean unchanged = false;
+    try {
+      Snapshot download = retrier.call(rangeNames, () -> {
+        AbstractGoogleClientRequest<?> request = newRequest.call();
+        if (snapshot != null && snapshot.eTag != null) {
+          request.getRequestHeaders().setIfNoneMatch(snapshot.eTag);
+        }
+        return download(request);
+      });
+      metrics.endPhase("fetch " + rangeNames, start);
+      metrics.addCount("payload_bytes", download.body.length);
+      bytes = download.body.length;
+      if (snapshotCache == null) {
+        return new Response(download.body, false);
+      }
+      if (snapshot != null && Arrays.equals(snapshot.body, download.body)
+          && snapshotCache.isCurrent(snapshot)) {
+        logger.info("Unchanged since last snapshot: " + ranges);
+        unchanged = true;
+        return new Response(download.body, true);
+      }
+      pendingSnapshots.add(new PendingSnapshot(sheetId, ranges, download));
+      return new Response(download.body, false);
+    } catch (HttpResponseException e) {
+      if (e.getStatusCode() != HTTP_NOT_MODIFIED || snapshot == null) {
+        throw e;
+      }
+      metrics.endPhase("fetch " + rangeNames, start);
+      if (!snapshotCache.isCurrent(snapshot)) {
+        logger.info("Not modified, but exported with other settings: " + ranges);
+        pendingSnapshots.add(new PendingSnapshot(sheetId, ranges, snapshot));
+        return new Response(snapshot.body, false);
+      }
+      logger.info("Not modified since last snapshot: " + ranges);
+      unchanged = true;
+      return new Response(snapshot.body, true);
+    } finally {
+      FlightEvents.commit(event, rangeNames, bytes, unchanged);
+    }
+  }
+
+  /**
+   * Reads the body to the end and closes only the stream, which hands the
+   * connection back to the keep-alive cache; disconnecting would close it.
+   */
+  private Snapshot download(AbstractGoogleClientRequest<?> request) throws IOException {
+    HttpResponse response = request.executeUnparsed();
+    try (InputStream content = response.getContent()) {
+      return new Snapshot(ByteStreams.toByteArray(content), response.getHeaders().getETag());
+    }
+  }
+
+  /** Credentials shared by all retrievers, so that many sites authorize once. */
+  private static final Map<List<String>, Credential> credentials = new HashMap<>();
+
+  private Credential getCredential() throws Exception {
+    List<String> key = ImmutableList.of(config.getServiceAccountKeyFile(),
+        config.getClientId(), config.getGoogleUsername());
+    synchronized (credentials) {
+      Credential credential = credentials.get(key);
+      if (credential == null) {
+        credential = authorize();
+        credentials.put(key, credential);
+      }
+      return credential;
+    }
+  }
+
+  /**
+   * Authorizes the installed application to access user's protected data.
+   * A service account key or a stored credential is used when available;
+   * the interactive browser flow is only a fallback.
+   */
   private Credential authorize() throws Exception {
-    logger.info("Authorizing with LocalServerReceiver");
-    AuthorizationCodeFlow flow = new GoogleAuthorizationCodeFlow.Builder(
-        httpTransport,
-        jsonFactory,
-        config.getClientId(),
-        config.getClientSecret(),
-        Collections.singleton(SheetsScopes.SPREADSHEETS_READONLY))
-            .setDataStoreFactory(dataStoreFactory)
-            .build();
-    final LocalServerReceiver receiver = new LocalServerReceiver.Builder().build();
-    AuthorizationCodeInstalledApp app = new AuthorizationCodeInstalledApp(flow, receiver) {
-      @Override
-      protected void onAuthorization(AuthorizationCodeRequestUrl authorizationUrl) throws IOException {
-        String url = authorizationUrl.build();
-        new ProcessBuilder("C:\\Program Files\\Mozilla Firefox\\firefox.exe", "-new-window", url).start();
+    AuthorizeEvent event = FlightEvents.beginAuthorize();
+    String method = null;
+    try {
+      if (config.hasServiceAccountKeyFile()) {
+        method = "service account";
+        logger.info("Authorizing with service account key");
+        try (InputStream in = new FileInputStream(config.getServiceAccountKeyFile())) {
+          return GoogleCredential.fromStream(in, httpTransport, jsonFactory)
+              .createScoped(SCOPES);
+        }
       }
-    };
-    return app.authorize(config.getGoogleUsername());
+      AuthorizationCodeFlow flow = new GoogleAuthorizationCodeFlow.Builder(
+          httpTransport,
+          jsonFactory,
+          config.getClientId(),
+          config.getClientSecret(),
+          SCOPES)
+              .setDataStoreFactory(dataStoreFactory)
+              .build();
+      Credential credential = flow.loadCredential(config.getGoogleUsername());
+      if (credential != null && isValid(credential)) {
+        method = "stored credential";
+        logger.info("Authorizing with stored credential");
+        return credential;
+      }
+      method = "interactive";
+      logger.info("Authorizing with LocalServerReceiver");
+      return InteractiveAuthorizer.authorize(flow, config.getGoogleUsername());
+    } finally {
+      FlightEvents.commit(event, method);
+    }
+  }
+
+  private static final Collection<String> SCOPES =
+      Collections.singleton(SheetsScopes.SPREADSHEETS_READONLY);
+
+  /** Returns true if the credential is fresh, or can be refreshed. */
+  private boolean isValid(Credential credential) {
+    Long expiresInSeconds = credential.getExpiresInSeconds();
+    if (expiresInSeconds != null && expiresInSeconds > 60) {
+      return true;
+    }
+    if (credential.getRefreshToken() == null) {
+      return expiresInSeconds == null;
+    }
+    try {
+      return credential.refreshToken();
+    } catch (IOException e) {
+      logger.warning("Stored credential could not be refreshed: " + e.getMessage());
+      return false;
+    }
   }
-}
\ No newline at end of file
+}
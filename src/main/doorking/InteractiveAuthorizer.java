@@ -0,0 +1,49 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.io.IOException;
+
+import com.google.api.client.auth.oauth2.AuthorizationCodeFlow;
+import com.google.api.client.auth.oauth2.AuthorizationCodeRequestUrl;
+import com.google.api.client.auth.oauth2.Credential;
+import com.google.api.client.extensions.java6.auth.oauth2.AuthorizationCodeInstalledApp;
+import com.google.api.client.extensions.jetty.auth.oauth2.LocalServerReceiver;
+
+/**
+ * Runs the interactive browser authorization. Kept apart from
+ * {@link GoogleRetriever} so Jetty is only loaded when it is needed.
+ */
+class InteractiveAuthorizer {
+  private InteractiveAuthorizer() {
+  }
+
+  static Credential authorize(AuthorizationCodeFlow flow, String userId) throws IOException {
+    final LocalServerReceiver receiver = new LocalServerReceiver.Builder().build();
+    AuthorizationCodeInstalledApp app = new AuthorizationCodeInstalledApp(flow, receiver) {
+      @Override
+      protected void onAuthorization(AuthorizationCodeRequestUrl authorizationUrl) throws IOException {
+        String url = authorizationUrl.build();
+        new ProcessBuilder("C:\\Program Files\\Mozilla Firefox\\firefox.exe", "-new-window", url).start();
+      }
+    };
+    return app.authorize(userId);
+  }
+}
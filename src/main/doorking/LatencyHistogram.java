@@ -0,0 +1,81 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/** A thread-safe histogram of call latencies with fixed millisecond buckets. */
+public class LatencyHistogram {
+  /** Upper bounds of the buckets, in milliseconds; the last bucket is unbounded. */
+  static final long[] BOUNDS_MILLIS = {
+      10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000 };
+
+  private final AtomicLongArray counts = new AtomicLongArray(BOUNDS_MILLIS.length + 1);
+
+  public void record(long nanos) {
+    long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+    int bucket = 0;
+    while (bucket < BOUNDS_MILLIS.length && millis > BOUNDS_MILLIS[bucket]) {
+      bucket++;
+    }
+    counts.incrementAndGet(bucket);
+  }
+
+  public long getCount() {
+    long count = 0;
+    for (int i = 0; i < counts.length(); i++) {
+      count += counts.get(i);
+    }
+    return count;
+  }
+
+  /** Returns the count of the bucket {@code i}, where {@code i == BOUNDS_MILLIS.length} is +Inf. */
+  public long getBucketCount(int i) {
+    return counts.get(i);
+  }
+
+  /**
+   * Returns the upper bound of the bucket holding the {@code quantile}, or -1
+   * if it is in the unbounded bucket or nothing was recorded.
+   */
+  public long getQuantileBoundMillis(double quantile) {
+    long count = getCount();
+    if (count == 0) {
+      return -1;
+    }
+    long rank = (long) Math.ceil(quantile * count);
+    long seen = 0;
+    for (int i = 0; i < BOUNDS_MILLIS.length; i++) {
+      seen += counts.get(i);
+      if (seen >= rank) {
+        return BOUNDS_MILLIS[i];
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("n=%d p50<=%dms p90<=%dms p99<=%dms", getCount(),
+        getQuantileBoundMillis(0.5), getQuantileBoundMillis(0.9),
+        getQuantileBoundMillis(0.99));
+  }
+}
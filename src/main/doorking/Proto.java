@@ -189,6 +189,666 @@ public final class Proto {
      */
     com.google.protobuf.ByteString
         getAccountNameBytes();
+
+    /**
+     * <code>optional bool batch_get = 13 [default = true];</code>
+     *
+     * <pre>
+     * Retrieves all ranges with a single values().batchGet round trip.
+     * </pre>
+     */
+    boolean hasBatchGet();
+    /**
+     * <code>optional bool batch_get = 13 [default = true];</code>
+     *
+     * <pre>
+     * Retrieves all ranges with a single values().batchGet round trip.
+     * </pre>
+     */
+    boolean getBatchGet();
+
+    /**
+     * <code>optional bool snapshot_cache = 14;</code>
+     *
+     * <pre>
+     * Keeps response snapshots under data_store_directory and skips the export
+     * when nothing changed. Without an ETag from Sheets the unchanged case is
+     * only found after downloading the full body again, which saves the
+     * adaptation and export but not the fetch.
+     * </pre>
+     */
+    boolean hasSnapshotCache();
+    /**
+     * <code>optional bool snapshot_cache = 14;</code>
+     *
+     * <pre>
+     * Keeps response snapshots under data_store_directory and skips the export
+     * when nothing changed. Without an ETag from Sheets the unchanged case is
+     * only found after downloading the full body again, which saves the
+     * adaptation and export but not the fetch.
+     * </pre>
+     */
+    boolean getSnapshotCache();
+
+    /**
+     * <code>optional .doorking.Config.RowSourceType row_source = 15 [default = GOOGLE_SHEETS];</code>
+     */
+    boolean hasRowSource();
+    /**
+     * <code>optional .doorking.Config.RowSourceType row_source = 15 [default = GOOGLE_SHEETS];</code>
+     */
+    doorking.Proto.Config.RowSourceType getRowSource();
+
+    /**
+     * <code>optional string dump_directory = 16;</code>
+     *
+     * <pre>
+     * GOOGLE_SHEETS writes the last good result here after each export.
+     * </pre>
+     */
+    boolean hasDumpDirectory();
+    /**
+     * <code>optional string dump_directory = 16;</code>
+     *
+     * <pre>
+     * GOOGLE_SHEETS writes the last good result here after each export.
+     * </pre>
+     */
+    java.lang.String getDumpDirectory();
+    /**
+     * <code>optional string dump_directory = 16;</code>
+     *
+     * <pre>
+     * GOOGLE_SHEETS writes the last good result here after each export.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getDumpDirectoryBytes();
+
+    /**
+     * <code>optional int32 failover_timeout_seconds = 17;</code>
+     *
+     * <pre>
+     * If set with dump_directory, falls back to the dump when Google Sheets
+     * fails or takes longer than this.
+     * </pre>
+     */
+    boolean hasFailoverTimeoutSeconds();
+    /**
+     * <code>optional int32 failover_timeout_seconds = 17;</code>
+     *
+     * <pre>
+     * If set with dump_directory, falls back to the dump when Google Sheets
+     * fails or takes longer than this.
+     * </pre>
+     */
+    int getFailoverTimeoutSeconds();
+
+    /**
+     * <code>optional string service_account_key_file = 18;</code>
+     *
+     * <pre>
+     * Service account JSON key; replaces the client_id/client_secret flow.
+     * </pre>
+     */
+    boolean hasServiceAccountKeyFile();
+    /**
+     * <code>optional string service_account_key_file = 18;</code>
+     *
+     * <pre>
+     * Service account JSON key; replaces the client_id/client_secret flow.
+     * </pre>
+     */
+    java.lang.String getServiceAccountKeyFile();
+    /**
+     * <code>optional string service_account_key_file = 18;</code>
+     *
+     * <pre>
+     * Service account JSON key; replaces the client_id/client_secret flow.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getServiceAccountKeyFileBytes();
+
+    /**
+     * <code>optional int32 connect_timeout_millis = 19;</code>
+     */
+    boolean hasConnectTimeoutMillis();
+    /**
+     * <code>optional int32 connect_timeout_millis = 19;</code>
+     */
+    int getConnectTimeoutMillis();
+
+    /**
+     * <code>optional int32 read_timeout_millis = 20;</code>
+     */
+    boolean hasReadTimeoutMillis();
+    /**
+     * <code>optional int32 read_timeout_millis = 20;</code>
+     */
+    int getReadTimeoutMillis();
+
+    /**
+     * <code>optional int32 max_connections = 21;</code>
+     *
+     * <pre>
+     * Kept-alive connections per host in the shared transport. This is
+     * process-wide, so the largest value of any site applies to all.
+     * </pre>
+     */
+    boolean hasMaxConnections();
+    /**
+     * <code>optional int32 max_connections = 21;</code>
+     *
+     * <pre>
+     * Kept-alive connections per host in the shared transport. This is
+     * process-wide, so the largest value of any site applies to all.
+     * </pre>
+     */
+    int getMaxConnections();
+
+    /**
+     * <code>optional string telephone_entry_sheet_id = 22;</code>
+     *
+     * <pre>
+     * Override sheet_id for individual ranges. batch_get only applies when all
+     * ranges are on the same sheet; otherwise the ranges are fetched concurrently.
+     * </pre>
+     */
+    boolean hasTelephoneEntrySheetId();
+    /**
+     * <code>optional string telephone_entry_sheet_id = 22;</code>
+     *
+     * <pre>
+     * Override sheet_id for individual ranges. batch_get only applies when all
+     * ranges are on the same sheet; otherwise the ranges are fetched concurrently.
+     * </pre>
+     */
+    java.lang.String getTelephoneEntrySheetId();
+    /**
+     * <code>optional string telephone_entry_sheet_id = 22;</code>
+     *
+     * <pre>
+     * Override sheet_id for individual ranges. batch_get only applies when all
+     * ranges are on the same sheet; otherwise the ranges are fetched concurrently.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getTelephoneEntrySheetIdBytes();
+
+    /**
+     * <code>optional string entry_code_sheet_id = 23;</code>
+     */
+    boolean hasEntryCodeSheetId();
+    /**
+     * <code>optional string entry_code_sheet_id = 23;</code>
+     */
+    java.lang.String getEntryCodeSheetId();
+    /**
+     * <code>optional string entry_code_sheet_id = 23;</code>
+     */
+    com.google.protobuf.ByteString
+        getEntryCodeSheetIdBytes();
+
+    /**
+     * <code>optional string deleted_entry_code_sheet_id = 24;</code>
+     */
+    boolean hasDeletedEntryCodeSheetId();
+    /**
+     * <code>optional string deleted_entry_code_sheet_id = 24;</code>
+     */
+    java.lang.String getDeletedEntryCodeSheetId();
+    /**
+     * <code>optional string deleted_entry_code_sheet_id = 24;</code>
+     */
+    com.google.protobuf.ByteString
+        getDeletedEntryCodeSheetIdBytes();
+
+    /**
+     * <code>optional int32 max_concurrent_fetches = 25 [default = 3];</code>
+     */
+    boolean hasMaxConcurrentFetches();
+    /**
+     * <code>optional int32 max_concurrent_fetches = 25 [default = 3];</code>
+     */
+    int getMaxConcurrentFetches();
+
+    /**
+     * <code>optional int32 max_attempts = 26 [default = 5];</code>
+     *
+     * <pre>
+     * Sheets calls are retried on 429, 5xx and I/O errors with exponential
+     * backoff and jitter.
+     * </pre>
+     */
+    boolean hasMaxAttempts();
+    /**
+     * <code>optional int32 max_attempts = 26 [default = 5];</code>
+     *
+     * <pre>
+     * Sheets calls are retried on 429, 5xx and I/O errors with exponential
+     * backoff and jitter.
+     * </pre>
+     */
+    int getMaxAttempts();
+
+    /**
+     * <code>optional int32 initial_backoff_millis = 27 [default = 1000];</code>
+     */
+    boolean hasInitialBackoffMillis();
+    /**
+     * <code>optional int32 initial_backoff_millis = 27 [default = 1000];</code>
+     */
+    int getInitialBackoffMillis();
+
+    /**
+     * <code>optional int32 max_backoff_millis = 28 [default = 32000];</code>
+     */
+    boolean hasMaxBackoffMillis();
+    /**
+     * <code>optional int32 max_backoff_millis = 28 [default = 32000];</code>
+     */
+    int getMaxBackoffMillis();
+
+    /**
+     * <code>optional int32 call_deadline_millis = 29;</code>
+     *
+     * <pre>
+     * Deadline for each attempt; 0 for none.
+     * </pre>
+     */
+    boolean hasCallDeadlineMillis();
+    /**
+     * <code>optional int32 call_deadline_millis = 29;</code>
+     *
+     * <pre>
+     * Deadline for each attempt; 0 for none.
+     * </pre>
+     */
+    int getCallDeadlineMillis();
+
+    /**
+     * <code>optional int32 hedge_delay_millis = 30;</code>
+     *
+     * <pre>
+     * Starts a second, hedged attempt if the first is slower than this; 0 for none.
+     * </pre>
+     */
+    boolean hasHedgeDelayMillis();
+    /**
+     * <code>optional int32 hedge_delay_millis = 30;</code>
+     *
+     * <pre>
+     * Starts a second, hedged attempt if the first is slower than this; 0 for none.
+     * </pre>
+     */
+    int getHedgeDelayMillis();
+
+    /**
+     * <code>optional string value_render_option = 31 [default = "FORMATTED_VALUE"];</code>
+     *
+     * <pre>
+     * Sheets valueRenderOption; UNFORMATTED_VALUE sends numbers as numbers,
+     * which the decoder reads as their text, and is the cheapest to parse.
+     * </pre>
+     */
+    boolean hasValueRenderOption();
+    /**
+     * <code>optional string value_render_option = 31 [default = "FORMATTED_VALUE"];</code>
+     *
+     * <pre>
+     * Sheets valueRenderOption; UNFORMATTED_VALUE sends numbers as numbers,
+     * which the decoder reads as their text, and is the cheapest to parse.
+     * </pre>
+     */
+    java.lang.String getValueRenderOption();
+    /**
+     * <code>optional string value_render_option = 31 [default = "FORMATTED_VALUE"];</code>
+     *
+     * <pre>
+     * Sheets valueRenderOption; UNFORMATTED_VALUE sends numbers as numbers,
+     * which the decoder reads as their text, and is the cheapest to parse.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getValueRenderOptionBytes();
+
+    /**
+     * <code>optional string date_time_render_option = 32 [default = "SERIAL_NUMBER"];</code>
+     */
+    boolean hasDateTimeRenderOption();
+    /**
+     * <code>optional string date_time_render_option = 32 [default = "SERIAL_NUMBER"];</code>
+     */
+    java.lang.String getDateTimeRenderOption();
+    /**
+     * <code>optional string date_time_render_option = 32 [default = "SERIAL_NUMBER"];</code>
+     */
+    com.google.protobuf.ByteString
+        getDateTimeRenderOptionBytes();
+
+    /**
+     * <code>optional bool minimal_fields = 33;</code>
+     *
+     * <pre>
+     * Requests only the range and values fields of each response.
+     * </pre>
+     */
+    boolean hasMinimalFields();
+    /**
+     * <code>optional bool minimal_fields = 33;</code>
+     *
+     * <pre>
+     * Requests only the range and values fields of each response.
+     * </pre>
+     */
+    boolean getMinimalFields();
+
+    /**
+     * <code>optional bool trim_columns = 34;</code>
+     *
+     * <pre>
+     * Reduces the last column of each range to the last column read from it.
+     * </pre>
+     */
+    boolean hasTrimColumns();
+    /**
+     * <code>optional bool trim_columns = 34;</code>
+     *
+     * <pre>
+     * Reduces the last column of each range to the last column read from it.
+     * </pre>
+     */
+    boolean getTrimColumns();
+
+    /**
+     * <code>repeated .doorking.Site site = 35;</code>
+     *
+     * <pre>
+     * Sites synced by one run. Each site's config is merged over this one, so
+     * credentials and options are shared; security_level_mapping, the column
+     * layouts and code_allocation in a site replace the shared ones as a whole
+     * rather than adding to them.
+     * </pre>
+     */
+    java.util.List<doorking.Proto.Site> 
+        getSiteList();
+    /**
+     * <code>repeated .doorking.Site site = 35;</code>
+     *
+     * <pre>
+     * Sites synced by one run. Each site's config is merged over this one, so
+     * credentials and options are shared; security_level_mapping, the column
+     * layouts and code_allocation in a site replace the shared ones as a whole
+     * rather than adding to them.
+     * </pre>
+     */
+    doorking.Proto.Site getSite(int index);
+    /**
+     * <code>repeated .doorking.Site site = 35;</code>
+     *
+     * <pre>
+     * Sites synced by one run. Each site's config is merged over this one, so
+     * credentials and options are shared; security_level_mapping, the column
+     * layouts and code_allocation in a site replace the shared ones as a whole
+     * rather than adding to them.
+     * </pre>
+     */
+    int getSiteCount();
+    /**
+     * <code>repeated .doorking.Site site = 35;</code>
+     *
+     * <pre>
+     * Sites synced by one run. Each site's config is merged over this one, so
+     * credentials and options are shared; security_level_mapping, the column
+     * layouts and code_allocation in a site replace the shared ones as a whole
+     * rather than adding to them.
+     * </pre>
+     */
+    java.util.List<? extends doorking.Proto.SiteOrBuilder> 
+        getSiteOrBuilderList();
+    /**
+     * <code>repeated .doorking.Site site = 35;</code>
+     *
+     * <pre>
+     * Sites synced by one run. Each site's config is merged over this one, so
+     * credentials and options are shared; security_level_mapping, the column
+     * layouts and code_allocation in a site replace the shared ones as a whole
+     * rather than adding to them.
+     * </pre>
+     */
+    doorking.Proto.SiteOrBuilder getSiteOrBuilder(
+        int index);
+
+    /**
+     * <code>optional string output_file = 36 [default = "/tmp/doorking.csv"];</code>
+     *
+     * <pre>
+     * With sites, defaults to this file name with "-&lt;site name&gt;" appended.
+     * </pre>
+     */
+    boolean hasOutputFile();
+    /**
+     * <code>optional string output_file = 36 [default = "/tmp/doorking.csv"];</code>
+     *
+     * <pre>
+     * With sites, defaults to this file name with "-&lt;site name&gt;" appended.
+     * </pre>
+     */
+    java.lang.String getOutputFile();
+    /**
+     * <code>optional string output_file = 36 [default = "/tmp/doorking.csv"];</code>
+     *
+     * <pre>
+     * With sites, defaults to this file name with "-&lt;site name&gt;" appended.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getOutputFileBytes();
+
+    /**
+     * <code>optional int32 max_concurrent_sites = 37 [default = 4];</code>
+     */
+    boolean hasMaxConcurrentSites();
+    /**
+     * <code>optional int32 max_concurrent_sites = 37 [default = 4];</code>
+     */
+    int getMaxConcurrentSites();
+
+    /**
+     * <code>optional int32 poll_interval_seconds = 38 [default = 300];</code>
+     *
+     * <pre>
+     * Poll interval of Sync --daemon.
+     * </pre>
+     */
+    boolean hasPollIntervalSeconds();
+    /**
+     * <code>optional int32 poll_interval_seconds = 38 [default = 300];</code>
+     *
+     * <pre>
+     * Poll interval of Sync --daemon.
+     * </pre>
+     */
+    int getPollIntervalSeconds();
+
+    /**
+     * <code>optional bool delta_export = 39;</code>
+     *
+     * <pre>
+     * Also writes -added, -modified and -removed files relative to the previous
+     * export's snapshot.
+     * </pre>
+     */
+    boolean hasDeltaExport();
+    /**
+     * <code>optional bool delta_export = 39;</code>
+     *
+     * <pre>
+     * Also writes -added, -modified and -removed files relative to the previous
+     * export's snapshot.
+     * </pre>
+     */
+    boolean getDeltaExport();
+
+    /**
+     * <code>optional bool entry_snapshot = 40;</code>
+     *
+     * <pre>
+     * Writes the adapted entries and codes to &lt;output_file&gt;.snapshot.
+     * </pre>
+     */
+    boolean hasEntrySnapshot();
+    /**
+     * <code>optional bool entry_snapshot = 40;</code>
+     *
+     * <pre>
+     * Writes the adapted entries and codes to &lt;output_file&gt;.snapshot.
+     * </pre>
+     */
+    boolean getEntrySnapshot();
+
+    /**
+     * <code>optional .doorking.CodeAllocation code_allocation = 41;</code>
+     *
+     * <pre>
+     * Policy of Sync --allocate.
+     * </pre>
+     */
+    boolean hasCodeAllocation();
+    /**
+     * <code>optional .doorking.CodeAllocation code_allocation = 41;</code>
+     *
+     * <pre>
+     * Policy of Sync --allocate.
+     * </pre>
+     */
+    doorking.Proto.CodeAllocation getCodeAllocation();
+    /**
+     * <code>optional .doorking.CodeAllocation code_allocation = 41;</code>
+     *
+     * <pre>
+     * Policy of Sync --allocate.
+     * </pre>
+     */
+    doorking.Proto.CodeAllocationOrBuilder getCodeAllocationOrBuilder();
+
+    /**
+     * <code>optional .doorking.ColumnLayout telephone_entry_layout = 42;</code>
+     *
+     * <pre>
+     * Column layouts of each range; unmapped fields keep their default column.
+     * </pre>
+     */
+    boolean hasTelephoneEntryLayout();
+    /**
+     * <code>optional .doorking.ColumnLayout telephone_entry_layout = 42;</code>
+     *
+     * <pre>
+     * Column layouts of each range; unmapped fields keep their default column.
+     * </pre>
+     */
+    doorking.Proto.ColumnLayout getTelephoneEntryLayout();
+    /**
+     * <code>optional .doorking.ColumnLayout telephone_entry_layout = 42;</code>
+     *
+     * <pre>
+     * Column layouts of each range; unmapped fields keep their default column.
+     * </pre>
+     */
+    doorking.Proto.ColumnLayoutOrBuilder getTelephoneEntryLayoutOrBuilder();
+
+    /**
+     * <code>optional .doorking.ColumnLayout entry_code_layout = 43;</code>
+     */
+    boolean hasEntryCodeLayout();
+    /**
+     * <code>optional .doorking.ColumnLayout entry_code_layout = 43;</code>
+     */
+    doorking.Proto.ColumnLayout getEntryCodeLayout();
+    /**
+     * <code>optional .doorking.ColumnLayout entry_code_layout = 43;</code>
+     */
+    doorking.Proto.ColumnLayoutOrBuilder getEntryCodeLayoutOrBuilder();
+
+    /**
+     * <code>optional .doorking.ColumnLayout deleted_entry_code_layout = 44;</code>
+     */
+    boolean hasDeletedEntryCodeLayout();
+    /**
+     * <code>optional .doorking.ColumnLayout deleted_entry_code_layout = 44;</code>
+     */
+    doorking.Proto.ColumnLayout getDeletedEntryCodeLayout();
+    /**
+     * <code>optional .doorking.ColumnLayout deleted_entry_code_layout = 44;</code>
+     */
+    doorking.Proto.ColumnLayoutOrBuilder getDeletedEntryCodeLayoutOrBuilder();
+
+    /**
+     * <code>optional bool skip_invalid_rows = 45;</code>
+     *
+     * <pre>
+     * Leaves out rows that fail validation, and rows that depend on them,
+     * instead of failing the export. Every problem is reported either way.
+     * </pre>
+     */
+    boolean hasSkipInvalidRows();
+    /**
+     * <code>optional bool skip_invalid_rows = 45;</code>
+     *
+     * <pre>
+     * Leaves out rows that fail validation, and rows that depend on them,
+     * instead of failing the export. Every problem is reported either way.
+     * </pre>
+     */
+    boolean getSkipInvalidRows();
+
+    /**
+     * <code>optional bool parallel_adaptation = 46;</code>
+     *
+     * <pre>
+     * Adapts chunks of rows on the common ForkJoinPool. The output is the same
+     * as when adapting on one thread.
+     * </pre>
+     */
+    boolean hasParallelAdaptation();
+    /**
+     * <code>optional bool parallel_adaptation = 46;</code>
+     *
+     * <pre>
+     * Adapts chunks of rows on the common ForkJoinPool. The output is the same
+     * as when adapting on one thread.
+     * </pre>
+     */
+    boolean getParallelAdaptation();
+
+    /**
+     * <code>optional int32 adaptation_chunk_size = 47 [default = 1000];</code>
+     */
+    boolean hasAdaptationChunkSize();
+    /**
+     * <code>optional int32 adaptation_chunk_size = 47 [default = 1000];</code>
+     */
+    int getAdaptationChunkSize();
+
+    /**
+     * <code>optional bool metrics_report = 48;</code>
+     *
+     * <pre>
+     * Writes the phase durations and counts of each sync next to the output,
+     * as &lt;output_file&gt;.prom for Prometheus and &lt;output_file&gt;.report.json.
+     * </pre>
+     */
+    boolean hasMetricsReport();
+    /**
+     * <code>optional bool metrics_report = 48;</code>
+     *
+     * <pre>
+     * Writes the phase durations and counts of each sync next to the output,
+     * as &lt;output_file&gt;.prom for Prometheus and &lt;output_file&gt;.report.json.
+     * </pre>
+     */
+    boolean getMetricsReport();
   }
   /**
    * Protobuf type {@code doorking.Config}
@@ -225,6 +885,7 @@ public final class Proto {
         throws com.google.protobuf.InvalidProtocolBufferException {
       initFields();
       int mutable_bitField0_ = 0;
+      int mutable_bitField1_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -316,49 +977,393 @@ public final class Proto {
               deletedEntryCodeRange_ = bs;
               break;
             }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e.getMessage()).setUnfinishedMessage(this);
-      } finally {
-        if (((mutable_bitField0_ & 0x00000400) == 0x00000400)) {
-          securityLevelMapping_ = java.util.Collections.unmodifiableList(securityLevelMapping_);
-        }
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return doorking.Proto.internal_static_doorking_Config_descriptor;
-    }
-
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return doorking.Proto.internal_static_doorking_Config_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              doorking.Proto.Config.class, doorking.Proto.Config.Builder.class);
-    }
-
-    public static com.google.protobuf.Parser<Config> PARSER =
-        new com.google.protobuf.AbstractParser<Config>() {
-      public Config parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Config(input, extensionRegistry);
-      }
-    };
-
+            case 104: {
+              bitField0_ |= 0x00000800;
+              batchGet_ = input.readBool();
+              break;
+            }
+            case 112: {
+              bitField0_ |= 0x00001000;
+              snapshotCache_ = input.readBool();
+              break;
+            }
+            case 120: {
+              int rawValue = input.readEnum();
+              doorking.Proto.Config.RowSourceType value = doorking.Proto.Config.RowSourceType.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(15, rawValue);
+              } else {
+                bitField0_ |= 0x00002000;
+                rowSource_ = value;
+              }
+              break;
+            }
+            case 130: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00004000;
+              dumpDirectory_ = bs;
+              break;
+            }
+            case 136: {
+              bitField0_ |= 0x00008000;
+              failoverTimeoutSeconds_ = input.readInt32();
+              break;
+            }
+            case 146: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00010000;
+              serviceAccountKeyFile_ = bs;
+              break;
+            }
+            case 152: {
+              bitField0_ |= 0x00020000;
+              connectTimeoutMillis_ = input.readInt32();
+              break;
+            }
+            case 160: {
+              bitField0_ |= 0x00040000;
+              readTimeoutMillis_ = input.readInt32();
+              break;
+            }
+            case 168: {
+              bitField0_ |= 0x00080000;
+              maxConnections_ = input.readInt32();
+              break;
+            }
+            case 178: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00100000;
+              telephoneEntrySheetId_ = bs;
+              break;
+            }
+            case 186: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00200000;
+              entryCodeSheetId_ = bs;
+              break;
+            }
+            case 194: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00400000;
+              deletedEntryCodeSheetId_ = bs;
+              break;
+            }
+            case 200: {
+              bitField0_ |= 0x00800000;
+              maxConcurrentFetches_ = input.readInt32();
+              break;
+            }
+            case 208: {
+              bitField0_ |= 0x01000000;
+              maxAttempts_ = input.readInt32();
+              break;
+            }
+            case 216: {
+              bitField0_ |= 0x02000000;
+              initialBackoffMillis_ = input.readInt32();
+              break;
+            }
+            case 224: {
+              bitField0_ |= 0x04000000;
+              maxBackoffMillis_ = input.readInt32();
+              break;
+            }
+            case 232: {
+              bitField0_ |= 0x08000000;
+              callDeadlineMillis_ = input.readInt32();
+              break;
+            }
+            case 240: {
+              bitField0_ |= 0x10000000;
+              hedgeDelayMillis_ = input.readInt32();
+              break;
+            }
+            case 250: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x20000000;
+              valueRenderOption_ = bs;
+              break;
+            }
+            case 258: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x40000000;
+              dateTimeRenderOption_ = bs;
+              break;
+            }
+            case 264: {
+              bitField0_ |= 0x80000000;
+              minimalFields_ = input.readBool();
+              break;
+            }
+            case 272: {
+              bitField1_ |= 0x00000001;
+              trimColumns_ = input.readBool();
+              break;
+            }
+            case 282: {
+              if (!((mutable_bitField1_ & 0x00000004) == 0x00000004)) {
+                site_ = new java.util.ArrayList<doorking.Proto.Site>();
+                mutable_bitField1_ |= 0x00000004;
+              }
+              site_.add(input.readMessage(doorking.Proto.Site.PARSER, extensionRegistry));
+              break;
+            }
+            case 290: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField1_ |= 0x00000002;
+              outputFile_ = bs;
+              break;
+            }
+            case 296: {
+              bitField1_ |= 0x00000004;
+              maxConcurrentSites_ = input.readInt32();
+              break;
+            }
+            case 304: {
+              bitField1_ |= 0x00000008;
+              pollIntervalSeconds_ = input.readInt32();
+              break;
+            }
+            case 312: {
+              bitField1_ |= 0x00000010;
+              deltaExport_ = input.readBool();
+              break;
+            }
+            case 320: {
+              bitField1_ |= 0x00000020;
+              entrySnapshot_ = input.readBool();
+              break;
+            }
+            case 330: {
+              doorking.Proto.CodeAllocation.Builder subBuilder = null;
+              if (((bitField1_ & 0x00000040) == 0x00000040)) {
+                subBuilder = codeAllocation_.toBuilder();
+              }
+              codeAllocation_ = input.readMessage(doorking.Proto.CodeAllocation.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(codeAllocation_);
+                codeAllocation_ = subBuilder.buildPartial();
+              }
+              bitField1_ |= 0x00000040;
+              break;
+            }
+            case 338: {
+              doorking.Proto.ColumnLayout.Builder subBuilder = null;
+              if (((bitField1_ & 0x00000080) == 0x00000080)) {
+                subBuilder = telephoneEntryLayout_.toBuilder();
+              }
+              telephoneEntryLayout_ = input.readMessage(doorking.Proto.ColumnLayout.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(telephoneEntryLayout_);
+                telephoneEntryLayout_ = subBuilder.buildPartial();
+              }
+              bitField1_ |= 0x00000080;
+              break;
+            }
+            case 346: {
+              doorking.Proto.ColumnLayout.Builder subBuilder = null;
+              if (((bitField1_ & 0x00000100) == 0x00000100)) {
+                subBuilder = entryCodeLayout_.toBuilder();
+              }
+              entryCodeLayout_ = input.readMessage(doorking.Proto.ColumnLayout.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(entryCodeLayout_);
+                entryCodeLayout_ = subBuilder.buildPartial();
+              }
+              bitField1_ |= 0x00000100;
+              break;
+            }
+            case 354: {
+              doorking.Proto.ColumnLayout.Builder subBuilder = null;
+              if (((bitField1_ & 0x00000200) == 0x00000200)) {
+                subBuilder = deletedEntryCodeLayout_.toBuilder();
+              }
+              deletedEntryCodeLayout_ = input.readMessage(doorking.Proto.ColumnLayout.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(deletedEntryCodeLayout_);
+                deletedEntryCodeLayout_ = subBuilder.buildPartial();
+              }
+              bitField1_ |= 0x00000200;
+              break;
+            }
+            case 360: {
+              bitField1_ |= 0x00000400;
+              skipInvalidRows_ = input.readBool();
+              break;
+            }
+            case 368: {
+              bitField1_ |= 0x00000800;
+              parallelAdaptation_ = input.readBool();
+              break;
+            }
+            case 376: {
+              bitField1_ |= 0x00001000;
+              adaptationChunkSize_ = input.readInt32();
+              break;
+            }
+            case 384: {
+              bitField1_ |= 0x00002000;
+              metricsReport_ = input.readBool();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000400) == 0x00000400)) {
+          securityLevelMapping_ = java.util.Collections.unmodifiableList(securityLevelMapping_);
+        }
+        if (((mutable_bitField1_ & 0x00000004) == 0x00000004)) {
+          site_ = java.util.Collections.unmodifiableList(site_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return doorking.Proto.internal_static_doorking_Config_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return doorking.Proto.internal_static_doorking_Config_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              doorking.Proto.Config.class, doorking.Proto.Config.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Config> PARSER =
+        new com.google.protobuf.AbstractParser<Config>() {
+      public Config parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Config(input, extensionRegistry);
+      }
+    };
+
     @java.lang.Override
     public com.google.protobuf.Parser<Config> getParserForType() {
       return PARSER;
     }
 
+    /**
+     * Protobuf enum {@code doorking.Config.RowSourceType}
+     */
+    public enum RowSourceType
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>GOOGLE_SHEETS = 0;</code>
+       */
+      GOOGLE_SHEETS(0, 0),
+      /**
+       * <code>FILE = 1;</code>
+       *
+       * <pre>
+       * Reads entries, codes and deleted_codes (.json or .csv) from dump_directory
+       * in the configured layouts, or in the default layouts if written by
+       * GOOGLE_SHEETS.
+       * </pre>
+       */
+      FILE(1, 1),
+      /**
+       * <code>REPLAY = 2;</code>
+       *
+       * <pre>
+       * Replays the responses recorded by snapshot_cache.
+       * </pre>
+       */
+      REPLAY(2, 2),
+      ;
+
+      /**
+       * <code>GOOGLE_SHEETS = 0;</code>
+       */
+      public static final int GOOGLE_SHEETS_VALUE = 0;
+      /**
+       * <code>FILE = 1;</code>
+       *
+       * <pre>
+       * Reads entries, codes and deleted_codes (.json or .csv) from dump_directory
+       * in the configured layouts, or in the default layouts if written by
+       * GOOGLE_SHEETS.
+       * </pre>
+       */
+      public static final int FILE_VALUE = 1;
+      /**
+       * <code>REPLAY = 2;</code>
+       *
+       * <pre>
+       * Replays the responses recorded by snapshot_cache.
+       * </pre>
+       */
+      public static final int REPLAY_VALUE = 2;
+
+
+      public final int getNumber() { return value; }
+
+      public static RowSourceType valueOf(int value) {
+        switch (value) {
+          case 0: return GOOGLE_SHEETS;
+          case 1: return FILE;
+          case 2: return REPLAY;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<RowSourceType>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static com.google.protobuf.Internal.EnumLiteMap<RowSourceType>
+          internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<RowSourceType>() {
+              public RowSourceType findValueByNumber(int number) {
+                return RowSourceType.valueOf(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(index);
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return doorking.Proto.Config.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final RowSourceType[] VALUES = values();
+
+      public static RowSourceType valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int index;
+      private final int value;
+
+      private RowSourceType(int index, int value) {
+        this.index = index;
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:doorking.Config.RowSourceType)
+    }
+
     private int bitField0_;
+    private int bitField1_;
     public static final int DATA_STORE_DIRECTORY_FIELD_NUMBER = 1;
     private java.lang.Object dataStoreDirectory_;
     /**
@@ -856,951 +1861,13029 @@ public final class Proto {
       }
     }
 
-    private void initFields() {
-      dataStoreDirectory_ = "";
-      applicationName_ = "";
-      clientId_ = "";
-      clientSecret_ = "";
-      googleUsername_ = "";
-      sheetId_ = "";
-      telephoneEntryRange_ = "";
-      entryCodeRange_ = "";
-      deletedEntryCodeRange_ = "";
-      localPhonePrefix_ = "";
-      securityLevelMapping_ = java.util.Collections.emptyList();
-      accountName_ = "";
+    public static final int BATCH_GET_FIELD_NUMBER = 13;
+    private boolean batchGet_;
+    /**
+     * <code>optional bool batch_get = 13 [default = true];</code>
+     *
+     * <pre>
+     * Retrieves all ranges with a single values().batchGet round trip.
+     * </pre>
+     */
+    public boolean hasBatchGet() {
+      return ((bitField0_ & 0x00000800) == 0x00000800);
     }
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
+    /**
+     * <code>optional bool batch_get = 13 [default = true];</code>
+     *
+     * <pre>
+     * Retrieves all ranges with a single values().batchGet round trip.
+     * </pre>
+     */
+    public boolean getBatchGet() {
+      return batchGet_;
     }
 
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getDataStoreDirectoryBytes());
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, getApplicationNameBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeBytes(3, getClientIdBytes());
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeBytes(4, getClientSecretBytes());
-      }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        output.writeBytes(5, getGoogleUsernameBytes());
-      }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
-        output.writeBytes(6, getSheetIdBytes());
-      }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
-        output.writeBytes(7, getTelephoneEntryRangeBytes());
-      }
-      if (((bitField0_ & 0x00000080) == 0x00000080)) {
-        output.writeBytes(8, getEntryCodeRangeBytes());
-      }
-      if (((bitField0_ & 0x00000200) == 0x00000200)) {
-        output.writeBytes(9, getLocalPhonePrefixBytes());
-      }
-      for (int i = 0; i < securityLevelMapping_.size(); i++) {
-        output.writeMessage(10, securityLevelMapping_.get(i));
-      }
-      if (((bitField0_ & 0x00000400) == 0x00000400)) {
-        output.writeBytes(11, getAccountNameBytes());
-      }
-      if (((bitField0_ & 0x00000100) == 0x00000100)) {
-        output.writeBytes(12, getDeletedEntryCodeRangeBytes());
-      }
-      getUnknownFields().writeTo(output);
+    public static final int SNAPSHOT_CACHE_FIELD_NUMBER = 14;
+    private boolean snapshotCache_;
+    /**
+     * <code>optional bool snapshot_cache = 14;</code>
+     *
+     * <pre>
+     * Keeps response snapshots under data_store_directory and skips the export
+     * when nothing changed. Without an ETag from Sheets the unchanged case is
+     * only found after downloading the full body again, which saves the
+     * adaptation and export but not the fetch.
+     * </pre>
+     */
+    public boolean hasSnapshotCache() {
+      return ((bitField0_ & 0x00001000) == 0x00001000);
+    }
+    /**
+     * <code>optional bool snapshot_cache = 14;</code>
+     *
+     * <pre>
+     * Keeps response snapshots under data_store_directory and skips the export
+     * when nothing changed. Without an ETag from Sheets the unchanged case is
+     * only found after downloading the full body again, which saves the
+     * adaptation and export but not the fetch.
+     * </pre>
+     */
+    public boolean getSnapshotCache() {
+      return snapshotCache_;
     }
 
-    private int memoizedSerializedSize = -1;
-    public int getSerializedSize() {
-      int size = memoizedSerializedSize;
-      if (size != -1) return size;
+    public static final int ROW_SOURCE_FIELD_NUMBER = 15;
+    private doorking.Proto.Config.RowSourceType rowSource_;
+    /**
+     * <code>optional .doorking.Config.RowSourceType row_source = 15 [default = GOOGLE_SHEETS];</code>
+     */
+    public boolean hasRowSource() {
+      return ((bitField0_ & 0x00002000) == 0x00002000);
+    }
+    /**
+     * <code>optional .doorking.Config.RowSourceType row_source = 15 [default = GOOGLE_SHEETS];</code>
+     */
+    public doorking.Proto.Config.RowSourceType getRowSource() {
+      return rowSource_;
+    }
 
-      size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getDataStoreDirectoryBytes());
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, getApplicationNameBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(3, getClientIdBytes());
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(4, getClientSecretBytes());
-      }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(5, getGoogleUsernameBytes());
-      }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(6, getSheetIdBytes());
-      }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(7, getTelephoneEntryRangeBytes());
-      }
-      if (((bitField0_ & 0x00000080) == 0x00000080)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(8, getEntryCodeRangeBytes());
-      }
-      if (((bitField0_ & 0x00000200) == 0x00000200)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(9, getLocalPhonePrefixBytes());
-      }
-      for (int i = 0; i < securityLevelMapping_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(10, securityLevelMapping_.get(i));
-      }
-      if (((bitField0_ & 0x00000400) == 0x00000400)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(11, getAccountNameBytes());
-      }
-      if (((bitField0_ & 0x00000100) == 0x00000100)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(12, getDeletedEntryCodeRangeBytes());
+    public static final int DUMP_DIRECTORY_FIELD_NUMBER = 16;
+    private java.lang.Object dumpDirectory_;
+    /**
+     * <code>optional string dump_directory = 16;</code>
+     *
+     * <pre>
+     * GOOGLE_SHEETS writes the last good result here after each export.
+     * </pre>
+     */
+    public boolean hasDumpDirectory() {
+      return ((bitField0_ & 0x00004000) == 0x00004000);
+    }
+    /**
+     * <code>optional string dump_directory = 16;</code>
+     *
+     * <pre>
+     * GOOGLE_SHEETS writes the last good result here after each export.
+     * </pre>
+     */
+    public java.lang.String getDumpDirectory() {
+      java.lang.Object ref = dumpDirectory_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          dumpDirectory_ = s;
+        }
+        return s;
       }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSerializedSize = size;
-      return size;
     }
-
-    private static final long serialVersionUID = 0L;
-    @java.lang.Override
-    protected java.lang.Object writeReplace()
-        throws java.io.ObjectStreamException {
-      return super.writeReplace();
+    /**
+     * <code>optional string dump_directory = 16;</code>
+     *
+     * <pre>
+     * GOOGLE_SHEETS writes the last good result here after each export.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getDumpDirectoryBytes() {
+      java.lang.Object ref = dumpDirectory_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dumpDirectory_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
-    public static doorking.Proto.Config parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static doorking.Proto.Config parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
+    public static final int FAILOVER_TIMEOUT_SECONDS_FIELD_NUMBER = 17;
+    private int failoverTimeoutSeconds_;
+    /**
+     * <code>optional int32 failover_timeout_seconds = 17;</code>
+     *
+     * <pre>
+     * If set with dump_directory, falls back to the dump when Google Sheets
+     * fails or takes longer than this.
+     * </pre>
+     */
+    public boolean hasFailoverTimeoutSeconds() {
+      return ((bitField0_ & 0x00008000) == 0x00008000);
     }
-    public static doorking.Proto.Config parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
+    /**
+     * <code>optional int32 failover_timeout_seconds = 17;</code>
+     *
+     * <pre>
+     * If set with dump_directory, falls back to the dump when Google Sheets
+     * fails or takes longer than this.
+     * </pre>
+     */
+    public int getFailoverTimeoutSeconds() {
+      return failoverTimeoutSeconds_;
     }
-    public static doorking.Proto.Config parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
+
+    public static final int SERVICE_ACCOUNT_KEY_FILE_FIELD_NUMBER = 18;
+    private java.lang.Object serviceAccountKeyFile_;
+    /**
+     * <code>optional string service_account_key_file = 18;</code>
+     *
+     * <pre>
+     * Service account JSON key; replaces the client_id/client_secret flow.
+     * </pre>
+     */
+    public boolean hasServiceAccountKeyFile() {
+      return ((bitField0_ & 0x00010000) == 0x00010000);
     }
-    public static doorking.Proto.Config parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
+    /**
+     * <code>optional string service_account_key_file = 18;</code>
+     *
+     * <pre>
+     * Service account JSON key; replaces the client_id/client_secret flow.
+     * </pre>
+     */
+    public java.lang.String getServiceAccountKeyFile() {
+      java.lang.Object ref = serviceAccountKeyFile_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          serviceAccountKeyFile_ = s;
+        }
+        return s;
+      }
     }
-    public static doorking.Proto.Config parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
+    /**
+     * <code>optional string service_account_key_file = 18;</code>
+     *
+     * <pre>
+     * Service account JSON key; replaces the client_id/client_secret flow.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getServiceAccountKeyFileBytes() {
+      java.lang.Object ref = serviceAccountKeyFile_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        serviceAccountKeyFile_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
-    public static doorking.Proto.Config parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input);
+
+    public static final int CONNECT_TIMEOUT_MILLIS_FIELD_NUMBER = 19;
+    private int connectTimeoutMillis_;
+    /**
+     * <code>optional int32 connect_timeout_millis = 19;</code>
+     */
+    public boolean hasConnectTimeoutMillis() {
+      return ((bitField0_ & 0x00020000) == 0x00020000);
     }
-    public static doorking.Proto.Config parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    /**
+     * <code>optional int32 connect_timeout_millis = 19;</code>
+     */
+    public int getConnectTimeoutMillis() {
+      return connectTimeoutMillis_;
     }
-    public static doorking.Proto.Config parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
+
+    public static final int READ_TIMEOUT_MILLIS_FIELD_NUMBER = 20;
+    private int readTimeoutMillis_;
+    /**
+     * <code>optional int32 read_timeout_millis = 20;</code>
+     */
+    public boolean hasReadTimeoutMillis() {
+      return ((bitField0_ & 0x00040000) == 0x00040000);
     }
-    public static doorking.Proto.Config parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
+    /**
+     * <code>optional int32 read_timeout_millis = 20;</code>
+     */
+    public int getReadTimeoutMillis() {
+      return readTimeoutMillis_;
     }
 
-    public static Builder newBuilder() { return Builder.create(); }
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(doorking.Proto.Config prototype) {
-      return newBuilder().mergeFrom(prototype);
+    public static final int MAX_CONNECTIONS_FIELD_NUMBER = 21;
+    private int maxConnections_;
+    /**
+     * <code>optional int32 max_connections = 21;</code>
+     *
+     * <pre>
+     * Kept-alive connections per host in the shared transport. This is
+     * process-wide, so the largest value of any site applies to all.
+     * </pre>
+     */
+    public boolean hasMaxConnections() {
+      return ((bitField0_ & 0x00080000) == 0x00080000);
+    }
+    /**
+     * <code>optional int32 max_connections = 21;</code>
+     *
+     * <pre>
+     * Kept-alive connections per host in the shared transport. This is
+     * process-wide, so the largest value of any site applies to all.
+     * </pre>
+     */
+    public int getMaxConnections() {
+      return maxConnections_;
     }
-    public Builder toBuilder() { return newBuilder(this); }
 
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
+    public static final int TELEPHONE_ENTRY_SHEET_ID_FIELD_NUMBER = 22;
+    private java.lang.Object telephoneEntrySheetId_;
+    /**
+     * <code>optional string telephone_entry_sheet_id = 22;</code>
+     *
+     * <pre>
+     * Override sheet_id for individual ranges. batch_get only applies when all
+     * ranges are on the same sheet; otherwise the ranges are fetched concurrently.
+     * </pre>
+     */
+    public boolean hasTelephoneEntrySheetId() {
+      return ((bitField0_ & 0x00100000) == 0x00100000);
     }
     /**
-     * Protobuf type {@code doorking.Config}
+     * <code>optional string telephone_entry_sheet_id = 22;</code>
+     *
+     * <pre>
+     * Override sheet_id for individual ranges. batch_get only applies when all
+     * ranges are on the same sheet; otherwise the ranges are fetched concurrently.
+     * </pre>
      */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:doorking.Config)
-        doorking.Proto.ConfigOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return doorking.Proto.internal_static_doorking_Config_descriptor;
-      }
-
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return doorking.Proto.internal_static_doorking_Config_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                doorking.Proto.Config.class, doorking.Proto.Config.Builder.class);
+    public java.lang.String getTelephoneEntrySheetId() {
+      java.lang.Object ref = telephoneEntrySheetId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          telephoneEntrySheetId_ = s;
+        }
+        return s;
       }
-
-      // Construct using doorking.Proto.Config.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
+    }
+    /**
+     * <code>optional string telephone_entry_sheet_id = 22;</code>
+     *
+     * <pre>
+     * Override sheet_id for individual ranges. batch_get only applies when all
+     * ranges are on the same sheet; otherwise the ranges are fetched concurrently.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getTelephoneEntrySheetIdBytes() {
+      java.lang.Object ref = telephoneEntrySheetId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        telephoneEntrySheetId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
+    }
 
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getSecurityLevelMappingFieldBuilder();
+    public static final int ENTRY_CODE_SHEET_ID_FIELD_NUMBER = 23;
+    private java.lang.Object entryCodeSheetId_;
+    /**
+     * <code>optional string entry_code_sheet_id = 23;</code>
+     */
+    public boolean hasEntryCodeSheetId() {
+      return ((bitField0_ & 0x00200000) == 0x00200000);
+    }
+    /**
+     * <code>optional string entry_code_sheet_id = 23;</code>
+     */
+    public java.lang.String getEntryCodeSheetId() {
+      java.lang.Object ref = entryCodeSheetId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          entryCodeSheetId_ = s;
         }
+        return s;
       }
-      private static Builder create() {
-        return new Builder();
+    }
+    /**
+     * <code>optional string entry_code_sheet_id = 23;</code>
+     */
+    public com.google.protobuf.ByteString
+        getEntryCodeSheetIdBytes() {
+      java.lang.Object ref = entryCodeSheetId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        entryCodeSheetId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
+    }
 
-      public Builder clear() {
-        super.clear();
-        dataStoreDirectory_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
-        applicationName_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
-        clientId_ = "";
-        bitField0_ = (bitField0_ & ~0x00000004);
-        clientSecret_ = "";
-        bitField0_ = (bitField0_ & ~0x00000008);
-        googleUsername_ = "";
-        bitField0_ = (bitField0_ & ~0x00000010);
-        sheetId_ = "";
-        bitField0_ = (bitField0_ & ~0x00000020);
-        telephoneEntryRange_ = "";
-        bitField0_ = (bitField0_ & ~0x00000040);
-        entryCodeRange_ = "";
-        bitField0_ = (bitField0_ & ~0x00000080);
-        deletedEntryCodeRange_ = "";
-        bitField0_ = (bitField0_ & ~0x00000100);
-        localPhonePrefix_ = "";
-        bitField0_ = (bitField0_ & ~0x00000200);
-        if (securityLevelMappingBuilder_ == null) {
-          securityLevelMapping_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000400);
-        } else {
-          securityLevelMappingBuilder_.clear();
+    public static final int DELETED_ENTRY_CODE_SHEET_ID_FIELD_NUMBER = 24;
+    private java.lang.Object deletedEntryCodeSheetId_;
+    /**
+     * <code>optional string deleted_entry_code_sheet_id = 24;</code>
+     */
+    public boolean hasDeletedEntryCodeSheetId() {
+      return ((bitField0_ & 0x00400000) == 0x00400000);
+    }
+    /**
+     * <code>optional string deleted_entry_code_sheet_id = 24;</code>
+     */
+    public java.lang.String getDeletedEntryCodeSheetId() {
+      java.lang.Object ref = deletedEntryCodeSheetId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          deletedEntryCodeSheetId_ = s;
         }
-        accountName_ = "";
-        bitField0_ = (bitField0_ & ~0x00000800);
-        return this;
+        return s;
       }
-
-      public Builder clone() {
-        return create().mergeFrom(buildPartial());
+    }
+    /**
+     * <code>optional string deleted_entry_code_sheet_id = 24;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDeletedEntryCodeSheetIdBytes() {
+      java.lang.Object ref = deletedEntryCodeSheetId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        deletedEntryCodeSheetId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
+    }
 
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return doorking.Proto.internal_static_doorking_Config_descriptor;
-      }
+    public static final int MAX_CONCURRENT_FETCHES_FIELD_NUMBER = 25;
+    private int maxConcurrentFetches_;
+    /**
+     * <code>optional int32 max_concurrent_fetches = 25 [default = 3];</code>
+     */
+    public boolean hasMaxConcurrentFetches() {
+      return ((bitField0_ & 0x00800000) == 0x00800000);
+    }
+    /**
+     * <code>optional int32 max_concurrent_fetches = 25 [default = 3];</code>
+     */
+    public int getMaxConcurrentFetches() {
+      return maxConcurrentFetches_;
+    }
 
-      public doorking.Proto.Config getDefaultInstanceForType() {
-        return doorking.Proto.Config.getDefaultInstance();
-      }
+    public static final int MAX_ATTEMPTS_FIELD_NUMBER = 26;
+    private int maxAttempts_;
+    /**
+     * <code>optional int32 max_attempts = 26 [default = 5];</code>
+     *
+     * <pre>
+     * Sheets calls are retried on 429, 5xx and I/O errors with exponential
+     * backoff and jitter.
+     * </pre>
+     */
+    public boolean hasMaxAttempts() {
+      return ((bitField0_ & 0x01000000) == 0x01000000);
+    }
+    /**
+     * <code>optional int32 max_attempts = 26 [default = 5];</code>
+     *
+     * <pre>
+     * Sheets calls are retried on 429, 5xx and I/O errors with exponential
+     * backoff and jitter.
+     * </pre>
+     */
+    public int getMaxAttempts() {
+      return maxAttempts_;
+    }
 
-      public doorking.Proto.Config build() {
-        doorking.Proto.Config result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
+    public static final int INITIAL_BACKOFF_MILLIS_FIELD_NUMBER = 27;
+    private int initialBackoffMillis_;
+    /**
+     * <code>optional int32 initial_backoff_millis = 27 [default = 1000];</code>
+     */
+    public boolean hasInitialBackoffMillis() {
+      return ((bitField0_ & 0x02000000) == 0x02000000);
+    }
+    /**
+     * <code>optional int32 initial_backoff_millis = 27 [default = 1000];</code>
+     */
+    public int getInitialBackoffMillis() {
+      return initialBackoffMillis_;
+    }
 
-      public doorking.Proto.Config buildPartial() {
-        doorking.Proto.Config result = new doorking.Proto.Config(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        result.dataStoreDirectory_ = dataStoreDirectory_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        result.applicationName_ = applicationName_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        result.clientId_ = clientId_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000008;
-        }
-        result.clientSecret_ = clientSecret_;
-        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
-          to_bitField0_ |= 0x00000010;
-        }
-        result.googleUsername_ = googleUsername_;
-        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
-          to_bitField0_ |= 0x00000020;
-        }
-        result.sheetId_ = sheetId_;
-        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
-          to_bitField0_ |= 0x00000040;
-        }
-        result.telephoneEntryRange_ = telephoneEntryRange_;
-        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
-          to_bitField0_ |= 0x00000080;
-        }
-        result.entryCodeRange_ = entryCodeRange_;
-        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
-          to_bitField0_ |= 0x00000100;
-        }
-        result.deletedEntryCodeRange_ = deletedEntryCodeRange_;
-        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
-          to_bitField0_ |= 0x00000200;
-        }
-        result.localPhonePrefix_ = localPhonePrefix_;
-        if (securityLevelMappingBuilder_ == null) {
-          if (((bitField0_ & 0x00000400) == 0x00000400)) {
-            securityLevelMapping_ = java.util.Collections.unmodifiableList(securityLevelMapping_);
-            bitField0_ = (bitField0_ & ~0x00000400);
-          }
-          result.securityLevelMapping_ = securityLevelMapping_;
-        } else {
-          result.securityLevelMapping_ = securityLevelMappingBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
-          to_bitField0_ |= 0x00000400;
+    public static final int MAX_BACKOFF_MILLIS_FIELD_NUMBER = 28;
+    private int maxBackoffMillis_;
+    /**
+     * <code>optional int32 max_backoff_millis = 28 [default = 32000];</code>
+     */
+    public boolean hasMaxBackoffMillis() {
+      return ((bitField0_ & 0x04000000) == 0x04000000);
+    }
+    /**
+     * <code>optional int32 max_backoff_millis = 28 [default = 32000];</code>
+     */
+    public int getMaxBackoffMillis() {
+      return maxBackoffMillis_;
+    }
+
+    public static final int CALL_DEADLINE_MILLIS_FIELD_NUMBER = 29;
+    private int callDeadlineMillis_;
+    /**
+     * <code>optional int32 call_deadline_millis = 29;</code>
+     *
+     * <pre>
+     * Deadline for each attempt; 0 for none.
+     * </pre>
+     */
+    public boolean hasCallDeadlineMillis() {
+      return ((bitField0_ & 0x08000000) == 0x08000000);
+    }
+    /**
+     * <code>optional int32 call_deadline_millis = 29;</code>
+     *
+     * <pre>
+     * Deadline for each attempt; 0 for none.
+     * </pre>
+     */
+    public int getCallDeadlineMillis() {
+      return callDeadlineMillis_;
+    }
+
+    public static final int HEDGE_DELAY_MILLIS_FIELD_NUMBER = 30;
+    private int hedgeDelayMillis_;
+    /**
+     * <code>optional int32 hedge_delay_millis = 30;</code>
+     *
+     * <pre>
+     * Starts a second, hedged attempt if the first is slower than this; 0 for none.
+     * </pre>
+     */
+    public boolean hasHedgeDelayMillis() {
+      return ((bitField0_ & 0x10000000) == 0x10000000);
+    }
+    /**
+     * <code>optional int32 hedge_delay_millis = 30;</code>
+     *
+     * <pre>
+     * Starts a second, hedged attempt if the first is slower than this; 0 for none.
+     * </pre>
+     */
+    public int getHedgeDelayMillis() {
+      return hedgeDelayMillis_;
+    }
+
+    public static final int VALUE_RENDER_OPTION_FIELD_NUMBER = 31;
+    private java.lang.Object valueRenderOption_;
+    /**
+     * <code>optional string value_render_option = 31 [default = "FORMATTED_VALUE"];</code>
+     *
+     * <pre>
+     * Sheets valueRenderOption; UNFORMATTED_VALUE sends numbers as numbers,
+     * which the decoder reads as their text, and is the cheapest to parse.
+     * </pre>
+     */
+    public boolean hasValueRenderOption() {
+      return ((bitField0_ & 0x20000000) == 0x20000000);
+    }
+    /**
+     * <code>optional string value_render_option = 31 [default = "FORMATTED_VALUE"];</code>
+     *
+     * <pre>
+     * Sheets valueRenderOption; UNFORMATTED_VALUE sends numbers as numbers,
+     * which the decoder reads as their text, and is the cheapest to parse.
+     * </pre>
+     */
+    public java.lang.String getValueRenderOption() {
+      java.lang.Object ref = valueRenderOption_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          valueRenderOption_ = s;
         }
-        result.accountName_ = accountName_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string value_render_option = 31 [default = "FORMATTED_VALUE"];</code>
+     *
+     * <pre>
+     * Sheets valueRenderOption; UNFORMATTED_VALUE sends numbers as numbers,
+     * which the decoder reads as their text, and is the cheapest to parse.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getValueRenderOptionBytes() {
+      java.lang.Object ref = valueRenderOption_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        valueRenderOption_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
+    }
 
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof doorking.Proto.Config) {
-          return mergeFrom((doorking.Proto.Config)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
+    public static final int DATE_TIME_RENDER_OPTION_FIELD_NUMBER = 32;
+    private java.lang.Object dateTimeRenderOption_;
+    /**
+     * <code>optional string date_time_render_option = 32 [default = "SERIAL_NUMBER"];</code>
+     */
+    public boolean hasDateTimeRenderOption() {
+      return ((bitField0_ & 0x40000000) == 0x40000000);
+    }
+    /**
+     * <code>optional string date_time_render_option = 32 [default = "SERIAL_NUMBER"];</code>
+     */
+    public java.lang.String getDateTimeRenderOption() {
+      java.lang.Object ref = dateTimeRenderOption_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          dateTimeRenderOption_ = s;
         }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string date_time_render_option = 32 [default = "SERIAL_NUMBER"];</code>
+     */
+    public com.google.protobuf.ByteString
+        getDateTimeRenderOptionBytes() {
+      java.lang.Object ref = dateTimeRenderOption_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dateTimeRenderOption_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
+    }
 
-      public Builder mergeFrom(doorking.Proto.Config other) {
-        if (other == doorking.Proto.Config.getDefaultInstance()) return this;
-        if (other.hasDataStoreDirectory()) {
-          bitField0_ |= 0x00000001;
-          dataStoreDirectory_ = other.dataStoreDirectory_;
-          onChanged();
-        }
-        if (other.hasApplicationName()) {
-          bitField0_ |= 0x00000002;
-          applicationName_ = other.applicationName_;
-          onChanged();
-        }
-        if (other.hasClientId()) {
-          bitField0_ |= 0x00000004;
-          clientId_ = other.clientId_;
-          onChanged();
-        }
-        if (other.hasClientSecret()) {
-          bitField0_ |= 0x00000008;
-          clientSecret_ = other.clientSecret_;
-          onChanged();
-        }
-        if (other.hasGoogleUsername()) {
-          bitField0_ |= 0x00000010;
-          googleUsername_ = other.googleUsername_;
-          onChanged();
-        }
-        if (other.hasSheetId()) {
-          bitField0_ |= 0x00000020;
-          sheetId_ = other.sheetId_;
-          onChanged();
-        }
-        if (other.hasTelephoneEntryRange()) {
-          bitField0_ |= 0x00000040;
-          telephoneEntryRange_ = other.telephoneEntryRange_;
-          onChanged();
+    public static final int MINIMAL_FIELDS_FIELD_NUMBER = 33;
+    private boolean minimalFields_;
+    /**
+     * <code>optional bool minimal_fields = 33;</code>
+     *
+     * <pre>
+     * Requests only the range and values fields of each response.
+     * </pre>
+     */
+    public boolean hasMinimalFields() {
+      return ((bitField0_ & 0x80000000) == 0x80000000);
+    }
+    /**
+     * <code>optional bool minimal_fields = 33;</code>
+     *
+     * <pre>
+     * Requests only the range and values fields of each response.
+     * </pre>
+     */
+    public boolean getMinimalFields() {
+      return minimalFields_;
+    }
+
+    public static final int TRIM_COLUMNS_FIELD_NUMBER = 34;
+    private boolean trimColumns_;
+    /**
+     * <code>optional bool trim_columns = 34;</code>
+     *
+     * <pre>
+     * Reduces the last column of each range to the last column read from it.
+     * </pre>
+     */
+    public boolean hasTrimColumns() {
+      return ((bitField1_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional bool trim_columns = 34;</code>
+     *
+     * <pre>
+     * Reduces the last column of each range to the last column read from it.
+     * </pre>
+     */
+    public boolean getTrimColumns() {
+      return trimColumns_;
+    }
+
+    public static final int SITE_FIELD_NUMBER = 35;
+    private java.util.List<doorking.Proto.Site> site_;
+    /**
+     * <code>repeated .doorking.Site site = 35;</code>
+     *
+     * <pre>
+     * Sites synced by one run. Each site's config is merged over this one, so
+     * credentials and options are shared; security_level_mapping, the column
+     * layouts and code_allocation in a site replace the shared ones as a whole
+     * rather than adding to them.
+     * </pre>
+     */
+    public java.util.List<doorking.Proto.Site> getSiteList() {
+      return site_;
+    }
+    /**
+     * <code>repeated .doorking.Site site = 35;</code>
+     *
+     * <pre>
+     * Sites synced by one run. Each site's config is merged over this one, so
+     * credentials and options are shared; security_level_mapping, the column
+     * layouts and code_allocation in a site replace the shared ones as a whole
+     * rather than adding to them.
+     * </pre>
+     */
+    public java.util.List<? extends doorking.Proto.SiteOrBuilder> 
+        getSiteOrBuilderList() {
+      return site_;
+    }
+    /**
+     * <code>repeated .doorking.Site site = 35;</code>
+     *
+     * <pre>
+     * Sites synced by one run. Each site's config is merged over this one, so
+     * credentials and options are shared; security_level_mapping, the column
+     * layouts and code_allocation in a site replace the shared ones as a whole
+     * rather than adding to them.
+     * </pre>
+     */
+    public int getSiteCount() {
+      return site_.size();
+    }
+    /**
+     * <code>repeated .doorking.Site site = 35;</code>
+     *
+     * <pre>
+     * Sites synced by one run. Each site's config is merged over this one, so
+     * credentials and options are shared; security_level_mapping, the column
+     * layouts and code_allocation in a site replace the shared ones as a whole
+     * rather than adding to them.
+     * </pre>
+     */
+    public doorking.Proto.Site getSite(int index) {
+      return site_.get(index);
+    }
+    /**
+     * <code>repeated .doorking.Site site = 35;</code>
+     *
+     * <pre>
+     * Sites synced by one run. Each site's config is merged over this one, so
+     * credentials and options are shared; security_level_mapping, the column
+     * layouts and code_allocation in a site replace the shared ones as a whole
+     * rather than adding to them.
+     * </pre>
+     */
+    public doorking.Proto.SiteOrBuilder getSiteOrBuilder(
+        int index) {
+      return site_.get(index);
+    }
+
+    public static final int OUTPUT_FILE_FIELD_NUMBER = 36;
+    private java.lang.Object outputFile_;
+    /**
+     * <code>optional string output_file = 36 [default = "/tmp/doorking.csv"];</code>
+     *
+     * <pre>
+     * With sites, defaults to this file name with "-&lt;site name&gt;" appended.
+     * </pre>
+     */
+    public boolean hasOutputFile() {
+      return ((bitField1_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string output_file = 36 [default = "/tmp/doorking.csv"];</code>
+     *
+     * <pre>
+     * With sites, defaults to this file name with "-&lt;site name&gt;" appended.
+     * </pre>
+     */
+    public java.lang.String getOutputFile() {
+      java.lang.Object ref = outputFile_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          outputFile_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string output_file = 36 [default = "/tmp/doorking.csv"];</code>
+     *
+     * <pre>
+     * With sites, defaults to this file name with "-&lt;site name&gt;" appended.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getOutputFileBytes() {
+      java.lang.Object ref = outputFile_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        outputFile_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MAX_CONCURRENT_SITES_FIELD_NUMBER = 37;
+    private int maxConcurrentSites_;
+    /**
+     * <code>optional int32 max_concurrent_sites = 37 [default = 4];</code>
+     */
+    public boolean hasMaxConcurrentSites() {
+      return ((bitField1_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int32 max_concurrent_sites = 37 [default = 4];</code>
+     */
+    public int getMaxConcurrentSites() {
+      return maxConcurrentSites_;
+    }
+
+    public static final int POLL_INTERVAL_SECONDS_FIELD_NUMBER = 38;
+    private int pollIntervalSeconds_;
+    /**
+     * <code>optional int32 poll_interval_seconds = 38 [default = 300];</code>
+     *
+     * <pre>
+     * Poll interval of Sync --daemon.
+     * </pre>
+     */
+    public boolean hasPollIntervalSeconds() {
+      return ((bitField1_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional int32 poll_interval_seconds = 38 [default = 300];</code>
+     *
+     * <pre>
+     * Poll interval of Sync --daemon.
+     * </pre>
+     */
+    public int getPollIntervalSeconds() {
+      return pollIntervalSeconds_;
+    }
+
+    public static final int DELTA_EXPORT_FIELD_NUMBER = 39;
+    private boolean deltaExport_;
+    /**
+     * <code>optional bool delta_export = 39;</code>
+     *
+     * <pre>
+     * Also writes -added, -modified and -removed files relative to the previous
+     * export's snapshot.
+     * </pre>
+     */
+    public boolean hasDeltaExport() {
+      return ((bitField1_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional bool delta_export = 39;</code>
+     *
+     * <pre>
+     * Also writes -added, -modified and -removed files relative to the previous
+     * export's snapshot.
+     * </pre>
+     */
+    public boolean getDeltaExport() {
+      return deltaExport_;
+    }
+
+    public static final int ENTRY_SNAPSHOT_FIELD_NUMBER = 40;
+    private boolean entrySnapshot_;
+    /**
+     * <code>optional bool entry_snapshot = 40;</code>
+     *
+     * <pre>
+     * Writes the adapted entries and codes to &lt;output_file&gt;.snapshot.
+     * </pre>
+     */
+    public boolean hasEntrySnapshot() {
+      return ((bitField1_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional bool entry_snapshot = 40;</code>
+     *
+     * <pre>
+     * Writes the adapted entries and codes to &lt;output_file&gt;.snapshot.
+     * </pre>
+     */
+    public boolean getEntrySnapshot() {
+      return entrySnapshot_;
+    }
+
+    public static final int CODE_ALLOCATION_FIELD_NUMBER = 41;
+    private doorking.Proto.CodeAllocation codeAllocation_;
+    /**
+     * <code>optional .doorking.CodeAllocation code_allocation = 41;</code>
+     *
+     * <pre>
+     * Policy of Sync --allocate.
+     * </pre>
+     */
+    public boolean hasCodeAllocation() {
+      return ((bitField1_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional .doorking.CodeAllocation code_allocation = 41;</code>
+     *
+     * <pre>
+     * Policy of Sync --allocate.
+     * </pre>
+     */
+    public doorking.Proto.CodeAllocation getCodeAllocation() {
+      return codeAllocation_;
+    }
+    /**
+     * <code>optional .doorking.CodeAllocation code_allocation = 41;</code>
+     *
+     * <pre>
+     * Policy of Sync --allocate.
+     * </pre>
+     */
+    public doorking.Proto.CodeAllocationOrBuilder getCodeAllocationOrBuilder() {
+      return codeAllocation_;
+    }
+
+    public static final int TELEPHONE_ENTRY_LAYOUT_FIELD_NUMBER = 42;
+    private doorking.Proto.ColumnLayout telephoneEntryLayout_;
+    /**
+     * <code>optional .doorking.ColumnLayout telephone_entry_layout = 42;</code>
+     *
+     * <pre>
+     * Column layouts of each range; unmapped fields keep their default column.
+     * </pre>
+     */
+    public boolean hasTelephoneEntryLayout() {
+      return ((bitField1_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional .doorking.ColumnLayout telephone_entry_layout = 42;</code>
+     *
+     * <pre>
+     * Column layouts of each range; unmapped fields keep their default column.
+     * </pre>
+     */
+    public doorking.Proto.ColumnLayout getTelephoneEntryLayout() {
+      return telephoneEntryLayout_;
+    }
+    /**
+     * <code>optional .doorking.ColumnLayout telephone_entry_layout = 42;</code>
+     *
+     * <pre>
+     * Column layouts of each range; unmapped fields keep their default column.
+     * </pre>
+     */
+    public doorking.Proto.ColumnLayoutOrBuilder getTelephoneEntryLayoutOrBuilder() {
+      return telephoneEntryLayout_;
+    }
+
+    public static final int ENTRY_CODE_LAYOUT_FIELD_NUMBER = 43;
+    private doorking.Proto.ColumnLayout entryCodeLayout_;
+    /**
+     * <code>optional .doorking.ColumnLayout entry_code_layout = 43;</code>
+     */
+    public boolean hasEntryCodeLayout() {
+      return ((bitField1_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional .doorking.ColumnLayout entry_code_layout = 43;</code>
+     */
+    public doorking.Proto.ColumnLayout getEntryCodeLayout() {
+      return entryCodeLayout_;
+    }
+    /**
+     * <code>optional .doorking.ColumnLayout entry_code_layout = 43;</code>
+     */
+    public doorking.Proto.ColumnLayoutOrBuilder getEntryCodeLayoutOrBuilder() {
+      return entryCodeLayout_;
+    }
+
+    public static final int DELETED_ENTRY_CODE_LAYOUT_FIELD_NUMBER = 44;
+    private doorking.Proto.ColumnLayout deletedEntryCodeLayout_;
+    /**
+     * <code>optional .doorking.ColumnLayout deleted_entry_code_layout = 44;</code>
+     */
+    public boolean hasDeletedEntryCodeLayout() {
+      return ((bitField1_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>optional .doorking.ColumnLayout deleted_entry_code_layout = 44;</code>
+     */
+    public doorking.Proto.ColumnLayout getDeletedEntryCodeLayout() {
+      return deletedEntryCodeLayout_;
+    }
+    /**
+     * <code>optional .doorking.ColumnLayout deleted_entry_code_layout = 44;</code>
+     */
+    public doorking.Proto.ColumnLayoutOrBuilder getDeletedEntryCodeLayoutOrBuilder() {
+      return deletedEntryCodeLayout_;
+    }
+
+    public static final int SKIP_INVALID_ROWS_FIELD_NUMBER = 45;
+    private boolean skipInvalidRows_;
+    /**
+     * <code>optional bool skip_invalid_rows = 45;</code>
+     *
+     * <pre>
+     * Leaves out rows that fail validation, and rows that depend on them,
+     * instead of failing the export. Every problem is reported either way.
+     * </pre>
+     */
+    public boolean hasSkipInvalidRows() {
+      return ((bitField1_ & 0x00000400) == 0x00000400);
+    }
+    /**
+     * <code>optional bool skip_invalid_rows = 45;</code>
+     *
+     * <pre>
+     * Leaves out rows that fail validation, and rows that depend on them,
+     * instead of failing the export. Every problem is reported either way.
+     * </pre>
+     */
+    public boolean getSkipInvalidRows() {
+      return skipInvalidRows_;
+    }
+
+    public static final int PARALLEL_ADAPTATION_FIELD_NUMBER = 46;
+    private boolean parallelAdaptation_;
+    /**
+     * <code>optional bool parallel_adaptation = 46;</code>
+     *
+     * <pre>
+     * Adapts chunks of rows on the common ForkJoinPool. The output is the same
+     * as when adapting on one thread.
+     * </pre>
+     */
+    public boolean hasParallelAdaptation() {
+      return ((bitField1_ & 0x00000800) == 0x00000800);
+    }
+    /**
+     * <code>optional bool parallel_adaptation = 46;</code>
+     *
+     * <pre>
+     * Adapts chunks of rows on the common ForkJoinPool. The output is the same
+     * as when adapting on one thread.
+     * </pre>
+     */
+    public boolean getParallelAdaptation() {
+      return parallelAdaptation_;
+    }
+
+    public static final int ADAPTATION_CHUNK_SIZE_FIELD_NUMBER = 47;
+    private int adaptationChunkSize_;
+    /**
+     * <code>optional int32 adaptation_chunk_size = 47 [default = 1000];</code>
+     */
+    public boolean hasAdaptationChunkSize() {
+      return ((bitField1_ & 0x00001000) == 0x00001000);
+    }
+    /**
+     * <code>optional int32 adaptation_chunk_size = 47 [default = 1000];</code>
+     */
+    public int getAdaptationChunkSize() {
+      return adaptationChunkSize_;
+    }
+
+    public static final int METRICS_REPORT_FIELD_NUMBER = 48;
+    private boolean metricsReport_;
+    /**
+     * <code>optional bool metrics_report = 48;</code>
+     *
+     * <pre>
+     * Writes the phase durations and counts of each sync next to the output,
+     * as &lt;output_file&gt;.prom for Prometheus and &lt;output_file&gt;.report.json.
+     * </pre>
+     */
+    public boolean hasMetricsReport() {
+      return ((bitField1_ & 0x00002000) == 0x00002000);
+    }
+    /**
+     * <code>optional bool metrics_report = 48;</code>
+     *
+     * <pre>
+     * Writes the phase durations and counts of each sync next to the output,
+     * as &lt;output_file&gt;.prom for Prometheus and &lt;output_file&gt;.report.json.
+     * </pre>
+     */
+    public boolean getMetricsReport() {
+      return metricsReport_;
+    }
+
+    private void initFields() {
+      dataStoreDirectory_ = "";
+      applicationName_ = "";
+      clientId_ = "";
+      clientSecret_ = "";
+      googleUsername_ = "";
+      sheetId_ = "";
+      telephoneEntryRange_ = "";
+      entryCodeRange_ = "";
+      deletedEntryCodeRange_ = "";
+      localPhonePrefix_ = "";
+      securityLevelMapping_ = java.util.Collections.emptyList();
+      accountName_ = "";
+      batchGet_ = true;
+      snapshotCache_ = false;
+      rowSource_ = doorking.Proto.Config.RowSourceType.GOOGLE_SHEETS;
+      dumpDirectory_ = "";
+      failoverTimeoutSeconds_ = 0;
+      serviceAccountKeyFile_ = "";
+      connectTimeoutMillis_ = 0;
+      readTimeoutMillis_ = 0;
+      maxConnections_ = 0;
+      telephoneEntrySheetId_ = "";
+      entryCodeSheetId_ = "";
+      deletedEntryCodeSheetId_ = "";
+      maxConcurrentFetches_ = 3;
+      maxAttempts_ = 5;
+      initialBackoffMillis_ = 1000;
+      maxBackoffMillis_ = 32000;
+      callDeadlineMillis_ = 0;
+      hedgeDelayMillis_ = 0;
+      valueRenderOption_ = "FORMATTED_VALUE";
+      dateTimeRenderOption_ = "SERIAL_NUMBER";
+      minimalFields_ = false;
+      trimColumns_ = false;
+      site_ = java.util.Collections.emptyList();
+      outputFile_ = "/tmp/doorking.csv";
+      maxConcurrentSites_ = 4;
+      pollIntervalSeconds_ = 300;
+      deltaExport_ = false;
+      entrySnapshot_ = false;
+      codeAllocation_ = doorking.Proto.CodeAllocation.getDefaultInstance();
+      telephoneEntryLayout_ = doorking.Proto.ColumnLayout.getDefaultInstance();
+      entryCodeLayout_ = doorking.Proto.ColumnLayout.getDefaultInstance();
+      deletedEntryCodeLayout_ = doorking.Proto.ColumnLayout.getDefaultInstance();
+      skipInvalidRows_ = false;
+      parallelAdaptation_ = false;
+      adaptationChunkSize_ = 1000;
+      metricsReport_ = false;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getDataStoreDirectoryBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getApplicationNameBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getClientIdBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(4, getClientSecretBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBytes(5, getGoogleUsernameBytes());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(6, getSheetIdBytes());
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBytes(7, getTelephoneEntryRangeBytes());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeBytes(8, getEntryCodeRangeBytes());
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        output.writeBytes(9, getLocalPhonePrefixBytes());
+      }
+      for (int i = 0; i < securityLevelMapping_.size(); i++) {
+        output.writeMessage(10, securityLevelMapping_.get(i));
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        output.writeBytes(11, getAccountNameBytes());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeBytes(12, getDeletedEntryCodeRangeBytes());
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        output.writeBool(13, batchGet_);
+      }
+      if (((bitField0_ & 0x00001000) == 0x00001000)) {
+        output.writeBool(14, snapshotCache_);
+      }
+      if (((bitField0_ & 0x00002000) == 0x00002000)) {
+        output.writeEnum(15, rowSource_.getNumber());
+      }
+      if (((bitField0_ & 0x00004000) == 0x00004000)) {
+        output.writeBytes(16, getDumpDirectoryBytes());
+      }
+      if (((bitField0_ & 0x00008000) == 0x00008000)) {
+        output.writeInt32(17, failoverTimeoutSeconds_);
+      }
+      if (((bitField0_ & 0x00010000) == 0x00010000)) {
+        output.writeBytes(18, getServiceAccountKeyFileBytes());
+      }
+      if (((bitField0_ & 0x00020000) == 0x00020000)) {
+        output.writeInt32(19, connectTimeoutMillis_);
+      }
+      if (((bitField0_ & 0x00040000) == 0x00040000)) {
+        output.writeInt32(20, readTimeoutMillis_);
+      }
+      if (((bitField0_ & 0x00080000) == 0x00080000)) {
+        output.writeInt32(21, maxConnections_);
+      }
+      if (((bitField0_ & 0x00100000) == 0x00100000)) {
+        output.writeBytes(22, getTelephoneEntrySheetIdBytes());
+      }
+      if (((bitField0_ & 0x00200000) == 0x00200000)) {
+        output.writeBytes(23, getEntryCodeSheetIdBytes());
+      }
+      if (((bitField0_ & 0x00400000) == 0x00400000)) {
+        output.writeBytes(24, getDeletedEntryCodeSheetIdBytes());
+      }
+      if (((bitField0_ & 0x00800000) == 0x00800000)) {
+        output.writeInt32(25, maxConcurrentFetches_);
+      }
+      if (((bitField0_ & 0x01000000) == 0x01000000)) {
+        output.writeInt32(26, maxAttempts_);
+      }
+      if (((bitField0_ & 0x02000000) == 0x02000000)) {
+        output.writeInt32(27, initialBackoffMillis_);
+      }
+      if (((bitField0_ & 0x04000000) == 0x04000000)) {
+        output.writeInt32(28, maxBackoffMillis_);
+      }
+      if (((bitField0_ & 0x08000000) == 0x08000000)) {
+        output.writeInt32(29, callDeadlineMillis_);
+      }
+      if (((bitField0_ & 0x10000000) == 0x10000000)) {
+        output.writeInt32(30, hedgeDelayMillis_);
+      }
+      if (((bitField0_ & 0x20000000) == 0x20000000)) {
+        output.writeBytes(31, getValueRenderOptionBytes());
+      }
+      if (((bitField0_ & 0x40000000) == 0x40000000)) {
+        output.writeBytes(32, getDateTimeRenderOptionBytes());
+      }
+      if (((bitField0_ & 0x80000000) == 0x80000000)) {
+        output.writeBool(33, minimalFields_);
+      }
+      if (((bitField1_ & 0x00000001) == 0x00000001)) {
+        output.writeBool(34, trimColumns_);
+      }
+      for (int i = 0; i < site_.size(); i++) {
+        output.writeMessage(35, site_.get(i));
+      }
+      if (((bitField1_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(36, getOutputFileBytes());
+      }
+      if (((bitField1_ & 0x00000004) == 0x00000004)) {
+        output.writeInt32(37, maxConcurrentSites_);
+      }
+      if (((bitField1_ & 0x00000008) == 0x00000008)) {
+        output.writeInt32(38, pollIntervalSeconds_);
+      }
+      if (((bitField1_ & 0x00000010) == 0x00000010)) {
+        output.writeBool(39, deltaExport_);
+      }
+      if (((bitField1_ & 0x00000020) == 0x00000020)) {
+        output.writeBool(40, entrySnapshot_);
+      }
+      if (((bitField1_ & 0x00000040) == 0x00000040)) {
+        output.writeMessage(41, codeAllocation_);
+      }
+      if (((bitField1_ & 0x00000080) == 0x00000080)) {
+        output.writeMessage(42, telephoneEntryLayout_);
+      }
+      if (((bitField1_ & 0x00000100) == 0x00000100)) {
+        output.writeMessage(43, entryCodeLayout_);
+      }
+      if (((bitField1_ & 0x00000200) == 0x00000200)) {
+        output.writeMessage(44, deletedEntryCodeLayout_);
+      }
+      if (((bitField1_ & 0x00000400) == 0x00000400)) {
+        output.writeBool(45, skipInvalidRows_);
+      }
+      if (((bitField1_ & 0x00000800) == 0x00000800)) {
+        output.writeBool(46, parallelAdaptation_);
+      }
+      if (((bitField1_ & 0x00001000) == 0x00001000)) {
+        output.writeInt32(47, adaptationChunkSize_);
+      }
+      if (((bitField1_ & 0x00002000) == 0x00002000)) {
+        output.writeBool(48, metricsReport_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getDataStoreDirectoryBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getApplicationNameBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getClientIdBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getClientSecretBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, getGoogleUsernameBytes());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, getSheetIdBytes());
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, getTelephoneEntryRangeBytes());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(8, getEntryCodeRangeBytes());
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(9, getLocalPhonePrefixBytes());
+      }
+      for (int i = 0; i < securityLevelMapping_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(10, securityLevelMapping_.get(i));
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(11, getAccountNameBytes());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(12, getDeletedEntryCodeRangeBytes());
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(13, batchGet_);
+      }
+      if (((bitField0_ & 0x00001000) == 0x00001000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(14, snapshotCache_);
+      }
+      if (((bitField0_ & 0x00002000) == 0x00002000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(15, rowSource_.getNumber());
+      }
+      if (((bitField0_ & 0x00004000) == 0x00004000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(16, getDumpDirectoryBytes());
+      }
+      if (((bitField0_ & 0x00008000) == 0x00008000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(17, failoverTimeoutSeconds_);
+      }
+      if (((bitField0_ & 0x00010000) == 0x00010000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(18, getServiceAccountKeyFileBytes());
+      }
+      if (((bitField0_ & 0x00020000) == 0x00020000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(19, connectTimeoutMillis_);
+      }
+      if (((bitField0_ & 0x00040000) == 0x00040000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(20, readTimeoutMillis_);
+      }
+      if (((bitField0_ & 0x00080000) == 0x00080000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(21, maxConnections_);
+      }
+      if (((bitField0_ & 0x00100000) == 0x00100000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(22, getTelephoneEntrySheetIdBytes());
+      }
+      if (((bitField0_ & 0x00200000) == 0x00200000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(23, getEntryCodeSheetIdBytes());
+      }
+      if (((bitField0_ & 0x00400000) == 0x00400000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(24, getDeletedEntryCodeSheetIdBytes());
+      }
+      if (((bitField0_ & 0x00800000) == 0x00800000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(25, maxConcurrentFetches_);
+      }
+      if (((bitField0_ & 0x01000000) == 0x01000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(26, maxAttempts_);
+      }
+      if (((bitField0_ & 0x02000000) == 0x02000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(27, initialBackoffMillis_);
+      }
+      if (((bitField0_ & 0x04000000) == 0x04000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(28, maxBackoffMillis_);
+      }
+      if (((bitField0_ & 0x08000000) == 0x08000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(29, callDeadlineMillis_);
+      }
+      if (((bitField0_ & 0x10000000) == 0x10000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(30, hedgeDelayMillis_);
+      }
+      if (((bitField0_ & 0x20000000) == 0x20000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(31, getValueRenderOptionBytes());
+      }
+      if (((bitField0_ & 0x40000000) == 0x40000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(32, getDateTimeRenderOptionBytes());
+      }
+      if (((bitField0_ & 0x80000000) == 0x80000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(33, minimalFields_);
+      }
+      if (((bitField1_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(34, trimColumns_);
+      }
+      for (int i = 0; i < site_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(35, site_.get(i));
+      }
+      if (((bitField1_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(36, getOutputFileBytes());
+      }
+      if (((bitField1_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(37, maxConcurrentSites_);
+      }
+      if (((bitField1_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(38, pollIntervalSeconds_);
+      }
+      if (((bitField1_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(39, deltaExport_);
+      }
+      if (((bitField1_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(40, entrySnapshot_);
+      }
+      if (((bitField1_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(41, codeAllocation_);
+      }
+      if (((bitField1_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(42, telephoneEntryLayout_);
+      }
+      if (((bitField1_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(43, entryCodeLayout_);
+      }
+      if (((bitField1_ & 0x00000200) == 0x00000200)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(44, deletedEntryCodeLayout_);
+      }
+      if (((bitField1_ & 0x00000400) == 0x00000400)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(45, skipInvalidRows_);
+      }
+      if (((bitField1_ & 0x00000800) == 0x00000800)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(46, parallelAdaptation_);
+      }
+      if (((bitField1_ & 0x00001000) == 0x00001000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(47, adaptationChunkSize_);
+      }
+      if (((bitField1_ & 0x00002000) == 0x00002000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(48, metricsReport_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static doorking.Proto.Config parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static doorking.Proto.Config parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static doorking.Proto.Config parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static doorking.Proto.Config parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static doorking.Proto.Config parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static doorking.Proto.Config parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static doorking.Proto.Config parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static doorking.Proto.Config parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static doorking.Proto.Config parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static doorking.Proto.Config parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(doorking.Proto.Config prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code doorking.Config}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:doorking.Config)
+        doorking.Proto.ConfigOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return doorking.Proto.internal_static_doorking_Config_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return doorking.Proto.internal_static_doorking_Config_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                doorking.Proto.Config.class, doorking.Proto.Config.Builder.class);
+      }
+
+      // Construct using doorking.Proto.Config.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getSecurityLevelMappingFieldBuilder();
+          getSiteFieldBuilder();
+          getCodeAllocationFieldBuilder();
+          getTelephoneEntryLayoutFieldBuilder();
+          getEntryCodeLayoutFieldBuilder();
+          getDeletedEntryCodeLayoutFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        dataStoreDirectory_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        applicationName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        clientId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        clientSecret_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        googleUsername_ = "";
+        bitField0_ = (bitField0_ & ~0x00000010);
+        sheetId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000020);
+        telephoneEntryRange_ = "";
+        bitField0_ = (bitField0_ & ~0x00000040);
+        entryCodeRange_ = "";
+        bitField0_ = (bitField0_ & ~0x00000080);
+        deletedEntryCodeRange_ = "";
+        bitField0_ = (bitField0_ & ~0x00000100);
+        localPhonePrefix_ = "";
+        bitField0_ = (bitField0_ & ~0x00000200);
+        if (securityLevelMappingBuilder_ == null) {
+          securityLevelMapping_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000400);
+        } else {
+          securityLevelMappingBuilder_.clear();
+        }
+        accountName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000800);
+        batchGet_ = true;
+        bitField0_ = (bitField0_ & ~0x00001000);
+        snapshotCache_ = false;
+        bitField0_ = (bitField0_ & ~0x00002000);
+        rowSource_ = doorking.Proto.Config.RowSourceType.GOOGLE_SHEETS;
+        bitField0_ = (bitField0_ & ~0x00004000);
+        dumpDirectory_ = "";
+        bitField0_ = (bitField0_ & ~0x00008000);
+        failoverTimeoutSeconds_ = 0;
+        bitField0_ = (bitField0_ & ~0x00010000);
+        serviceAccountKeyFile_ = "";
+        bitField0_ = (bitField0_ & ~0x00020000);
+        connectTimeoutMillis_ = 0;
+        bitField0_ = (bitField0_ & ~0x00040000);
+        readTimeoutMillis_ = 0;
+        bitField0_ = (bitField0_ & ~0x00080000);
+        maxConnections_ = 0;
+        bitField0_ = (bitField0_ & ~0x00100000);
+        telephoneEntrySheetId_ = "";
+        bitField0_ = (bitField0_ & ~0x00200000);
+        entryCodeSheetId_ = "";
+        bitField0_ = (bitField0_ & ~0x00400000);
+        deletedEntryCodeSheetId_ = "";
+        bitField0_ = (bitField0_ & ~0x00800000);
+        maxConcurrentFetches_ = 3;
+        bitField0_ = (bitField0_ & ~0x01000000);
+        maxAttempts_ = 5;
+        bitField0_ = (bitField0_ & ~0x02000000);
+        initialBackoffMillis_ = 1000;
+        bitField0_ = (bitField0_ & ~0x04000000);
+        maxBackoffMillis_ = 32000;
+        bitField0_ = (bitField0_ & ~0x08000000);
+        callDeadlineMillis_ = 0;
+        bitField0_ = (bitField0_ & ~0x10000000);
+        hedgeDelayMillis_ = 0;
+        bitField0_ = (bitField0_ & ~0x20000000);
+        valueRenderOption_ = "FORMATTED_VALUE";
+        bitField0_ = (bitField0_ & ~0x40000000);
+        dateTimeRenderOption_ = "SERIAL_NUMBER";
+        bitField0_ = (bitField0_ & ~0x80000000);
+        minimalFields_ = false;
+        bitField1_ = (bitField1_ & ~0x00000001);
+        trimColumns_ = false;
+        bitField1_ = (bitField1_ & ~0x00000002);
+        if (siteBuilder_ == null) {
+          site_ = java.util.Collections.emptyList();
+          bitField1_ = (bitField1_ & ~0x00000004);
+        } else {
+          siteBuilder_.clear();
+        }
+        outputFile_ = "/tmp/doorking.csv";
+        bitField1_ = (bitField1_ & ~0x00000008);
+        maxConcurrentSites_ = 4;
+        bitField1_ = (bitField1_ & ~0x00000010);
+        pollIntervalSeconds_ = 300;
+        bitField1_ = (bitField1_ & ~0x00000020);
+        deltaExport_ = false;
+        bitField1_ = (bitField1_ & ~0x00000040);
+        entrySnapshot_ = false;
+        bitField1_ = (bitField1_ & ~0x00000080);
+        if (codeAllocationBuilder_ == null) {
+          codeAllocation_ = doorking.Proto.CodeAllocation.getDefaultInstance();
+        } else {
+          codeAllocationBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000100);
+        if (telephoneEntryLayoutBuilder_ == null) {
+          telephoneEntryLayout_ = doorking.Proto.ColumnLayout.getDefaultInstance();
+        } else {
+          telephoneEntryLayoutBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000200);
+        if (entryCodeLayoutBuilder_ == null) {
+          entryCodeLayout_ = doorking.Proto.ColumnLayout.getDefaultInstance();
+        } else {
+          entryCodeLayoutBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000400);
+        if (deletedEntryCodeLayoutBuilder_ == null) {
+          deletedEntryCodeLayout_ = doorking.Proto.ColumnLayout.getDefaultInstance();
+        } else {
+          deletedEntryCodeLayoutBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000800);
+        skipInvalidRows_ = false;
+        bitField1_ = (bitField1_ & ~0x00001000);
+        parallelAdaptation_ = false;
+        bitField1_ = (bitField1_ & ~0x00002000);
+        adaptationChunkSize_ = 1000;
+        bitField1_ = (bitField1_ & ~0x00004000);
+        metricsReport_ = false;
+        bitField1_ = (bitField1_ & ~0x00008000);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return doorking.Proto.internal_static_doorking_Config_descriptor;
+      }
+
+      public doorking.Proto.Config getDefaultInstanceForType() {
+        return doorking.Proto.Config.getDefaultInstance();
+      }
+
+      public doorking.Proto.Config build() {
+        doorking.Proto.Config result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public doorking.Proto.Config buildPartial() {
+        doorking.Proto.Config result = new doorking.Proto.Config(this);
+        int from_bitField0_ = bitField0_;
+        int from_bitField1_ = bitField1_;
+        int to_bitField0_ = 0;
+        int to_bitField1_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.dataStoreDirectory_ = dataStoreDirectory_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.applicationName_ = applicationName_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.clientId_ = clientId_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.clientSecret_ = clientSecret_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.googleUsername_ = googleUsername_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.sheetId_ = sheetId_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.telephoneEntryRange_ = telephoneEntryRange_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.entryCodeRange_ = entryCodeRange_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.deletedEntryCodeRange_ = deletedEntryCodeRange_;
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+          to_bitField0_ |= 0x00000200;
+        }
+        result.localPhonePrefix_ = localPhonePrefix_;
+        if (securityLevelMappingBuilder_ == null) {
+          if (((bitField0_ & 0x00000400) == 0x00000400)) {
+            securityLevelMapping_ = java.util.Collections.unmodifiableList(securityLevelMapping_);
+            bitField0_ = (bitField0_ & ~0x00000400);
+          }
+          result.securityLevelMapping_ = securityLevelMapping_;
+        } else {
+          result.securityLevelMapping_ = securityLevelMappingBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
+          to_bitField0_ |= 0x00000400;
+        }
+        result.accountName_ = accountName_;
+        if (((from_bitField0_ & 0x00001000) == 0x00001000)) {
+          to_bitField0_ |= 0x00000800;
+        }
+        result.batchGet_ = batchGet_;
+        if (((from_bitField0_ & 0x00002000) == 0x00002000)) {
+          to_bitField0_ |= 0x00001000;
+        }
+        result.snapshotCache_ = snapshotCache_;
+        if (((from_bitField0_ & 0x00004000) == 0x00004000)) {
+          to_bitField0_ |= 0x00002000;
+        }
+        result.rowSource_ = rowSource_;
+        if (((from_bitField0_ & 0x00008000) == 0x00008000)) {
+          to_bitField0_ |= 0x00004000;
+        }
+        result.dumpDirectory_ = dumpDirectory_;
+        if (((from_bitField0_ & 0x00010000) == 0x00010000)) {
+          to_bitField0_ |= 0x00008000;
+        }
+        result.failoverTimeoutSeconds_ = failoverTimeoutSeconds_;
+        if (((from_bitField0_ & 0x00020000) == 0x00020000)) {
+          to_bitField0_ |= 0x00010000;
+        }
+        result.serviceAccountKeyFile_ = serviceAccountKeyFile_;
+        if (((from_bitField0_ & 0x00040000) == 0x00040000)) {
+          to_bitField0_ |= 0x00020000;
+        }
+        result.connectTimeoutMillis_ = connectTimeoutMillis_;
+        if (((from_bitField0_ & 0x00080000) == 0x00080000)) {
+          to_bitField0_ |= 0x00040000;
+        }
+        result.readTimeoutMillis_ = readTimeoutMillis_;
+        if (((from_bitField0_ & 0x00100000) == 0x00100000)) {
+          to_bitField0_ |= 0x00080000;
+        }
+        result.maxConnections_ = maxConnections_;
+        if (((from_bitField0_ & 0x00200000) == 0x00200000)) {
+          to_bitField0_ |= 0x00100000;
+        }
+        result.telephoneEntrySheetId_ = telephoneEntrySheetId_;
+        if (((from_bitField0_ & 0x00400000) == 0x00400000)) {
+          to_bitField0_ |= 0x00200000;
+        }
+        result.entryCodeSheetId_ = entryCodeSheetId_;
+        if (((from_bitField0_ & 0x00800000) == 0x00800000)) {
+          to_bitField0_ |= 0x00400000;
+        }
+        result.deletedEntryCodeSheetId_ = deletedEntryCodeSheetId_;
+        if (((from_bitField0_ & 0x01000000) == 0x01000000)) {
+          to_bitField0_ |= 0x00800000;
+        }
+        result.maxConcurrentFetches_ = maxConcurrentFetches_;
+        if (((from_bitField0_ & 0x02000000) == 0x02000000)) {
+          to_bitField0_ |= 0x01000000;
+        }
+        result.maxAttempts_ = maxAttempts_;
+        if (((from_bitField0_ & 0x04000000) == 0x04000000)) {
+          to_bitField0_ |= 0x02000000;
+        }
+        result.initialBackoffMillis_ = initialBackoffMillis_;
+        if (((from_bitField0_ & 0x08000000) == 0x08000000)) {
+          to_bitField0_ |= 0x04000000;
+        }
+        result.maxBackoffMillis_ = maxBackoffMillis_;
+        if (((from_bitField0_ & 0x10000000) == 0x10000000)) {
+          to_bitField0_ |= 0x08000000;
+        }
+        result.callDeadlineMillis_ = callDeadlineMillis_;
+        if (((from_bitField0_ & 0x20000000) == 0x20000000)) {
+          to_bitField0_ |= 0x10000000;
+        }
+        result.hedgeDelayMillis_ = hedgeDelayMillis_;
+        if (((from_bitField0_ & 0x40000000) == 0x40000000)) {
+          to_bitField0_ |= 0x20000000;
+        }
+        result.valueRenderOption_ = valueRenderOption_;
+        if (((from_bitField0_ & 0x80000000) == 0x80000000)) {
+          to_bitField0_ |= 0x40000000;
+        }
+        result.dateTimeRenderOption_ = dateTimeRenderOption_;
+        if (((from_bitField1_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x80000000;
+        }
+        result.minimalFields_ = minimalFields_;
+        if (((from_bitField1_ & 0x00000002) == 0x00000002)) {
+          to_bitField1_ |= 0x00000001;
+        }
+        result.trimColumns_ = trimColumns_;
+        if (siteBuilder_ == null) {
+          if (((bitField1_ & 0x00000004) == 0x00000004)) {
+            site_ = java.util.Collections.unmodifiableList(site_);
+            bitField1_ = (bitField1_ & ~0x00000004);
+          }
+          result.site_ = site_;
+        } else {
+          result.site_ = siteBuilder_.build();
+        }
+        if (((from_bitField1_ & 0x00000008) == 0x00000008)) {
+          to_bitField1_ |= 0x00000002;
+        }
+        result.outputFile_ = outputFile_;
+        if (((from_bitField1_ & 0x00000010) == 0x00000010)) {
+          to_bitField1_ |= 0x00000004;
+        }
+        result.maxConcurrentSites_ = maxConcurrentSites_;
+        if (((from_bitField1_ & 0x00000020) == 0x00000020)) {
+          to_bitField1_ |= 0x00000008;
+        }
+        result.pollIntervalSeconds_ = pollIntervalSeconds_;
+        if (((from_bitField1_ & 0x00000040) == 0x00000040)) {
+          to_bitField1_ |= 0x00000010;
+        }
+        result.deltaExport_ = deltaExport_;
+        if (((from_bitField1_ & 0x00000080) == 0x00000080)) {
+          to_bitField1_ |= 0x00000020;
+        }
+        result.entrySnapshot_ = entrySnapshot_;
+        if (((from_bitField1_ & 0x00000100) == 0x00000100)) {
+          to_bitField1_ |= 0x00000040;
+        }
+        if (codeAllocationBuilder_ == null) {
+          result.codeAllocation_ = codeAllocation_;
+        } else {
+          result.codeAllocation_ = codeAllocationBuilder_.build();
+        }
+        if (((from_bitField1_ & 0x00000200) == 0x00000200)) {
+          to_bitField1_ |= 0x00000080;
+        }
+        if (telephoneEntryLayoutBuilder_ == null) {
+          result.telephoneEntryLayout_ = telephoneEntryLayout_;
+        } else {
+          result.telephoneEntryLayout_ = telephoneEntryLayoutBuilder_.build();
+        }
+        if (((from_bitField1_ & 0x00000400) == 0x00000400)) {
+          to_bitField1_ |= 0x00000100;
+        }
+        if (entryCodeLayoutBuilder_ == null) {
+          result.entryCodeLayout_ = entryCodeLayout_;
+        } else {
+          result.entryCodeLayout_ = entryCodeLayoutBuilder_.build();
+        }
+        if (((from_bitField1_ & 0x00000800) == 0x00000800)) {
+          to_bitField1_ |= 0x00000200;
+        }
+        if (deletedEntryCodeLayoutBuilder_ == null) {
+          result.deletedEntryCodeLayout_ = deletedEntryCodeLayout_;
+        } else {
+          result.deletedEntryCodeLayout_ = deletedEntryCodeLayoutBuilder_.build();
+        }
+        if (((from_bitField1_ & 0x00001000) == 0x00001000)) {
+          to_bitField1_ |= 0x00000400;
+        }
+        result.skipInvalidRows_ = skipInvalidRows_;
+        if (((from_bitField1_ & 0x00002000) == 0x00002000)) {
+          to_bitField1_ |= 0x00000800;
+        }
+        result.parallelAdaptation_ = parallelAdaptation_;
+        if (((from_bitField1_ & 0x00004000) == 0x00004000)) {
+          to_bitField1_ |= 0x00001000;
+        }
+        result.adaptationChunkSize_ = adaptationChunkSize_;
+        if (((from_bitField1_ & 0x00008000) == 0x00008000)) {
+          to_bitField1_ |= 0x00002000;
+        }
+        result.metricsReport_ = metricsReport_;
+        result.bitField0_ = to_bitField0_;
+        result.bitField1_ = to_bitField1_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof doorking.Proto.Config) {
+          return mergeFrom((doorking.Proto.Config)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(doorking.Proto.Config other) {
+        if (other == doorking.Proto.Config.getDefaultInstance()) return this;
+        if (other.hasDataStoreDirectory()) {
+          bitField0_ |= 0x00000001;
+          dataStoreDirectory_ = other.dataStoreDirectory_;
+          onChanged();
+        }
+        if (other.hasApplicationName()) {
+          bitField0_ |= 0x00000002;
+          applicationName_ = other.applicationName_;
+          onChanged();
+        }
+        if (other.hasClientId()) {
+          bitField0_ |= 0x00000004;
+          clientId_ = other.clientId_;
+          onChanged();
+        }
+        if (other.hasClientSecret()) {
+          bitField0_ |= 0x00000008;
+          clientSecret_ = other.clientSecret_;
+          onChanged();
+        }
+        if (other.hasGoogleUsername()) {
+          bitField0_ |= 0x00000010;
+          googleUsername_ = other.googleUsername_;
+          onChanged();
+        }
+        if (other.hasSheetId()) {
+          bitField0_ |= 0x00000020;
+          sheetId_ = other.sheetId_;
+          onChanged();
+        }
+        if (other.hasTelephoneEntryRange()) {
+          bitField0_ |= 0x00000040;
+          telephoneEntryRange_ = other.telephoneEntryRange_;
+          onChanged();
+        }
+        if (other.hasEntryCodeRange()) {
+          bitField0_ |= 0x00000080;
+          entryCodeRange_ = other.entryCodeRange_;
+          onChanged();
+        }
+        if (other.hasDeletedEntryCodeRange()) {
+          bitField0_ |= 0x00000100;
+          deletedEntryCodeRange_ = other.deletedEntryCodeRange_;
+          onChanged();
+        }
+        if (other.hasLocalPhonePrefix()) {
+          bitField0_ |= 0x00000200;
+          localPhonePrefix_ = other.localPhonePrefix_;
+          onChanged();
+        }
+        if (securityLevelMappingBuilder_ == null) {
+          if (!other.securityLevelMapping_.isEmpty()) {
+            if (securityLevelMapping_.isEmpty()) {
+              securityLevelMapping_ = other.securityLevelMapping_;
+              bitField0_ = (bitField0_ & ~0x00000400);
+            } else {
+              ensureSecurityLevelMappingIsMutable();
+              securityLevelMapping_.addAll(other.securityLevelMapping_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.securityLevelMapping_.isEmpty()) {
+            if (securityLevelMappingBuilder_.isEmpty()) {
+              securityLevelMappingBuilder_.dispose();
+              securityLevelMappingBuilder_ = null;
+              securityLevelMapping_ = other.securityLevelMapping_;
+              bitField0_ = (bitField0_ & ~0x00000400);
+              securityLevelMappingBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getSecurityLevelMappingFieldBuilder() : null;
+            } else {
+              securityLevelMappingBuilder_.addAllMessages(other.securityLevelMapping_);
+            }
+          }
+        }
+        if (other.hasAccountName()) {
+          bitField0_ |= 0x00000800;
+          accountName_ = other.accountName_;
+          onChanged();
+        }
+        if (other.hasBatchGet()) {
+          setBatchGet(other.getBatchGet());
+        }
+        if (other.hasSnapshotCache()) {
+          setSnapshotCache(other.getSnapshotCache());
+        }
+        if (other.hasRowSource()) {
+          setRowSource(other.getRowSource());
+        }
+        if (other.hasDumpDirectory()) {
+          bitField0_ |= 0x00008000;
+          dumpDirectory_ = other.dumpDirectory_;
+          onChanged();
+        }
+        if (other.hasFailoverTimeoutSeconds()) {
+          setFailoverTimeoutSeconds(other.getFailoverTimeoutSeconds());
+        }
+        if (other.hasServiceAccountKeyFile()) {
+          bitField0_ |= 0x00020000;
+          serviceAccountKeyFile_ = other.serviceAccountKeyFile_;
+          onChanged();
+        }
+        if (other.hasConnectTimeoutMillis()) {
+          setConnectTimeoutMillis(other.getConnectTimeoutMillis());
+        }
+        if (other.hasReadTimeoutMillis()) {
+          setReadTimeoutMillis(other.getReadTimeoutMillis());
+        }
+        if (other.hasMaxConnections()) {
+          setMaxConnections(other.getMaxConnections());
+        }
+        if (other.hasTelephoneEntrySheetId()) {
+          bitField0_ |= 0x00200000;
+          telephoneEntrySheetId_ = other.telephoneEntrySheetId_;
+          onChanged();
+        }
+        if (other.hasEntryCodeSheetId()) {
+          bitField0_ |= 0x00400000;
+          entryCodeSheetId_ = other.entryCodeSheetId_;
+          onChanged();
+        }
+        if (other.hasDeletedEntryCodeSheetId()) {
+          bitField0_ |= 0x00800000;
+          deletedEntryCodeSheetId_ = other.deletedEntryCodeSheetId_;
+          onChanged();
+        }
+        if (other.hasMaxConcurrentFetches()) {
+          setMaxConcurrentFetches(other.getMaxConcurrentFetches());
+        }
+        if (other.hasMaxAttempts()) {
+          setMaxAttempts(other.getMaxAttempts());
+        }
+        if (other.hasInitialBackoffMillis()) {
+          setInitialBackoffMillis(other.getInitialBackoffMillis());
+        }
+        if (other.hasMaxBackoffMillis()) {
+          setMaxBackoffMillis(other.getMaxBackoffMillis());
+        }
+        if (other.hasCallDeadlineMillis()) {
+          setCallDeadlineMillis(other.getCallDeadlineMillis());
+        }
+        if (other.hasHedgeDelayMillis()) {
+          setHedgeDelayMillis(other.getHedgeDelayMillis());
+        }
+        if (other.hasValueRenderOption()) {
+          bitField0_ |= 0x40000000;
+          valueRenderOption_ = other.valueRenderOption_;
+          onChanged();
+        }
+        if (other.hasDateTimeRenderOption()) {
+          bitField0_ |= 0x80000000;
+          dateTimeRenderOption_ = other.dateTimeRenderOption_;
+          onChanged();
+        }
+        if (other.hasMinimalFields()) {
+          setMinimalFields(other.getMinimalFields());
+        }
+        if (other.hasTrimColumns()) {
+          setTrimColumns(other.getTrimColumns());
+        }
+        if (siteBuilder_ == null) {
+          if (!other.site_.isEmpty()) {
+            if (site_.isEmpty()) {
+              site_ = other.site_;
+              bitField1_ = (bitField1_ & ~0x00000004);
+            } else {
+              ensureSiteIsMutable();
+              site_.addAll(other.site_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.site_.isEmpty()) {
+            if (siteBuilder_.isEmpty()) {
+              siteBuilder_.dispose();
+              siteBuilder_ = null;
+              site_ = other.site_;
+              bitField1_ = (bitField1_ & ~0x00000004);
+              siteBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getSiteFieldBuilder() : null;
+            } else {
+              siteBuilder_.addAllMessages(other.site_);
+            }
+          }
+        }
+        if (other.hasOutputFile()) {
+          bitField1_ |= 0x00000008;
+          outputFile_ = other.outputFile_;
+          onChanged();
+        }
+        if (other.hasMaxConcurrentSites()) {
+          setMaxConcurrentSites(other.getMaxConcurrentSites());
+        }
+        if (other.hasPollIntervalSeconds()) {
+          setPollIntervalSeconds(other.getPollIntervalSeconds());
+        }
+        if (other.hasDeltaExport()) {
+          setDeltaExport(other.getDeltaExport());
+        }
+        if (other.hasEntrySnapshot()) {
+          setEntrySnapshot(other.getEntrySnapshot());
+        }
+        if (other.hasCodeAllocation()) {
+          mergeCodeAllocation(other.getCodeAllocation());
+        }
+        if (other.hasTelephoneEntryLayout()) {
+          mergeTelephoneEntryLayout(other.getTelephoneEntryLayout());
+        }
+        if (other.hasEntryCodeLayout()) {
+          mergeEntryCodeLayout(other.getEntryCodeLayout());
+        }
+        if (other.hasDeletedEntryCodeLayout()) {
+          mergeDeletedEntryCodeLayout(other.getDeletedEntryCodeLayout());
+        }
+        if (other.hasSkipInvalidRows()) {
+          setSkipInvalidRows(other.getSkipInvalidRows());
+        }
+        if (other.hasParallelAdaptation()) {
+          setParallelAdaptation(other.getParallelAdaptation());
+        }
+        if (other.hasAdaptationChunkSize()) {
+          setAdaptationChunkSize(other.getAdaptationChunkSize());
+        }
+        if (other.hasMetricsReport()) {
+          setMetricsReport(other.getMetricsReport());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        doorking.Proto.Config parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (doorking.Proto.Config) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+      private int bitField1_;
+
+      private java.lang.Object dataStoreDirectory_ = "";
+      /**
+       * <code>optional string data_store_directory = 1;</code>
+       */
+      public boolean hasDataStoreDirectory() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string data_store_directory = 1;</code>
+       */
+      public java.lang.String getDataStoreDirectory() {
+        java.lang.Object ref = dataStoreDirectory_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            dataStoreDirectory_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string data_store_directory = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getDataStoreDirectoryBytes() {
+        java.lang.Object ref = dataStoreDirectory_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dataStoreDirectory_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string data_store_directory = 1;</code>
+       */
+      public Builder setDataStoreDirectory(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        dataStoreDirectory_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string data_store_directory = 1;</code>
+       */
+      public Builder clearDataStoreDirectory() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        dataStoreDirectory_ = getDefaultInstance().getDataStoreDirectory();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string data_store_directory = 1;</code>
+       */
+      public Builder setDataStoreDirectoryBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        dataStoreDirectory_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object applicationName_ = "";
+      /**
+       * <code>optional string application_name = 2;</code>
+       */
+      public boolean hasApplicationName() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string application_name = 2;</code>
+       */
+      public java.lang.String getApplicationName() {
+        java.lang.Object ref = applicationName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            applicationName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string application_name = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getApplicationNameBytes() {
+        java.lang.Object ref = applicationName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          applicationName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string application_name = 2;</code>
+       */
+      public Builder setApplicationName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        applicationName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string application_name = 2;</code>
+       */
+      public Builder clearApplicationName() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        applicationName_ = getDefaultInstance().getApplicationName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string application_name = 2;</code>
+       */
+      public Builder setApplicationNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        applicationName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object clientId_ = "";
+      /**
+       * <code>optional string client_id = 3;</code>
+       */
+      public boolean hasClientId() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string client_id = 3;</code>
+       */
+      public java.lang.String getClientId() {
+        java.lang.Object ref = clientId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            clientId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string client_id = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getClientIdBytes() {
+        java.lang.Object ref = clientId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          clientId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string client_id = 3;</code>
+       */
+      public Builder setClientId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        clientId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string client_id = 3;</code>
+       */
+      public Builder clearClientId() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        clientId_ = getDefaultInstance().getClientId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string client_id = 3;</code>
+       */
+      public Builder setClientIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        clientId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object clientSecret_ = "";
+      /**
+       * <code>optional string client_secret = 4;</code>
+       */
+      public boolean hasClientSecret() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional string client_secret = 4;</code>
+       */
+      public java.lang.String getClientSecret() {
+        java.lang.Object ref = clientSecret_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            clientSecret_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string client_secret = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getClientSecretBytes() {
+        java.lang.Object ref = clientSecret_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          clientSecret_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string client_secret = 4;</code>
+       */
+      public Builder setClientSecret(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        clientSecret_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string client_secret = 4;</code>
+       */
+      public Builder clearClientSecret() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        clientSecret_ = getDefaultInstance().getClientSecret();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string client_secret = 4;</code>
+       */
+      public Builder setClientSecretBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        clientSecret_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object googleUsername_ = "";
+      /**
+       * <code>optional string google_username = 5;</code>
+       */
+      public boolean hasGoogleUsername() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional string google_username = 5;</code>
+       */
+      public java.lang.String getGoogleUsername() {
+        java.lang.Object ref = googleUsername_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            googleUsername_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string google_username = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getGoogleUsernameBytes() {
+        java.lang.Object ref = googleUsername_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          googleUsername_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string google_username = 5;</code>
+       */
+      public Builder setGoogleUsername(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        googleUsername_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string google_username = 5;</code>
+       */
+      public Builder clearGoogleUsername() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        googleUsername_ = getDefaultInstance().getGoogleUsername();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string google_username = 5;</code>
+       */
+      public Builder setGoogleUsernameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        googleUsername_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object sheetId_ = "";
+      /**
+       * <code>optional string sheet_id = 6;</code>
+       */
+      public boolean hasSheetId() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional string sheet_id = 6;</code>
+       */
+      public java.lang.String getSheetId() {
+        java.lang.Object ref = sheetId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            sheetId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string sheet_id = 6;</code>
+       */
+      public com.google.protobuf.ByteString
+          getSheetIdBytes() {
+        java.lang.Object ref = sheetId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          sheetId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string sheet_id = 6;</code>
+       */
+      public Builder setSheetId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        sheetId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string sheet_id = 6;</code>
+       */
+      public Builder clearSheetId() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        sheetId_ = getDefaultInstance().getSheetId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string sheet_id = 6;</code>
+       */
+      public Builder setSheetIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        sheetId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object telephoneEntryRange_ = "";
+      /**
+       * <code>optional string telephone_entry_range = 7;</code>
+       */
+      public boolean hasTelephoneEntryRange() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional string telephone_entry_range = 7;</code>
+       */
+      public java.lang.String getTelephoneEntryRange() {
+        java.lang.Object ref = telephoneEntryRange_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            telephoneEntryRange_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string telephone_entry_range = 7;</code>
+       */
+      public com.google.protobuf.ByteString
+          getTelephoneEntryRangeBytes() {
+        java.lang.Object ref = telephoneEntryRange_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          telephoneEntryRange_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string telephone_entry_range = 7;</code>
+       */
+      public Builder setTelephoneEntryRange(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        telephoneEntryRange_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string telephone_entry_range = 7;</code>
+       */
+      public Builder clearTelephoneEntryRange() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        telephoneEntryRange_ = getDefaultInstance().getTelephoneEntryRange();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string telephone_entry_range = 7;</code>
+       */
+      public Builder setTelephoneEntryRangeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        telephoneEntryRange_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object entryCodeRange_ = "";
+      /**
+       * <code>optional string entry_code_range = 8;</code>
+       */
+      public boolean hasEntryCodeRange() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional string entry_code_range = 8;</code>
+       */
+      public java.lang.String getEntryCodeRange() {
+        java.lang.Object ref = entryCodeRange_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            entryCodeRange_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string entry_code_range = 8;</code>
+       */
+      public com.google.protobuf.ByteString
+          getEntryCodeRangeBytes() {
+        java.lang.Object ref = entryCodeRange_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          entryCodeRange_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string entry_code_range = 8;</code>
+       */
+      public Builder setEntryCodeRange(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000080;
+        entryCodeRange_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string entry_code_range = 8;</code>
+       */
+      public Builder clearEntryCodeRange() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        entryCodeRange_ = getDefaultInstance().getEntryCodeRange();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string entry_code_range = 8;</code>
+       */
+      public Builder setEntryCodeRangeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000080;
+        entryCodeRange_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object deletedEntryCodeRange_ = "";
+      /**
+       * <code>optional string deleted_entry_code_range = 12;</code>
+       */
+      public boolean hasDeletedEntryCodeRange() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional string deleted_entry_code_range = 12;</code>
+       */
+      public java.lang.String getDeletedEntryCodeRange() {
+        java.lang.Object ref = deletedEntryCodeRange_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            deletedEntryCodeRange_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string deleted_entry_code_range = 12;</code>
+       */
+      public com.google.protobuf.ByteString
+          getDeletedEntryCodeRangeBytes() {
+        java.lang.Object ref = deletedEntryCodeRange_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          deletedEntryCodeRange_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string deleted_entry_code_range = 12;</code>
+       */
+      public Builder setDeletedEntryCodeRange(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        deletedEntryCodeRange_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string deleted_entry_code_range = 12;</code>
+       */
+      public Builder clearDeletedEntryCodeRange() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        deletedEntryCodeRange_ = getDefaultInstance().getDeletedEntryCodeRange();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string deleted_entry_code_range = 12;</code>
+       */
+      public Builder setDeletedEntryCodeRangeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        deletedEntryCodeRange_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object localPhonePrefix_ = "";
+      /**
+       * <code>optional string local_phone_prefix = 9;</code>
+       */
+      public boolean hasLocalPhonePrefix() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional string local_phone_prefix = 9;</code>
+       */
+      public java.lang.String getLocalPhonePrefix() {
+        java.lang.Object ref = localPhonePrefix_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            localPhonePrefix_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string local_phone_prefix = 9;</code>
+       */
+      public com.google.protobuf.ByteString
+          getLocalPhonePrefixBytes() {
+        java.lang.Object ref = localPhonePrefix_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          localPhonePrefix_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string local_phone_prefix = 9;</code>
+       */
+      public Builder setLocalPhonePrefix(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
+        localPhonePrefix_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string local_phone_prefix = 9;</code>
+       */
+      public Builder clearLocalPhonePrefix() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        localPhonePrefix_ = getDefaultInstance().getLocalPhonePrefix();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string local_phone_prefix = 9;</code>
+       */
+      public Builder setLocalPhonePrefixBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
+        localPhonePrefix_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<doorking.Proto.SecurityLevelMapping> securityLevelMapping_ =
+        java.util.Collections.emptyList();
+      private void ensureSecurityLevelMappingIsMutable() {
+        if (!((bitField0_ & 0x00000400) == 0x00000400)) {
+          securityLevelMapping_ = new java.util.ArrayList<doorking.Proto.SecurityLevelMapping>(securityLevelMapping_);
+          bitField0_ |= 0x00000400;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          doorking.Proto.SecurityLevelMapping, doorking.Proto.SecurityLevelMapping.Builder, doorking.Proto.SecurityLevelMappingOrBuilder> securityLevelMappingBuilder_;
+
+      /**
+       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       */
+      public java.util.List<doorking.Proto.SecurityLevelMapping> getSecurityLevelMappingList() {
+        if (securityLevelMappingBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(securityLevelMapping_);
+        } else {
+          return securityLevelMappingBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       */
+      public int getSecurityLevelMappingCount() {
+        if (securityLevelMappingBuilder_ == null) {
+          return securityLevelMapping_.size();
+        } else {
+          return securityLevelMappingBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       */
+      public doorking.Proto.SecurityLevelMapping getSecurityLevelMapping(int index) {
+        if (securityLevelMappingBuilder_ == null) {
+          return securityLevelMapping_.get(index);
+        } else {
+          return securityLevelMappingBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       */
+      public Builder setSecurityLevelMapping(
+          int index, doorking.Proto.SecurityLevelMapping value) {
+        if (securityLevelMappingBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSecurityLevelMappingIsMutable();
+          securityLevelMapping_.set(index, value);
+          onChanged();
+        } else {
+          securityLevelMappingBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       */
+      public Builder setSecurityLevelMapping(
+          int index, doorking.Proto.SecurityLevelMapping.Builder builderForValue) {
+        if (securityLevelMappingBuilder_ == null) {
+          ensureSecurityLevelMappingIsMutable();
+          securityLevelMapping_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          securityLevelMappingBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       */
+      public Builder addSecurityLevelMapping(doorking.Proto.SecurityLevelMapping value) {
+        if (securityLevelMappingBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSecurityLevelMappingIsMutable();
+          securityLevelMapping_.add(value);
+          onChanged();
+        } else {
+          securityLevelMappingBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       */
+      public Builder addSecurityLevelMapping(
+          int index, doorking.Proto.SecurityLevelMapping value) {
+        if (securityLevelMappingBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSecurityLevelMappingIsMutable();
+          securityLevelMapping_.add(index, value);
+          onChanged();
+        } else {
+          securityLevelMappingBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       */
+      public Builder addSecurityLevelMapping(
+          doorking.Proto.SecurityLevelMapping.Builder builderForValue) {
+        if (securityLevelMappingBuilder_ == null) {
+          ensureSecurityLevelMappingIsMutable();
+          securityLevelMapping_.add(builderForValue.build());
+          onChanged();
+        } else {
+          securityLevelMappingBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       */
+      public Builder addSecurityLevelMapping(
+          int index, doorking.Proto.SecurityLevelMapping.Builder builderForValue) {
+        if (securityLevelMappingBuilder_ == null) {
+          ensureSecurityLevelMappingIsMutable();
+          securityLevelMapping_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          securityLevelMappingBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       */
+      public Builder addAllSecurityLevelMapping(
+          java.lang.Iterable<? extends doorking.Proto.SecurityLevelMapping> values) {
+        if (securityLevelMappingBuilder_ == null) {
+          ensureSecurityLevelMappingIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, securityLevelMapping_);
+          onChanged();
+        } else {
+          securityLevelMappingBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       */
+      public Builder clearSecurityLevelMapping() {
+        if (securityLevelMappingBuilder_ == null) {
+          securityLevelMapping_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000400);
+          onChanged();
+        } else {
+          securityLevelMappingBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       */
+      public Builder removeSecurityLevelMapping(int index) {
+        if (securityLevelMappingBuilder_ == null) {
+          ensureSecurityLevelMappingIsMutable();
+          securityLevelMapping_.remove(index);
+          onChanged();
+        } else {
+          securityLevelMappingBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       */
+      public doorking.Proto.SecurityLevelMapping.Builder getSecurityLevelMappingBuilder(
+          int index) {
+        return getSecurityLevelMappingFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       */
+      public doorking.Proto.SecurityLevelMappingOrBuilder getSecurityLevelMappingOrBuilder(
+          int index) {
+        if (securityLevelMappingBuilder_ == null) {
+          return securityLevelMapping_.get(index);  } else {
+          return securityLevelMappingBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       */
+      public java.util.List<? extends doorking.Proto.SecurityLevelMappingOrBuilder> 
+           getSecurityLevelMappingOrBuilderList() {
+        if (securityLevelMappingBuilder_ != null) {
+          return securityLevelMappingBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(securityLevelMapping_);
+        }
+      }
+      /**
+       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       */
+      public doorking.Proto.SecurityLevelMapping.Builder addSecurityLevelMappingBuilder() {
+        return getSecurityLevelMappingFieldBuilder().addBuilder(
+            doorking.Proto.SecurityLevelMapping.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       */
+      public doorking.Proto.SecurityLevelMapping.Builder addSecurityLevelMappingBuilder(
+          int index) {
+        return getSecurityLevelMappingFieldBuilder().addBuilder(
+            index, doorking.Proto.SecurityLevelMapping.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       */
+      public java.util.List<doorking.Proto.SecurityLevelMapping.Builder> 
+           getSecurityLevelMappingBuilderList() {
+        return getSecurityLevelMappingFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          doorking.Proto.SecurityLevelMapping, doorking.Proto.SecurityLevelMapping.Builder, doorking.Proto.SecurityLevelMappingOrBuilder> 
+          getSecurityLevelMappingFieldBuilder() {
+        if (securityLevelMappingBuilder_ == null) {
+          securityLevelMappingBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              doorking.Proto.SecurityLevelMapping, doorking.Proto.SecurityLevelMapping.Builder, doorking.Proto.SecurityLevelMappingOrBuilder>(
+                  securityLevelMapping_,
+                  ((bitField0_ & 0x00000400) == 0x00000400),
+                  getParentForChildren(),
+                  isClean());
+          securityLevelMapping_ = null;
+        }
+        return securityLevelMappingBuilder_;
+      }
+
+      private java.lang.Object accountName_ = "";
+      /**
+       * <code>optional string account_name = 11;</code>
+       */
+      public boolean hasAccountName() {
+        return ((bitField0_ & 0x00000800) == 0x00000800);
+      }
+      /**
+       * <code>optional string account_name = 11;</code>
+       */
+      public java.lang.String getAccountName() {
+        java.lang.Object ref = accountName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            accountName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string account_name = 11;</code>
+       */
+      public com.google.protobuf.ByteString
+          getAccountNameBytes() {
+        java.lang.Object ref = accountName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          accountName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string account_name = 11;</code>
+       */
+      public Builder setAccountName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000800;
+        accountName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string account_name = 11;</code>
+       */
+      public Builder clearAccountName() {
+        bitField0_ = (bitField0_ & ~0x00000800);
+        accountName_ = getDefaultInstance().getAccountName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string account_name = 11;</code>
+       */
+      public Builder setAccountNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000800;
+        accountName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private boolean batchGet_ = true;
+      /**
+       * <code>optional bool batch_get = 13 [default = true];</code>
+       *
+       * <pre>
+       * Retrieves all ranges with a single values().batchGet round trip.
+       * </pre>
+       */
+      public boolean hasBatchGet() {
+        return ((bitField0_ & 0x00001000) == 0x00001000);
+      }
+      /**
+       * <code>optional bool batch_get = 13 [default = true];</code>
+       *
+       * <pre>
+       * Retrieves all ranges with a single values().batchGet round trip.
+       * </pre>
+       */
+      public boolean getBatchGet() {
+        return batchGet_;
+      }
+      /**
+       * <code>optional bool batch_get = 13 [default = true];</code>
+       *
+       * <pre>
+       * Retrieves all ranges with a single values().batchGet round trip.
+       * </pre>
+       */
+      public Builder setBatchGet(boolean value) {
+        bitField0_ |= 0x00001000;
+        batchGet_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool batch_get = 13 [default = true];</code>
+       *
+       * <pre>
+       * Retrieves all ranges with a single values().batchGet round trip.
+       * </pre>
+       */
+      public Builder clearBatchGet() {
+        bitField0_ = (bitField0_ & ~0x00001000);
+        batchGet_ = true;
+        onChanged();
+        return this;
+      }
+
+      private boolean snapshotCache_ ;
+      /**
+       * <code>optional bool snapshot_cache = 14;</code>
+       *
+       * <pre>
+       * Keeps response snapshots under data_store_directory and skips the export
+       * when nothing changed. Without an ETag from Sheets the unchanged case is
+       * only found after downloading the full body again, which saves the
+       * adaptation and export but not the fetch.
+       * </pre>
+       */
+      public boolean hasSnapshotCache() {
+        return ((bitField0_ & 0x00002000) == 0x00002000);
+      }
+      /**
+       * <code>optional bool snapshot_cache = 14;</code>
+       *
+       * <pre>
+       * Keeps response snapshots under data_store_directory and skips the export
+       * when nothing changed. Without an ETag from Sheets the unchanged case is
+       * only found after downloading the full body again, which saves the
+       * adaptation and export but not the fetch.
+       * </pre>
+       */
+      public boolean getSnapshotCache() {
+        return snapshotCache_;
+      }
+      /**
+       * <code>optional bool snapshot_cache = 14;</code>
+       *
+       * <pre>
+       * Keeps response snapshots under data_store_directory and skips the export
+       * when nothing changed. Without an ETag from Sheets the unchanged case is
+       * only found after downloading the full body again, which saves the
+       * adaptation and export but not the fetch.
+       * </pre>
+       */
+      public Builder setSnapshotCache(boolean value) {
+        bitField0_ |= 0x00002000;
+        snapshotCache_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool snapshot_cache = 14;</code>
+       *
+       * <pre>
+       * Keeps response snapshots under data_store_directory and skips the export
+       * when nothing changed. Without an ETag from Sheets the unchanged case is
+       * only found after downloading the full body again, which saves the
+       * adaptation and export but not the fetch.
+       * </pre>
+       */
+      public Builder clearSnapshotCache() {
+        bitField0_ = (bitField0_ & ~0x00002000);
+        snapshotCache_ = false;
+        onChanged();
+        return this;
+      }
+
+      private doorking.Proto.Config.RowSourceType rowSource_ = doorking.Proto.Config.RowSourceType.GOOGLE_SHEETS;
+      /**
+       * <code>optional .doorking.Config.RowSourceType row_source = 15 [default = GOOGLE_SHEETS];</code>
+       */
+      public boolean hasRowSource() {
+        return ((bitField0_ & 0x00004000) == 0x00004000);
+      }
+      /**
+       * <code>optional .doorking.Config.RowSourceType row_source = 15 [default = GOOGLE_SHEETS];</code>
+       */
+      public doorking.Proto.Config.RowSourceType getRowSource() {
+        return rowSource_;
+      }
+      /**
+       * <code>optional .doorking.Config.RowSourceType row_source = 15 [default = GOOGLE_SHEETS];</code>
+       */
+      public Builder setRowSource(doorking.Proto.Config.RowSourceType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00004000;
+        rowSource_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .doorking.Config.RowSourceType row_source = 15 [default = GOOGLE_SHEETS];</code>
+       */
+      public Builder clearRowSource() {
+        bitField0_ = (bitField0_ & ~0x00004000);
+        rowSource_ = doorking.Proto.Config.RowSourceType.GOOGLE_SHEETS;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object dumpDirectory_ = "";
+      /**
+       * <code>optional string dump_directory = 16;</code>
+       *
+       * <pre>
+       * GOOGLE_SHEETS writes the last good result here after each export.
+       * </pre>
+       */
+      public boolean hasDumpDirectory() {
+        return ((bitField0_ & 0x00008000) == 0x00008000);
+      }
+      /**
+       * <code>optional string dump_directory = 16;</code>
+       *
+       * <pre>
+       * GOOGLE_SHEETS writes the last good result here after each export.
+       * </pre>
+       */
+      public java.lang.String getDumpDirectory() {
+        java.lang.Object ref = dumpDirectory_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            dumpDirectory_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string dump_directory = 16;</code>
+       *
+       * <pre>
+       * GOOGLE_SHEETS writes the last good result here after each export.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getDumpDirectoryBytes() {
+        java.lang.Object ref = dumpDirectory_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dumpDirectory_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string dump_directory = 16;</code>
+       *
+       * <pre>
+       * GOOGLE_SHEETS writes the last good result here after each export.
+       * </pre>
+       */
+      public Builder setDumpDirectory(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00008000;
+        dumpDirectory_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string dump_directory = 16;</code>
+       *
+       * <pre>
+       * GOOGLE_SHEETS writes the last good result here after each export.
+       * </pre>
+       */
+      public Builder clearDumpDirectory() {
+        bitField0_ = (bitField0_ & ~0x00008000);
+        dumpDirectory_ = getDefaultInstance().getDumpDirectory();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string dump_directory = 16;</code>
+       *
+       * <pre>
+       * GOOGLE_SHEETS writes the last good result here after each export.
+       * </pre>
+       */
+      public Builder setDumpDirectoryBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00008000;
+        dumpDirectory_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int failoverTimeoutSeconds_ ;
+      /**
+       * <code>optional int32 failover_timeout_seconds = 17;</code>
+       *
+       * <pre>
+       * If set with dump_directory, falls back to the dump when Google Sheets
+       * fails or takes longer than this.
+       * </pre>
+       */
+      public boolean hasFailoverTimeoutSeconds() {
+        return ((bitField0_ & 0x00010000) == 0x00010000);
+      }
+      /**
+       * <code>optional int32 failover_timeout_seconds = 17;</code>
+       *
+       * <pre>
+       * If set with dump_directory, falls back to the dump when Google Sheets
+       * fails or takes longer than this.
+       * </pre>
+       */
+      public int getFailoverTimeoutSeconds() {
+        return failoverTimeoutSeconds_;
+      }
+      /**
+       * <code>optional int32 failover_timeout_seconds = 17;</code>
+       *
+       * <pre>
+       * If set with dump_directory, falls back to the dump when Google Sheets
+       * fails or takes longer than this.
+       * </pre>
+       */
+      public Builder setFailoverTimeoutSeconds(int value) {
+        bitField0_ |= 0x00010000;
+        failoverTimeoutSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 failover_timeout_seconds = 17;</code>
+       *
+       * <pre>
+       * If set with dump_directory, falls back to the dump when Google Sheets
+       * fails or takes longer than this.
+       * </pre>
+       */
+      public Builder clearFailoverTimeoutSeconds() {
+        bitField0_ = (bitField0_ & ~0x00010000);
+        failoverTimeoutSeconds_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object serviceAccountKeyFile_ = "";
+      /**
+       * <code>optional string service_account_key_file = 18;</code>
+       *
+       * <pre>
+       * Service account JSON key; replaces the client_id/client_secret flow.
+       * </pre>
+       */
+      public boolean hasServiceAccountKeyFile() {
+        return ((bitField0_ & 0x00020000) == 0x00020000);
+      }
+      /**
+       * <code>optional string service_account_key_file = 18;</code>
+       *
+       * <pre>
+       * Service account JSON key; replaces the client_id/client_secret flow.
+       * </pre>
+       */
+      public java.lang.String getServiceAccountKeyFile() {
+        java.lang.Object ref = serviceAccountKeyFile_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            serviceAccountKeyFile_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string service_account_key_file = 18;</code>
+       *
+       * <pre>
+       * Service account JSON key; replaces the client_id/client_secret flow.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getServiceAccountKeyFileBytes() {
+        java.lang.Object ref = serviceAccountKeyFile_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          serviceAccountKeyFile_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string service_account_key_file = 18;</code>
+       *
+       * <pre>
+       * Service account JSON key; replaces the client_id/client_secret flow.
+       * </pre>
+       */
+      public Builder setServiceAccountKeyFile(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00020000;
+        serviceAccountKeyFile_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string service_account_key_file = 18;</code>
+       *
+       * <pre>
+       * Service account JSON key; replaces the client_id/client_secret flow.
+       * </pre>
+       */
+      public Builder clearServiceAccountKeyFile() {
+        bitField0_ = (bitField0_ & ~0x00020000);
+        serviceAccountKeyFile_ = getDefaultInstance().getServiceAccountKeyFile();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string service_account_key_file = 18;</code>
+       *
+       * <pre>
+       * Service account JSON key; replaces the client_id/client_secret flow.
+       * </pre>
+       */
+      public Builder setServiceAccountKeyFileBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00020000;
+        serviceAccountKeyFile_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int connectTimeoutMillis_ ;
+      /**
+       * <code>optional int32 connect_timeout_millis = 19;</code>
+       */
+      public boolean hasConnectTimeoutMillis() {
+        return ((bitField0_ & 0x00040000) == 0x00040000);
+      }
+      /**
+       * <code>optional int32 connect_timeout_millis = 19;</code>
+       */
+      public int getConnectTimeoutMillis() {
+        return connectTimeoutMillis_;
+      }
+      /**
+       * <code>optional int32 connect_timeout_millis = 19;</code>
+       */
+      public Builder setConnectTimeoutMillis(int value) {
+        bitField0_ |= 0x00040000;
+        connectTimeoutMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 connect_timeout_millis = 19;</code>
+       */
+      public Builder clearConnectTimeoutMillis() {
+        bitField0_ = (bitField0_ & ~0x00040000);
+        connectTimeoutMillis_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int readTimeoutMillis_ ;
+      /**
+       * <code>optional int32 read_timeout_millis = 20;</code>
+       */
+      public boolean hasReadTimeoutMillis() {
+        return ((bitField0_ & 0x00080000) == 0x00080000);
+      }
+      /**
+       * <code>optional int32 read_timeout_millis = 20;</code>
+       */
+      public int getReadTimeoutMillis() {
+        return readTimeoutMillis_;
+      }
+      /**
+       * <code>optional int32 read_timeout_millis = 20;</code>
+       */
+      public Builder setReadTimeoutMillis(int value) {
+        bitField0_ |= 0x00080000;
+        readTimeoutMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 read_timeout_millis = 20;</code>
+       */
+      public Builder clearReadTimeoutMillis() {
+        bitField0_ = (bitField0_ & ~0x00080000);
+        readTimeoutMillis_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int maxConnections_ ;
+      /**
+       * <code>optional int32 max_connections = 21;</code>
+       *
+       * <pre>
+       * Kept-alive connections per host in the shared transport. This is
+       * process-wide, so the largest value of any site applies to all.
+       * </pre>
+       */
+      public boolean hasMaxConnections() {
+        return ((bitField0_ & 0x00100000) == 0x00100000);
+      }
+      /**
+       * <code>optional int32 max_connections = 21;</code>
+       *
+       * <pre>
+       * Kept-alive connections per host in the shared transport. This is
+       * process-wide, so the largest value of any site applies to all.
+       * </pre>
+       */
+      public int getMaxConnections() {
+        return maxConnections_;
+      }
+      /**
+       * <code>optional int32 max_connections = 21;</code>
+       *
+       * <pre>
+       * Kept-alive connections per host in the shared transport. This is
+       * process-wide, so the largest value of any site applies to all.
+       * </pre>
+       */
+      public Builder setMaxConnections(int value) {
+        bitField0_ |= 0x00100000;
+        maxConnections_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 max_connections = 21;</code>
+       *
+       * <pre>
+       * Kept-alive connections per host in the shared transport. This is
+       * process-wide, so the largest value of any site applies to all.
+       * </pre>
+       */
+      public Builder clearMaxConnections() {
+        bitField0_ = (bitField0_ & ~0x00100000);
+        maxConnections_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object telephoneEntrySheetId_ = "";
+      /**
+       * <code>optional string telephone_entry_sheet_id = 22;</code>
+       *
+       * <pre>
+       * Override sheet_id for individual ranges. batch_get only applies when all
+       * ranges are on the same sheet; otherwise the ranges are fetched concurrently.
+       * </pre>
+       */
+      public boolean hasTelephoneEntrySheetId() {
+        return ((bitField0_ & 0x00200000) == 0x00200000);
+      }
+      /**
+       * <code>optional string telephone_entry_sheet_id = 22;</code>
+       *
+       * <pre>
+       * Override sheet_id for individual ranges. batch_get only applies when all
+       * ranges are on the same sheet; otherwise the ranges are fetched concurrently.
+       * </pre>
+       */
+      public java.lang.String getTelephoneEntrySheetId() {
+        java.lang.Object ref = telephoneEntrySheetId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            telephoneEntrySheetId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string telephone_entry_sheet_id = 22;</code>
+       *
+       * <pre>
+       * Override sheet_id for individual ranges. batch_get only applies when all
+       * ranges are on the same sheet; otherwise the ranges are fetched concurrently.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getTelephoneEntrySheetIdBytes() {
+        java.lang.Object ref = telephoneEntrySheetId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          telephoneEntrySheetId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string telephone_entry_sheet_id = 22;</code>
+       *
+       * <pre>
+       * Override sheet_id for individual ranges. batch_get only applies when all
+       * ranges are on the same sheet; otherwise the ranges are fetched concurrently.
+       * </pre>
+       */
+      public Builder setTelephoneEntrySheetId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00200000;
+        telephoneEntrySheetId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string telephone_entry_sheet_id = 22;</code>
+       *
+       * <pre>
+       * Override sheet_id for individual ranges. batch_get only applies when all
+       * ranges are on the same sheet; otherwise the ranges are fetched concurrently.
+       * </pre>
+       */
+      public Builder clearTelephoneEntrySheetId() {
+        bitField0_ = (bitField0_ & ~0x00200000);
+        telephoneEntrySheetId_ = getDefaultInstance().getTelephoneEntrySheetId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string telephone_entry_sheet_id = 22;</code>
+       *
+       * <pre>
+       * Override sheet_id for individual ranges. batch_get only applies when all
+       * ranges are on the same sheet; otherwise the ranges are fetched concurrently.
+       * </pre>
+       */
+      public Builder setTelephoneEntrySheetIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00200000;
+        telephoneEntrySheetId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object entryCodeSheetId_ = "";
+      /**
+       * <code>optional string entry_code_sheet_id = 23;</code>
+       */
+      public boolean hasEntryCodeSheetId() {
+        return ((bitField0_ & 0x00400000) == 0x00400000);
+      }
+      /**
+       * <code>optional string entry_code_sheet_id = 23;</code>
+       */
+      public java.lang.String getEntryCodeSheetId() {
+        java.lang.Object ref = entryCodeSheetId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            entryCodeSheetId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string entry_code_sheet_id = 23;</code>
+       */
+      public com.google.protobuf.ByteString
+          getEntryCodeSheetIdBytes() {
+        java.lang.Object ref = entryCodeSheetId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          entryCodeSheetId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string entry_code_sheet_id = 23;</code>
+       */
+      public Builder setEntryCodeSheetId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00400000;
+        entryCodeSheetId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string entry_code_sheet_id = 23;</code>
+       */
+      public Builder clearEntryCodeSheetId() {
+        bitField0_ = (bitField0_ & ~0x00400000);
+        entryCodeSheetId_ = getDefaultInstance().getEntryCodeSheetId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string entry_code_sheet_id = 23;</code>
+       */
+      public Builder setEntryCodeSheetIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00400000;
+        entryCodeSheetId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object deletedEntryCodeSheetId_ = "";
+      /**
+       * <code>optional string deleted_entry_code_sheet_id = 24;</code>
+       */
+      public boolean hasDeletedEntryCodeSheetId() {
+        return ((bitField0_ & 0x00800000) == 0x00800000);
+      }
+      /**
+       * <code>optional string deleted_entry_code_sheet_id = 24;</code>
+       */
+      public java.lang.String getDeletedEntryCodeSheetId() {
+        java.lang.Object ref = deletedEntryCodeSheetId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            deletedEntryCodeSheetId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string deleted_entry_code_sheet_id = 24;</code>
+       */
+      public com.google.protobuf.ByteString
+          getDeletedEntryCodeSheetIdBytes() {
+        java.lang.Object ref = deletedEntryCodeSheetId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          deletedEntryCodeSheetId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string deleted_entry_code_sheet_id = 24;</code>
+       */
+      public Builder setDeletedEntryCodeSheetId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00800000;
+        deletedEntryCodeSheetId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string deleted_entry_code_sheet_id = 24;</code>
+       */
+      public Builder clearDeletedEntryCodeSheetId() {
+        bitField0_ = (bitField0_ & ~0x00800000);
+        deletedEntryCodeSheetId_ = getDefaultInstance().getDeletedEntryCodeSheetId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string deleted_entry_code_sheet_id = 24;</code>
+       */
+      public Builder setDeletedEntryCodeSheetIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00800000;
+        deletedEntryCodeSheetId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int maxConcurrentFetches_ = 3;
+      /**
+       * <code>optional int32 max_concurrent_fetches = 25 [default = 3];</code>
+       */
+      public boolean hasMaxConcurrentFetches() {
+        return ((bitField0_ & 0x01000000) == 0x01000000);
+      }
+      /**
+       * <code>optional int32 max_concurrent_fetches = 25 [default = 3];</code>
+       */
+      public int getMaxConcurrentFetches() {
+        return maxConcurrentFetches_;
+      }
+      /**
+       * <code>optional int32 max_concurrent_fetches = 25 [default = 3];</code>
+       */
+      public Builder setMaxConcurrentFetches(int value) {
+        bitField0_ |= 0x01000000;
+        maxConcurrentFetches_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 max_concurrent_fetches = 25 [default = 3];</code>
+       */
+      public Builder clearMaxConcurrentFetches() {
+        bitField0_ = (bitField0_ & ~0x01000000);
+        maxConcurrentFetches_ = 3;
+        onChanged();
+        return this;
+      }
+
+      private int maxAttempts_ = 5;
+      /**
+       * <code>optional int32 max_attempts = 26 [default = 5];</code>
+       *
+       * <pre>
+       * Sheets calls are retried on 429, 5xx and I/O errors with exponential
+       * backoff and jitter.
+       * </pre>
+       */
+      public boolean hasMaxAttempts() {
+        return ((bitField0_ & 0x02000000) == 0x02000000);
+      }
+      /**
+       * <code>optional int32 max_attempts = 26 [default = 5];</code>
+       *
+       * <pre>
+       * Sheets calls are retried on 429, 5xx and I/O errors with exponential
+       * backoff and jitter.
+       * </pre>
+       */
+      public int getMaxAttempts() {
+        return maxAttempts_;
+      }
+      /**
+       * <code>optional int32 max_attempts = 26 [default = 5];</code>
+       *
+       * <pre>
+       * Sheets calls are retried on 429, 5xx and I/O errors with exponential
+       * backoff and jitter.
+       * </pre>
+       */
+      public Builder setMaxAttempts(int value) {
+        bitField0_ |= 0x02000000;
+        maxAttempts_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 max_attempts = 26 [default = 5];</code>
+       *
+       * <pre>
+       * Sheets calls are retried on 429, 5xx and I/O errors with exponential
+       * backoff and jitter.
+       * </pre>
+       */
+      public Builder clearMaxAttempts() {
+        bitField0_ = (bitField0_ & ~0x02000000);
+        maxAttempts_ = 5;
+        onChanged();
+        return this;
+      }
+
+      private int initialBackoffMillis_ = 1000;
+      /**
+       * <code>optional int32 initial_backoff_millis = 27 [default = 1000];</code>
+       */
+      public boolean hasInitialBackoffMillis() {
+        return ((bitField0_ & 0x04000000) == 0x04000000);
+      }
+      /**
+       * <code>optional int32 initial_backoff_millis = 27 [default = 1000];</code>
+       */
+      public int getInitialBackoffMillis() {
+        return initialBackoffMillis_;
+      }
+      /**
+       * <code>optional int32 initial_backoff_millis = 27 [default = 1000];</code>
+       */
+      public Builder setInitialBackoffMillis(int value) {
+        bitField0_ |= 0x04000000;
+        initialBackoffMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 initial_backoff_millis = 27 [default = 1000];</code>
+       */
+      public Builder clearInitialBackoffMillis() {
+        bitField0_ = (bitField0_ & ~0x04000000);
+        initialBackoffMillis_ = 1000;
+        onChanged();
+        return this;
+      }
+
+      private int maxBackoffMillis_ = 32000;
+      /**
+       * <code>optional int32 max_backoff_millis = 28 [default = 32000];</code>
+       */
+      public boolean hasMaxBackoffMillis() {
+        return ((bitField0_ & 0x08000000) == 0x08000000);
+      }
+      /**
+       * <code>optional int32 max_backoff_millis = 28 [default = 32000];</code>
+       */
+      public int getMaxBackoffMillis() {
+        return maxBackoffMillis_;
+      }
+      /**
+       * <code>optional int32 max_backoff_millis = 28 [default = 32000];</code>
+       */
+      public Builder setMaxBackoffMillis(int value) {
+        bitField0_ |= 0x08000000;
+        maxBackoffMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 max_backoff_millis = 28 [default = 32000];</code>
+       */
+      public Builder clearMaxBackoffMillis() {
+        bitField0_ = (bitField0_ & ~0x08000000);
+        maxBackoffMillis_ = 32000;
+        onChanged();
+        return this;
+      }
+
+      private int callDeadlineMillis_ ;
+      /**
+       * <code>optional int32 call_deadline_millis = 29;</code>
+       *
+       * <pre>
+       * Deadline for each attempt; 0 for none.
+       * </pre>
+       */
+      public boolean hasCallDeadlineMillis() {
+        return ((bitField0_ & 0x10000000) == 0x10000000);
+      }
+      /**
+       * <code>optional int32 call_deadline_millis = 29;</code>
+       *
+       * <pre>
+       * Deadline for each attempt; 0 for none.
+       * </pre>
+       */
+      public int getCallDeadlineMillis() {
+        return callDeadlineMillis_;
+      }
+      /**
+       * <code>optional int32 call_deadline_millis = 29;</code>
+       *
+       * <pre>
+       * Deadline for each attempt; 0 for none.
+       * </pre>
+       */
+      public Builder setCallDeadlineMillis(int value) {
+        bitField0_ |= 0x10000000;
+        callDeadlineMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 call_deadline_millis = 29;</code>
+       *
+       * <pre>
+       * Deadline for each attempt; 0 for none.
+       * </pre>
+       */
+      public Builder clearCallDeadlineMillis() {
+        bitField0_ = (bitField0_ & ~0x10000000);
+        callDeadlineMillis_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int hedgeDelayMillis_ ;
+      /**
+       * <code>optional int32 hedge_delay_millis = 30;</code>
+       *
+       * <pre>
+       * Starts a second, hedged attempt if the first is slower than this; 0 for none.
+       * </pre>
+       */
+      public boolean hasHedgeDelayMillis() {
+        return ((bitField0_ & 0x20000000) == 0x20000000);
+      }
+      /**
+       * <code>optional int32 hedge_delay_millis = 30;</code>
+       *
+       * <pre>
+       * Starts a second, hedged attempt if the first is slower than this; 0 for none.
+       * </pre>
+       */
+      public int getHedgeDelayMillis() {
+        return hedgeDelayMillis_;
+      }
+      /**
+       * <code>optional int32 hedge_delay_millis = 30;</code>
+       *
+       * <pre>
+       * Starts a second, hedged attempt if the first is slower than this; 0 for none.
+       * </pre>
+       */
+      public Builder setHedgeDelayMillis(int value) {
+        bitField0_ |= 0x20000000;
+        hedgeDelayMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 hedge_delay_millis = 30;</code>
+       *
+       * <pre>
+       * Starts a second, hedged attempt if the first is slower than this; 0 for none.
+       * </pre>
+       */
+      public Builder clearHedgeDelayMillis() {
+        bitField0_ = (bitField0_ & ~0x20000000);
+        hedgeDelayMillis_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object valueRenderOption_ = "FORMATTED_VALUE";
+      /**
+       * <code>optional string value_render_option = 31 [default = "FORMATTED_VALUE"];</code>
+       *
+       * <pre>
+       * Sheets valueRenderOption; UNFORMATTED_VALUE sends numbers as numbers,
+       * which the decoder reads as their text, and is the cheapest to parse.
+       * </pre>
+       */
+      public boolean hasValueRenderOption() {
+        return ((bitField0_ & 0x40000000) == 0x40000000);
+      }
+      /**
+       * <code>optional string value_render_option = 31 [default = "FORMATTED_VALUE"];</code>
+       *
+       * <pre>
+       * Sheets valueRenderOption; UNFORMATTED_VALUE sends numbers as numbers,
+       * which the decoder reads as their text, and is the cheapest to parse.
+       * </pre>
+       */
+      public java.lang.String getValueRenderOption() {
+        java.lang.Object ref = valueRenderOption_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            valueRenderOption_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string value_render_option = 31 [default = "FORMATTED_VALUE"];</code>
+       *
+       * <pre>
+       * Sheets valueRenderOption; UNFORMATTED_VALUE sends numbers as numbers,
+       * which the decoder reads as their text, and is the cheapest to parse.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getValueRenderOptionBytes() {
+        java.lang.Object ref = valueRenderOption_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          valueRenderOption_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string value_render_option = 31 [default = "FORMATTED_VALUE"];</code>
+       *
+       * <pre>
+       * Sheets valueRenderOption; UNFORMATTED_VALUE sends numbers as numbers,
+       * which the decoder reads as their text, and is the cheapest to parse.
+       * </pre>
+       */
+      public Builder setValueRenderOption(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x40000000;
+        valueRenderOption_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string value_render_option = 31 [default = "FORMATTED_VALUE"];</code>
+       *
+       * <pre>
+       * Sheets valueRenderOption; UNFORMATTED_VALUE sends numbers as numbers,
+       * which the decoder reads as their text, and is the cheapest to parse.
+       * </pre>
+       */
+      public Builder clearValueRenderOption() {
+        bitField0_ = (bitField0_ & ~0x40000000);
+        valueRenderOption_ = getDefaultInstance().getValueRenderOption();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string value_render_option = 31 [default = "FORMATTED_VALUE"];</code>
+       *
+       * <pre>
+       * Sheets valueRenderOption; UNFORMATTED_VALUE sends numbers as numbers,
+       * which the decoder reads as their text, and is the cheapest to parse.
+       * </pre>
+       */
+      public Builder setValueRenderOptionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x40000000;
+        valueRenderOption_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object dateTimeRenderOption_ = "SERIAL_NUMBER";
+      /**
+       * <code>optional string date_time_render_option = 32 [default = "SERIAL_NUMBER"];</code>
+       */
+      public boolean hasDateTimeRenderOption() {
+        return ((bitField0_ & 0x80000000) == 0x80000000);
+      }
+      /**
+       * <code>optional string date_time_render_option = 32 [default = "SERIAL_NUMBER"];</code>
+       */
+      public java.lang.String getDateTimeRenderOption() {
+        java.lang.Object ref = dateTimeRenderOption_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            dateTimeRenderOption_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string date_time_render_option = 32 [default = "SERIAL_NUMBER"];</code>
+       */
+      public com.google.protobuf.ByteString
+          getDateTimeRenderOptionBytes() {
+        java.lang.Object ref = dateTimeRenderOption_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dateTimeRenderOption_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string date_time_render_option = 32 [default = "SERIAL_NUMBER"];</code>
+       */
+      public Builder setDateTimeRenderOption(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x80000000;
+        dateTimeRenderOption_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string date_time_render_option = 32 [default = "SERIAL_NUMBER"];</code>
+       */
+      public Builder clearDateTimeRenderOption() {
+        bitField0_ = (bitField0_ & ~0x80000000);
+        dateTimeRenderOption_ = getDefaultInstance().getDateTimeRenderOption();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string date_time_render_option = 32 [default = "SERIAL_NUMBER"];</code>
+       */
+      public Builder setDateTimeRenderOptionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x80000000;
+        dateTimeRenderOption_ = value;
+        onChanged();
+        return this;
+      }
+
+      private boolean minimalFields_ ;
+      /**
+       * <code>optional bool minimal_fields = 33;</code>
+       *
+       * <pre>
+       * Requests only the range and values fields of each response.
+       * </pre>
+       */
+      public boolean hasMinimalFields() {
+        return ((bitField1_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional bool minimal_fields = 33;</code>
+       *
+       * <pre>
+       * Requests only the range and values fields of each response.
+       * </pre>
+       */
+      public boolean getMinimalFields() {
+        return minimalFields_;
+      }
+      /**
+       * <code>optional bool minimal_fields = 33;</code>
+       *
+       * <pre>
+       * Requests only the range and values fields of each response.
+       * </pre>
+       */
+      public Builder setMinimalFields(boolean value) {
+        bitField1_ |= 0x00000001;
+        minimalFields_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool minimal_fields = 33;</code>
+       *
+       * <pre>
+       * Requests only the range and values fields of each response.
+       * </pre>
+       */
+      public Builder clearMinimalFields() {
+        bitField1_ = (bitField1_ & ~0x00000001);
+        minimalFields_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean trimColumns_ ;
+      /**
+       * <code>optional bool trim_columns = 34;</code>
+       *
+       * <pre>
+       * Reduces the last column of each range to the last column read from it.
+       * </pre>
+       */
+      public boolean hasTrimColumns() {
+        return ((bitField1_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional bool trim_columns = 34;</code>
+       *
+       * <pre>
+       * Reduces the last column of each range to the last column read from it.
+       * </pre>
+       */
+      public boolean getTrimColumns() {
+        return trimColumns_;
+      }
+      /**
+       * <code>optional bool trim_columns = 34;</code>
+       *
+       * <pre>
+       * Reduces the last column of each range to the last column read from it.
+       * </pre>
+       */
+      public Builder setTrimColumns(boolean value) {
+        bitField1_ |= 0x00000002;
+        trimColumns_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool trim_columns = 34;</code>
+       *
+       * <pre>
+       * Reduces the last column of each range to the last column read from it.
+       * </pre>
+       */
+      public Builder clearTrimColumns() {
+        bitField1_ = (bitField1_ & ~0x00000002);
+        trimColumns_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<doorking.Proto.Site> site_ =
+        java.util.Collections.emptyList();
+      private void ensureSiteIsMutable() {
+        if (!((bitField1_ & 0x00000004) == 0x00000004)) {
+          site_ = new java.util.ArrayList<doorking.Proto.Site>(site_);
+          bitField1_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          doorking.Proto.Site, doorking.Proto.Site.Builder, doorking.Proto.SiteOrBuilder> siteBuilder_;
+
+      /**
+       * <code>repeated .doorking.Site site = 35;</code>
+       *
+       * <pre>
+       * Sites synced by one run. Each site's config is merged over this one, so
+       * credentials and options are shared; security_level_mapping, the column
+       * layouts and code_allocation in a site replace the shared ones as a whole
+       * rather than adding to them.
+       * </pre>
+       */
+      public java.util.List<doorking.Proto.Site> getSiteList() {
+        if (siteBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(site_);
+        } else {
+          return siteBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .doorking.Site site = 35;</code>
+       *
+       * <pre>
+       * Sites synced by one run. Each site's config is merged over this one, so
+       * credentials and options are shared; security_level_mapping, the column
+       * layouts and code_allocation in a site replace the shared ones as a whole
+       * rather than adding to them.
+       * </pre>
+       */
+      public int getSiteCount() {
+        if (siteBuilder_ == null) {
+          return site_.size();
+        } else {
+          return siteBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .doorking.Site site = 35;</code>
+       *
+       * <pre>
+       * Sites synced by one run. Each site's config is merged over this one, so
+       * credentials and options are shared; security_level_mapping, the column
+       * layouts and code_allocation in a site replace the shared ones as a whole
+       * rather than adding to them.
+       * </pre>
+       */
+      public doorking.Proto.Site getSite(int index) {
+        if (siteBuilder_ == null) {
+          return site_.get(index);
+        } else {
+          return siteBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .doorking.Site site = 35;</code>
+       *
+       * <pre>
+       * Sites synced by one run. Each site's config is merged over this one, so
+       * credentials and options are shared; security_level_mapping, the column
+       * layouts and code_allocation in a site replace the shared ones as a whole
+       * rather than adding to them.
+       * </pre>
+       */
+      public Builder setSite(
+          int index, doorking.Proto.Site value) {
+        if (siteBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSiteIsMutable();
+          site_.set(index, value);
+          onChanged();
+        } else {
+          siteBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.Site site = 35;</code>
+       *
+       * <pre>
+       * Sites synced by one run. Each site's config is merged over this one, so
+       * credentials and options are shared; security_level_mapping, the column
+       * layouts and code_allocation in a site replace the shared ones as a whole
+       * rather than adding to them.
+       * </pre>
+       */
+      public Builder setSite(
+          int index, doorking.Proto.Site.Builder builderForValue) {
+        if (siteBuilder_ == null) {
+          ensureSiteIsMutable();
+          site_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          siteBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.Site site = 35;</code>
+       *
+       * <pre>
+       * Sites synced by one run. Each site's config is merged over this one, so
+       * credentials and options are shared; security_level_mapping, the column
+       * layouts and code_allocation in a site replace the shared ones as a whole
+       * rather than adding to them.
+       * </pre>
+       */
+      public Builder addSite(doorking.Proto.Site value) {
+        if (siteBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSiteIsMutable();
+          site_.add(value);
+          onChanged();
+        } else {
+          siteBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.Site site = 35;</code>
+       *
+       * <pre>
+       * Sites synced by one run. Each site's config is merged over this one, so
+       * credentials and options are shared; security_level_mapping, the column
+       * layouts and code_allocation in a site replace the shared ones as a whole
+       * rather than adding to them.
+       * </pre>
+       */
+      public Builder addSite(
+          int index, doorking.Proto.Site value) {
+        if (siteBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSiteIsMutable();
+          site_.add(index, value);
+          onChanged();
+        } else {
+          siteBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.Site site = 35;</code>
+       *
+       * <pre>
+       * Sites synced by one run. Each site's config is merged over this one, so
+       * credentials and options are shared; security_level_mapping, the column
+       * layouts and code_allocation in a site replace the shared ones as a whole
+       * rather than adding to them.
+       * </pre>
+       */
+      public Builder addSite(
+          doorking.Proto.Site.Builder builderForValue) {
+        if (siteBuilder_ == null) {
+          ensureSiteIsMutable();
+          site_.add(builderForValue.build());
+          onChanged();
+        } else {
+          siteBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.Site site = 35;</code>
+       *
+       * <pre>
+       * Sites synced by one run. Each site's config is merged over this one, so
+       * credentials and options are shared; security_level_mapping, the column
+       * layouts and code_allocation in a site replace the shared ones as a whole
+       * rather than adding to them.
+       * </pre>
+       */
+      public Builder addSite(
+          int index, doorking.Proto.Site.Builder builderForValue) {
+        if (siteBuilder_ == null) {
+          ensureSiteIsMutable();
+          site_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          siteBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.Site site = 35;</code>
+       *
+       * <pre>
+       * Sites synced by one run. Each site's config is merged over this one, so
+       * credentials and options are shared; security_level_mapping, the column
+       * layouts and code_allocation in a site replace the shared ones as a whole
+       * rather than adding to them.
+       * </pre>
+       */
+      public Builder addAllSite(
+          java.lang.Iterable<? extends doorking.Proto.Site> values) {
+        if (siteBuilder_ == null) {
+          ensureSiteIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, site_);
+          onChanged();
+        } else {
+          siteBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.Site site = 35;</code>
+       *
+       * <pre>
+       * Sites synced by one run. Each site's config is merged over this one, so
+       * credentials and options are shared; security_level_mapping, the column
+       * layouts and code_allocation in a site replace the shared ones as a whole
+       * rather than adding to them.
+       * </pre>
+       */
+      public Builder clearSite() {
+        if (siteBuilder_ == null) {
+          site_ = java.util.Collections.emptyList();
+          bitField1_ = (bitField1_ & ~0x00000004);
+          onChanged();
+        } else {
+          siteBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.Site site = 35;</code>
+       *
+       * <pre>
+       * Sites synced by one run. Each site's config is merged over this one, so
+       * credentials and options are shared; security_level_mapping, the column
+       * layouts and code_allocation in a site replace the shared ones as a whole
+       * rather than adding to them.
+       * </pre>
+       */
+      public Builder removeSite(int index) {
+        if (siteBuilder_ == null) {
+          ensureSiteIsMutable();
+          site_.remove(index);
+          onChanged();
+        } else {
+          siteBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.Site site = 35;</code>
+       *
+       * <pre>
+       * Sites synced by one run. Each site's config is merged over this one, so
+       * credentials and options are shared; security_level_mapping, the column
+       * layouts and code_allocation in a site replace the shared ones as a whole
+       * rather than adding to them.
+       * </pre>
+       */
+      public doorking.Proto.Site.Builder getSiteBuilder(
+          int index) {
+        return getSiteFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .doorking.Site site = 35;</code>
+       *
+       * <pre>
+       * Sites synced by one run. Each site's config is merged over this one, so
+       * credentials and options are shared; security_level_mapping, the column
+       * layouts and code_allocation in a site replace the shared ones as a whole
+       * rather than adding to them.
+       * </pre>
+       */
+      public doorking.Proto.SiteOrBuilder getSiteOrBuilder(
+          int index) {
+        if (siteBuilder_ == null) {
+          return site_.get(index);  } else {
+          return siteBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .doorking.Site site = 35;</code>
+       *
+       * <pre>
+       * Sites synced by one run. Each site's config is merged over this one, so
+       * credentials and options are shared; security_level_mapping, the column
+       * layouts and code_allocation in a site replace the shared ones as a whole
+       * rather than adding to them.
+       * </pre>
+       */
+      public java.util.List<? extends doorking.Proto.SiteOrBuilder> 
+           getSiteOrBuilderList() {
+        if (siteBuilder_ != null) {
+          return siteBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(site_);
+        }
+      }
+      /**
+       * <code>repeated .doorking.Site site = 35;</code>
+       *
+       * <pre>
+       * Sites synced by one run. Each site's config is merged over this one, so
+       * credentials and options are shared; security_level_mapping, the column
+       * layouts and code_allocation in a site replace the shared ones as a whole
+       * rather than adding to them.
+       * </pre>
+       */
+      public doorking.Proto.Site.Builder addSiteBuilder() {
+        return getSiteFieldBuilder().addBuilder(
+            doorking.Proto.Site.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .doorking.Site site = 35;</code>
+       *
+       * <pre>
+       * Sites synced by one run. Each site's config is merged over this one, so
+       * credentials and options are shared; security_level_mapping, the column
+       * layouts and code_allocation in a site replace the shared ones as a whole
+       * rather than adding to them.
+       * </pre>
+       */
+      public doorking.Proto.Site.Builder addSiteBuilder(
+          int index) {
+        return getSiteFieldBuilder().addBuilder(
+            index, doorking.Proto.Site.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .doorking.Site site = 35;</code>
+       *
+       * <pre>
+       * Sites synced by one run. Each site's config is merged over this one, so
+       * credentials and options are shared; security_level_mapping, the column
+       * layouts and code_allocation in a site replace the shared ones as a whole
+       * rather than adding to them.
+       * </pre>
+       */
+      public java.util.List<doorking.Proto.Site.Builder> 
+           getSiteBuilderList() {
+        return getSiteFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          doorking.Proto.Site, doorking.Proto.Site.Builder, doorking.Proto.SiteOrBuilder> 
+          getSiteFieldBuilder() {
+        if (siteBuilder_ == null) {
+          siteBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              doorking.Proto.Site, doorking.Proto.Site.Builder, doorking.Proto.SiteOrBuilder>(
+                  site_,
+                  ((bitField1_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          site_ = null;
+        }
+        return siteBuilder_;
+      }
+
+      private java.lang.Object outputFile_ = "/tmp/doorking.csv";
+      /**
+       * <code>optional string output_file = 36 [default = "/tmp/doorking.csv"];</code>
+       *
+       * <pre>
+       * With sites, defaults to this file name with "-&lt;site name&gt;" appended.
+       * </pre>
+       */
+      public boolean hasOutputFile() {
+        return ((bitField1_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional string output_file = 36 [default = "/tmp/doorking.csv"];</code>
+       *
+       * <pre>
+       * With sites, defaults to this file name with "-&lt;site name&gt;" appended.
+       * </pre>
+       */
+      public java.lang.String getOutputFile() {
+        java.lang.Object ref = outputFile_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            outputFile_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string output_file = 36 [default = "/tmp/doorking.csv"];</code>
+       *
+       * <pre>
+       * With sites, defaults to this file name with "-&lt;site name&gt;" appended.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getOutputFileBytes() {
+        java.lang.Object ref = outputFile_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          outputFile_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string output_file = 36 [default = "/tmp/doorking.csv"];</code>
+       *
+       * <pre>
+       * With sites, defaults to this file name with "-&lt;site name&gt;" appended.
+       * </pre>
+       */
+      public Builder setOutputFile(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000008;
+        outputFile_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string output_file = 36 [default = "/tmp/doorking.csv"];</code>
+       *
+       * <pre>
+       * With sites, defaults to this file name with "-&lt;site name&gt;" appended.
+       * </pre>
+       */
+      public Builder clearOutputFile() {
+        bitField1_ = (bitField1_ & ~0x00000008);
+        outputFile_ = getDefaultInstance().getOutputFile();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string output_file = 36 [default = "/tmp/doorking.csv"];</code>
+       *
+       * <pre>
+       * With sites, defaults to this file name with "-&lt;site name&gt;" appended.
+       * </pre>
+       */
+      public Builder setOutputFileBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000008;
+        outputFile_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int maxConcurrentSites_ = 4;
+      /**
+       * <code>optional int32 max_concurrent_sites = 37 [default = 4];</code>
+       */
+      public boolean hasMaxConcurrentSites() {
+        return ((bitField1_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional int32 max_concurrent_sites = 37 [default = 4];</code>
+       */
+      public int getMaxConcurrentSites() {
+        return maxConcurrentSites_;
+      }
+      /**
+       * <code>optional int32 max_concurrent_sites = 37 [default = 4];</code>
+       */
+      public Builder setMaxConcurrentSites(int value) {
+        bitField1_ |= 0x00000010;
+        maxConcurrentSites_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 max_concurrent_sites = 37 [default = 4];</code>
+       */
+      public Builder clearMaxConcurrentSites() {
+        bitField1_ = (bitField1_ & ~0x00000010);
+        maxConcurrentSites_ = 4;
+        onChanged();
+        return this;
+      }
+
+      private int pollIntervalSeconds_ = 300;
+      /**
+       * <code>optional int32 poll_interval_seconds = 38 [default = 300];</code>
+       *
+       * <pre>
+       * Poll interval of Sync --daemon.
+       * </pre>
+       */
+      public boolean hasPollIntervalSeconds() {
+        return ((bitField1_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional int32 poll_interval_seconds = 38 [default = 300];</code>
+       *
+       * <pre>
+       * Poll interval of Sync --daemon.
+       * </pre>
+       */
+      public int getPollIntervalSeconds() {
+        return pollIntervalSeconds_;
+      }
+      /**
+       * <code>optional int32 poll_interval_seconds = 38 [default = 300];</code>
+       *
+       * <pre>
+       * Poll interval of Sync --daemon.
+       * </pre>
+       */
+      public Builder setPollIntervalSeconds(int value) {
+        bitField1_ |= 0x00000020;
+        pollIntervalSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 poll_interval_seconds = 38 [default = 300];</code>
+       *
+       * <pre>
+       * Poll interval of Sync --daemon.
+       * </pre>
+       */
+      public Builder clearPollIntervalSeconds() {
+        bitField1_ = (bitField1_ & ~0x00000020);
+        pollIntervalSeconds_ = 300;
+        onChanged();
+        return this;
+      }
+
+      private boolean deltaExport_ ;
+      /**
+       * <code>optional bool delta_export = 39;</code>
+       *
+       * <pre>
+       * Also writes -added, -modified and -removed files relative to the previous
+       * export's snapshot.
+       * </pre>
+       */
+      public boolean hasDeltaExport() {
+        return ((bitField1_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional bool delta_export = 39;</code>
+       *
+       * <pre>
+       * Also writes -added, -modified and -removed files relative to the previous
+       * export's snapshot.
+       * </pre>
+       */
+      public boolean getDeltaExport() {
+        return deltaExport_;
+      }
+      /**
+       * <code>optional bool delta_export = 39;</code>
+       *
+       * <pre>
+       * Also writes -added, -modified and -removed files relative to the previous
+       * export's snapshot.
+       * </pre>
+       */
+      public Builder setDeltaExport(boolean value) {
+        bitField1_ |= 0x00000040;
+        deltaExport_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool delta_export = 39;</code>
+       *
+       * <pre>
+       * Also writes -added, -modified and -removed files relative to the previous
+       * export's snapshot.
+       * </pre>
+       */
+      public Builder clearDeltaExport() {
+        bitField1_ = (bitField1_ & ~0x00000040);
+        deltaExport_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean entrySnapshot_ ;
+      /**
+       * <code>optional bool entry_snapshot = 40;</code>
+       *
+       * <pre>
+       * Writes the adapted entries and codes to &lt;output_file&gt;.snapshot.
+       * </pre>
+       */
+      public boolean hasEntrySnapshot() {
+        return ((bitField1_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional bool entry_snapshot = 40;</code>
+       *
+       * <pre>
+       * Writes the adapted entries and codes to &lt;output_file&gt;.snapshot.
+       * </pre>
+       */
+      public boolean getEntrySnapshot() {
+        return entrySnapshot_;
+      }
+      /**
+       * <code>optional bool entry_snapshot = 40;</code>
+       *
+       * <pre>
+       * Writes the adapted entries and codes to &lt;output_file&gt;.snapshot.
+       * </pre>
+       */
+      public Builder setEntrySnapshot(boolean value) {
+        bitField1_ |= 0x00000080;
+        entrySnapshot_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool entry_snapshot = 40;</code>
+       *
+       * <pre>
+       * Writes the adapted entries and codes to &lt;output_file&gt;.snapshot.
+       * </pre>
+       */
+      public Builder clearEntrySnapshot() {
+        bitField1_ = (bitField1_ & ~0x00000080);
+        entrySnapshot_ = false;
+        onChanged();
+        return this;
+      }
+
+      private doorking.Proto.CodeAllocation codeAllocation_ = doorking.Proto.CodeAllocation.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          doorking.Proto.CodeAllocation, doorking.Proto.CodeAllocation.Builder, doorking.Proto.CodeAllocationOrBuilder> codeAllocationBuilder_;
+      /**
+       * <code>optional .doorking.CodeAllocation code_allocation = 41;</code>
+       *
+       * <pre>
+       * Policy of Sync --allocate.
+       * </pre>
+       */
+      public boolean hasCodeAllocation() {
+        return ((bitField1_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional .doorking.CodeAllocation code_allocation = 41;</code>
+       *
+       * <pre>
+       * Policy of Sync --allocate.
+       * </pre>
+       */
+      public doorking.Proto.CodeAllocation getCodeAllocation() {
+        if (codeAllocationBuilder_ == null) {
+          return codeAllocation_;
+        } else {
+          return codeAllocationBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .doorking.CodeAllocation code_allocation = 41;</code>
+       *
+       * <pre>
+       * Policy of Sync --allocate.
+       * </pre>
+       */
+      public Builder setCodeAllocation(doorking.Proto.CodeAllocation value) {
+        if (codeAllocationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          codeAllocation_ = value;
+          onChanged();
+        } else {
+          codeAllocationBuilder_.setMessage(value);
+        }
+        bitField1_ |= 0x00000100;
+        return this;
+      }
+      /**
+       * <code>optional .doorking.CodeAllocation code_allocation = 41;</code>
+       *
+       * <pre>
+       * Policy of Sync --allocate.
+       * </pre>
+       */
+      public Builder setCodeAllocation(
+          doorking.Proto.CodeAllocation.Builder builderForValue) {
+        if (codeAllocationBuilder_ == null) {
+          codeAllocation_ = builderForValue.build();
+          onChanged();
+        } else {
+          codeAllocationBuilder_.setMessage(builderForValue.build());
+        }
+        bitField1_ |= 0x00000100;
+        return this;
+      }
+      /**
+       * <code>optional .doorking.CodeAllocation code_allocation = 41;</code>
+       *
+       * <pre>
+       * Policy of Sync --allocate.
+       * </pre>
+       */
+      public Builder mergeCodeAllocation(doorking.Proto.CodeAllocation value) {
+        if (codeAllocationBuilder_ == null) {
+          if (((bitField1_ & 0x00000100) == 0x00000100) &&
+              codeAllocation_ != doorking.Proto.CodeAllocation.getDefaultInstance()) {
+            codeAllocation_ =
+              doorking.Proto.CodeAllocation.newBuilder(codeAllocation_).mergeFrom(value).buildPartial();
+          } else {
+            codeAllocation_ = value;
+          }
+          onChanged();
+        } else {
+          codeAllocationBuilder_.mergeFrom(value);
+        }
+        bitField1_ |= 0x00000100;
+        return this;
+      }
+      /**
+       * <code>optional .doorking.CodeAllocation code_allocation = 41;</code>
+       *
+       * <pre>
+       * Policy of Sync --allocate.
+       * </pre>
+       */
+      public Builder clearCodeAllocation() {
+        if (codeAllocationBuilder_ == null) {
+          codeAllocation_ = doorking.Proto.CodeAllocation.getDefaultInstance();
+          onChanged();
+        } else {
+          codeAllocationBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000100);
+        return this;
+      }
+      /**
+       * <code>optional .doorking.CodeAllocation code_allocation = 41;</code>
+       *
+       * <pre>
+       * Policy of Sync --allocate.
+       * </pre>
+       */
+      public doorking.Proto.CodeAllocation.Builder getCodeAllocationBuilder() {
+        bitField1_ |= 0x00000100;
+        onChanged();
+        return getCodeAllocationFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .doorking.CodeAllocation code_allocation = 41;</code>
+       *
+       * <pre>
+       * Policy of Sync --allocate.
+       * </pre>
+       */
+      public doorking.Proto.CodeAllocationOrBuilder getCodeAllocationOrBuilder() {
+        if (codeAllocationBuilder_ != null) {
+          return codeAllocationBuilder_.getMessageOrBuilder();
+        } else {
+          return codeAllocation_;
+        }
+      }
+      /**
+       * <code>optional .doorking.CodeAllocation code_allocation = 41;</code>
+       *
+       * <pre>
+       * Policy of Sync --allocate.
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          doorking.Proto.CodeAllocation, doorking.Proto.CodeAllocation.Builder, doorking.Proto.CodeAllocationOrBuilder> 
+          getCodeAllocationFieldBuilder() {
+        if (codeAllocationBuilder_ == null) {
+          codeAllocationBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              doorking.Proto.CodeAllocation, doorking.Proto.CodeAllocation.Builder, doorking.Proto.CodeAllocationOrBuilder>(
+                  getCodeAllocation(),
+                  getParentForChildren(),
+                  isClean());
+          codeAllocation_ = null;
+        }
+        return codeAllocationBuilder_;
+      }
+
+      private doorking.Proto.ColumnLayout telephoneEntryLayout_ = doorking.Proto.ColumnLayout.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          doorking.Proto.ColumnLayout, doorking.Proto.ColumnLayout.Builder, doorking.Proto.ColumnLayoutOrBuilder> telephoneEntryLayoutBuilder_;
+      /**
+       * <code>optional .doorking.ColumnLayout telephone_entry_layout = 42;</code>
+       *
+       * <pre>
+       * Column layouts of each range; unmapped fields keep their default column.
+       * </pre>
+       */
+      public boolean hasTelephoneEntryLayout() {
+        return ((bitField1_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout telephone_entry_layout = 42;</code>
+       *
+       * <pre>
+       * Column layouts of each range; unmapped fields keep their default column.
+       * </pre>
+       */
+      public doorking.Proto.ColumnLayout getTelephoneEntryLayout() {
+        if (telephoneEntryLayoutBuilder_ == null) {
+          return telephoneEntryLayout_;
+        } else {
+          return telephoneEntryLayoutBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout telephone_entry_layout = 42;</code>
+       *
+       * <pre>
+       * Column layouts of each range; unmapped fields keep their default column.
+       * </pre>
+       */
+      public Builder setTelephoneEntryLayout(doorking.Proto.ColumnLayout value) {
+        if (telephoneEntryLayoutBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          telephoneEntryLayout_ = value;
+          onChanged();
+        } else {
+          telephoneEntryLayoutBuilder_.setMessage(value);
+        }
+        bitField1_ |= 0x00000200;
+        return this;
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout telephone_entry_layout = 42;</code>
+       *
+       * <pre>
+       * Column layouts of each range; unmapped fields keep their default column.
+       * </pre>
+       */
+      public Builder setTelephoneEntryLayout(
+          doorking.Proto.ColumnLayout.Builder builderForValue) {
+        if (telephoneEntryLayoutBuilder_ == null) {
+          telephoneEntryLayout_ = builderForValue.build();
+          onChanged();
+        } else {
+          telephoneEntryLayoutBuilder_.setMessage(builderForValue.build());
+        }
+        bitField1_ |= 0x00000200;
+        return this;
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout telephone_entry_layout = 42;</code>
+       *
+       * <pre>
+       * Column layouts of each range; unmapped fields keep their default column.
+       * </pre>
+       */
+      public Builder mergeTelephoneEntryLayout(doorking.Proto.ColumnLayout value) {
+        if (telephoneEntryLayoutBuilder_ == null) {
+          if (((bitField1_ & 0x00000200) == 0x00000200) &&
+              telephoneEntryLayout_ != doorking.Proto.ColumnLayout.getDefaultInstance()) {
+            telephoneEntryLayout_ =
+              doorking.Proto.ColumnLayout.newBuilder(telephoneEntryLayout_).mergeFrom(value).buildPartial();
+          } else {
+            telephoneEntryLayout_ = value;
+          }
+          onChanged();
+        } else {
+          telephoneEntryLayoutBuilder_.mergeFrom(value);
+        }
+        bitField1_ |= 0x00000200;
+        return this;
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout telephone_entry_layout = 42;</code>
+       *
+       * <pre>
+       * Column layouts of each range; unmapped fields keep their default column.
+       * </pre>
+       */
+      public Builder clearTelephoneEntryLayout() {
+        if (telephoneEntryLayoutBuilder_ == null) {
+          telephoneEntryLayout_ = doorking.Proto.ColumnLayout.getDefaultInstance();
+          onChanged();
+        } else {
+          telephoneEntryLayoutBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000200);
+        return this;
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout telephone_entry_layout = 42;</code>
+       *
+       * <pre>
+       * Column layouts of each range; unmapped fields keep their default column.
+       * </pre>
+       */
+      public doorking.Proto.ColumnLayout.Builder getTelephoneEntryLayoutBuilder() {
+        bitField1_ |= 0x00000200;
+        onChanged();
+        return getTelephoneEntryLayoutFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout telephone_entry_layout = 42;</code>
+       *
+       * <pre>
+       * Column layouts of each range; unmapped fields keep their default column.
+       * </pre>
+       */
+      public doorking.Proto.ColumnLayoutOrBuilder getTelephoneEntryLayoutOrBuilder() {
+        if (telephoneEntryLayoutBuilder_ != null) {
+          return telephoneEntryLayoutBuilder_.getMessageOrBuilder();
+        } else {
+          return telephoneEntryLayout_;
+        }
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout telephone_entry_layout = 42;</code>
+       *
+       * <pre>
+       * Column layouts of each range; unmapped fields keep their default column.
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          doorking.Proto.ColumnLayout, doorking.Proto.ColumnLayout.Builder, doorking.Proto.ColumnLayoutOrBuilder> 
+          getTelephoneEntryLayoutFieldBuilder() {
+        if (telephoneEntryLayoutBuilder_ == null) {
+          telephoneEntryLayoutBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              doorking.Proto.ColumnLayout, doorking.Proto.ColumnLayout.Builder, doorking.Proto.ColumnLayoutOrBuilder>(
+                  getTelephoneEntryLayout(),
+                  getParentForChildren(),
+                  isClean());
+          telephoneEntryLayout_ = null;
+        }
+        return telephoneEntryLayoutBuilder_;
+      }
+
+      private doorking.Proto.ColumnLayout entryCodeLayout_ = doorking.Proto.ColumnLayout.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          doorking.Proto.ColumnLayout, doorking.Proto.ColumnLayout.Builder, doorking.Proto.ColumnLayoutOrBuilder> entryCodeLayoutBuilder_;
+      /**
+       * <code>optional .doorking.ColumnLayout entry_code_layout = 43;</code>
+       */
+      public boolean hasEntryCodeLayout() {
+        return ((bitField1_ & 0x00000400) == 0x00000400);
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout entry_code_layout = 43;</code>
+       */
+      public doorking.Proto.ColumnLayout getEntryCodeLayout() {
+        if (entryCodeLayoutBuilder_ == null) {
+          return entryCodeLayout_;
+        } else {
+          return entryCodeLayoutBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout entry_code_layout = 43;</code>
+       */
+      public Builder setEntryCodeLayout(doorking.Proto.ColumnLayout value) {
+        if (entryCodeLayoutBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          entryCodeLayout_ = value;
+          onChanged();
+        } else {
+          entryCodeLayoutBuilder_.setMessage(value);
+        }
+        bitField1_ |= 0x00000400;
+        return this;
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout entry_code_layout = 43;</code>
+       */
+      public Builder setEntryCodeLayout(
+          doorking.Proto.ColumnLayout.Builder builderForValue) {
+        if (entryCodeLayoutBuilder_ == null) {
+          entryCodeLayout_ = builderForValue.build();
+          onChanged();
+        } else {
+          entryCodeLayoutBuilder_.setMessage(builderForValue.build());
+        }
+        bitField1_ |= 0x00000400;
+        return this;
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout entry_code_layout = 43;</code>
+       */
+      public Builder mergeEntryCodeLayout(doorking.Proto.ColumnLayout value) {
+        if (entryCodeLayoutBuilder_ == null) {
+          if (((bitField1_ & 0x00000400) == 0x00000400) &&
+              entryCodeLayout_ != doorking.Proto.ColumnLayout.getDefaultInstance()) {
+            entryCodeLayout_ =
+              doorking.Proto.ColumnLayout.newBuilder(entryCodeLayout_).mergeFrom(value).buildPartial();
+          } else {
+            entryCodeLayout_ = value;
+          }
+          onChanged();
+        } else {
+          entryCodeLayoutBuilder_.mergeFrom(value);
+        }
+        bitField1_ |= 0x00000400;
+        return this;
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout entry_code_layout = 43;</code>
+       */
+      public Builder clearEntryCodeLayout() {
+        if (entryCodeLayoutBuilder_ == null) {
+          entryCodeLayout_ = doorking.Proto.ColumnLayout.getDefaultInstance();
+          onChanged();
+        } else {
+          entryCodeLayoutBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000400);
+        return this;
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout entry_code_layout = 43;</code>
+       */
+      public doorking.Proto.ColumnLayout.Builder getEntryCodeLayoutBuilder() {
+        bitField1_ |= 0x00000400;
+        onChanged();
+        return getEntryCodeLayoutFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout entry_code_layout = 43;</code>
+       */
+      public doorking.Proto.ColumnLayoutOrBuilder getEntryCodeLayoutOrBuilder() {
+        if (entryCodeLayoutBuilder_ != null) {
+          return entryCodeLayoutBuilder_.getMessageOrBuilder();
+        } else {
+          return entryCodeLayout_;
+        }
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout entry_code_layout = 43;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          doorking.Proto.ColumnLayout, doorking.Proto.ColumnLayout.Builder, doorking.Proto.ColumnLayoutOrBuilder> 
+          getEntryCodeLayoutFieldBuilder() {
+        if (entryCodeLayoutBuilder_ == null) {
+          entryCodeLayoutBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              doorking.Proto.ColumnLayout, doorking.Proto.ColumnLayout.Builder, doorking.Proto.ColumnLayoutOrBuilder>(
+                  getEntryCodeLayout(),
+                  getParentForChildren(),
+                  isClean());
+          entryCodeLayout_ = null;
+        }
+        return entryCodeLayoutBuilder_;
+      }
+
+      private doorking.Proto.ColumnLayout deletedEntryCodeLayout_ = doorking.Proto.ColumnLayout.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          doorking.Proto.ColumnLayout, doorking.Proto.ColumnLayout.Builder, doorking.Proto.ColumnLayoutOrBuilder> deletedEntryCodeLayoutBuilder_;
+      /**
+       * <code>optional .doorking.ColumnLayout deleted_entry_code_layout = 44;</code>
+       */
+      public boolean hasDeletedEntryCodeLayout() {
+        return ((bitField1_ & 0x00000800) == 0x00000800);
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout deleted_entry_code_layout = 44;</code>
+       */
+      public doorking.Proto.ColumnLayout getDeletedEntryCodeLayout() {
+        if (deletedEntryCodeLayoutBuilder_ == null) {
+          return deletedEntryCodeLayout_;
+        } else {
+          return deletedEntryCodeLayoutBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout deleted_entry_code_layout = 44;</code>
+       */
+      public Builder setDeletedEntryCodeLayout(doorking.Proto.ColumnLayout value) {
+        if (deletedEntryCodeLayoutBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          deletedEntryCodeLayout_ = value;
+          onChanged();
+        } else {
+          deletedEntryCodeLayoutBuilder_.setMessage(value);
+        }
+        bitField1_ |= 0x00000800;
+        return this;
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout deleted_entry_code_layout = 44;</code>
+       */
+      public Builder setDeletedEntryCodeLayout(
+          doorking.Proto.ColumnLayout.Builder builderForValue) {
+        if (deletedEntryCodeLayoutBuilder_ == null) {
+          deletedEntryCodeLayout_ = builderForValue.build();
+          onChanged();
+        } else {
+          deletedEntryCodeLayoutBuilder_.setMessage(builderForValue.build());
+        }
+        bitField1_ |= 0x00000800;
+        return this;
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout deleted_entry_code_layout = 44;</code>
+       */
+      public Builder mergeDeletedEntryCodeLayout(doorking.Proto.ColumnLayout value) {
+        if (deletedEntryCodeLayoutBuilder_ == null) {
+          if (((bitField1_ & 0x00000800) == 0x00000800) &&
+              deletedEntryCodeLayout_ != doorking.Proto.ColumnLayout.getDefaultInstance()) {
+            deletedEntryCodeLayout_ =
+              doorking.Proto.ColumnLayout.newBuilder(deletedEntryCodeLayout_).mergeFrom(value).buildPartial();
+          } else {
+            deletedEntryCodeLayout_ = value;
+          }
+          onChanged();
+        } else {
+          deletedEntryCodeLayoutBuilder_.mergeFrom(value);
+        }
+        bitField1_ |= 0x00000800;
+        return this;
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout deleted_entry_code_layout = 44;</code>
+       */
+      public Builder clearDeletedEntryCodeLayout() {
+        if (deletedEntryCodeLayoutBuilder_ == null) {
+          deletedEntryCodeLayout_ = doorking.Proto.ColumnLayout.getDefaultInstance();
+          onChanged();
+        } else {
+          deletedEntryCodeLayoutBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000800);
+        return this;
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout deleted_entry_code_layout = 44;</code>
+       */
+      public doorking.Proto.ColumnLayout.Builder getDeletedEntryCodeLayoutBuilder() {
+        bitField1_ |= 0x00000800;
+        onChanged();
+        return getDeletedEntryCodeLayoutFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout deleted_entry_code_layout = 44;</code>
+       */
+      public doorking.Proto.ColumnLayoutOrBuilder getDeletedEntryCodeLayoutOrBuilder() {
+        if (deletedEntryCodeLayoutBuilder_ != null) {
+          return deletedEntryCodeLayoutBuilder_.getMessageOrBuilder();
+        } else {
+          return deletedEntryCodeLayout_;
+        }
+      }
+      /**
+       * <code>optional .doorking.ColumnLayout deleted_entry_code_layout = 44;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          doorking.Proto.ColumnLayout, doorking.Proto.ColumnLayout.Builder, doorking.Proto.ColumnLayoutOrBuilder> 
+          getDeletedEntryCodeLayoutFieldBuilder() {
+        if (deletedEntryCodeLayoutBuilder_ == null) {
+          deletedEntryCodeLayoutBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              doorking.Proto.ColumnLayout, doorking.Proto.ColumnLayout.Builder, doorking.Proto.ColumnLayoutOrBuilder>(
+                  getDeletedEntryCodeLayout(),
+                  getParentForChildren(),
+                  isClean());
+          deletedEntryCodeLayout_ = null;
+        }
+        return deletedEntryCodeLayoutBuilder_;
+      }
+
+      private boolean skipInvalidRows_ ;
+      /**
+       * <code>optional bool skip_invalid_rows = 45;</code>
+       *
+       * <pre>
+       * Leaves out rows that fail validation, and rows that depend on them,
+       * instead of failing the export. Every problem is reported either way.
+       * </pre>
+       */
+      public boolean hasSkipInvalidRows() {
+        return ((bitField1_ & 0x00001000) == 0x00001000);
+      }
+      /**
+       * <code>optional bool skip_invalid_rows = 45;</code>
+       *
+       * <pre>
+       * Leaves out rows that fail validation, and rows that depend on them,
+       * instead of failing the export. Every problem is reported either way.
+       * </pre>
+       */
+      public boolean getSkipInvalidRows() {
+        return skipInvalidRows_;
+      }
+      /**
+       * <code>optional bool skip_invalid_rows = 45;</code>
+       *
+       * <pre>
+       * Leaves out rows that fail validation, and rows that depend on them,
+       * instead of failing the export. Every problem is reported either way.
+       * </pre>
+       */
+      public Builder setSkipInvalidRows(boolean value) {
+        bitField1_ |= 0x00001000;
+        skipInvalidRows_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool skip_invalid_rows = 45;</code>
+       *
+       * <pre>
+       * Leaves out rows that fail validation, and rows that depend on them,
+       * instead of failing the export. Every problem is reported either way.
+       * </pre>
+       */
+      public Builder clearSkipInvalidRows() {
+        bitField1_ = (bitField1_ & ~0x00001000);
+        skipInvalidRows_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean parallelAdaptation_ ;
+      /**
+       * <code>optional bool parallel_adaptation = 46;</code>
+       *
+       * <pre>
+       * Adapts chunks of rows on the common ForkJoinPool. The output is the same
+       * as when adapting on one thread.
+       * </pre>
+       */
+      public boolean hasParallelAdaptation() {
+        return ((bitField1_ & 0x00002000) == 0x00002000);
+      }
+      /**
+       * <code>optional bool parallel_adaptation = 46;</code>
+       *
+       * <pre>
+       * Adapts chunks of rows on the common ForkJoinPool. The output is the same
+       * as when adapting on one thread.
+       * </pre>
+       */
+      public boolean getParallelAdaptation() {
+        return parallelAdaptation_;
+      }
+      /**
+       * <code>optional bool parallel_adaptation = 46;</code>
+       *
+       * <pre>
+       * Adapts chunks of rows on the common ForkJoinPool. The output is the same
+       * as when adapting on one thread.
+       * </pre>
+       */
+      public Builder setParallelAdaptation(boolean value) {
+        bitField1_ |= 0x00002000;
+        parallelAdaptation_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool parallel_adaptation = 46;</code>
+       *
+       * <pre>
+       * Adapts chunks of rows on the common ForkJoinPool. The output is the same
+       * as when adapting on one thread.
+       * </pre>
+       */
+      public Builder clearParallelAdaptation() {
+        bitField1_ = (bitField1_ & ~0x00002000);
+        parallelAdaptation_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int adaptationChunkSize_ = 1000;
+      /**
+       * <code>optional int32 adaptation_chunk_size = 47 [default = 1000];</code>
+       */
+      public boolean hasAdaptationChunkSize() {
+        return ((bitField1_ & 0x00004000) == 0x00004000);
+      }
+      /**
+       * <code>optional int32 adaptation_chunk_size = 47 [default = 1000];</code>
+       */
+      public int getAdaptationChunkSize() {
+        return adaptationChunkSize_;
+      }
+      /**
+       * <code>optional int32 adaptation_chunk_size = 47 [default = 1000];</code>
+       */
+      public Builder setAdaptationChunkSize(int value) {
+        bitField1_ |= 0x00004000;
+        adaptationChunkSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 adaptation_chunk_size = 47 [default = 1000];</code>
+       */
+      public Builder clearAdaptationChunkSize() {
+        bitField1_ = (bitField1_ & ~0x00004000);
+        adaptationChunkSize_ = 1000;
+        onChanged();
+        return this;
+      }
+
+      private boolean metricsReport_ ;
+      /**
+       * <code>optional bool metrics_report = 48;</code>
+       *
+       * <pre>
+       * Writes the phase durations and counts of each sync next to the output,
+       * as &lt;output_file&gt;.prom for Prometheus and &lt;output_file&gt;.report.json.
+       * </pre>
+       */
+      public boolean hasMetricsReport() {
+        return ((bitField1_ & 0x00008000) == 0x00008000);
+      }
+      /**
+       * <code>optional bool metrics_report = 48;</code>
+       *
+       * <pre>
+       * Writes the phase durations and counts of each sync next to the output,
+       * as &lt;output_file&gt;.prom for Prometheus and &lt;output_file&gt;.report.json.
+       * </pre>
+       */
+      public boolean getMetricsReport() {
+        return metricsReport_;
+      }
+      /**
+       * <code>optional bool metrics_report = 48;</code>
+       *
+       * <pre>
+       * Writes the phase durations and counts of each sync next to the output,
+       * as &lt;output_file&gt;.prom for Prometheus and &lt;output_file&gt;.report.json.
+       * </pre>
+       */
+      public Builder setMetricsReport(boolean value) {
+        bitField1_ |= 0x00008000;
+        metricsReport_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool metrics_report = 48;</code>
+       *
+       * <pre>
+       * Writes the phase durations and counts of each sync next to the output,
+       * as &lt;output_file&gt;.prom for Prometheus and &lt;output_file&gt;.report.json.
+       * </pre>
+       */
+      public Builder clearMetricsReport() {
+        bitField1_ = (bitField1_ & ~0x00008000);
+        metricsReport_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:doorking.Config)
+    }
+
+    static {
+      defaultInstance = new Config(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:doorking.Config)
+  }
+
+  public interface ColumnLayoutOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:doorking.ColumnLayout)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional bool header_row = 1;</code>
+     *
+     * <pre>
+     * The first row of the range holds column headers. It is skipped, and
+     * columns may be mapped by header text.
+     * </pre>
+     */
+    boolean hasHeaderRow();
+    /**
+     * <code>optional bool header_row = 1;</code>
+     *
+     * <pre>
+     * The first row of the range holds column headers. It is skipped, and
+     * columns may be mapped by header text.
+     * </pre>
+     */
+    boolean getHeaderRow();
+
+    /**
+     * <code>repeated .doorking.ColumnMapping column = 2;</code>
+     */
+    java.util.List<doorking.Proto.ColumnMapping> 
+        getColumnList();
+    /**
+     * <code>repeated .doorking.ColumnMapping column = 2;</code>
+     */
+    doorking.Proto.ColumnMapping getColumn(int index);
+    /**
+     * <code>repeated .doorking.ColumnMapping column = 2;</code>
+     */
+    int getColumnCount();
+    /**
+     * <code>repeated .doorking.ColumnMapping column = 2;</code>
+     */
+    java.util.List<? extends doorking.Proto.ColumnMappingOrBuilder> 
+        getColumnOrBuilderList();
+    /**
+     * <code>repeated .doorking.ColumnMapping column = 2;</code>
+     */
+    doorking.Proto.ColumnMappingOrBuilder getColumnOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code doorking.ColumnLayout}
+   */
+  public static final class ColumnLayout extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:doorking.ColumnLayout)
+      ColumnLayoutOrBuilder {
+    // Use ColumnLayout.newBuilder() to construct.
+    private ColumnLayout(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private ColumnLayout(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final ColumnLayout defaultInstance;
+    public static ColumnLayout getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public ColumnLayout getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ColumnLayout(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              headerRow_ = input.readBool();
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                column_ = new java.util.ArrayList<doorking.Proto.ColumnMapping>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              column_.add(input.readMessage(doorking.Proto.ColumnMapping.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          column_ = java.util.Collections.unmodifiableList(column_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return doorking.Proto.internal_static_doorking_ColumnLayout_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return doorking.Proto.internal_static_doorking_ColumnLayout_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              doorking.Proto.ColumnLayout.class, doorking.Proto.ColumnLayout.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<ColumnLayout> PARSER =
+        new com.google.protobuf.AbstractParser<ColumnLayout>() {
+      public ColumnLayout parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ColumnLayout(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ColumnLayout> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int HEADER_ROW_FIELD_NUMBER = 1;
+    private boolean headerRow_;
+    /**
+     * <code>optional bool header_row = 1;</code>
+     *
+     * <pre>
+     * The first row of the range holds column headers. It is skipped, and
+     * columns may be mapped by header text.
+     * </pre>
+     */
+    public boolean hasHeaderRow() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional bool header_row = 1;</code>
+     *
+     * <pre>
+     * The first row of the range holds column headers. It is skipped, and
+     * columns may be mapped by header text.
+     * </pre>
+     */
+    public boolean getHeaderRow() {
+      return headerRow_;
+    }
+
+    public static final int COLUMN_FIELD_NUMBER = 2;
+    private java.util.List<doorking.Proto.ColumnMapping> column_;
+    /**
+     * <code>repeated .doorking.ColumnMapping column = 2;</code>
+     */
+    public java.util.List<doorking.Proto.ColumnMapping> getColumnList() {
+      return column_;
+    }
+    /**
+     * <code>repeated .doorking.ColumnMapping column = 2;</code>
+     */
+    public java.util.List<? extends doorking.Proto.ColumnMappingOrBuilder> 
+        getColumnOrBuilderList() {
+      return column_;
+    }
+    /**
+     * <code>repeated .doorking.ColumnMapping column = 2;</code>
+     */
+    public int getColumnCount() {
+      return column_.size();
+    }
+    /**
+     * <code>repeated .doorking.ColumnMapping column = 2;</code>
+     */
+    public doorking.Proto.ColumnMapping getColumn(int index) {
+      return column_.get(index);
+    }
+    /**
+     * <code>repeated .doorking.ColumnMapping column = 2;</code>
+     */
+    public doorking.Proto.ColumnMappingOrBuilder getColumnOrBuilder(
+        int index) {
+      return column_.get(index);
+    }
+
+    private void initFields() {
+      headerRow_ = false;
+      column_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBool(1, headerRow_);
+      }
+      for (int i = 0; i < column_.size(); i++) {
+        output.writeMessage(2, column_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, headerRow_);
+      }
+      for (int i = 0; i < column_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, column_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static doorking.Proto.ColumnLayout parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static doorking.Proto.ColumnLayout parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static doorking.Proto.ColumnLayout parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static doorking.Proto.ColumnLayout parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static doorking.Proto.ColumnLayout parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static doorking.Proto.ColumnLayout parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static doorking.Proto.ColumnLayout parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static doorking.Proto.ColumnLayout parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static doorking.Proto.ColumnLayout parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static doorking.Proto.ColumnLayout parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(doorking.Proto.ColumnLayout prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code doorking.ColumnLayout}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:doorking.ColumnLayout)
+        doorking.Proto.ColumnLayoutOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return doorking.Proto.internal_static_doorking_ColumnLayout_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return doorking.Proto.internal_static_doorking_ColumnLayout_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                doorking.Proto.ColumnLayout.class, doorking.Proto.ColumnLayout.Builder.class);
+      }
+
+      // Construct using doorking.Proto.ColumnLayout.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getColumnFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        headerRow_ = false;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (columnBuilder_ == null) {
+          column_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          columnBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return doorking.Proto.internal_static_doorking_ColumnLayout_descriptor;
+      }
+
+      public doorking.Proto.ColumnLayout getDefaultInstanceForType() {
+        return doorking.Proto.ColumnLayout.getDefaultInstance();
+      }
+
+      public doorking.Proto.ColumnLayout build() {
+        doorking.Proto.ColumnLayout result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public doorking.Proto.ColumnLayout buildPartial() {
+        doorking.Proto.ColumnLayout result = new doorking.Proto.ColumnLayout(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.headerRow_ = headerRow_;
+        if (columnBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            column_ = java.util.Collections.unmodifiableList(column_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.column_ = column_;
+        } else {
+          result.column_ = columnBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof doorking.Proto.ColumnLayout) {
+          return mergeFrom((doorking.Proto.ColumnLayout)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(doorking.Proto.ColumnLayout other) {
+        if (other == doorking.Proto.ColumnLayout.getDefaultInstance()) return this;
+        if (other.hasHeaderRow()) {
+          setHeaderRow(other.getHeaderRow());
+        }
+        if (columnBuilder_ == null) {
+          if (!other.column_.isEmpty()) {
+            if (column_.isEmpty()) {
+              column_ = other.column_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureColumnIsMutable();
+              column_.addAll(other.column_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.column_.isEmpty()) {
+            if (columnBuilder_.isEmpty()) {
+              columnBuilder_.dispose();
+              columnBuilder_ = null;
+              column_ = other.column_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              columnBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getColumnFieldBuilder() : null;
+            } else {
+              columnBuilder_.addAllMessages(other.column_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        doorking.Proto.ColumnLayout parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (doorking.Proto.ColumnLayout) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private boolean headerRow_ ;
+      /**
+       * <code>optional bool header_row = 1;</code>
+       *
+       * <pre>
+       * The first row of the range holds column headers. It is skipped, and
+       * columns may be mapped by header text.
+       * </pre>
+       */
+      public boolean hasHeaderRow() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional bool header_row = 1;</code>
+       *
+       * <pre>
+       * The first row of the range holds column headers. It is skipped, and
+       * columns may be mapped by header text.
+       * </pre>
+       */
+      public boolean getHeaderRow() {
+        return headerRow_;
+      }
+      /**
+       * <code>optional bool header_row = 1;</code>
+       *
+       * <pre>
+       * The first row of the range holds column headers. It is skipped, and
+       * columns may be mapped by header text.
+       * </pre>
+       */
+      public Builder setHeaderRow(boolean value) {
+        bitField0_ |= 0x00000001;
+        headerRow_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool header_row = 1;</code>
+       *
+       * <pre>
+       * The first row of the range holds column headers. It is skipped, and
+       * columns may be mapped by header text.
+       * </pre>
+       */
+      public Builder clearHeaderRow() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        headerRow_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<doorking.Proto.ColumnMapping> column_ =
+        java.util.Collections.emptyList();
+      private void ensureColumnIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          column_ = new java.util.ArrayList<doorking.Proto.ColumnMapping>(column_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          doorking.Proto.ColumnMapping, doorking.Proto.ColumnMapping.Builder, doorking.Proto.ColumnMappingOrBuilder> columnBuilder_;
+
+      /**
+       * <code>repeated .doorking.ColumnMapping column = 2;</code>
+       */
+      public java.util.List<doorking.Proto.ColumnMapping> getColumnList() {
+        if (columnBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(column_);
+        } else {
+          return columnBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .doorking.ColumnMapping column = 2;</code>
+       */
+      public int getColumnCount() {
+        if (columnBuilder_ == null) {
+          return column_.size();
+        } else {
+          return columnBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .doorking.ColumnMapping column = 2;</code>
+       */
+      public doorking.Proto.ColumnMapping getColumn(int index) {
+        if (columnBuilder_ == null) {
+          return column_.get(index);
+        } else {
+          return columnBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .doorking.ColumnMapping column = 2;</code>
+       */
+      public Builder setColumn(
+          int index, doorking.Proto.ColumnMapping value) {
+        if (columnBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnIsMutable();
+          column_.set(index, value);
+          onChanged();
+        } else {
+          columnBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.ColumnMapping column = 2;</code>
+       */
+      public Builder setColumn(
+          int index, doorking.Proto.ColumnMapping.Builder builderForValue) {
+        if (columnBuilder_ == null) {
+          ensureColumnIsMutable();
+          column_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.ColumnMapping column = 2;</code>
+       */
+      public Builder addColumn(doorking.Proto.ColumnMapping value) {
+        if (columnBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnIsMutable();
+          column_.add(value);
+          onChanged();
+        } else {
+          columnBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.ColumnMapping column = 2;</code>
+       */
+      public Builder addColumn(
+          int index, doorking.Proto.ColumnMapping value) {
+        if (columnBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnIsMutable();
+          column_.add(index, value);
+          onChanged();
+        } else {
+          columnBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.ColumnMapping column = 2;</code>
+       */
+      public Builder addColumn(
+          doorking.Proto.ColumnMapping.Builder builderForValue) {
+        if (columnBuilder_ == null) {
+          ensureColumnIsMutable();
+          column_.add(builderForValue.build());
+          onChanged();
+        } else {
+          columnBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.ColumnMapping column = 2;</code>
+       */
+      public Builder addColumn(
+          int index, doorking.Proto.ColumnMapping.Builder builderForValue) {
+        if (columnBuilder_ == null) {
+          ensureColumnIsMutable();
+          column_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.ColumnMapping column = 2;</code>
+       */
+      public Builder addAllColumn(
+          java.lang.Iterable<? extends doorking.Proto.ColumnMapping> values) {
+        if (columnBuilder_ == null) {
+          ensureColumnIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, column_);
+          onChanged();
+        } else {
+          columnBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.ColumnMapping column = 2;</code>
+       */
+      public Builder clearColumn() {
+        if (columnBuilder_ == null) {
+          column_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          columnBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.ColumnMapping column = 2;</code>
+       */
+      public Builder removeColumn(int index) {
+        if (columnBuilder_ == null) {
+          ensureColumnIsMutable();
+          column_.remove(index);
+          onChanged();
+        } else {
+          columnBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.ColumnMapping column = 2;</code>
+       */
+      public doorking.Proto.ColumnMapping.Builder getColumnBuilder(
+          int index) {
+        return getColumnFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .doorking.ColumnMapping column = 2;</code>
+       */
+      public doorking.Proto.ColumnMappingOrBuilder getColumnOrBuilder(
+          int index) {
+        if (columnBuilder_ == null) {
+          return column_.get(index);  } else {
+          return columnBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .doorking.ColumnMapping column = 2;</code>
+       */
+      public java.util.List<? extends doorking.Proto.ColumnMappingOrBuilder> 
+           getColumnOrBuilderList() {
+        if (columnBuilder_ != null) {
+          return columnBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(column_);
+        }
+      }
+      /**
+       * <code>repeated .doorking.ColumnMapping column = 2;</code>
+       */
+      public doorking.Proto.ColumnMapping.Builder addColumnBuilder() {
+        return getColumnFieldBuilder().addBuilder(
+            doorking.Proto.ColumnMapping.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .doorking.ColumnMapping column = 2;</code>
+       */
+      public doorking.Proto.ColumnMapping.Builder addColumnBuilder(
+          int index) {
+        return getColumnFieldBuilder().addBuilder(
+            index, doorking.Proto.ColumnMapping.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .doorking.ColumnMapping column = 2;</code>
+       */
+      public java.util.List<doorking.Proto.ColumnMapping.Builder> 
+           getColumnBuilderList() {
+        return getColumnFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          doorking.Proto.ColumnMapping, doorking.Proto.ColumnMapping.Builder, doorking.Proto.ColumnMappingOrBuilder> 
+          getColumnFieldBuilder() {
+        if (columnBuilder_ == null) {
+          columnBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              doorking.Proto.ColumnMapping, doorking.Proto.ColumnMapping.Builder, doorking.Proto.ColumnMappingOrBuilder>(
+                  column_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          column_ = null;
+        }
+        return columnBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:doorking.ColumnLayout)
+    }
+
+    static {
+      defaultInstance = new ColumnLayout(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:doorking.ColumnLayout)
+  }
+
+  public interface ColumnMappingOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:doorking.ColumnMapping)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string field = 1;</code>
+     *
+     * <pre>
+     * A field name, such as street; see FIELDS in the *Row classes.
+     * </pre>
+     */
+    boolean hasField();
+    /**
+     * <code>optional string field = 1;</code>
+     *
+     * <pre>
+     * A field name, such as street; see FIELDS in the *Row classes.
+     * </pre>
+     */
+    java.lang.String getField();
+    /**
+     * <code>optional string field = 1;</code>
+     *
+     * <pre>
+     * A field name, such as street; see FIELDS in the *Row classes.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getFieldBytes();
+
+    /**
+     * <code>optional string column = 2;</code>
+     *
+     * <pre>
+     * The column letter, counting the first column of the range as A.
+     * </pre>
+     */
+    boolean hasColumn();
+    /**
+     * <code>optional string column = 2;</code>
+     *
+     * <pre>
+     * The column letter, counting the first column of the range as A.
+     * </pre>
+     */
+    java.lang.String getColumn();
+    /**
+     * <code>optional string column = 2;</code>
+     *
+     * <pre>
+     * The column letter, counting the first column of the range as A.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getColumnBytes();
+
+    /**
+     * <code>optional string header = 3;</code>
+     *
+     * <pre>
+     * The text of the column's header cell, ignoring case.
+     * </pre>
+     */
+    boolean hasHeader();
+    /**
+     * <code>optional string header = 3;</code>
+     *
+     * <pre>
+     * The text of the column's header cell, ignoring case.
+     * </pre>
+     */
+    java.lang.String getHeader();
+    /**
+     * <code>optional string header = 3;</code>
+     *
+     * <pre>
+     * The text of the column's header cell, ignoring case.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getHeaderBytes();
+  }
+  /**
+   * Protobuf type {@code doorking.ColumnMapping}
+   *
+   * <pre>
+   * Maps a field to a column by either column or header. A repeated field,
+   * such as device_number, takes one mapping per column.
+   * </pre>
+   */
+  public static final class ColumnMapping extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:doorking.ColumnMapping)
+      ColumnMappingOrBuilder {
+    // Use ColumnMapping.newBuilder() to construct.
+    private ColumnMapping(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private ColumnMapping(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final ColumnMapping defaultInstance;
+    public static ColumnMapping getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public ColumnMapping getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ColumnMapping(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              field_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              column_ = bs;
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000004;
+              header_ = bs;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return doorking.Proto.internal_static_doorking_ColumnMapping_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return doorking.Proto.internal_static_doorking_ColumnMapping_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              doorking.Proto.ColumnMapping.class, doorking.Proto.ColumnMapping.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<ColumnMapping> PARSER =
+        new com.google.protobuf.AbstractParser<ColumnMapping>() {
+      public ColumnMapping parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ColumnMapping(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ColumnMapping> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int FIELD_FIELD_NUMBER = 1;
+    private java.lang.Object field_;
+    /**
+     * <code>optional string field = 1;</code>
+     *
+     * <pre>
+     * A field name, such as street; see FIELDS in the *Row classes.
+     * </pre>
+     */
+    public boolean hasField() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string field = 1;</code>
+     *
+     * <pre>
+     * A field name, such as street; see FIELDS in the *Row classes.
+     * </pre>
+     */
+    public java.lang.String getField() {
+      java.lang.Object ref = field_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          field_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string field = 1;</code>
+     *
+     * <pre>
+     * A field name, such as street; see FIELDS in the *Row classes.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getFieldBytes() {
+      java.lang.Object ref = field_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        field_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int COLUMN_FIELD_NUMBER = 2;
+    private java.lang.Object column_;
+    /**
+     * <code>optional string column = 2;</code>
+     *
+     * <pre>
+     * The column letter, counting the first column of the range as A.
+     * </pre>
+     */
+    public boolean hasColumn() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string column = 2;</code>
+     *
+     * <pre>
+     * The column letter, counting the first column of the range as A.
+     * </pre>
+     */
+    public java.lang.String getColumn() {
+      java.lang.Object ref = column_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          column_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string column = 2;</code>
+     *
+     * <pre>
+     * The column letter, counting the first column of the range as A.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getColumnBytes() {
+      java.lang.Object ref = column_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        column_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 3;
+    private java.lang.Object header_;
+    /**
+     * <code>optional string header = 3;</code>
+     *
+     * <pre>
+     * The text of the column's header cell, ignoring case.
+     * </pre>
+     */
+    public boolean hasHeader() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional string header = 3;</code>
+     *
+     * <pre>
+     * The text of the column's header cell, ignoring case.
+     * </pre>
+     */
+    public java.lang.String getHeader() {
+      java.lang.Object ref = header_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          header_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string header = 3;</code>
+     *
+     * <pre>
+     * The text of the column's header cell, ignoring case.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getHeaderBytes() {
+      java.lang.Object ref = header_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        header_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      field_ = "";
+      column_ = "";
+      header_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getFieldBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getColumnBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getHeaderBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getFieldBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getColumnBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getHeaderBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static doorking.Proto.ColumnMapping parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static doorking.Proto.ColumnMapping parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static doorking.Proto.ColumnMapping parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static doorking.Proto.ColumnMapping parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static doorking.Proto.ColumnMapping parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static doorking.Proto.ColumnMapping parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static doorking.Proto.ColumnMapping parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static doorking.Proto.ColumnMapping parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static doorking.Proto.ColumnMapping parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static doorking.Proto.ColumnMapping parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(doorking.Proto.ColumnMapping prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code doorking.ColumnMapping}
+     *
+     * <pre>
+     * Maps a field to a column by either column or header. A repeated field,
+     * such as device_number, takes one mapping per column.
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:doorking.ColumnMapping)
+        doorking.Proto.ColumnMappingOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return doorking.Proto.internal_static_doorking_ColumnMapping_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return doorking.Proto.internal_static_doorking_ColumnMapping_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                doorking.Proto.ColumnMapping.class, doorking.Proto.ColumnMapping.Builder.class);
+      }
+
+      // Construct using doorking.Proto.ColumnMapping.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        field_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        column_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        header_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return doorking.Proto.internal_static_doorking_ColumnMapping_descriptor;
+      }
+
+      public doorking.Proto.ColumnMapping getDefaultInstanceForType() {
+        return doorking.Proto.ColumnMapping.getDefaultInstance();
+      }
+
+      public doorking.Proto.ColumnMapping build() {
+        doorking.Proto.ColumnMapping result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public doorking.Proto.ColumnMapping buildPartial() {
+        doorking.Proto.ColumnMapping result = new doorking.Proto.ColumnMapping(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.field_ = field_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.column_ = column_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.header_ = header_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof doorking.Proto.ColumnMapping) {
+          return mergeFrom((doorking.Proto.ColumnMapping)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(doorking.Proto.ColumnMapping other) {
+        if (other == doorking.Proto.ColumnMapping.getDefaultInstance()) return this;
+        if (other.hasField()) {
+          bitField0_ |= 0x00000001;
+          field_ = other.field_;
+          onChanged();
+        }
+        if (other.hasColumn()) {
+          bitField0_ |= 0x00000002;
+          column_ = other.column_;
+          onChanged();
+        }
+        if (other.hasHeader()) {
+          bitField0_ |= 0x00000004;
+          header_ = other.header_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        doorking.Proto.ColumnMapping parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (doorking.Proto.ColumnMapping) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object field_ = "";
+      /**
+       * <code>optional string field = 1;</code>
+       *
+       * <pre>
+       * A field name, such as street; see FIELDS in the *Row classes.
+       * </pre>
+       */
+      public boolean hasField() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string field = 1;</code>
+       *
+       * <pre>
+       * A field name, such as street; see FIELDS in the *Row classes.
+       * </pre>
+       */
+      public java.lang.String getField() {
+        java.lang.Object ref = field_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            field_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string field = 1;</code>
+       *
+       * <pre>
+       * A field name, such as street; see FIELDS in the *Row classes.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getFieldBytes() {
+        java.lang.Object ref = field_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          field_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string field = 1;</code>
+       *
+       * <pre>
+       * A field name, such as street; see FIELDS in the *Row classes.
+       * </pre>
+       */
+      public Builder setField(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        field_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string field = 1;</code>
+       *
+       * <pre>
+       * A field name, such as street; see FIELDS in the *Row classes.
+       * </pre>
+       */
+      public Builder clearField() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        field_ = getDefaultInstance().getField();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string field = 1;</code>
+       *
+       * <pre>
+       * A field name, such as street; see FIELDS in the *Row classes.
+       * </pre>
+       */
+      public Builder setFieldBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        field_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object column_ = "";
+      /**
+       * <code>optional string column = 2;</code>
+       *
+       * <pre>
+       * The column letter, counting the first column of the range as A.
+       * </pre>
+       */
+      public boolean hasColumn() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string column = 2;</code>
+       *
+       * <pre>
+       * The column letter, counting the first column of the range as A.
+       * </pre>
+       */
+      public java.lang.String getColumn() {
+        java.lang.Object ref = column_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            column_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string column = 2;</code>
+       *
+       * <pre>
+       * The column letter, counting the first column of the range as A.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getColumnBytes() {
+        java.lang.Object ref = column_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          column_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string column = 2;</code>
+       *
+       * <pre>
+       * The column letter, counting the first column of the range as A.
+       * </pre>
+       */
+      public Builder setColumn(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        column_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string column = 2;</code>
+       *
+       * <pre>
+       * The column letter, counting the first column of the range as A.
+       * </pre>
+       */
+      public Builder clearColumn() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        column_ = getDefaultInstance().getColumn();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string column = 2;</code>
+       *
+       * <pre>
+       * The column letter, counting the first column of the range as A.
+       * </pre>
+       */
+      public Builder setColumnBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        column_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object header_ = "";
+      /**
+       * <code>optional string header = 3;</code>
+       *
+       * <pre>
+       * The text of the column's header cell, ignoring case.
+       * </pre>
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string header = 3;</code>
+       *
+       * <pre>
+       * The text of the column's header cell, ignoring case.
+       * </pre>
+       */
+      public java.lang.String getHeader() {
+        java.lang.Object ref = header_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            header_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string header = 3;</code>
+       *
+       * <pre>
+       * The text of the column's header cell, ignoring case.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getHeaderBytes() {
+        java.lang.Object ref = header_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          header_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string header = 3;</code>
+       *
+       * <pre>
+       * The text of the column's header cell, ignoring case.
+       * </pre>
+       */
+      public Builder setHeader(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        header_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string header = 3;</code>
+       *
+       * <pre>
+       * The text of the column's header cell, ignoring case.
+       * </pre>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        header_ = getDefaultInstance().getHeader();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string header = 3;</code>
+       *
+       * <pre>
+       * The text of the column's header cell, ignoring case.
+       * </pre>
+       */
+      public Builder setHeaderBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        header_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:doorking.ColumnMapping)
+    }
+
+    static {
+      defaultInstance = new ColumnMapping(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:doorking.ColumnMapping)
+  }
+
+  public interface CodeAllocationOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:doorking.CodeAllocation)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional int32 min_distance = 1 [default = 1];</code>
+     *
+     * <pre>
+     * Minimum number of digits in which a new code differs from every used,
+     * deleted or newly allocated code.
+     * </pre>
+     */
+    boolean hasMinDistance();
+    /**
+     * <code>optional int32 min_distance = 1 [default = 1];</code>
+     *
+     * <pre>
+     * Minimum number of digits in which a new code differs from every used,
+     * deleted or newly allocated code.
+     * </pre>
+     */
+    int getMinDistance();
+
+    /**
+     * <code>optional bool random = 2;</code>
+     *
+     * <pre>
+     * Allocates in random rather than ascending order.
+     * </pre>
+     */
+    boolean hasRandom();
+    /**
+     * <code>optional bool random = 2;</code>
+     *
+     * <pre>
+     * Allocates in random rather than ascending order.
+     * </pre>
+     */
+    boolean getRandom();
+
+    /**
+     * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+     *
+     * <pre>
+     * A type with ranges only gets codes from them; other types never do.
+     * </pre>
+     */
+    java.util.List<doorking.Proto.CodeRange> 
+        getReservedRangeList();
+    /**
+     * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+     *
+     * <pre>
+     * A type with ranges only gets codes from them; other types never do.
+     * </pre>
+     */
+    doorking.Proto.CodeRange getReservedRange(int index);
+    /**
+     * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+     *
+     * <pre>
+     * A type with ranges only gets codes from them; other types never do.
+     * </pre>
+     */
+    int getReservedRangeCount();
+    /**
+     * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+     *
+     * <pre>
+     * A type with ranges only gets codes from them; other types never do.
+     * </pre>
+     */
+    java.util.List<? extends doorking.Proto.CodeRangeOrBuilder> 
+        getReservedRangeOrBuilderList();
+    /**
+     * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+     *
+     * <pre>
+     * A type with ranges only gets codes from them; other types never do.
+     * </pre>
+     */
+    doorking.Proto.CodeRangeOrBuilder getReservedRangeOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code doorking.CodeAllocation}
+   *
+   * <pre>
+   * How CodeAllocator picks new entry codes. Codes on the entry code and
+   * deleted entry code tabs are never allocated.
+   * </pre>
+   */
+  public static final class CodeAllocation extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:doorking.CodeAllocation)
+      CodeAllocationOrBuilder {
+    // Use CodeAllocation.newBuilder() to construct.
+    private CodeAllocation(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private CodeAllocation(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final CodeAllocation defaultInstance;
+    public static CodeAllocation getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public CodeAllocation getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CodeAllocation(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              minDistance_ = input.readInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              random_ = input.readBool();
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                reservedRange_ = new java.util.ArrayList<doorking.Proto.CodeRange>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              reservedRange_.add(input.readMessage(doorking.Proto.CodeRange.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          reservedRange_ = java.util.Collections.unmodifiableList(reservedRange_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return doorking.Proto.internal_static_doorking_CodeAllocation_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return doorking.Proto.internal_static_doorking_CodeAllocation_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              doorking.Proto.CodeAllocation.class, doorking.Proto.CodeAllocation.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<CodeAllocation> PARSER =
+        new com.google.protobuf.AbstractParser<CodeAllocation>() {
+      public CodeAllocation parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CodeAllocation(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CodeAllocation> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int MIN_DISTANCE_FIELD_NUMBER = 1;
+    private int minDistance_;
+    /**
+     * <code>optional int32 min_distance = 1 [default = 1];</code>
+     *
+     * <pre>
+     * Minimum number of digits in which a new code differs from every used,
+     * deleted or newly allocated code.
+     * </pre>
+     */
+    public boolean hasMinDistance() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int32 min_distance = 1 [default = 1];</code>
+     *
+     * <pre>
+     * Minimum number of digits in which a new code differs from every used,
+     * deleted or newly allocated code.
+     * </pre>
+     */
+    public int getMinDistance() {
+      return minDistance_;
+    }
+
+    public static final int RANDOM_FIELD_NUMBER = 2;
+    private boolean random_;
+    /**
+     * <code>optional bool random = 2;</code>
+     *
+     * <pre>
+     * Allocates in random rather than ascending order.
+     * </pre>
+     */
+    public boolean hasRandom() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional bool random = 2;</code>
+     *
+     * <pre>
+     * Allocates in random rather than ascending order.
+     * </pre>
+     */
+    public boolean getRandom() {
+      return random_;
+    }
+
+    public static final int RESERVED_RANGE_FIELD_NUMBER = 3;
+    private java.util.List<doorking.Proto.CodeRange> reservedRange_;
+    /**
+     * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+     *
+     * <pre>
+     * A type with ranges only gets codes from them; other types never do.
+     * </pre>
+     */
+    public java.util.List<doorking.Proto.CodeRange> getReservedRangeList() {
+      return reservedRange_;
+    }
+    /**
+     * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+     *
+     * <pre>
+     * A type with ranges only gets codes from them; other types never do.
+     * </pre>
+     */
+    public java.util.List<? extends doorking.Proto.CodeRangeOrBuilder> 
+        getReservedRangeOrBuilderList() {
+      return reservedRange_;
+    }
+    /**
+     * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+     *
+     * <pre>
+     * A type with ranges only gets codes from them; other types never do.
+     * </pre>
+     */
+    public int getReservedRangeCount() {
+      return reservedRange_.size();
+    }
+    /**
+     * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+     *
+     * <pre>
+     * A type with ranges only gets codes from them; other types never do.
+     * </pre>
+     */
+    public doorking.Proto.CodeRange getReservedRange(int index) {
+      return reservedRange_.get(index);
+    }
+    /**
+     * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+     *
+     * <pre>
+     * A type with ranges only gets codes from them; other types never do.
+     * </pre>
+     */
+    public doorking.Proto.CodeRangeOrBuilder getReservedRangeOrBuilder(
+        int index) {
+      return reservedRange_.get(index);
+    }
+
+    private void initFields() {
+      minDistance_ = 1;
+      random_ = false;
+      reservedRange_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(1, minDistance_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBool(2, random_);
+      }
+      for (int i = 0; i < reservedRange_.size(); i++) {
+        output.writeMessage(3, reservedRange_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, minDistance_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, random_);
+      }
+      for (int i = 0; i < reservedRange_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, reservedRange_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static doorking.Proto.CodeAllocation parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static doorking.Proto.CodeAllocation parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static doorking.Proto.CodeAllocation parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static doorking.Proto.CodeAllocation parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static doorking.Proto.CodeAllocation parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static doorking.Proto.CodeAllocation parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static doorking.Proto.CodeAllocation parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static doorking.Proto.CodeAllocation parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static doorking.Proto.CodeAllocation parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static doorking.Proto.CodeAllocation parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(doorking.Proto.CodeAllocation prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code doorking.CodeAllocation}
+     *
+     * <pre>
+     * How CodeAllocator picks new entry codes. Codes on the entry code and
+     * deleted entry code tabs are never allocated.
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:doorking.CodeAllocation)
+        doorking.Proto.CodeAllocationOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return doorking.Proto.internal_static_doorking_CodeAllocation_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return doorking.Proto.internal_static_doorking_CodeAllocation_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                doorking.Proto.CodeAllocation.class, doorking.Proto.CodeAllocation.Builder.class);
+      }
+
+      // Construct using doorking.Proto.CodeAllocation.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getReservedRangeFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        minDistance_ = 1;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        random_ = false;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (reservedRangeBuilder_ == null) {
+          reservedRange_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          reservedRangeBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return doorking.Proto.internal_static_doorking_CodeAllocation_descriptor;
+      }
+
+      public doorking.Proto.CodeAllocation getDefaultInstanceForType() {
+        return doorking.Proto.CodeAllocation.getDefaultInstance();
+      }
+
+      public doorking.Proto.CodeAllocation build() {
+        doorking.Proto.CodeAllocation result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public doorking.Proto.CodeAllocation buildPartial() {
+        doorking.Proto.CodeAllocation result = new doorking.Proto.CodeAllocation(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.minDistance_ = minDistance_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.random_ = random_;
+        if (reservedRangeBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            reservedRange_ = java.util.Collections.unmodifiableList(reservedRange_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.reservedRange_ = reservedRange_;
+        } else {
+          result.reservedRange_ = reservedRangeBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof doorking.Proto.CodeAllocation) {
+          return mergeFrom((doorking.Proto.CodeAllocation)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(doorking.Proto.CodeAllocation other) {
+        if (other == doorking.Proto.CodeAllocation.getDefaultInstance()) return this;
+        if (other.hasMinDistance()) {
+          setMinDistance(other.getMinDistance());
+        }
+        if (other.hasRandom()) {
+          setRandom(other.getRandom());
+        }
+        if (reservedRangeBuilder_ == null) {
+          if (!other.reservedRange_.isEmpty()) {
+            if (reservedRange_.isEmpty()) {
+              reservedRange_ = other.reservedRange_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureReservedRangeIsMutable();
+              reservedRange_.addAll(other.reservedRange_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.reservedRange_.isEmpty()) {
+            if (reservedRangeBuilder_.isEmpty()) {
+              reservedRangeBuilder_.dispose();
+              reservedRangeBuilder_ = null;
+              reservedRange_ = other.reservedRange_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              reservedRangeBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getReservedRangeFieldBuilder() : null;
+            } else {
+              reservedRangeBuilder_.addAllMessages(other.reservedRange_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        doorking.Proto.CodeAllocation parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (doorking.Proto.CodeAllocation) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int minDistance_ = 1;
+      /**
+       * <code>optional int32 min_distance = 1 [default = 1];</code>
+       *
+       * <pre>
+       * Minimum number of digits in which a new code differs from every used,
+       * deleted or newly allocated code.
+       * </pre>
+       */
+      public boolean hasMinDistance() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int32 min_distance = 1 [default = 1];</code>
+       *
+       * <pre>
+       * Minimum number of digits in which a new code differs from every used,
+       * deleted or newly allocated code.
+       * </pre>
+       */
+      public int getMinDistance() {
+        return minDistance_;
+      }
+      /**
+       * <code>optional int32 min_distance = 1 [default = 1];</code>
+       *
+       * <pre>
+       * Minimum number of digits in which a new code differs from every used,
+       * deleted or newly allocated code.
+       * </pre>
+       */
+      public Builder setMinDistance(int value) {
+        bitField0_ |= 0x00000001;
+        minDistance_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 min_distance = 1 [default = 1];</code>
+       *
+       * <pre>
+       * Minimum number of digits in which a new code differs from every used,
+       * deleted or newly allocated code.
+       * </pre>
+       */
+      public Builder clearMinDistance() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        minDistance_ = 1;
+        onChanged();
+        return this;
+      }
+
+      private boolean random_ ;
+      /**
+       * <code>optional bool random = 2;</code>
+       *
+       * <pre>
+       * Allocates in random rather than ascending order.
+       * </pre>
+       */
+      public boolean hasRandom() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional bool random = 2;</code>
+       *
+       * <pre>
+       * Allocates in random rather than ascending order.
+       * </pre>
+       */
+      public boolean getRandom() {
+        return random_;
+      }
+      /**
+       * <code>optional bool random = 2;</code>
+       *
+       * <pre>
+       * Allocates in random rather than ascending order.
+       * </pre>
+       */
+      public Builder setRandom(boolean value) {
+        bitField0_ |= 0x00000002;
+        random_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool random = 2;</code>
+       *
+       * <pre>
+       * Allocates in random rather than ascending order.
+       * </pre>
+       */
+      public Builder clearRandom() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        random_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<doorking.Proto.CodeRange> reservedRange_ =
+        java.util.Collections.emptyList();
+      private void ensureReservedRangeIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          reservedRange_ = new java.util.ArrayList<doorking.Proto.CodeRange>(reservedRange_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          doorking.Proto.CodeRange, doorking.Proto.CodeRange.Builder, doorking.Proto.CodeRangeOrBuilder> reservedRangeBuilder_;
+
+      /**
+       * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+       *
+       * <pre>
+       * A type with ranges only gets codes from them; other types never do.
+       * </pre>
+       */
+      public java.util.List<doorking.Proto.CodeRange> getReservedRangeList() {
+        if (reservedRangeBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(reservedRange_);
+        } else {
+          return reservedRangeBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+       *
+       * <pre>
+       * A type with ranges only gets codes from them; other types never do.
+       * </pre>
+       */
+      public int getReservedRangeCount() {
+        if (reservedRangeBuilder_ == null) {
+          return reservedRange_.size();
+        } else {
+          return reservedRangeBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+       *
+       * <pre>
+       * A type with ranges only gets codes from them; other types never do.
+       * </pre>
+       */
+      public doorking.Proto.CodeRange getReservedRange(int index) {
+        if (reservedRangeBuilder_ == null) {
+          return reservedRange_.get(index);
+        } else {
+          return reservedRangeBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+       *
+       * <pre>
+       * A type with ranges only gets codes from them; other types never do.
+       * </pre>
+       */
+      public Builder setReservedRange(
+          int index, doorking.Proto.CodeRange value) {
+        if (reservedRangeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureReservedRangeIsMutable();
+          reservedRange_.set(index, value);
+          onChanged();
+        } else {
+          reservedRangeBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+       *
+       * <pre>
+       * A type with ranges only gets codes from them; other types never do.
+       * </pre>
+       */
+      public Builder setReservedRange(
+          int index, doorking.Proto.CodeRange.Builder builderForValue) {
+        if (reservedRangeBuilder_ == null) {
+          ensureReservedRangeIsMutable();
+          reservedRange_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          reservedRangeBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+       *
+       * <pre>
+       * A type with ranges only gets codes from them; other types never do.
+       * </pre>
+       */
+      public Builder addReservedRange(doorking.Proto.CodeRange value) {
+        if (reservedRangeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureReservedRangeIsMutable();
+          reservedRange_.add(value);
+          onChanged();
+        } else {
+          reservedRangeBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+       *
+       * <pre>
+       * A type with ranges only gets codes from them; other types never do.
+       * </pre>
+       */
+      public Builder addReservedRange(
+          int index, doorking.Proto.CodeRange value) {
+        if (reservedRangeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureReservedRangeIsMutable();
+          reservedRange_.add(index, value);
+          onChanged();
+        } else {
+          reservedRangeBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+       *
+       * <pre>
+       * A type with ranges only gets codes from them; other types never do.
+       * </pre>
+       */
+      public Builder addReservedRange(
+          doorking.Proto.CodeRange.Builder builderForValue) {
+        if (reservedRangeBuilder_ == null) {
+          ensureReservedRangeIsMutable();
+          reservedRange_.add(builderForValue.build());
+          onChanged();
+        } else {
+          reservedRangeBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+       *
+       * <pre>
+       * A type with ranges only gets codes from them; other types never do.
+       * </pre>
+       */
+      public Builder addReservedRange(
+          int index, doorking.Proto.CodeRange.Builder builderForValue) {
+        if (reservedRangeBuilder_ == null) {
+          ensureReservedRangeIsMutable();
+          reservedRange_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          reservedRangeBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+       *
+       * <pre>
+       * A type with ranges only gets codes from them; other types never do.
+       * </pre>
+       */
+      public Builder addAllReservedRange(
+          java.lang.Iterable<? extends doorking.Proto.CodeRange> values) {
+        if (reservedRangeBuilder_ == null) {
+          ensureReservedRangeIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, reservedRange_);
+          onChanged();
+        } else {
+          reservedRangeBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+       *
+       * <pre>
+       * A type with ranges only gets codes from them; other types never do.
+       * </pre>
+       */
+      public Builder clearReservedRange() {
+        if (reservedRangeBuilder_ == null) {
+          reservedRange_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          reservedRangeBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+       *
+       * <pre>
+       * A type with ranges only gets codes from them; other types never do.
+       * </pre>
+       */
+      public Builder removeReservedRange(int index) {
+        if (reservedRangeBuilder_ == null) {
+          ensureReservedRangeIsMutable();
+          reservedRange_.remove(index);
+          onChanged();
+        } else {
+          reservedRangeBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+       *
+       * <pre>
+       * A type with ranges only gets codes from them; other types never do.
+       * </pre>
+       */
+      public doorking.Proto.CodeRange.Builder getReservedRangeBuilder(
+          int index) {
+        return getReservedRangeFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+       *
+       * <pre>
+       * A type with ranges only gets codes from them; other types never do.
+       * </pre>
+       */
+      public doorking.Proto.CodeRangeOrBuilder getReservedRangeOrBuilder(
+          int index) {
+        if (reservedRangeBuilder_ == null) {
+          return reservedRange_.get(index);  } else {
+          return reservedRangeBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+       *
+       * <pre>
+       * A type with ranges only gets codes from them; other types never do.
+       * </pre>
+       */
+      public java.util.List<? extends doorking.Proto.CodeRangeOrBuilder> 
+           getReservedRangeOrBuilderList() {
+        if (reservedRangeBuilder_ != null) {
+          return reservedRangeBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(reservedRange_);
+        }
+      }
+      /**
+       * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+       *
+       * <pre>
+       * A type with ranges only gets codes from them; other types never do.
+       * </pre>
+       */
+      public doorking.Proto.CodeRange.Builder addReservedRangeBuilder() {
+        return getReservedRangeFieldBuilder().addBuilder(
+            doorking.Proto.CodeRange.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+       *
+       * <pre>
+       * A type with ranges only gets codes from them; other types never do.
+       * </pre>
+       */
+      public doorking.Proto.CodeRange.Builder addReservedRangeBuilder(
+          int index) {
+        return getReservedRangeFieldBuilder().addBuilder(
+            index, doorking.Proto.CodeRange.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .doorking.CodeRange reserved_range = 3;</code>
+       *
+       * <pre>
+       * A type with ranges only gets codes from them; other types never do.
+       * </pre>
+       */
+      public java.util.List<doorking.Proto.CodeRange.Builder> 
+           getReservedRangeBuilderList() {
+        return getReservedRangeFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          doorking.Proto.CodeRange, doorking.Proto.CodeRange.Builder, doorking.Proto.CodeRangeOrBuilder> 
+          getReservedRangeFieldBuilder() {
+        if (reservedRangeBuilder_ == null) {
+          reservedRangeBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              doorking.Proto.CodeRange, doorking.Proto.CodeRange.Builder, doorking.Proto.CodeRangeOrBuilder>(
+                  reservedRange_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          reservedRange_ = null;
+        }
+        return reservedRangeBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:doorking.CodeAllocation)
+    }
+
+    static {
+      defaultInstance = new CodeAllocation(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:doorking.CodeAllocation)
+  }
+
+  public interface CodeRangeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:doorking.CodeRange)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string entry_code_type = 1;</code>
+     */
+    boolean hasEntryCodeType();
+    /**
+     * <code>optional string entry_code_type = 1;</code>
+     */
+    java.lang.String getEntryCodeType();
+    /**
+     * <code>optional string entry_code_type = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getEntryCodeTypeBytes();
+
+    /**
+     * <code>optional int32 first = 2;</code>
+     */
+    boolean hasFirst();
+    /**
+     * <code>optional int32 first = 2;</code>
+     */
+    int getFirst();
+
+    /**
+     * <code>optional int32 last = 3;</code>
+     */
+    boolean hasLast();
+    /**
+     * <code>optional int32 last = 3;</code>
+     */
+    int getLast();
+  }
+  /**
+   * Protobuf type {@code doorking.CodeRange}
+   */
+  public static final class CodeRange extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:doorking.CodeRange)
+      CodeRangeOrBuilder {
+    // Use CodeRange.newBuilder() to construct.
+    private CodeRange(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private CodeRange(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final CodeRange defaultInstance;
+    public static CodeRange getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public CodeRange getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CodeRange(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              entryCodeType_ = bs;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              first_ = input.readInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              last_ = input.readInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return doorking.Proto.internal_static_doorking_CodeRange_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return doorking.Proto.internal_static_doorking_CodeRange_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              doorking.Proto.CodeRange.class, doorking.Proto.CodeRange.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<CodeRange> PARSER =
+        new com.google.protobuf.AbstractParser<CodeRange>() {
+      public CodeRange parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CodeRange(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CodeRange> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int ENTRY_CODE_TYPE_FIELD_NUMBER = 1;
+    private java.lang.Object entryCodeType_;
+    /**
+     * <code>optional string entry_code_type = 1;</code>
+     */
+    public boolean hasEntryCodeType() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string entry_code_type = 1;</code>
+     */
+    public java.lang.String getEntryCodeType() {
+      java.lang.Object ref = entryCodeType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          entryCodeType_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string entry_code_type = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getEntryCodeTypeBytes() {
+      java.lang.Object ref = entryCodeType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        entryCodeType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FIRST_FIELD_NUMBER = 2;
+    private int first_;
+    /**
+     * <code>optional int32 first = 2;</code>
+     */
+    public boolean hasFirst() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int32 first = 2;</code>
+     */
+    public int getFirst() {
+      return first_;
+    }
+
+    public static final int LAST_FIELD_NUMBER = 3;
+    private int last_;
+    /**
+     * <code>optional int32 last = 3;</code>
+     */
+    public boolean hasLast() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int32 last = 3;</code>
+     */
+    public int getLast() {
+      return last_;
+    }
+
+    private void initFields() {
+      entryCodeType_ = "";
+      first_ = 0;
+      last_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getEntryCodeTypeBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(2, first_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt32(3, last_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getEntryCodeTypeBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, first_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, last_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static doorking.Proto.CodeRange parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static doorking.Proto.CodeRange parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static doorking.Proto.CodeRange parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static doorking.Proto.CodeRange parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static doorking.Proto.CodeRange parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static doorking.Proto.CodeRange parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static doorking.Proto.CodeRange parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static doorking.Proto.CodeRange parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static doorking.Proto.CodeRange parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static doorking.Proto.CodeRange parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(doorking.Proto.CodeRange prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code doorking.CodeRange}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:doorking.CodeRange)
+        doorking.Proto.CodeRangeOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return doorking.Proto.internal_static_doorking_CodeRange_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return doorking.Proto.internal_static_doorking_CodeRange_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                doorking.Proto.CodeRange.class, doorking.Proto.CodeRange.Builder.class);
+      }
+
+      // Construct using doorking.Proto.CodeRange.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        entryCodeType_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        first_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        last_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return doorking.Proto.internal_static_doorking_CodeRange_descriptor;
+      }
+
+      public doorking.Proto.CodeRange getDefaultInstanceForType() {
+        return doorking.Proto.CodeRange.getDefaultInstance();
+      }
+
+      public doorking.Proto.CodeRange build() {
+        doorking.Proto.CodeRange result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public doorking.Proto.CodeRange buildPartial() {
+        doorking.Proto.CodeRange result = new doorking.Proto.CodeRange(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.entryCodeType_ = entryCodeType_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.first_ = first_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.last_ = last_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof doorking.Proto.CodeRange) {
+          return mergeFrom((doorking.Proto.CodeRange)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(doorking.Proto.CodeRange other) {
+        if (other == doorking.Proto.CodeRange.getDefaultInstance()) return this;
+        if (other.hasEntryCodeType()) {
+          bitField0_ |= 0x00000001;
+          entryCodeType_ = other.entryCodeType_;
+          onChanged();
+        }
+        if (other.hasFirst()) {
+          setFirst(other.getFirst());
+        }
+        if (other.hasLast()) {
+          setLast(other.getLast());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        doorking.Proto.CodeRange parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (doorking.Proto.CodeRange) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object entryCodeType_ = "";
+      /**
+       * <code>optional string entry_code_type = 1;</code>
+       */
+      public boolean hasEntryCodeType() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string entry_code_type = 1;</code>
+       */
+      public java.lang.String getEntryCodeType() {
+        java.lang.Object ref = entryCodeType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            entryCodeType_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string entry_code_type = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getEntryCodeTypeBytes() {
+        java.lang.Object ref = entryCodeType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          entryCodeType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string entry_code_type = 1;</code>
+       */
+      public Builder setEntryCodeType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        entryCodeType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string entry_code_type = 1;</code>
+       */
+      public Builder clearEntryCodeType() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        entryCodeType_ = getDefaultInstance().getEntryCodeType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string entry_code_type = 1;</code>
+       */
+      public Builder setEntryCodeTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        entryCodeType_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int first_ ;
+      /**
+       * <code>optional int32 first = 2;</code>
+       */
+      public boolean hasFirst() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int32 first = 2;</code>
+       */
+      public int getFirst() {
+        return first_;
+      }
+      /**
+       * <code>optional int32 first = 2;</code>
+       */
+      public Builder setFirst(int value) {
+        bitField0_ |= 0x00000002;
+        first_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 first = 2;</code>
+       */
+      public Builder clearFirst() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        first_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int last_ ;
+      /**
+       * <code>optional int32 last = 3;</code>
+       */
+      public boolean hasLast() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int32 last = 3;</code>
+       */
+      public int getLast() {
+        return last_;
+      }
+      /**
+       * <code>optional int32 last = 3;</code>
+       */
+      public Builder setLast(int value) {
+        bitField0_ |= 0x00000004;
+        last_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 last = 3;</code>
+       */
+      public Builder clearLast() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        last_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:doorking.CodeRange)
+    }
+
+    static {
+      defaultInstance = new CodeRange(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:doorking.CodeRange)
+  }
+
+  public interface SiteOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:doorking.Site)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    boolean hasName();
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    java.lang.String getName();
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>optional .doorking.Config config = 2;</code>
+     */
+    boolean hasConfig();
+    /**
+     * <code>optional .doorking.Config config = 2;</code>
+     */
+    doorking.Proto.Config getConfig();
+    /**
+     * <code>optional .doorking.Config config = 2;</code>
+     */
+    doorking.Proto.ConfigOrBuilder getConfigOrBuilder();
+  }
+  /**
+   * Protobuf type {@code doorking.Site}
+   */
+  public static final class Site extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:doorking.Site)
+      SiteOrBuilder {
+    // Use Site.newBuilder() to construct.
+    private Site(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Site(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Site defaultInstance;
+    public static Site getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Site getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Site(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              name_ = bs;
+              break;
+            }
+            case 18: {
+              doorking.Proto.Config.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = config_.toBuilder();
+              }
+              config_ = input.readMessage(doorking.Proto.Config.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(config_);
+                config_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return doorking.Proto.internal_static_doorking_Site_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return doorking.Proto.internal_static_doorking_Site_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              doorking.Proto.Site.class, doorking.Proto.Site.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Site> PARSER =
+        new com.google.protobuf.AbstractParser<Site>() {
+      public Site parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Site(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Site> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private java.lang.Object name_;
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CONFIG_FIELD_NUMBER = 2;
+    private doorking.Proto.Config config_;
+    /**
+     * <code>optional .doorking.Config config = 2;</code>
+     */
+    public boolean hasConfig() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .doorking.Config config = 2;</code>
+     */
+    public doorking.Proto.Config getConfig() {
+      return config_;
+    }
+    /**
+     * <code>optional .doorking.Config config = 2;</code>
+     */
+    public doorking.Proto.ConfigOrBuilder getConfigOrBuilder() {
+      return config_;
+    }
+
+    private void initFields() {
+      name_ = "";
+      config_ = doorking.Proto.Config.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, config_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, config_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static doorking.Proto.Site parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static doorking.Proto.Site parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static doorking.Proto.Site parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static doorking.Proto.Site parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static doorking.Proto.Site parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static doorking.Proto.Site parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static doorking.Proto.Site parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static doorking.Proto.Site parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static doorking.Proto.Site parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static doorking.Proto.Site parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(doorking.Proto.Site prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code doorking.Site}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:doorking.Site)
+        doorking.Proto.SiteOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return doorking.Proto.internal_static_doorking_Site_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return doorking.Proto.internal_static_doorking_Site_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                doorking.Proto.Site.class, doorking.Proto.Site.Builder.class);
+      }
+
+      // Construct using doorking.Proto.Site.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getConfigFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (configBuilder_ == null) {
+          config_ = doorking.Proto.Config.getDefaultInstance();
+        } else {
+          configBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return doorking.Proto.internal_static_doorking_Site_descriptor;
+      }
+
+      public doorking.Proto.Site getDefaultInstanceForType() {
+        return doorking.Proto.Site.getDefaultInstance();
+      }
+
+      public doorking.Proto.Site build() {
+        doorking.Proto.Site result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public doorking.Proto.Site buildPartial() {
+        doorking.Proto.Site result = new doorking.Proto.Site(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.name_ = name_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (configBuilder_ == null) {
+          result.config_ = config_;
+        } else {
+          result.config_ = configBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof doorking.Proto.Site) {
+          return mergeFrom((doorking.Proto.Site)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(doorking.Proto.Site other) {
+        if (other == doorking.Proto.Site.getDefaultInstance()) return this;
+        if (other.hasName()) {
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          onChanged();
+        }
+        if (other.hasConfig()) {
+          mergeConfig(other.getConfig());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        doorking.Proto.Site parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (doorking.Proto.Site) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      private doorking.Proto.Config config_ = doorking.Proto.Config.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          doorking.Proto.Config, doorking.Proto.Config.Builder, doorking.Proto.ConfigOrBuilder> configBuilder_;
+      /**
+       * <code>optional .doorking.Config config = 2;</code>
+       */
+      public boolean hasConfig() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .doorking.Config config = 2;</code>
+       */
+      public doorking.Proto.Config getConfig() {
+        if (configBuilder_ == null) {
+          return config_;
+        } else {
+          return configBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .doorking.Config config = 2;</code>
+       */
+      public Builder setConfig(doorking.Proto.Config value) {
+        if (configBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          config_ = value;
+          onChanged();
+        } else {
+          configBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .doorking.Config config = 2;</code>
+       */
+      public Builder setConfig(
+          doorking.Proto.Config.Builder builderForValue) {
+        if (configBuilder_ == null) {
+          config_ = builderForValue.build();
+          onChanged();
+        } else {
+          configBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .doorking.Config config = 2;</code>
+       */
+      public Builder mergeConfig(doorking.Proto.Config value) {
+        if (configBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              config_ != doorking.Proto.Config.getDefaultInstance()) {
+            config_ =
+              doorking.Proto.Config.newBuilder(config_).mergeFrom(value).buildPartial();
+          } else {
+            config_ = value;
+          }
+          onChanged();
+        } else {
+          configBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .doorking.Config config = 2;</code>
+       */
+      public Builder clearConfig() {
+        if (configBuilder_ == null) {
+          config_ = doorking.Proto.Config.getDefaultInstance();
+          onChanged();
+        } else {
+          configBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>optional .doorking.Config config = 2;</code>
+       */
+      public doorking.Proto.Config.Builder getConfigBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getConfigFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .doorking.Config config = 2;</code>
+       */
+      public doorking.Proto.ConfigOrBuilder getConfigOrBuilder() {
+        if (configBuilder_ != null) {
+          return configBuilder_.getMessageOrBuilder();
+        } else {
+          return config_;
+        }
+      }
+      /**
+       * <code>optional .doorking.Config config = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          doorking.Proto.Config, doorking.Proto.Config.Builder, doorking.Proto.ConfigOrBuilder> 
+          getConfigFieldBuilder() {
+        if (configBuilder_ == null) {
+          configBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              doorking.Proto.Config, doorking.Proto.Config.Builder, doorking.Proto.ConfigOrBuilder>(
+                  getConfig(),
+                  getParentForChildren(),
+                  isClean());
+          config_ = null;
+        }
+        return configBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:doorking.Site)
+    }
+
+    static {
+      defaultInstance = new Site(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:doorking.Site)
+  }
+
+  public interface SecurityLevelMappingOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:doorking.SecurityLevelMapping)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string entry_code_type = 1;</code>
+     */
+    boolean hasEntryCodeType();
+    /**
+     * <code>optional string entry_code_type = 1;</code>
+     */
+    java.lang.String getEntryCodeType();
+    /**
+     * <code>optional string entry_code_type = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getEntryCodeTypeBytes();
+
+    /**
+     * <code>optional int32 security_level = 2;</code>
+     */
+    boolean hasSecurityLevel();
+    /**
+     * <code>optional int32 security_level = 2;</code>
+     */
+    int getSecurityLevel();
+  }
+  /**
+   * Protobuf type {@code doorking.SecurityLevelMapping}
+   */
+  public static final class SecurityLevelMapping extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:doorking.SecurityLevelMapping)
+      SecurityLevelMappingOrBuilder {
+    // Use SecurityLevelMapping.newBuilder() to construct.
+    private SecurityLevelMapping(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private SecurityLevelMapping(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final SecurityLevelMapping defaultInstance;
+    public static SecurityLevelMapping getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public SecurityLevelMapping getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SecurityLevelMapping(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              entryCodeType_ = bs;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              securityLevel_ = input.readInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return doorking.Proto.internal_static_doorking_SecurityLevelMapping_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return doorking.Proto.internal_static_doorking_SecurityLevelMapping_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              doorking.Proto.SecurityLevelMapping.class, doorking.Proto.SecurityLevelMapping.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<SecurityLevelMapping> PARSER =
+        new com.google.protobuf.AbstractParser<SecurityLevelMapping>() {
+      public SecurityLevelMapping parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SecurityLevelMapping(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SecurityLevelMapping> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int ENTRY_CODE_TYPE_FIELD_NUMBER = 1;
+    private java.lang.Object entryCodeType_;
+    /**
+     * <code>optional string entry_code_type = 1;</code>
+     */
+    public boolean hasEntryCodeType() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string entry_code_type = 1;</code>
+     */
+    public java.lang.String getEntryCodeType() {
+      java.lang.Object ref = entryCodeType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          entryCodeType_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string entry_code_type = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getEntryCodeTypeBytes() {
+      java.lang.Object ref = entryCodeType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        entryCodeType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SECURITY_LEVEL_FIELD_NUMBER = 2;
+    private int securityLevel_;
+    /**
+     * <code>optional int32 security_level = 2;</code>
+     */
+    public boolean hasSecurityLevel() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int32 security_level = 2;</code>
+     */
+    public int getSecurityLevel() {
+      return securityLevel_;
+    }
+
+    private void initFields() {
+      entryCodeType_ = "";
+      securityLevel_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getEntryCodeTypeBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(2, securityLevel_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getEntryCodeTypeBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, securityLevel_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static doorking.Proto.SecurityLevelMapping parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static doorking.Proto.SecurityLevelMapping parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static doorking.Proto.SecurityLevelMapping parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static doorking.Proto.SecurityLevelMapping parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static doorking.Proto.SecurityLevelMapping parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static doorking.Proto.SecurityLevelMapping parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static doorking.Proto.SecurityLevelMapping parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static doorking.Proto.SecurityLevelMapping parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static doorking.Proto.SecurityLevelMapping parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static doorking.Proto.SecurityLevelMapping parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(doorking.Proto.SecurityLevelMapping prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code doorking.SecurityLevelMapping}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:doorking.SecurityLevelMapping)
+        doorking.Proto.SecurityLevelMappingOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return doorking.Proto.internal_static_doorking_SecurityLevelMapping_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return doorking.Proto.internal_static_doorking_SecurityLevelMapping_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                doorking.Proto.SecurityLevelMapping.class, doorking.Proto.SecurityLevelMapping.Builder.class);
+      }
+
+      // Construct using doorking.Proto.SecurityLevelMapping.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        entryCodeType_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        securityLevel_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return doorking.Proto.internal_static_doorking_SecurityLevelMapping_descriptor;
+      }
+
+      public doorking.Proto.SecurityLevelMapping getDefaultInstanceForType() {
+        return doorking.Proto.SecurityLevelMapping.getDefaultInstance();
+      }
+
+      public doorking.Proto.SecurityLevelMapping build() {
+        doorking.Proto.SecurityLevelMapping result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public doorking.Proto.SecurityLevelMapping buildPartial() {
+        doorking.Proto.SecurityLevelMapping result = new doorking.Proto.SecurityLevelMapping(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.entryCodeType_ = entryCodeType_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.securityLevel_ = securityLevel_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof doorking.Proto.SecurityLevelMapping) {
+          return mergeFrom((doorking.Proto.SecurityLevelMapping)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(doorking.Proto.SecurityLevelMapping other) {
+        if (other == doorking.Proto.SecurityLevelMapping.getDefaultInstance()) return this;
+        if (other.hasEntryCodeType()) {
+          bitField0_ |= 0x00000001;
+          entryCodeType_ = other.entryCodeType_;
+          onChanged();
+        }
+        if (other.hasSecurityLevel()) {
+          setSecurityLevel(other.getSecurityLevel());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        doorking.Proto.SecurityLevelMapping parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (doorking.Proto.SecurityLevelMapping) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object entryCodeType_ = "";
+      /**
+       * <code>optional string entry_code_type = 1;</code>
+       */
+      public boolean hasEntryCodeType() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string entry_code_type = 1;</code>
+       */
+      public java.lang.String getEntryCodeType() {
+        java.lang.Object ref = entryCodeType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            entryCodeType_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string entry_code_type = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getEntryCodeTypeBytes() {
+        java.lang.Object ref = entryCodeType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          entryCodeType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string entry_code_type = 1;</code>
+       */
+      public Builder setEntryCodeType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        entryCodeType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string entry_code_type = 1;</code>
+       */
+      public Builder clearEntryCodeType() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        entryCodeType_ = getDefaultInstance().getEntryCodeType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string entry_code_type = 1;</code>
+       */
+      public Builder setEntryCodeTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        entryCodeType_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int securityLevel_ ;
+      /**
+       * <code>optional int32 security_level = 2;</code>
+       */
+      public boolean hasSecurityLevel() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int32 security_level = 2;</code>
+       */
+      public int getSecurityLevel() {
+        return securityLevel_;
+      }
+      /**
+       * <code>optional int32 security_level = 2;</code>
+       */
+      public Builder setSecurityLevel(int value) {
+        bitField0_ |= 0x00000002;
+        securityLevel_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 security_level = 2;</code>
+       */
+      public Builder clearSecurityLevel() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        securityLevel_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:doorking.SecurityLevelMapping)
+    }
+
+    static {
+      defaultInstance = new SecurityLevelMapping(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:doorking.SecurityLevelMapping)
+  }
+
+  public interface SyncSnapshotOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:doorking.SyncSnapshot)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional int64 timestamp_millis = 1;</code>
+     */
+    boolean hasTimestampMillis();
+    /**
+     * <code>optional int64 timestamp_millis = 1;</code>
+     */
+    long getTimestampMillis();
+
+    /**
+     * <code>optional string account_name = 2;</code>
+     */
+    boolean hasAccountName();
+    /**
+     * <code>optional string account_name = 2;</code>
+     */
+    java.lang.String getAccountName();
+    /**
+     * <code>optional string account_name = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getAccountNameBytes();
+
+    /**
+     * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+     */
+    java.util.List<doorking.Proto.EntrySnapshot> 
+        getEntryList();
+    /**
+     * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+     */
+    doorking.Proto.EntrySnapshot getEntry(int index);
+    /**
+     * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+     */
+    int getEntryCount();
+    /**
+     * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+     */
+    java.util.List<? extends doorking.Proto.EntrySnapshotOrBuilder> 
+        getEntryOrBuilderList();
+    /**
+     * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+     */
+    doorking.Proto.EntrySnapshotOrBuilder getEntryOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+     */
+    java.util.List<doorking.Proto.EntryCodeSnapshot> 
+        getEntryCodeList();
+    /**
+     * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+     */
+    doorking.Proto.EntryCodeSnapshot getEntryCode(int index);
+    /**
+     * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+     */
+    int getEntryCodeCount();
+    /**
+     * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+     */
+    java.util.List<? extends doorking.Proto.EntryCodeSnapshotOrBuilder> 
+        getEntryCodeOrBuilderList();
+    /**
+     * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+     */
+    doorking.Proto.EntryCodeSnapshotOrBuilder getEntryCodeOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated int32 deleted_entry_code = 5 [packed = true];</code>
+     */
+    java.util.List<java.lang.Integer> getDeletedEntryCodeList();
+    /**
+     * <code>repeated int32 deleted_entry_code = 5 [packed = true];</code>
+     */
+    int getDeletedEntryCodeCount();
+    /**
+     * <code>repeated int32 deleted_entry_code = 5 [packed = true];</code>
+     */
+    int getDeletedEntryCode(int index);
+  }
+  /**
+   * Protobuf type {@code doorking.SyncSnapshot}
+   *
+   * <pre>
+   * The adapted result of a sync, stored in binary form by EntrySnapshotStore.
+   * </pre>
+   */
+  public static final class SyncSnapshot extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:doorking.SyncSnapshot)
+      SyncSnapshotOrBuilder {
+    // Use SyncSnapshot.newBuilder() to construct.
+    private SyncSnapshot(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private SyncSnapshot(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final SyncSnapshot defaultInstance;
+    public static SyncSnapshot getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public SyncSnapshot getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SyncSnapshot(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              timestampMillis_ = input.readInt64();
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              accountName_ = bs;
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                entry_ = new java.util.ArrayList<doorking.Proto.EntrySnapshot>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              entry_.add(input.readMessage(doorking.Proto.EntrySnapshot.PARSER, extensionRegistry));
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                entryCode_ = new java.util.ArrayList<doorking.Proto.EntryCodeSnapshot>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              entryCode_.add(input.readMessage(doorking.Proto.EntryCodeSnapshot.PARSER, extensionRegistry));
+              break;
+            }
+            case 40: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                deletedEntryCode_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              deletedEntryCode_.add(input.readInt32());
+              break;
+            }
+            case 42: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010) && input.getBytesUntilLimit() > 0) {
+                deletedEntryCode_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                deletedEntryCode_.add(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          entry_ = java.util.Collections.unmodifiableList(entry_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          entryCode_ = java.util.Collections.unmodifiableList(entryCode_);
+        }
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          deletedEntryCode_ = java.util.Collections.unmodifiableList(deletedEntryCode_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return doorking.Proto.internal_static_doorking_SyncSnapshot_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return doorking.Proto.internal_static_doorking_SyncSnapshot_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              doorking.Proto.SyncSnapshot.class, doorking.Proto.SyncSnapshot.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<SyncSnapshot> PARSER =
+        new com.google.protobuf.AbstractParser<SyncSnapshot>() {
+      public SyncSnapshot parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SyncSnapshot(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SyncSnapshot> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int TIMESTAMP_MILLIS_FIELD_NUMBER = 1;
+    private long timestampMillis_;
+    /**
+     * <code>optional int64 timestamp_millis = 1;</code>
+     */
+    public boolean hasTimestampMillis() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int64 timestamp_millis = 1;</code>
+     */
+    public long getTimestampMillis() {
+      return timestampMillis_;
+    }
+
+    public static final int ACCOUNT_NAME_FIELD_NUMBER = 2;
+    private java.lang.Object accountName_;
+    /**
+     * <code>optional string account_name = 2;</code>
+     */
+    public boolean hasAccountName() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string account_name = 2;</code>
+     */
+    public java.lang.String getAccountName() {
+      java.lang.Object ref = accountName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          accountName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string account_name = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getAccountNameBytes() {
+      java.lang.Object ref = accountName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        accountName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ENTRY_FIELD_NUMBER = 3;
+    private java.util.List<doorking.Proto.EntrySnapshot> entry_;
+    /**
+     * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+     */
+    public java.util.List<doorking.Proto.EntrySnapshot> getEntryList() {
+      return entry_;
+    }
+    /**
+     * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+     */
+    public java.util.List<? extends doorking.Proto.EntrySnapshotOrBuilder> 
+        getEntryOrBuilderList() {
+      return entry_;
+    }
+    /**
+     * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+     */
+    public int getEntryCount() {
+      return entry_.size();
+    }
+    /**
+     * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+     */
+    public doorking.Proto.EntrySnapshot getEntry(int index) {
+      return entry_.get(index);
+    }
+    /**
+     * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+     */
+    public doorking.Proto.EntrySnapshotOrBuilder getEntryOrBuilder(
+        int index) {
+      return entry_.get(index);
+    }
+
+    public static final int ENTRY_CODE_FIELD_NUMBER = 4;
+    private java.util.List<doorking.Proto.EntryCodeSnapshot> entryCode_;
+    /**
+     * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+     */
+    public java.util.List<doorking.Proto.EntryCodeSnapshot> getEntryCodeList() {
+      return entryCode_;
+    }
+    /**
+     * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+     */
+    public java.util.List<? extends doorking.Proto.EntryCodeSnapshotOrBuilder> 
+        getEntryCodeOrBuilderList() {
+      return entryCode_;
+    }
+    /**
+     * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+     */
+    public int getEntryCodeCount() {
+      return entryCode_.size();
+    }
+    /**
+     * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+     */
+    public doorking.Proto.EntryCodeSnapshot getEntryCode(int index) {
+      return entryCode_.get(index);
+    }
+    /**
+     * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+     */
+    public doorking.Proto.EntryCodeSnapshotOrBuilder getEntryCodeOrBuilder(
+        int index) {
+      return entryCode_.get(index);
+    }
+
+    public static final int DELETED_ENTRY_CODE_FIELD_NUMBER = 5;
+    private java.util.List<java.lang.Integer> deletedEntryCode_;
+    /**
+     * <code>repeated int32 deleted_entry_code = 5 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Integer>
+        getDeletedEntryCodeList() {
+      return deletedEntryCode_;
+    }
+    /**
+     * <code>repeated int32 deleted_entry_code = 5 [packed = true];</code>
+     */
+    public int getDeletedEntryCodeCount() {
+      return deletedEntryCode_.size();
+    }
+    /**
+     * <code>repeated int32 deleted_entry_code = 5 [packed = true];</code>
+     */
+    public int getDeletedEntryCode(int index) {
+      return deletedEntryCode_.get(index);
+    }
+    private int deletedEntryCodeMemoizedSerializedSize = -1;
+
+    private void initFields() {
+      timestampMillis_ = 0L;
+      accountName_ = "";
+      entry_ = java.util.Collections.emptyList();
+      entryCode_ = java.util.Collections.emptyList();
+      deletedEntryCode_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt64(1, timestampMillis_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getAccountNameBytes());
+      }
+      for (int i = 0; i < entry_.size(); i++) {
+        output.writeMessage(3, entry_.get(i));
+      }
+      for (int i = 0; i < entryCode_.size(); i++) {
+        output.writeMessage(4, entryCode_.get(i));
+      }
+      if (getDeletedEntryCodeList().size() > 0) {
+        output.writeRawVarint32(42);
+        output.writeRawVarint32(deletedEntryCodeMemoizedSerializedSize);
+      }
+      for (int i = 0; i < deletedEntryCode_.size(); i++) {
+        output.writeInt32NoTag(deletedEntryCode_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, timestampMillis_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getAccountNameBytes());
+      }
+      for (int i = 0; i < entry_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, entry_.get(i));
+      }
+      for (int i = 0; i < entryCode_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, entryCode_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < deletedEntryCode_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(deletedEntryCode_.get(i));
+        }
+        size += dataSize;
+        if (!getDeletedEntryCodeList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        deletedEntryCodeMemoizedSerializedSize = dataSize;
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static doorking.Proto.SyncSnapshot parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static doorking.Proto.SyncSnapshot parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static doorking.Proto.SyncSnapshot parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static doorking.Proto.SyncSnapshot parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static doorking.Proto.SyncSnapshot parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static doorking.Proto.SyncSnapshot parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static doorking.Proto.SyncSnapshot parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static doorking.Proto.SyncSnapshot parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static doorking.Proto.SyncSnapshot parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static doorking.Proto.SyncSnapshot parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(doorking.Proto.SyncSnapshot prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code doorking.SyncSnapshot}
+     *
+     * <pre>
+     * The adapted result of a sync, stored in binary form by EntrySnapshotStore.
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:doorking.SyncSnapshot)
+        doorking.Proto.SyncSnapshotOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return doorking.Proto.internal_static_doorking_SyncSnapshot_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return doorking.Proto.internal_static_doorking_SyncSnapshot_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                doorking.Proto.SyncSnapshot.class, doorking.Proto.SyncSnapshot.Builder.class);
+      }
+
+      // Construct using doorking.Proto.SyncSnapshot.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getEntryFieldBuilder();
+          getEntryCodeFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        timestampMillis_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        accountName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (entryBuilder_ == null) {
+          entry_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          entryBuilder_.clear();
+        }
+        if (entryCodeBuilder_ == null) {
+          entryCode_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          entryCodeBuilder_.clear();
+        }
+        deletedEntryCode_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return doorking.Proto.internal_static_doorking_SyncSnapshot_descriptor;
+      }
+
+      public doorking.Proto.SyncSnapshot getDefaultInstanceForType() {
+        return doorking.Proto.SyncSnapshot.getDefaultInstance();
+      }
+
+      public doorking.Proto.SyncSnapshot build() {
+        doorking.Proto.SyncSnapshot result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public doorking.Proto.SyncSnapshot buildPartial() {
+        doorking.Proto.SyncSnapshot result = new doorking.Proto.SyncSnapshot(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.timestampMillis_ = timestampMillis_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.accountName_ = accountName_;
+        if (entryBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            entry_ = java.util.Collections.unmodifiableList(entry_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.entry_ = entry_;
+        } else {
+          result.entry_ = entryBuilder_.build();
+        }
+        if (entryCodeBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            entryCode_ = java.util.Collections.unmodifiableList(entryCode_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.entryCode_ = entryCode_;
+        } else {
+          result.entryCode_ = entryCodeBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          deletedEntryCode_ = java.util.Collections.unmodifiableList(deletedEntryCode_);
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.deletedEntryCode_ = deletedEntryCode_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof doorking.Proto.SyncSnapshot) {
+          return mergeFrom((doorking.Proto.SyncSnapshot)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(doorking.Proto.SyncSnapshot other) {
+        if (other == doorking.Proto.SyncSnapshot.getDefaultInstance()) return this;
+        if (other.hasTimestampMillis()) {
+          setTimestampMillis(other.getTimestampMillis());
+        }
+        if (other.hasAccountName()) {
+          bitField0_ |= 0x00000002;
+          accountName_ = other.accountName_;
+          onChanged();
+        }
+        if (entryBuilder_ == null) {
+          if (!other.entry_.isEmpty()) {
+            if (entry_.isEmpty()) {
+              entry_ = other.entry_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureEntryIsMutable();
+              entry_.addAll(other.entry_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.entry_.isEmpty()) {
+            if (entryBuilder_.isEmpty()) {
+              entryBuilder_.dispose();
+              entryBuilder_ = null;
+              entry_ = other.entry_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              entryBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getEntryFieldBuilder() : null;
+            } else {
+              entryBuilder_.addAllMessages(other.entry_);
+            }
+          }
+        }
+        if (entryCodeBuilder_ == null) {
+          if (!other.entryCode_.isEmpty()) {
+            if (entryCode_.isEmpty()) {
+              entryCode_ = other.entryCode_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureEntryCodeIsMutable();
+              entryCode_.addAll(other.entryCode_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.entryCode_.isEmpty()) {
+            if (entryCodeBuilder_.isEmpty()) {
+              entryCodeBuilder_.dispose();
+              entryCodeBuilder_ = null;
+              entryCode_ = other.entryCode_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              entryCodeBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getEntryCodeFieldBuilder() : null;
+            } else {
+              entryCodeBuilder_.addAllMessages(other.entryCode_);
+            }
+          }
+        }
+        if (!other.deletedEntryCode_.isEmpty()) {
+          if (deletedEntryCode_.isEmpty()) {
+            deletedEntryCode_ = other.deletedEntryCode_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureDeletedEntryCodeIsMutable();
+            deletedEntryCode_.addAll(other.deletedEntryCode_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        doorking.Proto.SyncSnapshot parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (doorking.Proto.SyncSnapshot) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long timestampMillis_ ;
+      /**
+       * <code>optional int64 timestamp_millis = 1;</code>
+       */
+      public boolean hasTimestampMillis() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int64 timestamp_millis = 1;</code>
+       */
+      public long getTimestampMillis() {
+        return timestampMillis_;
+      }
+      /**
+       * <code>optional int64 timestamp_millis = 1;</code>
+       */
+      public Builder setTimestampMillis(long value) {
+        bitField0_ |= 0x00000001;
+        timestampMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 timestamp_millis = 1;</code>
+       */
+      public Builder clearTimestampMillis() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        timestampMillis_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object accountName_ = "";
+      /**
+       * <code>optional string account_name = 2;</code>
+       */
+      public boolean hasAccountName() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string account_name = 2;</code>
+       */
+      public java.lang.String getAccountName() {
+        java.lang.Object ref = accountName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            accountName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string account_name = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getAccountNameBytes() {
+        java.lang.Object ref = accountName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          accountName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        if (other.hasEntryCodeRange()) {
-          bitField0_ |= 0x00000080;
-          entryCodeRange_ = other.entryCodeRange_;
+      }
+      /**
+       * <code>optional string account_name = 2;</code>
+       */
+      public Builder setAccountName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        accountName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string account_name = 2;</code>
+       */
+      public Builder clearAccountName() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        accountName_ = getDefaultInstance().getAccountName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string account_name = 2;</code>
+       */
+      public Builder setAccountNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        accountName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<doorking.Proto.EntrySnapshot> entry_ =
+        java.util.Collections.emptyList();
+      private void ensureEntryIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          entry_ = new java.util.ArrayList<doorking.Proto.EntrySnapshot>(entry_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          doorking.Proto.EntrySnapshot, doorking.Proto.EntrySnapshot.Builder, doorking.Proto.EntrySnapshotOrBuilder> entryBuilder_;
+
+      /**
+       * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+       */
+      public java.util.List<doorking.Proto.EntrySnapshot> getEntryList() {
+        if (entryBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(entry_);
+        } else {
+          return entryBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+       */
+      public int getEntryCount() {
+        if (entryBuilder_ == null) {
+          return entry_.size();
+        } else {
+          return entryBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+       */
+      public doorking.Proto.EntrySnapshot getEntry(int index) {
+        if (entryBuilder_ == null) {
+          return entry_.get(index);
+        } else {
+          return entryBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+       */
+      public Builder setEntry(
+          int index, doorking.Proto.EntrySnapshot value) {
+        if (entryBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntryIsMutable();
+          entry_.set(index, value);
+          onChanged();
+        } else {
+          entryBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+       */
+      public Builder setEntry(
+          int index, doorking.Proto.EntrySnapshot.Builder builderForValue) {
+        if (entryBuilder_ == null) {
+          ensureEntryIsMutable();
+          entry_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          entryBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+       */
+      public Builder addEntry(doorking.Proto.EntrySnapshot value) {
+        if (entryBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntryIsMutable();
+          entry_.add(value);
+          onChanged();
+        } else {
+          entryBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+       */
+      public Builder addEntry(
+          int index, doorking.Proto.EntrySnapshot value) {
+        if (entryBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntryIsMutable();
+          entry_.add(index, value);
+          onChanged();
+        } else {
+          entryBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+       */
+      public Builder addEntry(
+          doorking.Proto.EntrySnapshot.Builder builderForValue) {
+        if (entryBuilder_ == null) {
+          ensureEntryIsMutable();
+          entry_.add(builderForValue.build());
+          onChanged();
+        } else {
+          entryBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+       */
+      public Builder addEntry(
+          int index, doorking.Proto.EntrySnapshot.Builder builderForValue) {
+        if (entryBuilder_ == null) {
+          ensureEntryIsMutable();
+          entry_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          entryBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+       */
+      public Builder addAllEntry(
+          java.lang.Iterable<? extends doorking.Proto.EntrySnapshot> values) {
+        if (entryBuilder_ == null) {
+          ensureEntryIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, entry_);
+          onChanged();
+        } else {
+          entryBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+       */
+      public Builder clearEntry() {
+        if (entryBuilder_ == null) {
+          entry_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          entryBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+       */
+      public Builder removeEntry(int index) {
+        if (entryBuilder_ == null) {
+          ensureEntryIsMutable();
+          entry_.remove(index);
+          onChanged();
+        } else {
+          entryBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+       */
+      public doorking.Proto.EntrySnapshot.Builder getEntryBuilder(
+          int index) {
+        return getEntryFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+       */
+      public doorking.Proto.EntrySnapshotOrBuilder getEntryOrBuilder(
+          int index) {
+        if (entryBuilder_ == null) {
+          return entry_.get(index);  } else {
+          return entryBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+       */
+      public java.util.List<? extends doorking.Proto.EntrySnapshotOrBuilder> 
+           getEntryOrBuilderList() {
+        if (entryBuilder_ != null) {
+          return entryBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(entry_);
+        }
+      }
+      /**
+       * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+       */
+      public doorking.Proto.EntrySnapshot.Builder addEntryBuilder() {
+        return getEntryFieldBuilder().addBuilder(
+            doorking.Proto.EntrySnapshot.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+       */
+      public doorking.Proto.EntrySnapshot.Builder addEntryBuilder(
+          int index) {
+        return getEntryFieldBuilder().addBuilder(
+            index, doorking.Proto.EntrySnapshot.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .doorking.EntrySnapshot entry = 3;</code>
+       */
+      public java.util.List<doorking.Proto.EntrySnapshot.Builder> 
+           getEntryBuilderList() {
+        return getEntryFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          doorking.Proto.EntrySnapshot, doorking.Proto.EntrySnapshot.Builder, doorking.Proto.EntrySnapshotOrBuilder> 
+          getEntryFieldBuilder() {
+        if (entryBuilder_ == null) {
+          entryBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              doorking.Proto.EntrySnapshot, doorking.Proto.EntrySnapshot.Builder, doorking.Proto.EntrySnapshotOrBuilder>(
+                  entry_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          entry_ = null;
+        }
+        return entryBuilder_;
+      }
+
+      private java.util.List<doorking.Proto.EntryCodeSnapshot> entryCode_ =
+        java.util.Collections.emptyList();
+      private void ensureEntryCodeIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          entryCode_ = new java.util.ArrayList<doorking.Proto.EntryCodeSnapshot>(entryCode_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          doorking.Proto.EntryCodeSnapshot, doorking.Proto.EntryCodeSnapshot.Builder, doorking.Proto.EntryCodeSnapshotOrBuilder> entryCodeBuilder_;
+
+      /**
+       * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+       */
+      public java.util.List<doorking.Proto.EntryCodeSnapshot> getEntryCodeList() {
+        if (entryCodeBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(entryCode_);
+        } else {
+          return entryCodeBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+       */
+      public int getEntryCodeCount() {
+        if (entryCodeBuilder_ == null) {
+          return entryCode_.size();
+        } else {
+          return entryCodeBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+       */
+      public doorking.Proto.EntryCodeSnapshot getEntryCode(int index) {
+        if (entryCodeBuilder_ == null) {
+          return entryCode_.get(index);
+        } else {
+          return entryCodeBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+       */
+      public Builder setEntryCode(
+          int index, doorking.Proto.EntryCodeSnapshot value) {
+        if (entryCodeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntryCodeIsMutable();
+          entryCode_.set(index, value);
+          onChanged();
+        } else {
+          entryCodeBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+       */
+      public Builder setEntryCode(
+          int index, doorking.Proto.EntryCodeSnapshot.Builder builderForValue) {
+        if (entryCodeBuilder_ == null) {
+          ensureEntryCodeIsMutable();
+          entryCode_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          entryCodeBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+       */
+      public Builder addEntryCode(doorking.Proto.EntryCodeSnapshot value) {
+        if (entryCodeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntryCodeIsMutable();
+          entryCode_.add(value);
+          onChanged();
+        } else {
+          entryCodeBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+       */
+      public Builder addEntryCode(
+          int index, doorking.Proto.EntryCodeSnapshot value) {
+        if (entryCodeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntryCodeIsMutable();
+          entryCode_.add(index, value);
+          onChanged();
+        } else {
+          entryCodeBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+       */
+      public Builder addEntryCode(
+          doorking.Proto.EntryCodeSnapshot.Builder builderForValue) {
+        if (entryCodeBuilder_ == null) {
+          ensureEntryCodeIsMutable();
+          entryCode_.add(builderForValue.build());
+          onChanged();
+        } else {
+          entryCodeBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+       */
+      public Builder addEntryCode(
+          int index, doorking.Proto.EntryCodeSnapshot.Builder builderForValue) {
+        if (entryCodeBuilder_ == null) {
+          ensureEntryCodeIsMutable();
+          entryCode_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          entryCodeBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+       */
+      public Builder addAllEntryCode(
+          java.lang.Iterable<? extends doorking.Proto.EntryCodeSnapshot> values) {
+        if (entryCodeBuilder_ == null) {
+          ensureEntryCodeIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, entryCode_);
+          onChanged();
+        } else {
+          entryCodeBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+       */
+      public Builder clearEntryCode() {
+        if (entryCodeBuilder_ == null) {
+          entryCode_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
           onChanged();
+        } else {
+          entryCodeBuilder_.clear();
         }
-        if (other.hasDeletedEntryCodeRange()) {
-          bitField0_ |= 0x00000100;
-          deletedEntryCodeRange_ = other.deletedEntryCodeRange_;
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+       */
+      public Builder removeEntryCode(int index) {
+        if (entryCodeBuilder_ == null) {
+          ensureEntryCodeIsMutable();
+          entryCode_.remove(index);
           onChanged();
+        } else {
+          entryCodeBuilder_.remove(index);
         }
-        if (other.hasLocalPhonePrefix()) {
-          bitField0_ |= 0x00000200;
-          localPhonePrefix_ = other.localPhonePrefix_;
-          onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+       */
+      public doorking.Proto.EntryCodeSnapshot.Builder getEntryCodeBuilder(
+          int index) {
+        return getEntryCodeFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+       */
+      public doorking.Proto.EntryCodeSnapshotOrBuilder getEntryCodeOrBuilder(
+          int index) {
+        if (entryCodeBuilder_ == null) {
+          return entryCode_.get(index);  } else {
+          return entryCodeBuilder_.getMessageOrBuilder(index);
         }
-        if (securityLevelMappingBuilder_ == null) {
-          if (!other.securityLevelMapping_.isEmpty()) {
-            if (securityLevelMapping_.isEmpty()) {
-              securityLevelMapping_ = other.securityLevelMapping_;
-              bitField0_ = (bitField0_ & ~0x00000400);
-            } else {
-              ensureSecurityLevelMappingIsMutable();
-              securityLevelMapping_.addAll(other.securityLevelMapping_);
-            }
-            onChanged();
-          }
+      }
+      /**
+       * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+       */
+      public java.util.List<? extends doorking.Proto.EntryCodeSnapshotOrBuilder> 
+           getEntryCodeOrBuilderList() {
+        if (entryCodeBuilder_ != null) {
+          return entryCodeBuilder_.getMessageOrBuilderList();
         } else {
-          if (!other.securityLevelMapping_.isEmpty()) {
-            if (securityLevelMappingBuilder_.isEmpty()) {
-              securityLevelMappingBuilder_.dispose();
-              securityLevelMappingBuilder_ = null;
-              securityLevelMapping_ = other.securityLevelMapping_;
-              bitField0_ = (bitField0_ & ~0x00000400);
-              securityLevelMappingBuilder_ = 
-                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getSecurityLevelMappingFieldBuilder() : null;
-            } else {
-              securityLevelMappingBuilder_.addAllMessages(other.securityLevelMapping_);
+          return java.util.Collections.unmodifiableList(entryCode_);
+        }
+      }
+      /**
+       * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+       */
+      public doorking.Proto.EntryCodeSnapshot.Builder addEntryCodeBuilder() {
+        return getEntryCodeFieldBuilder().addBuilder(
+            doorking.Proto.EntryCodeSnapshot.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+       */
+      public doorking.Proto.EntryCodeSnapshot.Builder addEntryCodeBuilder(
+          int index) {
+        return getEntryCodeFieldBuilder().addBuilder(
+            index, doorking.Proto.EntryCodeSnapshot.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .doorking.EntryCodeSnapshot entry_code = 4;</code>
+       */
+      public java.util.List<doorking.Proto.EntryCodeSnapshot.Builder> 
+           getEntryCodeBuilderList() {
+        return getEntryCodeFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          doorking.Proto.EntryCodeSnapshot, doorking.Proto.EntryCodeSnapshot.Builder, doorking.Proto.EntryCodeSnapshotOrBuilder> 
+          getEntryCodeFieldBuilder() {
+        if (entryCodeBuilder_ == null) {
+          entryCodeBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              doorking.Proto.EntryCodeSnapshot, doorking.Proto.EntryCodeSnapshot.Builder, doorking.Proto.EntryCodeSnapshotOrBuilder>(
+                  entryCode_,
+                  ((bitField0_ & 0x00000008) == 0x00000008),
+                  getParentForChildren(),
+                  isClean());
+          entryCode_ = null;
+        }
+        return entryCodeBuilder_;
+      }
+
+      private java.util.List<java.lang.Integer> deletedEntryCode_ = java.util.Collections.emptyList();
+      private void ensureDeletedEntryCodeIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          deletedEntryCode_ = new java.util.ArrayList<java.lang.Integer>(deletedEntryCode_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+      /**
+       * <code>repeated int32 deleted_entry_code = 5 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Integer>
+          getDeletedEntryCodeList() {
+        return java.util.Collections.unmodifiableList(deletedEntryCode_);
+      }
+      /**
+       * <code>repeated int32 deleted_entry_code = 5 [packed = true];</code>
+       */
+      public int getDeletedEntryCodeCount() {
+        return deletedEntryCode_.size();
+      }
+      /**
+       * <code>repeated int32 deleted_entry_code = 5 [packed = true];</code>
+       */
+      public int getDeletedEntryCode(int index) {
+        return deletedEntryCode_.get(index);
+      }
+      /**
+       * <code>repeated int32 deleted_entry_code = 5 [packed = true];</code>
+       */
+      public Builder setDeletedEntryCode(
+          int index, int value) {
+        ensureDeletedEntryCodeIsMutable();
+        deletedEntryCode_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 deleted_entry_code = 5 [packed = true];</code>
+       */
+      public Builder addDeletedEntryCode(int value) {
+        ensureDeletedEntryCodeIsMutable();
+        deletedEntryCode_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 deleted_entry_code = 5 [packed = true];</code>
+       */
+      public Builder addAllDeletedEntryCode(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureDeletedEntryCodeIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, deletedEntryCode_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 deleted_entry_code = 5 [packed = true];</code>
+       */
+      public Builder clearDeletedEntryCode() {
+        deletedEntryCode_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:doorking.SyncSnapshot)
+    }
+
+    static {
+      defaultInstance = new SyncSnapshot(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:doorking.SyncSnapshot)
+  }
+
+  public interface EntrySnapshotOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:doorking.EntrySnapshot)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string directory_display_name = 1;</code>
+     */
+    boolean hasDirectoryDisplayName();
+    /**
+     * <code>optional string directory_display_name = 1;</code>
+     */
+    java.lang.String getDirectoryDisplayName();
+    /**
+     * <code>optional string directory_display_name = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getDirectoryDisplayNameBytes();
+
+    /**
+     * <code>optional bool hidden = 2;</code>
+     */
+    boolean hasHidden();
+    /**
+     * <code>optional bool hidden = 2;</code>
+     */
+    boolean getHidden();
+
+    /**
+     * <code>optional string area_code = 3;</code>
+     */
+    boolean hasAreaCode();
+    /**
+     * <code>optional string area_code = 3;</code>
+     */
+    java.lang.String getAreaCode();
+    /**
+     * <code>optional string area_code = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getAreaCodeBytes();
+
+    /**
+     * <code>optional string phone_number = 4;</code>
+     */
+    boolean hasPhoneNumber();
+    /**
+     * <code>optional string phone_number = 4;</code>
+     */
+    java.lang.String getPhoneNumber();
+    /**
+     * <code>optional string phone_number = 4;</code>
+     */
+    com.google.protobuf.ByteString
+        getPhoneNumberBytes();
+
+    /**
+     * <code>optional int32 directory_number = 5;</code>
+     */
+    boolean hasDirectoryNumber();
+    /**
+     * <code>optional int32 directory_number = 5;</code>
+     */
+    int getDirectoryNumber();
+
+    /**
+     * <code>optional int32 entry_code = 6;</code>
+     */
+    boolean hasEntryCode();
+    /**
+     * <code>optional int32 entry_code = 6;</code>
+     */
+    int getEntryCode();
+
+    /**
+     * <code>optional int32 security_level = 7;</code>
+     */
+    boolean hasSecurityLevel();
+    /**
+     * <code>optional int32 security_level = 7;</code>
+     */
+    int getSecurityLevel();
+
+    /**
+     * <code>repeated string device_number = 8;</code>
+     */
+    com.google.protobuf.ProtocolStringList
+        getDeviceNumberList();
+    /**
+     * <code>repeated string device_number = 8;</code>
+     */
+    int getDeviceNumberCount();
+    /**
+     * <code>repeated string device_number = 8;</code>
+     */
+    java.lang.String getDeviceNumber(int index);
+    /**
+     * <code>repeated string device_number = 8;</code>
+     */
+    com.google.protobuf.ByteString
+        getDeviceNumberBytes(int index);
+
+    /**
+     * <code>optional string notes = 9;</code>
+     */
+    boolean hasNotes();
+    /**
+     * <code>optional string notes = 9;</code>
+     */
+    java.lang.String getNotes();
+    /**
+     * <code>optional string notes = 9;</code>
+     */
+    com.google.protobuf.ByteString
+        getNotesBytes();
+
+    /**
+     * <code>optional bool vendor = 10;</code>
+     */
+    boolean hasVendor();
+    /**
+     * <code>optional bool vendor = 10;</code>
+     */
+    boolean getVendor();
+  }
+  /**
+   * Protobuf type {@code doorking.EntrySnapshot}
+   */
+  public static final class EntrySnapshot extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:doorking.EntrySnapshot)
+      EntrySnapshotOrBuilder {
+    // Use EntrySnapshot.newBuilder() to construct.
+    private EntrySnapshot(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private EntrySnapshot(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final EntrySnapshot defaultInstance;
+    public static EntrySnapshot getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public EntrySnapshot getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private EntrySnapshot(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              directoryDisplayName_ = bs;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              hidden_ = input.readBool();
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000004;
+              areaCode_ = bs;
+              break;
+            }
+            case 34: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000008;
+              phoneNumber_ = bs;
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              directoryNumber_ = input.readInt32();
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              entryCode_ = input.readInt32();
+              break;
+            }
+            case 56: {
+              bitField0_ |= 0x00000040;
+              securityLevel_ = input.readInt32();
+              break;
+            }
+            case 66: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+                deviceNumber_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000080;
+              }
+              deviceNumber_.add(bs);
+              break;
+            }
+            case 74: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000080;
+              notes_ = bs;
+              break;
+            }
+            case 80: {
+              bitField0_ |= 0x00000100;
+              vendor_ = input.readBool();
+              break;
             }
           }
         }
-        if (other.hasAccountName()) {
-          bitField0_ |= 0x00000800;
-          accountName_ = other.accountName_;
-          onChanged();
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+          deviceNumber_ = deviceNumber_.getUnmodifiableView();
         }
-        this.mergeUnknownFields(other.getUnknownFields());
-        return this;
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
       }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return doorking.Proto.internal_static_doorking_EntrySnapshot_descriptor;
+    }
 
-      public final boolean isInitialized() {
-        return true;
-      }
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return doorking.Proto.internal_static_doorking_EntrySnapshot_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              doorking.Proto.EntrySnapshot.class, doorking.Proto.EntrySnapshot.Builder.class);
+    }
 
-      public Builder mergeFrom(
+    public static com.google.protobuf.Parser<EntrySnapshot> PARSER =
+        new com.google.protobuf.AbstractParser<EntrySnapshot>() {
+      public EntrySnapshot parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        doorking.Proto.Config parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (doorking.Proto.Config) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new EntrySnapshot(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<EntrySnapshot> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int DIRECTORY_DISPLAY_NAME_FIELD_NUMBER = 1;
+    private java.lang.Object directoryDisplayName_;
+    /**
+     * <code>optional string directory_display_name = 1;</code>
+     */
+    public boolean hasDirectoryDisplayName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string directory_display_name = 1;</code>
+     */
+    public java.lang.String getDirectoryDisplayName() {
+      java.lang.Object ref = directoryDisplayName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          directoryDisplayName_ = s;
         }
-        return this;
+        return s;
       }
-      private int bitField0_;
+    }
+    /**
+     * <code>optional string directory_display_name = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDirectoryDisplayNameBytes() {
+      java.lang.Object ref = directoryDisplayName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        directoryDisplayName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
 
-      private java.lang.Object dataStoreDirectory_ = "";
-      /**
-       * <code>optional string data_store_directory = 1;</code>
-       */
-      public boolean hasDataStoreDirectory() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+    public static final int HIDDEN_FIELD_NUMBER = 2;
+    private boolean hidden_;
+    /**
+     * <code>optional bool hidden = 2;</code>
+     */
+    public boolean hasHidden() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional bool hidden = 2;</code>
+     */
+    public boolean getHidden() {
+      return hidden_;
+    }
+
+    public static final int AREA_CODE_FIELD_NUMBER = 3;
+    private java.lang.Object areaCode_;
+    /**
+     * <code>optional string area_code = 3;</code>
+     */
+    public boolean hasAreaCode() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional string area_code = 3;</code>
+     */
+    public java.lang.String getAreaCode() {
+      java.lang.Object ref = areaCode_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          areaCode_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string area_code = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getAreaCodeBytes() {
+      java.lang.Object ref = areaCode_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        areaCode_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PHONE_NUMBER_FIELD_NUMBER = 4;
+    private java.lang.Object phoneNumber_;
+    /**
+     * <code>optional string phone_number = 4;</code>
+     */
+    public boolean hasPhoneNumber() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional string phone_number = 4;</code>
+     */
+    public java.lang.String getPhoneNumber() {
+      java.lang.Object ref = phoneNumber_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          phoneNumber_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string phone_number = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPhoneNumberBytes() {
+      java.lang.Object ref = phoneNumber_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        phoneNumber_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DIRECTORY_NUMBER_FIELD_NUMBER = 5;
+    private int directoryNumber_;
+    /**
+     * <code>optional int32 directory_number = 5;</code>
+     */
+    public boolean hasDirectoryNumber() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional int32 directory_number = 5;</code>
+     */
+    public int getDirectoryNumber() {
+      return directoryNumber_;
+    }
+
+    public static final int ENTRY_CODE_FIELD_NUMBER = 6;
+    private int entryCode_;
+    /**
+     * <code>optional int32 entry_code = 6;</code>
+     */
+    public boolean hasEntryCode() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional int32 entry_code = 6;</code>
+     */
+    public int getEntryCode() {
+      return entryCode_;
+    }
+
+    public static final int SECURITY_LEVEL_FIELD_NUMBER = 7;
+    private int securityLevel_;
+    /**
+     * <code>optional int32 security_level = 7;</code>
+     */
+    public boolean hasSecurityLevel() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional int32 security_level = 7;</code>
+     */
+    public int getSecurityLevel() {
+      return securityLevel_;
+    }
+
+    public static final int DEVICE_NUMBER_FIELD_NUMBER = 8;
+    private com.google.protobuf.LazyStringList deviceNumber_;
+    /**
+     * <code>repeated string device_number = 8;</code>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getDeviceNumberList() {
+      return deviceNumber_;
+    }
+    /**
+     * <code>repeated string device_number = 8;</code>
+     */
+    public int getDeviceNumberCount() {
+      return deviceNumber_.size();
+    }
+    /**
+     * <code>repeated string device_number = 8;</code>
+     */
+    public java.lang.String getDeviceNumber(int index) {
+      return deviceNumber_.get(index);
+    }
+    /**
+     * <code>repeated string device_number = 8;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDeviceNumberBytes(int index) {
+      return deviceNumber_.getByteString(index);
+    }
+
+    public static final int NOTES_FIELD_NUMBER = 9;
+    private java.lang.Object notes_;
+    /**
+     * <code>optional string notes = 9;</code>
+     */
+    public boolean hasNotes() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional string notes = 9;</code>
+     */
+    public java.lang.String getNotes() {
+      java.lang.Object ref = notes_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          notes_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string notes = 9;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNotesBytes() {
+      java.lang.Object ref = notes_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        notes_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VENDOR_FIELD_NUMBER = 10;
+    private boolean vendor_;
+    /**
+     * <code>optional bool vendor = 10;</code>
+     */
+    public boolean hasVendor() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional bool vendor = 10;</code>
+     */
+    public boolean getVendor() {
+      return vendor_;
+    }
+
+    private void initFields() {
+      directoryDisplayName_ = "";
+      hidden_ = false;
+      areaCode_ = "";
+      phoneNumber_ = "";
+      directoryNumber_ = 0;
+      entryCode_ = 0;
+      securityLevel_ = 0;
+      deviceNumber_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      notes_ = "";
+      vendor_ = false;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getDirectoryDisplayNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBool(2, hidden_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getAreaCodeBytes());
       }
-      /**
-       * <code>optional string data_store_directory = 1;</code>
-       */
-      public java.lang.String getDataStoreDirectory() {
-        java.lang.Object ref = dataStoreDirectory_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            dataStoreDirectory_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(4, getPhoneNumberBytes());
       }
-      /**
-       * <code>optional string data_store_directory = 1;</code>
-       */
-      public com.google.protobuf.ByteString
-          getDataStoreDirectoryBytes() {
-        java.lang.Object ref = dataStoreDirectory_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          dataStoreDirectory_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeInt32(5, directoryNumber_);
       }
-      /**
-       * <code>optional string data_store_directory = 1;</code>
-       */
-      public Builder setDataStoreDirectory(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        dataStoreDirectory_ = value;
-        onChanged();
-        return this;
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeInt32(6, entryCode_);
       }
-      /**
-       * <code>optional string data_store_directory = 1;</code>
-       */
-      public Builder clearDataStoreDirectory() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        dataStoreDirectory_ = getDefaultInstance().getDataStoreDirectory();
-        onChanged();
-        return this;
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeInt32(7, securityLevel_);
       }
-      /**
-       * <code>optional string data_store_directory = 1;</code>
-       */
-      public Builder setDataStoreDirectoryBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        dataStoreDirectory_ = value;
-        onChanged();
-        return this;
+      for (int i = 0; i < deviceNumber_.size(); i++) {
+        output.writeBytes(8, deviceNumber_.getByteString(i));
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeBytes(9, getNotesBytes());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeBool(10, vendor_);
       }
+      getUnknownFields().writeTo(output);
+    }
 
-      private java.lang.Object applicationName_ = "";
-      /**
-       * <code>optional string application_name = 2;</code>
-       */
-      public boolean hasApplicationName() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getDirectoryDisplayNameBytes());
       }
-      /**
-       * <code>optional string application_name = 2;</code>
-       */
-      public java.lang.String getApplicationName() {
-        java.lang.Object ref = applicationName_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            applicationName_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, hidden_);
       }
-      /**
-       * <code>optional string application_name = 2;</code>
-       */
-      public com.google.protobuf.ByteString
-          getApplicationNameBytes() {
-        java.lang.Object ref = applicationName_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          applicationName_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getAreaCodeBytes());
       }
-      /**
-       * <code>optional string application_name = 2;</code>
-       */
-      public Builder setApplicationName(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        applicationName_ = value;
-        onChanged();
-        return this;
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getPhoneNumberBytes());
       }
-      /**
-       * <code>optional string application_name = 2;</code>
-       */
-      public Builder clearApplicationName() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        applicationName_ = getDefaultInstance().getApplicationName();
-        onChanged();
-        return this;
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, directoryNumber_);
       }
-      /**
-       * <code>optional string application_name = 2;</code>
-       */
-      public Builder setApplicationNameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        applicationName_ = value;
-        onChanged();
-        return this;
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(6, entryCode_);
       }
-
-      private java.lang.Object clientId_ = "";
-      /**
-       * <code>optional string client_id = 3;</code>
-       */
-      public boolean hasClientId() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(7, securityLevel_);
       }
-      /**
-       * <code>optional string client_id = 3;</code>
-       */
-      public java.lang.String getClientId() {
-        java.lang.Object ref = clientId_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            clientId_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < deviceNumber_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(deviceNumber_.getByteString(i));
         }
+        size += dataSize;
+        size += 1 * getDeviceNumberList().size();
       }
-      /**
-       * <code>optional string client_id = 3;</code>
-       */
-      public com.google.protobuf.ByteString
-          getClientIdBytes() {
-        java.lang.Object ref = clientId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          clientId_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(9, getNotesBytes());
       }
-      /**
-       * <code>optional string client_id = 3;</code>
-       */
-      public Builder setClientId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        clientId_ = value;
-        onChanged();
-        return this;
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(10, vendor_);
       }
-      /**
-       * <code>optional string client_id = 3;</code>
-       */
-      public Builder clearClientId() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        clientId_ = getDefaultInstance().getClientId();
-        onChanged();
-        return this;
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static doorking.Proto.EntrySnapshot parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static doorking.Proto.EntrySnapshot parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static doorking.Proto.EntrySnapshot parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static doorking.Proto.EntrySnapshot parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static doorking.Proto.EntrySnapshot parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static doorking.Proto.EntrySnapshot parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static doorking.Proto.EntrySnapshot parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static doorking.Proto.EntrySnapshot parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static doorking.Proto.EntrySnapshot parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static doorking.Proto.EntrySnapshot parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(doorking.Proto.EntrySnapshot prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code doorking.EntrySnapshot}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:doorking.EntrySnapshot)
+        doorking.Proto.EntrySnapshotOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return doorking.Proto.internal_static_doorking_EntrySnapshot_descriptor;
       }
-      /**
-       * <code>optional string client_id = 3;</code>
-       */
-      public Builder setClientIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        clientId_ = value;
-        onChanged();
-        return this;
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return doorking.Proto.internal_static_doorking_EntrySnapshot_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                doorking.Proto.EntrySnapshot.class, doorking.Proto.EntrySnapshot.Builder.class);
       }
 
-      private java.lang.Object clientSecret_ = "";
-      /**
-       * <code>optional string client_secret = 4;</code>
-       */
-      public boolean hasClientSecret() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      // Construct using doorking.Proto.EntrySnapshot.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
-      /**
-       * <code>optional string client_secret = 4;</code>
-       */
-      public java.lang.String getClientSecret() {
-        java.lang.Object ref = clientSecret_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            clientSecret_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
       }
-      /**
-       * <code>optional string client_secret = 4;</code>
-       */
-      public com.google.protobuf.ByteString
-          getClientSecretBytes() {
-        java.lang.Object ref = clientSecret_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          clientSecret_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
         }
       }
-      /**
-       * <code>optional string client_secret = 4;</code>
-       */
-      public Builder setClientSecret(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
-        clientSecret_ = value;
-        onChanged();
-        return this;
+      private static Builder create() {
+        return new Builder();
       }
-      /**
-       * <code>optional string client_secret = 4;</code>
-       */
-      public Builder clearClientSecret() {
+
+      public Builder clear() {
+        super.clear();
+        directoryDisplayName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        hidden_ = false;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        areaCode_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        phoneNumber_ = "";
         bitField0_ = (bitField0_ & ~0x00000008);
-        clientSecret_ = getDefaultInstance().getClientSecret();
-        onChanged();
+        directoryNumber_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        entryCode_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        securityLevel_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        deviceNumber_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        notes_ = "";
+        bitField0_ = (bitField0_ & ~0x00000100);
+        vendor_ = false;
+        bitField0_ = (bitField0_ & ~0x00000200);
         return this;
       }
-      /**
-       * <code>optional string client_secret = 4;</code>
-       */
-      public Builder setClientSecretBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
-        clientSecret_ = value;
-        onChanged();
-        return this;
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
 
-      private java.lang.Object googleUsername_ = "";
-      /**
-       * <code>optional string google_username = 5;</code>
-       */
-      public boolean hasGoogleUsername() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return doorking.Proto.internal_static_doorking_EntrySnapshot_descriptor;
       }
-      /**
-       * <code>optional string google_username = 5;</code>
-       */
-      public java.lang.String getGoogleUsername() {
-        java.lang.Object ref = googleUsername_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            googleUsername_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+
+      public doorking.Proto.EntrySnapshot getDefaultInstanceForType() {
+        return doorking.Proto.EntrySnapshot.getDefaultInstance();
       }
-      /**
-       * <code>optional string google_username = 5;</code>
-       */
-      public com.google.protobuf.ByteString
-          getGoogleUsernameBytes() {
-        java.lang.Object ref = googleUsername_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          googleUsername_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
+
+      public doorking.Proto.EntrySnapshot build() {
+        doorking.Proto.EntrySnapshot result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
+        return result;
       }
-      /**
-       * <code>optional string google_username = 5;</code>
-       */
-      public Builder setGoogleUsername(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000010;
-        googleUsername_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string google_username = 5;</code>
-       */
-      public Builder clearGoogleUsername() {
-        bitField0_ = (bitField0_ & ~0x00000010);
-        googleUsername_ = getDefaultInstance().getGoogleUsername();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string google_username = 5;</code>
-       */
-      public Builder setGoogleUsernameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000010;
-        googleUsername_ = value;
-        onChanged();
-        return this;
+
+      public doorking.Proto.EntrySnapshot buildPartial() {
+        doorking.Proto.EntrySnapshot result = new doorking.Proto.EntrySnapshot(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.directoryDisplayName_ = directoryDisplayName_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.hidden_ = hidden_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.areaCode_ = areaCode_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.phoneNumber_ = phoneNumber_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.directoryNumber_ = directoryNumber_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.entryCode_ = entryCode_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.securityLevel_ = securityLevel_;
+        if (((bitField0_ & 0x00000080) == 0x00000080)) {
+          deviceNumber_ = deviceNumber_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000080);
+        }
+        result.deviceNumber_ = deviceNumber_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.notes_ = notes_;
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.vendor_ = vendor_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
       }
 
-      private java.lang.Object sheetId_ = "";
-      /**
-       * <code>optional string sheet_id = 6;</code>
-       */
-      public boolean hasSheetId() {
-        return ((bitField0_ & 0x00000020) == 0x00000020);
-      }
-      /**
-       * <code>optional string sheet_id = 6;</code>
-       */
-      public java.lang.String getSheetId() {
-        java.lang.Object ref = sheetId_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            sheetId_ = s;
-          }
-          return s;
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof doorking.Proto.EntrySnapshot) {
+          return mergeFrom((doorking.Proto.EntrySnapshot)other);
         } else {
-          return (java.lang.String) ref;
+          super.mergeFrom(other);
+          return this;
         }
       }
-      /**
-       * <code>optional string sheet_id = 6;</code>
-       */
-      public com.google.protobuf.ByteString
-          getSheetIdBytes() {
-        java.lang.Object ref = sheetId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          sheetId_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
+
+      public Builder mergeFrom(doorking.Proto.EntrySnapshot other) {
+        if (other == doorking.Proto.EntrySnapshot.getDefaultInstance()) return this;
+        if (other.hasDirectoryDisplayName()) {
+          bitField0_ |= 0x00000001;
+          directoryDisplayName_ = other.directoryDisplayName_;
+          onChanged();
         }
-      }
-      /**
-       * <code>optional string sheet_id = 6;</code>
-       */
-      public Builder setSheetId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000020;
-        sheetId_ = value;
-        onChanged();
+        if (other.hasHidden()) {
+          setHidden(other.getHidden());
+        }
+        if (other.hasAreaCode()) {
+          bitField0_ |= 0x00000004;
+          areaCode_ = other.areaCode_;
+          onChanged();
+        }
+        if (other.hasPhoneNumber()) {
+          bitField0_ |= 0x00000008;
+          phoneNumber_ = other.phoneNumber_;
+          onChanged();
+        }
+        if (other.hasDirectoryNumber()) {
+          setDirectoryNumber(other.getDirectoryNumber());
+        }
+        if (other.hasEntryCode()) {
+          setEntryCode(other.getEntryCode());
+        }
+        if (other.hasSecurityLevel()) {
+          setSecurityLevel(other.getSecurityLevel());
+        }
+        if (!other.deviceNumber_.isEmpty()) {
+          if (deviceNumber_.isEmpty()) {
+            deviceNumber_ = other.deviceNumber_;
+            bitField0_ = (bitField0_ & ~0x00000080);
+          } else {
+            ensureDeviceNumberIsMutable();
+            deviceNumber_.addAll(other.deviceNumber_);
+          }
+          onChanged();
+        }
+        if (other.hasNotes()) {
+          bitField0_ |= 0x00000100;
+          notes_ = other.notes_;
+          onChanged();
+        }
+        if (other.hasVendor()) {
+          setVendor(other.getVendor());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
-      /**
-       * <code>optional string sheet_id = 6;</code>
-       */
-      public Builder clearSheetId() {
-        bitField0_ = (bitField0_ & ~0x00000020);
-        sheetId_ = getDefaultInstance().getSheetId();
-        onChanged();
-        return this;
+
+      public final boolean isInitialized() {
+        return true;
       }
-      /**
-       * <code>optional string sheet_id = 6;</code>
-       */
-      public Builder setSheetIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000020;
-        sheetId_ = value;
-        onChanged();
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        doorking.Proto.EntrySnapshot parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (doorking.Proto.EntrySnapshot) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
         return this;
       }
+      private int bitField0_;
 
-      private java.lang.Object telephoneEntryRange_ = "";
+      private java.lang.Object directoryDisplayName_ = "";
       /**
-       * <code>optional string telephone_entry_range = 7;</code>
+       * <code>optional string directory_display_name = 1;</code>
        */
-      public boolean hasTelephoneEntryRange() {
-        return ((bitField0_ & 0x00000040) == 0x00000040);
+      public boolean hasDirectoryDisplayName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional string telephone_entry_range = 7;</code>
+       * <code>optional string directory_display_name = 1;</code>
        */
-      public java.lang.String getTelephoneEntryRange() {
-        java.lang.Object ref = telephoneEntryRange_;
+      public java.lang.String getDirectoryDisplayName() {
+        java.lang.Object ref = directoryDisplayName_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            telephoneEntryRange_ = s;
+            directoryDisplayName_ = s;
           }
           return s;
         } else {
@@ -1808,151 +14891,107 @@ public final class Proto {
         }
       }
       /**
-       * <code>optional string telephone_entry_range = 7;</code>
+       * <code>optional string directory_display_name = 1;</code>
        */
       public com.google.protobuf.ByteString
-          getTelephoneEntryRangeBytes() {
-        java.lang.Object ref = telephoneEntryRange_;
+          getDirectoryDisplayNameBytes() {
+        java.lang.Object ref = directoryDisplayName_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          telephoneEntryRange_ = b;
+          directoryDisplayName_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string telephone_entry_range = 7;</code>
+       * <code>optional string directory_display_name = 1;</code>
        */
-      public Builder setTelephoneEntryRange(
+      public Builder setDirectoryDisplayName(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000040;
-        telephoneEntryRange_ = value;
+  bitField0_ |= 0x00000001;
+        directoryDisplayName_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string telephone_entry_range = 7;</code>
+       * <code>optional string directory_display_name = 1;</code>
        */
-      public Builder clearTelephoneEntryRange() {
-        bitField0_ = (bitField0_ & ~0x00000040);
-        telephoneEntryRange_ = getDefaultInstance().getTelephoneEntryRange();
+      public Builder clearDirectoryDisplayName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        directoryDisplayName_ = getDefaultInstance().getDirectoryDisplayName();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string telephone_entry_range = 7;</code>
+       * <code>optional string directory_display_name = 1;</code>
        */
-      public Builder setTelephoneEntryRangeBytes(
+      public Builder setDirectoryDisplayNameBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000040;
-        telephoneEntryRange_ = value;
+  bitField0_ |= 0x00000001;
+        directoryDisplayName_ = value;
         onChanged();
         return this;
       }
 
-      private java.lang.Object entryCodeRange_ = "";
-      /**
-       * <code>optional string entry_code_range = 8;</code>
-       */
-      public boolean hasEntryCodeRange() {
-        return ((bitField0_ & 0x00000080) == 0x00000080);
-      }
-      /**
-       * <code>optional string entry_code_range = 8;</code>
-       */
-      public java.lang.String getEntryCodeRange() {
-        java.lang.Object ref = entryCodeRange_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            entryCodeRange_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
+      private boolean hidden_ ;
       /**
-       * <code>optional string entry_code_range = 8;</code>
+       * <code>optional bool hidden = 2;</code>
        */
-      public com.google.protobuf.ByteString
-          getEntryCodeRangeBytes() {
-        java.lang.Object ref = entryCodeRange_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          entryCodeRange_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public boolean hasHidden() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>optional string entry_code_range = 8;</code>
+       * <code>optional bool hidden = 2;</code>
        */
-      public Builder setEntryCodeRange(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000080;
-        entryCodeRange_ = value;
-        onChanged();
-        return this;
+      public boolean getHidden() {
+        return hidden_;
       }
       /**
-       * <code>optional string entry_code_range = 8;</code>
+       * <code>optional bool hidden = 2;</code>
        */
-      public Builder clearEntryCodeRange() {
-        bitField0_ = (bitField0_ & ~0x00000080);
-        entryCodeRange_ = getDefaultInstance().getEntryCodeRange();
+      public Builder setHidden(boolean value) {
+        bitField0_ |= 0x00000002;
+        hidden_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string entry_code_range = 8;</code>
+       * <code>optional bool hidden = 2;</code>
        */
-      public Builder setEntryCodeRangeBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000080;
-        entryCodeRange_ = value;
+      public Builder clearHidden() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        hidden_ = false;
         onChanged();
         return this;
       }
 
-      private java.lang.Object deletedEntryCodeRange_ = "";
+      private java.lang.Object areaCode_ = "";
       /**
-       * <code>optional string deleted_entry_code_range = 12;</code>
+       * <code>optional string area_code = 3;</code>
        */
-      public boolean hasDeletedEntryCodeRange() {
-        return ((bitField0_ & 0x00000100) == 0x00000100);
+      public boolean hasAreaCode() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>optional string deleted_entry_code_range = 12;</code>
+       * <code>optional string area_code = 3;</code>
        */
-      public java.lang.String getDeletedEntryCodeRange() {
-        java.lang.Object ref = deletedEntryCodeRange_;
+      public java.lang.String getAreaCode() {
+        java.lang.Object ref = areaCode_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            deletedEntryCodeRange_ = s;
+            areaCode_ = s;
           }
           return s;
         } else {
@@ -1960,75 +14999,75 @@ public final class Proto {
         }
       }
       /**
-       * <code>optional string deleted_entry_code_range = 12;</code>
+       * <code>optional string area_code = 3;</code>
        */
       public com.google.protobuf.ByteString
-          getDeletedEntryCodeRangeBytes() {
-        java.lang.Object ref = deletedEntryCodeRange_;
+          getAreaCodeBytes() {
+        java.lang.Object ref = areaCode_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          deletedEntryCodeRange_ = b;
+          areaCode_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string deleted_entry_code_range = 12;</code>
+       * <code>optional string area_code = 3;</code>
        */
-      public Builder setDeletedEntryCodeRange(
+      public Builder setAreaCode(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000100;
-        deletedEntryCodeRange_ = value;
+  bitField0_ |= 0x00000004;
+        areaCode_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string deleted_entry_code_range = 12;</code>
+       * <code>optional string area_code = 3;</code>
        */
-      public Builder clearDeletedEntryCodeRange() {
-        bitField0_ = (bitField0_ & ~0x00000100);
-        deletedEntryCodeRange_ = getDefaultInstance().getDeletedEntryCodeRange();
+      public Builder clearAreaCode() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        areaCode_ = getDefaultInstance().getAreaCode();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string deleted_entry_code_range = 12;</code>
+       * <code>optional string area_code = 3;</code>
        */
-      public Builder setDeletedEntryCodeRangeBytes(
+      public Builder setAreaCodeBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000100;
-        deletedEntryCodeRange_ = value;
+  bitField0_ |= 0x00000004;
+        areaCode_ = value;
         onChanged();
         return this;
       }
 
-      private java.lang.Object localPhonePrefix_ = "";
+      private java.lang.Object phoneNumber_ = "";
       /**
-       * <code>optional string local_phone_prefix = 9;</code>
+       * <code>optional string phone_number = 4;</code>
        */
-      public boolean hasLocalPhonePrefix() {
-        return ((bitField0_ & 0x00000200) == 0x00000200);
+      public boolean hasPhoneNumber() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
       }
       /**
-       * <code>optional string local_phone_prefix = 9;</code>
+       * <code>optional string phone_number = 4;</code>
        */
-      public java.lang.String getLocalPhonePrefix() {
-        java.lang.Object ref = localPhonePrefix_;
+      public java.lang.String getPhoneNumber() {
+        java.lang.Object ref = phoneNumber_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            localPhonePrefix_ = s;
+            phoneNumber_ = s;
           }
           return s;
         } else {
@@ -2036,315 +15075,264 @@ public final class Proto {
         }
       }
       /**
-       * <code>optional string local_phone_prefix = 9;</code>
+       * <code>optional string phone_number = 4;</code>
        */
       public com.google.protobuf.ByteString
-          getLocalPhonePrefixBytes() {
-        java.lang.Object ref = localPhonePrefix_;
+          getPhoneNumberBytes() {
+        java.lang.Object ref = phoneNumber_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          localPhonePrefix_ = b;
+          phoneNumber_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string local_phone_prefix = 9;</code>
+       * <code>optional string phone_number = 4;</code>
        */
-      public Builder setLocalPhonePrefix(
+      public Builder setPhoneNumber(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000200;
-        localPhonePrefix_ = value;
+  bitField0_ |= 0x00000008;
+        phoneNumber_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string local_phone_prefix = 9;</code>
-       */
-      public Builder clearLocalPhonePrefix() {
-        bitField0_ = (bitField0_ & ~0x00000200);
-        localPhonePrefix_ = getDefaultInstance().getLocalPhonePrefix();
+       * <code>optional string phone_number = 4;</code>
+       */
+      public Builder clearPhoneNumber() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        phoneNumber_ = getDefaultInstance().getPhoneNumber();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string local_phone_prefix = 9;</code>
+       * <code>optional string phone_number = 4;</code>
        */
-      public Builder setLocalPhonePrefixBytes(
+      public Builder setPhoneNumberBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000200;
-        localPhonePrefix_ = value;
+  bitField0_ |= 0x00000008;
+        phoneNumber_ = value;
         onChanged();
         return this;
       }
 
-      private java.util.List<doorking.Proto.SecurityLevelMapping> securityLevelMapping_ =
-        java.util.Collections.emptyList();
-      private void ensureSecurityLevelMappingIsMutable() {
-        if (!((bitField0_ & 0x00000400) == 0x00000400)) {
-          securityLevelMapping_ = new java.util.ArrayList<doorking.Proto.SecurityLevelMapping>(securityLevelMapping_);
-          bitField0_ |= 0x00000400;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilder<
-          doorking.Proto.SecurityLevelMapping, doorking.Proto.SecurityLevelMapping.Builder, doorking.Proto.SecurityLevelMappingOrBuilder> securityLevelMappingBuilder_;
-
+      private int directoryNumber_ ;
       /**
-       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       * <code>optional int32 directory_number = 5;</code>
        */
-      public java.util.List<doorking.Proto.SecurityLevelMapping> getSecurityLevelMappingList() {
-        if (securityLevelMappingBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(securityLevelMapping_);
-        } else {
-          return securityLevelMappingBuilder_.getMessageList();
-        }
+      public boolean hasDirectoryNumber() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
       }
       /**
-       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       * <code>optional int32 directory_number = 5;</code>
        */
-      public int getSecurityLevelMappingCount() {
-        if (securityLevelMappingBuilder_ == null) {
-          return securityLevelMapping_.size();
-        } else {
-          return securityLevelMappingBuilder_.getCount();
-        }
+      public int getDirectoryNumber() {
+        return directoryNumber_;
       }
       /**
-       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       * <code>optional int32 directory_number = 5;</code>
        */
-      public doorking.Proto.SecurityLevelMapping getSecurityLevelMapping(int index) {
-        if (securityLevelMappingBuilder_ == null) {
-          return securityLevelMapping_.get(index);
-        } else {
-          return securityLevelMappingBuilder_.getMessage(index);
-        }
+      public Builder setDirectoryNumber(int value) {
+        bitField0_ |= 0x00000010;
+        directoryNumber_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       * <code>optional int32 directory_number = 5;</code>
        */
-      public Builder setSecurityLevelMapping(
-          int index, doorking.Proto.SecurityLevelMapping value) {
-        if (securityLevelMappingBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureSecurityLevelMappingIsMutable();
-          securityLevelMapping_.set(index, value);
-          onChanged();
-        } else {
-          securityLevelMappingBuilder_.setMessage(index, value);
-        }
+      public Builder clearDirectoryNumber() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        directoryNumber_ = 0;
+        onChanged();
         return this;
       }
+
+      private int entryCode_ ;
       /**
-       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       * <code>optional int32 entry_code = 6;</code>
        */
-      public Builder setSecurityLevelMapping(
-          int index, doorking.Proto.SecurityLevelMapping.Builder builderForValue) {
-        if (securityLevelMappingBuilder_ == null) {
-          ensureSecurityLevelMappingIsMutable();
-          securityLevelMapping_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          securityLevelMappingBuilder_.setMessage(index, builderForValue.build());
-        }
-        return this;
+      public boolean hasEntryCode() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
       }
       /**
-       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       * <code>optional int32 entry_code = 6;</code>
        */
-      public Builder addSecurityLevelMapping(doorking.Proto.SecurityLevelMapping value) {
-        if (securityLevelMappingBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureSecurityLevelMappingIsMutable();
-          securityLevelMapping_.add(value);
-          onChanged();
-        } else {
-          securityLevelMappingBuilder_.addMessage(value);
-        }
-        return this;
+      public int getEntryCode() {
+        return entryCode_;
       }
       /**
-       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       * <code>optional int32 entry_code = 6;</code>
        */
-      public Builder addSecurityLevelMapping(
-          int index, doorking.Proto.SecurityLevelMapping value) {
-        if (securityLevelMappingBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureSecurityLevelMappingIsMutable();
-          securityLevelMapping_.add(index, value);
-          onChanged();
-        } else {
-          securityLevelMappingBuilder_.addMessage(index, value);
-        }
+      public Builder setEntryCode(int value) {
+        bitField0_ |= 0x00000020;
+        entryCode_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       * <code>optional int32 entry_code = 6;</code>
        */
-      public Builder addSecurityLevelMapping(
-          doorking.Proto.SecurityLevelMapping.Builder builderForValue) {
-        if (securityLevelMappingBuilder_ == null) {
-          ensureSecurityLevelMappingIsMutable();
-          securityLevelMapping_.add(builderForValue.build());
-          onChanged();
-        } else {
-          securityLevelMappingBuilder_.addMessage(builderForValue.build());
-        }
+      public Builder clearEntryCode() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        entryCode_ = 0;
+        onChanged();
         return this;
       }
+
+      private int securityLevel_ ;
       /**
-       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       * <code>optional int32 security_level = 7;</code>
        */
-      public Builder addSecurityLevelMapping(
-          int index, doorking.Proto.SecurityLevelMapping.Builder builderForValue) {
-        if (securityLevelMappingBuilder_ == null) {
-          ensureSecurityLevelMappingIsMutable();
-          securityLevelMapping_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          securityLevelMappingBuilder_.addMessage(index, builderForValue.build());
-        }
-        return this;
+      public boolean hasSecurityLevel() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
       }
       /**
-       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       * <code>optional int32 security_level = 7;</code>
        */
-      public Builder addAllSecurityLevelMapping(
-          java.lang.Iterable<? extends doorking.Proto.SecurityLevelMapping> values) {
-        if (securityLevelMappingBuilder_ == null) {
-          ensureSecurityLevelMappingIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, securityLevelMapping_);
-          onChanged();
-        } else {
-          securityLevelMappingBuilder_.addAllMessages(values);
-        }
-        return this;
+      public int getSecurityLevel() {
+        return securityLevel_;
       }
       /**
-       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       * <code>optional int32 security_level = 7;</code>
        */
-      public Builder clearSecurityLevelMapping() {
-        if (securityLevelMappingBuilder_ == null) {
-          securityLevelMapping_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000400);
-          onChanged();
-        } else {
-          securityLevelMappingBuilder_.clear();
-        }
+      public Builder setSecurityLevel(int value) {
+        bitField0_ |= 0x00000040;
+        securityLevel_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       * <code>optional int32 security_level = 7;</code>
        */
-      public Builder removeSecurityLevelMapping(int index) {
-        if (securityLevelMappingBuilder_ == null) {
-          ensureSecurityLevelMappingIsMutable();
-          securityLevelMapping_.remove(index);
-          onChanged();
-        } else {
-          securityLevelMappingBuilder_.remove(index);
-        }
+      public Builder clearSecurityLevel() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        securityLevel_ = 0;
+        onChanged();
         return this;
       }
+
+      private com.google.protobuf.LazyStringList deviceNumber_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureDeviceNumberIsMutable() {
+        if (!((bitField0_ & 0x00000080) == 0x00000080)) {
+          deviceNumber_ = new com.google.protobuf.LazyStringArrayList(deviceNumber_);
+          bitField0_ |= 0x00000080;
+         }
+      }
       /**
-       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       * <code>repeated string device_number = 8;</code>
        */
-      public doorking.Proto.SecurityLevelMapping.Builder getSecurityLevelMappingBuilder(
-          int index) {
-        return getSecurityLevelMappingFieldBuilder().getBuilder(index);
+      public com.google.protobuf.ProtocolStringList
+          getDeviceNumberList() {
+        return deviceNumber_.getUnmodifiableView();
       }
       /**
-       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       * <code>repeated string device_number = 8;</code>
        */
-      public doorking.Proto.SecurityLevelMappingOrBuilder getSecurityLevelMappingOrBuilder(
-          int index) {
-        if (securityLevelMappingBuilder_ == null) {
-          return securityLevelMapping_.get(index);  } else {
-          return securityLevelMappingBuilder_.getMessageOrBuilder(index);
-        }
+      public int getDeviceNumberCount() {
+        return deviceNumber_.size();
       }
       /**
-       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       * <code>repeated string device_number = 8;</code>
        */
-      public java.util.List<? extends doorking.Proto.SecurityLevelMappingOrBuilder> 
-           getSecurityLevelMappingOrBuilderList() {
-        if (securityLevelMappingBuilder_ != null) {
-          return securityLevelMappingBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(securityLevelMapping_);
-        }
+      public java.lang.String getDeviceNumber(int index) {
+        return deviceNumber_.get(index);
       }
       /**
-       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       * <code>repeated string device_number = 8;</code>
        */
-      public doorking.Proto.SecurityLevelMapping.Builder addSecurityLevelMappingBuilder() {
-        return getSecurityLevelMappingFieldBuilder().addBuilder(
-            doorking.Proto.SecurityLevelMapping.getDefaultInstance());
+      public com.google.protobuf.ByteString
+          getDeviceNumberBytes(int index) {
+        return deviceNumber_.getByteString(index);
       }
       /**
-       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       * <code>repeated string device_number = 8;</code>
        */
-      public doorking.Proto.SecurityLevelMapping.Builder addSecurityLevelMappingBuilder(
-          int index) {
-        return getSecurityLevelMappingFieldBuilder().addBuilder(
-            index, doorking.Proto.SecurityLevelMapping.getDefaultInstance());
+      public Builder setDeviceNumber(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureDeviceNumberIsMutable();
+        deviceNumber_.set(index, value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .doorking.SecurityLevelMapping security_level_mapping = 10;</code>
+       * <code>repeated string device_number = 8;</code>
        */
-      public java.util.List<doorking.Proto.SecurityLevelMapping.Builder> 
-           getSecurityLevelMappingBuilderList() {
-        return getSecurityLevelMappingFieldBuilder().getBuilderList();
+      public Builder addDeviceNumber(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureDeviceNumberIsMutable();
+        deviceNumber_.add(value);
+        onChanged();
+        return this;
       }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          doorking.Proto.SecurityLevelMapping, doorking.Proto.SecurityLevelMapping.Builder, doorking.Proto.SecurityLevelMappingOrBuilder> 
-          getSecurityLevelMappingFieldBuilder() {
-        if (securityLevelMappingBuilder_ == null) {
-          securityLevelMappingBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              doorking.Proto.SecurityLevelMapping, doorking.Proto.SecurityLevelMapping.Builder, doorking.Proto.SecurityLevelMappingOrBuilder>(
-                  securityLevelMapping_,
-                  ((bitField0_ & 0x00000400) == 0x00000400),
-                  getParentForChildren(),
-                  isClean());
-          securityLevelMapping_ = null;
-        }
-        return securityLevelMappingBuilder_;
+      /**
+       * <code>repeated string device_number = 8;</code>
+       */
+      public Builder addAllDeviceNumber(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureDeviceNumberIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, deviceNumber_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string device_number = 8;</code>
+       */
+      public Builder clearDeviceNumber() {
+        deviceNumber_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string device_number = 8;</code>
+       */
+      public Builder addDeviceNumberBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureDeviceNumberIsMutable();
+        deviceNumber_.add(value);
+        onChanged();
+        return this;
       }
 
-      private java.lang.Object accountName_ = "";
+      private java.lang.Object notes_ = "";
       /**
-       * <code>optional string account_name = 11;</code>
+       * <code>optional string notes = 9;</code>
        */
-      public boolean hasAccountName() {
-        return ((bitField0_ & 0x00000800) == 0x00000800);
+      public boolean hasNotes() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
       }
       /**
-       * <code>optional string account_name = 11;</code>
+       * <code>optional string notes = 9;</code>
        */
-      public java.lang.String getAccountName() {
-        java.lang.Object ref = accountName_;
+      public java.lang.String getNotes() {
+        java.lang.Object ref = notes_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            accountName_ = s;
+            notes_ = s;
           }
           return s;
         } else {
@@ -2352,115 +15340,215 @@ public final class Proto {
         }
       }
       /**
-       * <code>optional string account_name = 11;</code>
+       * <code>optional string notes = 9;</code>
        */
       public com.google.protobuf.ByteString
-          getAccountNameBytes() {
-        java.lang.Object ref = accountName_;
+          getNotesBytes() {
+        java.lang.Object ref = notes_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          accountName_ = b;
+          notes_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string account_name = 11;</code>
+       * <code>optional string notes = 9;</code>
        */
-      public Builder setAccountName(
+      public Builder setNotes(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000800;
-        accountName_ = value;
+  bitField0_ |= 0x00000100;
+        notes_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string account_name = 11;</code>
+       * <code>optional string notes = 9;</code>
        */
-      public Builder clearAccountName() {
-        bitField0_ = (bitField0_ & ~0x00000800);
-        accountName_ = getDefaultInstance().getAccountName();
+      public Builder clearNotes() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        notes_ = getDefaultInstance().getNotes();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string account_name = 11;</code>
+       * <code>optional string notes = 9;</code>
        */
-      public Builder setAccountNameBytes(
+      public Builder setNotesBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000800;
-        accountName_ = value;
+  bitField0_ |= 0x00000100;
+        notes_ = value;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:doorking.Config)
+      private boolean vendor_ ;
+      /**
+       * <code>optional bool vendor = 10;</code>
+       */
+      public boolean hasVendor() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional bool vendor = 10;</code>
+       */
+      public boolean getVendor() {
+        return vendor_;
+      }
+      /**
+       * <code>optional bool vendor = 10;</code>
+       */
+      public Builder setVendor(boolean value) {
+        bitField0_ |= 0x00000200;
+        vendor_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool vendor = 10;</code>
+       */
+      public Builder clearVendor() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        vendor_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:doorking.EntrySnapshot)
     }
 
     static {
-      defaultInstance = new Config(true);
+      defaultInstance = new EntrySnapshot(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:doorking.Config)
+    // @@protoc_insertion_point(class_scope:doorking.EntrySnapshot)
   }
 
-  public interface SecurityLevelMappingOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:doorking.SecurityLevelMapping)
+  public interface EntryCodeSnapshotOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:doorking.EntryCodeSnapshot)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional string entry_code_type = 1;</code>
+     * <code>optional int32 code = 1;</code>
      */
-    boolean hasEntryCodeType();
+    boolean hasCode();
     /**
-     * <code>optional string entry_code_type = 1;</code>
+     * <code>optional int32 code = 1;</code>
      */
-    java.lang.String getEntryCodeType();
+    int getCode();
+
     /**
-     * <code>optional string entry_code_type = 1;</code>
+     * <code>optional string type = 2;</code>
+     *
+     * <pre>
+     * An EntryCodeType name.
+     * </pre>
+     */
+    boolean hasType();
+    /**
+     * <code>optional string type = 2;</code>
+     *
+     * <pre>
+     * An EntryCodeType name.
+     * </pre>
+     */
+    java.lang.String getType();
+    /**
+     * <code>optional string type = 2;</code>
+     *
+     * <pre>
+     * An EntryCodeType name.
+     * </pre>
      */
     com.google.protobuf.ByteString
-        getEntryCodeTypeBytes();
+        getTypeBytes();
 
     /**
-     * <code>optional int32 security_level = 2;</code>
+     * <code>optional string street = 3;</code>
      */
-    boolean hasSecurityLevel();
+    boolean hasStreet();
     /**
-     * <code>optional int32 security_level = 2;</code>
+     * <code>optional string street = 3;</code>
      */
-    int getSecurityLevel();
+    java.lang.String getStreet();
+    /**
+     * <code>optional string street = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getStreetBytes();
+
+    /**
+     * <code>optional string house_number = 4;</code>
+     */
+    boolean hasHouseNumber();
+    /**
+     * <code>optional string house_number = 4;</code>
+     */
+    java.lang.String getHouseNumber();
+    /**
+     * <code>optional string house_number = 4;</code>
+     */
+    com.google.protobuf.ByteString
+        getHouseNumberBytes();
+
+    /**
+     * <code>optional string name = 5;</code>
+     */
+    boolean hasName();
+    /**
+     * <code>optional string name = 5;</code>
+     */
+    java.lang.String getName();
+    /**
+     * <code>optional string name = 5;</code>
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>optional string notes = 6;</code>
+     */
+    boolean hasNotes();
+    /**
+     * <code>optional string notes = 6;</code>
+     */
+    java.lang.String getNotes();
+    /**
+     * <code>optional string notes = 6;</code>
+     */
+    com.google.protobuf.ByteString
+        getNotesBytes();
   }
   /**
-   * Protobuf type {@code doorking.SecurityLevelMapping}
+   * Protobuf type {@code doorking.EntryCodeSnapshot}
    */
-  public static final class SecurityLevelMapping extends
+  public static final class EntryCodeSnapshot extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:doorking.SecurityLevelMapping)
-      SecurityLevelMappingOrBuilder {
-    // Use SecurityLevelMapping.newBuilder() to construct.
-    private SecurityLevelMapping(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:doorking.EntryCodeSnapshot)
+      EntryCodeSnapshotOrBuilder {
+    // Use EntryCodeSnapshot.newBuilder() to construct.
+    private EntryCodeSnapshot(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private SecurityLevelMapping(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private EntryCodeSnapshot(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final SecurityLevelMapping defaultInstance;
-    public static SecurityLevelMapping getDefaultInstance() {
+    private static final EntryCodeSnapshot defaultInstance;
+    public static EntryCodeSnapshot getDefaultInstance() {
       return defaultInstance;
     }
 
-    public SecurityLevelMapping getDefaultInstanceForType() {
+    public EntryCodeSnapshot getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -2470,7 +15558,7 @@ public final class Proto {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private SecurityLevelMapping(
+    private EntryCodeSnapshot(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2493,15 +15581,39 @@ public final class Proto {
               }
               break;
             }
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
+            case 8: {
               bitField0_ |= 0x00000001;
-              entryCodeType_ = bs;
+              code_ = input.readInt32();
               break;
             }
-            case 16: {
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000002;
-              securityLevel_ = input.readInt32();
+              type_ = bs;
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000004;
+              street_ = bs;
+              break;
+            }
+            case 34: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000008;
+              houseNumber_ = bs;
+              break;
+            }
+            case 42: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000010;
+              name_ = bs;
+              break;
+            }
+            case 50: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000020;
+              notes_ = bs;
               break;
             }
           }
@@ -2518,45 +15630,68 @@ public final class Proto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return doorking.Proto.internal_static_doorking_SecurityLevelMapping_descriptor;
+      return doorking.Proto.internal_static_doorking_EntryCodeSnapshot_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return doorking.Proto.internal_static_doorking_SecurityLevelMapping_fieldAccessorTable
+      return doorking.Proto.internal_static_doorking_EntryCodeSnapshot_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              doorking.Proto.SecurityLevelMapping.class, doorking.Proto.SecurityLevelMapping.Builder.class);
+              doorking.Proto.EntryCodeSnapshot.class, doorking.Proto.EntryCodeSnapshot.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<SecurityLevelMapping> PARSER =
-        new com.google.protobuf.AbstractParser<SecurityLevelMapping>() {
-      public SecurityLevelMapping parsePartialFrom(
+    public static com.google.protobuf.Parser<EntryCodeSnapshot> PARSER =
+        new com.google.protobuf.AbstractParser<EntryCodeSnapshot>() {
+      public EntryCodeSnapshot parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new SecurityLevelMapping(input, extensionRegistry);
+        return new EntryCodeSnapshot(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<SecurityLevelMapping> getParserForType() {
+    public com.google.protobuf.Parser<EntryCodeSnapshot> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int ENTRY_CODE_TYPE_FIELD_NUMBER = 1;
-    private java.lang.Object entryCodeType_;
+    public static final int CODE_FIELD_NUMBER = 1;
+    private int code_;
     /**
-     * <code>optional string entry_code_type = 1;</code>
+     * <code>optional int32 code = 1;</code>
      */
-    public boolean hasEntryCodeType() {
+    public boolean hasCode() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional string entry_code_type = 1;</code>
+     * <code>optional int32 code = 1;</code>
      */
-    public java.lang.String getEntryCodeType() {
-      java.lang.Object ref = entryCodeType_;
+    public int getCode() {
+      return code_;
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 2;
+    private java.lang.Object type_;
+    /**
+     * <code>optional string type = 2;</code>
+     *
+     * <pre>
+     * An EntryCodeType name.
+     * </pre>
+     */
+    public boolean hasType() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string type = 2;</code>
+     *
+     * <pre>
+     * An EntryCodeType name.
+     * </pre>
+     */
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
@@ -2564,46 +15699,207 @@ public final class Proto {
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
-          entryCodeType_ = s;
+          type_ = s;
         }
         return s;
       }
     }
     /**
-     * <code>optional string entry_code_type = 1;</code>
+     * <code>optional string type = 2;</code>
+     *
+     * <pre>
+     * An EntryCodeType name.
+     * </pre>
      */
     public com.google.protobuf.ByteString
-        getEntryCodeTypeBytes() {
-      java.lang.Object ref = entryCodeType_;
+        getTypeBytes() {
+      java.lang.Object ref = type_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        entryCodeType_ = b;
+        type_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int SECURITY_LEVEL_FIELD_NUMBER = 2;
-    private int securityLevel_;
+    public static final int STREET_FIELD_NUMBER = 3;
+    private java.lang.Object street_;
     /**
-     * <code>optional int32 security_level = 2;</code>
+     * <code>optional string street = 3;</code>
      */
-    public boolean hasSecurityLevel() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public boolean hasStreet() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional string street = 3;</code>
+     */
+    public java.lang.String getStreet() {
+      java.lang.Object ref = street_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          street_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string street = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getStreetBytes() {
+      java.lang.Object ref = street_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        street_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int HOUSE_NUMBER_FIELD_NUMBER = 4;
+    private java.lang.Object houseNumber_;
+    /**
+     * <code>optional string house_number = 4;</code>
+     */
+    public boolean hasHouseNumber() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional string house_number = 4;</code>
+     */
+    public java.lang.String getHouseNumber() {
+      java.lang.Object ref = houseNumber_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          houseNumber_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string house_number = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+        getHouseNumberBytes() {
+      java.lang.Object ref = houseNumber_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        houseNumber_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NAME_FIELD_NUMBER = 5;
+    private java.lang.Object name_;
+    /**
+     * <code>optional string name = 5;</code>
+     */
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional string name = 5;</code>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string name = 5;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NOTES_FIELD_NUMBER = 6;
+    private java.lang.Object notes_;
+    /**
+     * <code>optional string notes = 6;</code>
+     */
+    public boolean hasNotes() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional string notes = 6;</code>
+     */
+    public java.lang.String getNotes() {
+      java.lang.Object ref = notes_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          notes_ = s;
+        }
+        return s;
+      }
     }
     /**
-     * <code>optional int32 security_level = 2;</code>
+     * <code>optional string notes = 6;</code>
      */
-    public int getSecurityLevel() {
-      return securityLevel_;
+    public com.google.protobuf.ByteString
+        getNotesBytes() {
+      java.lang.Object ref = notes_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        notes_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
     private void initFields() {
-      entryCodeType_ = "";
-      securityLevel_ = 0;
+      code_ = 0;
+      type_ = "";
+      street_ = "";
+      houseNumber_ = "";
+      name_ = "";
+      notes_ = "";
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -2619,10 +15915,22 @@ public final class Proto {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getEntryCodeTypeBytes());
+        output.writeInt32(1, code_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeInt32(2, securityLevel_);
+        output.writeBytes(2, getTypeBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getStreetBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(4, getHouseNumberBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBytes(5, getNameBytes());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(6, getNotesBytes());
       }
       getUnknownFields().writeTo(output);
     }
@@ -2635,11 +15943,27 @@ public final class Proto {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getEntryCodeTypeBytes());
+          .computeInt32Size(1, code_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, securityLevel_);
+          .computeBytesSize(2, getTypeBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getStreetBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getHouseNumberBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, getNameBytes());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, getNotesBytes());
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -2653,53 +15977,53 @@ public final class Proto {
       return super.writeReplace();
     }
 
-    public static doorking.Proto.SecurityLevelMapping parseFrom(
+    public static doorking.Proto.EntryCodeSnapshot parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static doorking.Proto.SecurityLevelMapping parseFrom(
+    public static doorking.Proto.EntryCodeSnapshot parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static doorking.Proto.SecurityLevelMapping parseFrom(byte[] data)
+    public static doorking.Proto.EntryCodeSnapshot parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static doorking.Proto.SecurityLevelMapping parseFrom(
+    public static doorking.Proto.EntryCodeSnapshot parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static doorking.Proto.SecurityLevelMapping parseFrom(java.io.InputStream input)
+    public static doorking.Proto.EntryCodeSnapshot parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static doorking.Proto.SecurityLevelMapping parseFrom(
+    public static doorking.Proto.EntryCodeSnapshot parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static doorking.Proto.SecurityLevelMapping parseDelimitedFrom(java.io.InputStream input)
+    public static doorking.Proto.EntryCodeSnapshot parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static doorking.Proto.SecurityLevelMapping parseDelimitedFrom(
+    public static doorking.Proto.EntryCodeSnapshot parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static doorking.Proto.SecurityLevelMapping parseFrom(
+    public static doorking.Proto.EntryCodeSnapshot parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static doorking.Proto.SecurityLevelMapping parseFrom(
+    public static doorking.Proto.EntryCodeSnapshot parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2708,7 +16032,7 @@ public final class Proto {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(doorking.Proto.SecurityLevelMapping prototype) {
+    public static Builder newBuilder(doorking.Proto.EntryCodeSnapshot prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -2720,25 +16044,25 @@ public final class Proto {
       return builder;
     }
     /**
-     * Protobuf type {@code doorking.SecurityLevelMapping}
+     * Protobuf type {@code doorking.EntryCodeSnapshot}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:doorking.SecurityLevelMapping)
-        doorking.Proto.SecurityLevelMappingOrBuilder {
+        // @@protoc_insertion_point(builder_implements:doorking.EntryCodeSnapshot)
+        doorking.Proto.EntryCodeSnapshotOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return doorking.Proto.internal_static_doorking_SecurityLevelMapping_descriptor;
+        return doorking.Proto.internal_static_doorking_EntryCodeSnapshot_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return doorking.Proto.internal_static_doorking_SecurityLevelMapping_fieldAccessorTable
+        return doorking.Proto.internal_static_doorking_EntryCodeSnapshot_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                doorking.Proto.SecurityLevelMapping.class, doorking.Proto.SecurityLevelMapping.Builder.class);
+                doorking.Proto.EntryCodeSnapshot.class, doorking.Proto.EntryCodeSnapshot.Builder.class);
       }
 
-      // Construct using doorking.Proto.SecurityLevelMapping.newBuilder()
+      // Construct using doorking.Proto.EntryCodeSnapshot.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -2758,115 +16082,443 @@ public final class Proto {
 
       public Builder clear() {
         super.clear();
-        entryCodeType_ = "";
+        code_ = 0;
         bitField0_ = (bitField0_ & ~0x00000001);
-        securityLevel_ = 0;
+        type_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        street_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        houseNumber_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000010);
+        notes_ = "";
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return doorking.Proto.internal_static_doorking_EntryCodeSnapshot_descriptor;
+      }
+
+      public doorking.Proto.EntryCodeSnapshot getDefaultInstanceForType() {
+        return doorking.Proto.EntryCodeSnapshot.getDefaultInstance();
+      }
+
+      public doorking.Proto.EntryCodeSnapshot build() {
+        doorking.Proto.EntryCodeSnapshot result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public doorking.Proto.EntryCodeSnapshot buildPartial() {
+        doorking.Proto.EntryCodeSnapshot result = new doorking.Proto.EntryCodeSnapshot(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.code_ = code_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.type_ = type_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.street_ = street_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.houseNumber_ = houseNumber_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.name_ = name_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.notes_ = notes_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof doorking.Proto.EntryCodeSnapshot) {
+          return mergeFrom((doorking.Proto.EntryCodeSnapshot)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(doorking.Proto.EntryCodeSnapshot other) {
+        if (other == doorking.Proto.EntryCodeSnapshot.getDefaultInstance()) return this;
+        if (other.hasCode()) {
+          setCode(other.getCode());
+        }
+        if (other.hasType()) {
+          bitField0_ |= 0x00000002;
+          type_ = other.type_;
+          onChanged();
+        }
+        if (other.hasStreet()) {
+          bitField0_ |= 0x00000004;
+          street_ = other.street_;
+          onChanged();
+        }
+        if (other.hasHouseNumber()) {
+          bitField0_ |= 0x00000008;
+          houseNumber_ = other.houseNumber_;
+          onChanged();
+        }
+        if (other.hasName()) {
+          bitField0_ |= 0x00000010;
+          name_ = other.name_;
+          onChanged();
+        }
+        if (other.hasNotes()) {
+          bitField0_ |= 0x00000020;
+          notes_ = other.notes_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        doorking.Proto.EntryCodeSnapshot parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (doorking.Proto.EntryCodeSnapshot) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int code_ ;
+      /**
+       * <code>optional int32 code = 1;</code>
+       */
+      public boolean hasCode() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int32 code = 1;</code>
+       */
+      public int getCode() {
+        return code_;
+      }
+      /**
+       * <code>optional int32 code = 1;</code>
+       */
+      public Builder setCode(int value) {
+        bitField0_ |= 0x00000001;
+        code_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 code = 1;</code>
+       */
+      public Builder clearCode() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        code_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object type_ = "";
+      /**
+       * <code>optional string type = 2;</code>
+       *
+       * <pre>
+       * An EntryCodeType name.
+       * </pre>
+       */
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string type = 2;</code>
+       *
+       * <pre>
+       * An EntryCodeType name.
+       * </pre>
+       */
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            type_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string type = 2;</code>
+       *
+       * <pre>
+       * An EntryCodeType name.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string type = 2;</code>
+       *
+       * <pre>
+       * An EntryCodeType name.
+       * </pre>
+       */
+      public Builder setType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        type_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string type = 2;</code>
+       *
+       * <pre>
+       * An EntryCodeType name.
+       * </pre>
+       */
+      public Builder clearType() {
         bitField0_ = (bitField0_ & ~0x00000002);
+        type_ = getDefaultInstance().getType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string type = 2;</code>
+       *
+       * <pre>
+       * An EntryCodeType name.
+       * </pre>
+       */
+      public Builder setTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        type_ = value;
+        onChanged();
         return this;
       }
-
-      public Builder clone() {
-        return create().mergeFrom(buildPartial());
+
+      private java.lang.Object street_ = "";
+      /**
+       * <code>optional string street = 3;</code>
+       */
+      public boolean hasStreet() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string street = 3;</code>
+       */
+      public java.lang.String getStreet() {
+        java.lang.Object ref = street_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            street_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string street = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getStreetBytes() {
+        java.lang.Object ref = street_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          street_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string street = 3;</code>
+       */
+      public Builder setStreet(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        street_ = value;
+        onChanged();
+        return this;
       }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return doorking.Proto.internal_static_doorking_SecurityLevelMapping_descriptor;
+      /**
+       * <code>optional string street = 3;</code>
+       */
+      public Builder clearStreet() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        street_ = getDefaultInstance().getStreet();
+        onChanged();
+        return this;
       }
-
-      public doorking.Proto.SecurityLevelMapping getDefaultInstanceForType() {
-        return doorking.Proto.SecurityLevelMapping.getDefaultInstance();
+      /**
+       * <code>optional string street = 3;</code>
+       */
+      public Builder setStreetBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        street_ = value;
+        onChanged();
+        return this;
       }
 
-      public doorking.Proto.SecurityLevelMapping build() {
-        doorking.Proto.SecurityLevelMapping result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
+      private java.lang.Object houseNumber_ = "";
+      /**
+       * <code>optional string house_number = 4;</code>
+       */
+      public boolean hasHouseNumber() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
       }
-
-      public doorking.Proto.SecurityLevelMapping buildPartial() {
-        doorking.Proto.SecurityLevelMapping result = new doorking.Proto.SecurityLevelMapping(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        result.entryCodeType_ = entryCodeType_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
+      /**
+       * <code>optional string house_number = 4;</code>
+       */
+      public java.lang.String getHouseNumber() {
+        java.lang.Object ref = houseNumber_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            houseNumber_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        result.securityLevel_ = securityLevel_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
       }
-
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof doorking.Proto.SecurityLevelMapping) {
-          return mergeFrom((doorking.Proto.SecurityLevelMapping)other);
+      /**
+       * <code>optional string house_number = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getHouseNumberBytes() {
+        java.lang.Object ref = houseNumber_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          houseNumber_ = b;
+          return b;
         } else {
-          super.mergeFrom(other);
-          return this;
+          return (com.google.protobuf.ByteString) ref;
         }
       }
-
-      public Builder mergeFrom(doorking.Proto.SecurityLevelMapping other) {
-        if (other == doorking.Proto.SecurityLevelMapping.getDefaultInstance()) return this;
-        if (other.hasEntryCodeType()) {
-          bitField0_ |= 0x00000001;
-          entryCodeType_ = other.entryCodeType_;
-          onChanged();
-        }
-        if (other.hasSecurityLevel()) {
-          setSecurityLevel(other.getSecurityLevel());
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
+      /**
+       * <code>optional string house_number = 4;</code>
+       */
+      public Builder setHouseNumber(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        houseNumber_ = value;
+        onChanged();
         return this;
       }
-
-      public final boolean isInitialized() {
-        return true;
+      /**
+       * <code>optional string house_number = 4;</code>
+       */
+      public Builder clearHouseNumber() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        houseNumber_ = getDefaultInstance().getHouseNumber();
+        onChanged();
+        return this;
       }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        doorking.Proto.SecurityLevelMapping parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (doorking.Proto.SecurityLevelMapping) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+      /**
+       * <code>optional string house_number = 4;</code>
+       */
+      public Builder setHouseNumberBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        houseNumber_ = value;
+        onChanged();
         return this;
       }
-      private int bitField0_;
 
-      private java.lang.Object entryCodeType_ = "";
+      private java.lang.Object name_ = "";
       /**
-       * <code>optional string entry_code_type = 1;</code>
+       * <code>optional string name = 5;</code>
        */
-      public boolean hasEntryCodeType() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
       }
       /**
-       * <code>optional string entry_code_type = 1;</code>
+       * <code>optional string name = 5;</code>
        */
-      public java.lang.String getEntryCodeType() {
-        java.lang.Object ref = entryCodeType_;
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            entryCodeType_ = s;
+            name_ = s;
           }
           return s;
         } else {
@@ -2874,98 +16526,142 @@ public final class Proto {
         }
       }
       /**
-       * <code>optional string entry_code_type = 1;</code>
+       * <code>optional string name = 5;</code>
        */
       public com.google.protobuf.ByteString
-          getEntryCodeTypeBytes() {
-        java.lang.Object ref = entryCodeType_;
+          getNameBytes() {
+        java.lang.Object ref = name_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          entryCodeType_ = b;
+          name_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string entry_code_type = 1;</code>
+       * <code>optional string name = 5;</code>
        */
-      public Builder setEntryCodeType(
+      public Builder setName(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000001;
-        entryCodeType_ = value;
+  bitField0_ |= 0x00000010;
+        name_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string entry_code_type = 1;</code>
+       * <code>optional string name = 5;</code>
        */
-      public Builder clearEntryCodeType() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        entryCodeType_ = getDefaultInstance().getEntryCodeType();
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        name_ = getDefaultInstance().getName();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string entry_code_type = 1;</code>
+       * <code>optional string name = 5;</code>
        */
-      public Builder setEntryCodeTypeBytes(
+      public Builder setNameBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000001;
-        entryCodeType_ = value;
+  bitField0_ |= 0x00000010;
+        name_ = value;
         onChanged();
         return this;
       }
 
-      private int securityLevel_ ;
+      private java.lang.Object notes_ = "";
       /**
-       * <code>optional int32 security_level = 2;</code>
+       * <code>optional string notes = 6;</code>
        */
-      public boolean hasSecurityLevel() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public boolean hasNotes() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
       }
       /**
-       * <code>optional int32 security_level = 2;</code>
+       * <code>optional string notes = 6;</code>
        */
-      public int getSecurityLevel() {
-        return securityLevel_;
+      public java.lang.String getNotes() {
+        java.lang.Object ref = notes_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            notes_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
       /**
-       * <code>optional int32 security_level = 2;</code>
+       * <code>optional string notes = 6;</code>
        */
-      public Builder setSecurityLevel(int value) {
-        bitField0_ |= 0x00000002;
-        securityLevel_ = value;
+      public com.google.protobuf.ByteString
+          getNotesBytes() {
+        java.lang.Object ref = notes_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          notes_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string notes = 6;</code>
+       */
+      public Builder setNotes(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        notes_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional int32 security_level = 2;</code>
+       * <code>optional string notes = 6;</code>
        */
-      public Builder clearSecurityLevel() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        securityLevel_ = 0;
+      public Builder clearNotes() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        notes_ = getDefaultInstance().getNotes();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string notes = 6;</code>
+       */
+      public Builder setNotesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        notes_ = value;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:doorking.SecurityLevelMapping)
+      // @@protoc_insertion_point(builder_scope:doorking.EntryCodeSnapshot)
     }
 
     static {
-      defaultInstance = new SecurityLevelMapping(true);
+      defaultInstance = new EntryCodeSnapshot(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:doorking.SecurityLevelMapping)
+    // @@protoc_insertion_point(class_scope:doorking.EntryCodeSnapshot)
   }
 
   private static final com.google.protobuf.Descriptors.Descriptor
@@ -2973,11 +16669,51 @@ public final class Proto {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_doorking_Config_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_doorking_ColumnLayout_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_doorking_ColumnLayout_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_doorking_ColumnMapping_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_doorking_ColumnMapping_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_doorking_CodeAllocation_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_doorking_CodeAllocation_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_doorking_CodeRange_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_doorking_CodeRange_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_doorking_Site_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_doorking_Site_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_doorking_SecurityLevelMapping_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_doorking_SecurityLevelMapping_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_doorking_SyncSnapshot_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_doorking_SyncSnapshot_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_doorking_EntrySnapshot_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_doorking_EntrySnapshot_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_doorking_EntryCodeSnapshot_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_doorking_EntryCodeSnapshot_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -2987,7 +16723,7 @@ public final class Proto {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\016doorking.proto\022\010doorking\"\342\002\n\006Config\022\034\n" +
+      "\n\016doorking.proto\022\010doorking\"\370\014\n\006Config\022\034\n" +
       "\024data_store_directory\030\001 \001(\t\022\030\n\020applicati" +
       "on_name\030\002 \001(\t\022\021\n\tclient_id\030\003 \001(\t\022\025\n\rclie" +
       "nt_secret\030\004 \001(\t\022\027\n\017google_username\030\005 \001(\t" +
@@ -2996,9 +16732,64 @@ public final class Proto {
       "eleted_entry_code_range\030\014 \001(\t\022\032\n\022local_p" +
       "hone_prefix\030\t \001(\t\022>\n\026security_level_mapp" +
       "ing\030\n \003(\0132\036.doorking.SecurityLevelMappin" +
-      "g\022\024\n\014account_name\030\013 \001(\t\"G\n\024SecurityLevel",
-      "Mapping\022\027\n\017entry_code_type\030\001 \001(\t\022\026\n\016secu" +
-      "rity_level\030\002 \001(\005B\021\n\010doorkingB\005Proto"
+      "g\022\024\n\014account_name\030\013 \001(\t\022\027\n\tbatch_get\030\r \001",
+      "(\010:\004true\022\026\n\016snapshot_cache\030\016 \001(\010\022A\n\nrow_" +
+      "source\030\017 \001(\0162\036.doorking.Config.RowSource" +
+      "Type:\rGOOGLE_SHEETS\022\026\n\016dump_directory\030\020 " +
+      "\001(\t\022 \n\030failover_timeout_seconds\030\021 \001(\005\022 \n" +
+      "\030service_account_key_file\030\022 \001(\t\022\036\n\026conne" +
+      "ct_timeout_millis\030\023 \001(\005\022\033\n\023read_timeout_" +
+      "millis\030\024 \001(\005\022\027\n\017max_connections\030\025 \001(\005\022 \n" +
+      "\030telephone_entry_sheet_id\030\026 \001(\t\022\033\n\023entry" +
+      "_code_sheet_id\030\027 \001(\t\022#\n\033deleted_entry_co" +
+      "de_sheet_id\030\030 \001(\t\022!\n\026max_concurrent_fetc",
+      "hes\030\031 \001(\005:\0013\022\027\n\014max_attempts\030\032 \001(\005:\0015\022$\n" +
+      "\026initial_backoff_millis\030\033 \001(\005:\0041000\022!\n\022m" +
+      "ax_backoff_millis\030\034 \001(\005:\00532000\022\034\n\024call_d" +
+      "eadline_millis\030\035 \001(\005\022\032\n\022hedge_delay_mill" +
+      "is\030\036 \001(\005\022,\n\023value_render_option\030\037 \001(\t:\017F" +
+      "ORMATTED_VALUE\022.\n\027date_time_render_optio" +
+      "n\030  \001(\t:\rSERIAL_NUMBER\022\026\n\016minimal_fields" +
+      "\030! \001(\010\022\024\n\014trim_columns\030\" \001(\010\022\034\n\004site\030# \003" +
+      "(\0132\016.doorking.Site\022&\n\013output_file\030$ \001(\t:" +
+      "\021/tmp/doorking.csv\022\037\n\024max_concurrent_sit",
+      "es\030% \001(\005:\0014\022\"\n\025poll_interval_seconds\030& \001" +
+      "(\005:\003300\022\024\n\014delta_export\030\' \001(\010\022\026\n\016entry_s" +
+      "napshot\030( \001(\010\0221\n\017code_allocation\030) \001(\0132\030" +
+      ".doorking.CodeAllocation\0226\n\026telephone_en" +
+      "try_layout\030* \001(\0132\026.doorking.ColumnLayout" +
+      "\0221\n\021entry_code_layout\030+ \001(\0132\026.doorking.C" +
+      "olumnLayout\0229\n\031deleted_entry_code_layout" +
+      "\030, \001(\0132\026.doorking.ColumnLayout\022\031\n\021skip_i" +
+      "nvalid_rows\030- \001(\010\022\033\n\023parallel_adaptation" +
+      "\030. \001(\010\022#\n\025adaptation_chunk_size\030/ \001(\005:\0041",
+      "000\022\026\n\016metrics_report\0300 \001(\010\"8\n\rRowSource" +
+      "Type\022\021\n\rGOOGLE_SHEETS\020\000\022\010\n\004FILE\020\001\022\n\n\006REP" +
+      "LAY\020\002\"K\n\014ColumnLayout\022\022\n\nheader_row\030\001 \001(" +
+      "\010\022\'\n\006column\030\002 \003(\0132\027.doorking.ColumnMappi" +
+      "ng\">\n\rColumnMapping\022\r\n\005field\030\001 \001(\t\022\016\n\006co" +
+      "lumn\030\002 \001(\t\022\016\n\006header\030\003 \001(\t\"f\n\016CodeAlloca" +
+      "tion\022\027\n\014min_distance\030\001 \001(\005:\0011\022\016\n\006random\030" +
+      "\002 \001(\010\022+\n\016reserved_range\030\003 \003(\0132\023.doorking" +
+      ".CodeRange\"A\n\tCodeRange\022\027\n\017entry_code_ty" +
+      "pe\030\001 \001(\t\022\r\n\005first\030\002 \001(\005\022\014\n\004last\030\003 \001(\005\"6\n",
+      "\004Site\022\014\n\004name\030\001 \001(\t\022 \n\006config\030\002 \001(\0132\020.do" +
+      "orking.Config\"G\n\024SecurityLevelMapping\022\027\n" +
+      "\017entry_code_type\030\001 \001(\t\022\026\n\016security_level" +
+      "\030\002 \001(\005\"\267\001\n\014SyncSnapshot\022\030\n\020timestamp_mil" +
+      "lis\030\001 \001(\003\022\024\n\014account_name\030\002 \001(\t\022&\n\005entry" +
+      "\030\003 \003(\0132\027.doorking.EntrySnapshot\022/\n\nentry" +
+      "_code\030\004 \003(\0132\033.doorking.EntryCodeSnapshot" +
+      "\022\036\n\022deleted_entry_code\030\005 \003(\005B\002\020\001\"\344\001\n\rEnt" +
+      "rySnapshot\022\036\n\026directory_display_name\030\001 \001" +
+      "(\t\022\016\n\006hidden\030\002 \001(\010\022\021\n\tarea_code\030\003 \001(\t\022\024\n",
+      "\014phone_number\030\004 \001(\t\022\030\n\020directory_number\030" +
+      "\005 \001(\005\022\022\n\nentry_code\030\006 \001(\005\022\026\n\016security_le" +
+      "vel\030\007 \001(\005\022\025\n\rdevice_number\030\010 \003(\t\022\r\n\005note" +
+      "s\030\t \001(\t\022\016\n\006vendor\030\n \001(\010\"r\n\021EntryCodeSnap" +
+      "shot\022\014\n\004code\030\001 \001(\005\022\014\n\004type\030\002 \001(\t\022\016\n\006stre" +
+      "et\030\003 \001(\t\022\024\n\014house_number\030\004 \001(\t\022\014\n\004name\030\005" +
+      " \001(\t\022\r\n\005notes\030\006 \001(\tB\021\n\010doorkingB\005Proto"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -3017,13 +16808,61 @@ public final class Proto {
     internal_static_doorking_Config_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_doorking_Config_descriptor,
-        new java.lang.String[] { "DataStoreDirectory", "ApplicationName", "ClientId", "ClientSecret", "GoogleUsername", "SheetId", "TelephoneEntryRange", "EntryCodeRange", "DeletedEntryCodeRange", "LocalPhonePrefix", "SecurityLevelMapping", "AccountName", });
-    internal_static_doorking_SecurityLevelMapping_descriptor =
+        new java.lang.String[] { "DataStoreDirectory", "ApplicationName", "ClientId", "ClientSecret", "GoogleUsername", "SheetId", "TelephoneEntryRange", "EntryCodeRange", "DeletedEntryCodeRange", "LocalPhonePrefix", "SecurityLevelMapping", "AccountName", "BatchGet", "SnapshotCache", "RowSource", "DumpDirectory", "FailoverTimeoutSeconds", "ServiceAccountKeyFile", "ConnectTimeoutMillis", "ReadTimeoutMillis", "MaxConnections", "TelephoneEntrySheetId", "EntryCodeSheetId", "DeletedEntryCodeSheetId", "MaxConcurrentFetches", "MaxAttempts", "InitialBackoffMillis", "MaxBackoffMillis", "CallDeadlineMillis", "HedgeDelayMillis", "ValueRenderOption", "DateTimeRenderOption", "MinimalFields", "TrimColumns", "Site", "OutputFile", "MaxConcurrentSites", "PollIntervalSeconds", "DeltaExport", "EntrySnapshot", "CodeAllocation", "TelephoneEntryLayout", "EntryCodeLayout", "DeletedEntryCodeLayout", "SkipInvalidRows", "ParallelAdaptation", "AdaptationChunkSize", "MetricsReport", });
+    internal_static_doorking_ColumnLayout_descriptor =
       getDescriptor().getMessageTypes().get(1);
+    internal_static_doorking_ColumnLayout_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_doorking_ColumnLayout_descriptor,
+        new java.lang.String[] { "HeaderRow", "Column", });
+    internal_static_doorking_ColumnMapping_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_doorking_ColumnMapping_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_doorking_ColumnMapping_descriptor,
+        new java.lang.String[] { "Field", "Column", "Header", });
+    internal_static_doorking_CodeAllocation_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_doorking_CodeAllocation_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_doorking_CodeAllocation_descriptor,
+        new java.lang.String[] { "MinDistance", "Random", "ReservedRange", });
+    internal_static_doorking_CodeRange_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_doorking_CodeRange_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_doorking_CodeRange_descriptor,
+        new java.lang.String[] { "EntryCodeType", "First", "Last", });
+    internal_static_doorking_Site_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_doorking_Site_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_doorking_Site_descriptor,
+        new java.lang.String[] { "Name", "Config", });
+    internal_static_doorking_SecurityLevelMapping_descriptor =
+      getDescriptor().getMessageTypes().get(6);
     internal_static_doorking_SecurityLevelMapping_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_doorking_SecurityLevelMapping_descriptor,
         new java.lang.String[] { "EntryCodeType", "SecurityLevel", });
+    internal_static_doorking_SyncSnapshot_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_doorking_SyncSnapshot_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_doorking_SyncSnapshot_descriptor,
+        new java.lang.String[] { "TimestampMillis", "AccountName", "Entry", "EntryCode", "DeletedEntryCode", });
+    internal_static_doorking_EntrySnapshot_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_doorking_EntrySnapshot_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_doorking_EntrySnapshot_descriptor,
+        new java.lang.String[] { "DirectoryDisplayName", "Hidden", "AreaCode", "PhoneNumber", "DirectoryNumber", "EntryCode", "SecurityLevel", "DeviceNumber", "Notes", "Vendor", });
+    internal_static_doorking_EntryCodeSnapshot_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_doorking_EntryCodeSnapshot_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_doorking_EntryCodeSnapshot_descriptor,
+        new java.lang.String[] { "Code", "Type", "Street", "HouseNumber", "Name", "Notes", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -0,0 +1,83 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import com.google.api.client.json.JsonFactory;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import doorking.GoogleRetriever.Result;
+import doorking.Proto.Config;
+import doorking.SnapshotCache.Snapshot;
+import doorking.ValuesDecoder.RowHandler;
+
+/**
+ * Replays the Sheets responses recorded in the {@link SnapshotCache} by a
+ * previous {@link GoogleRetriever} run, without authorizing or connecting.
+ */
+public class ReplayRowSource implements RowSource {
+  private final Config config;
+  private final SnapshotCache snapshotCache;
+  private final List<RowLayout> layouts;
+  private final JsonFactory jsonFactory = Transports.getJsonFactory();
+
+  public ReplayRowSource(Config config) {
+    this.config = config;
+    this.snapshotCache = new SnapshotCache(new File(config.getDataStoreDirectory()), config);
+    this.layouts = RowLayout.forConfig(config);
+  }
+
+  @Override
+  public Result retrieve() throws IOException {
+    List<String> sheetIds = GoogleRetriever.getSheetIds(config);
+    List<String> ranges = GoogleRetriever.getRanges(config, layouts);
+    Result.Builder result = new Result.Builder(layouts, ranges);
+    Snapshot batch = ImmutableSet.copyOf(sheetIds).size() == 1
+        ? snapshotCache.load(sheetIds.get(0), ranges)
+        : null;
+    if (batch != null) {
+      int count = decode(batch, result);
+      Preconditions.checkState(count == ranges.size(),
+          "Expected %s value ranges in recorded batchGet", ranges.size());
+      return result.build(false);
+    }
+    for (int i = 0; i < ranges.size(); i++) {
+      load(sheetIds.get(i), ranges.get(i), result.forRange(i));
+    }
+    return result.build(false);
+  }
+
+  private void load(String sheetId, String range, RowHandler handler) throws IOException {
+    Snapshot snapshot = snapshotCache.load(sheetId, ImmutableList.of(range));
+    Preconditions.checkState(snapshot != null, "No recorded response for %s", range);
+    decode(snapshot, handler);
+  }
+
+  private int decode(Snapshot snapshot, RowHandler handler) throws IOException {
+    return new ValuesDecoder(jsonFactory).decode(
+        new ByteArrayInputStream(snapshot.body), handler);
+  }
+}
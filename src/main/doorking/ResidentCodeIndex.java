@@ -0,0 +1,106 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.collect.LinkedListMultimap;
+import com.google.common.collect.ListMultimap;
+
+import doorking.EntryCode.EntryCodeType;
+
+/**
+ * Resident entry codes by household and type, consumed as entries are
+ * adapted. Codes of a type are taken in the order they were put, and a
+ * count of remaining codes makes the "all consumed" check O(1). Once all
+ * codes are put, codes of different households may be taken concurrently.
+ */
+public class ResidentCodeIndex {
+  private final Map<AddressKey, EnumMap<EntryCodeType, Deque<EntryCode>>> codes =
+      new HashMap<>();
+  private final AtomicInteger remaining = new AtomicInteger();
+
+  /** Adds {@code code} for {@code key}, ignoring it if it is already present. */
+  public void put(AddressKey key, EntryCode code) {
+    Deque<EntryCode> deque = codes
+        .computeIfAbsent(key, k -> new EnumMap<>(EntryCodeType.class))
+        .computeIfAbsent(code.type, type -> new ArrayDeque<>(2));
+    if (!deque.contains(code)) {
+      deque.addLast(code);
+      remaining.incrementAndGet();
+    }
+  }
+
+  /** Puts the codes of {@code other}, in order, after those of this index. */
+  public void putAll(ResidentCodeIndex other) {
+    other.codes.forEach((key, byType) -> byType.values().forEach(
+        deque -> deque.forEach(code -> put(key, code))));
+  }
+
+  /** Removes and returns a code of {@code type} for {@code key}, or null if none is left. */
+  public EntryCode take(AddressKey key, EntryCodeType type) {
+    EnumMap<EntryCodeType, Deque<EntryCode>> byType = codes.get(key);
+    if (byType == null) {
+      return null;
+    }
+    Deque<EntryCode> deque = byType.get(type);
+    if (deque == null) {
+      return null;
+    }
+    EntryCode code = deque.pollFirst();
+    if (code != null) {
+      remaining.decrementAndGet();
+    }
+    return code;
+  }
+
+  /** Returns the number of codes not yet taken. */
+  public int remaining() {
+    return remaining.get();
+  }
+
+  private ListMultimap<AddressKey, EntryCode> asMultimap() {
+    ListMultimap<AddressKey, EntryCode> multimap = LinkedListMultimap.create();
+    codes.forEach((key, byType) -> byType.values().forEach(
+        deque -> multimap.putAll(key, deque)));
+    return multimap;
+  }
+
+  @Override
+  public int hashCode() {
+    return asMultimap().hashCode();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof ResidentCodeIndex
+        && asMultimap().equals(((ResidentCodeIndex) obj).asMultimap());
+  }
+
+  @Override
+  public String toString() {
+    return asMultimap().toString();
+  }
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+import doorking.Proto.ColumnLayout;
+
+/** A row of the telephone entry range. */
+public class ResidentRow {
+  /** Field names of a ColumnLayout, in field number order. */
+  static final List<String> FIELDS = ImmutableList.of(
+      "street", "house_number", "directory_number", "display_name", "phone_number",
+      "device_number");
+  private static final int STREET = 0;
+  private static final int HOUSE_NUMBER = 1;
+  private static final int DIRECTORY_NUMBER = 2;
+  private static final int DISPLAY_NAME = 3;
+  private static final int PHONE_NUMBER = 4;
+  private static final int DEVICE_NUMBER = 5;
+
+  /** Default column of each field; device numbers are in G to L. */
+  private static final int[][] DEFAULT_COLUMNS = {
+      {0}, {1}, {3}, {4}, {5}, {6, 7, 8, 9, 10, 11}};
+
+  public final String street;
+  public final String houseNumber;
+  public final String directoryNumber;
+  public final String displayName;
+  public final String phoneNumber;
+  /** The non-empty device numbers, in column order. */
+  public final List<String> deviceNumbers;
+
+  public ResidentRow(String street, String houseNumber, String directoryNumber,
+      String displayName, String phoneNumber, List<String> deviceNumbers) {
+    this.street = street;
+    this.houseNumber = houseNumber;
+    this.directoryNumber = directoryNumber;
+    this.displayName = displayName;
+    this.phoneNumber = phoneNumber;
+    this.deviceNumbers = deviceNumbers;
+  }
+
+  static RowLayout layout(ColumnLayout layout) {
+    return new RowLayout(FIELDS, DEFAULT_COLUMNS, layout);
+  }
+
+  public static ResidentRow decode(RowDecoder decoder, Cells cells) {
+    ImmutableList.Builder<String> deviceNumbers = ImmutableList.builder();
+    for (int column : decoder.getColumns(DEVICE_NUMBER)) {
+      String deviceNumber = cells.get(column);
+      if (deviceNumber != null && !deviceNumber.isEmpty()) {
+        deviceNumbers.add(deviceNumber);
+      }
+    }
+    return new ResidentRow(
+        decoder.get(cells, STREET),
+        decoder.get(cells, HOUSE_NUMBER),
+        decoder.get(cells, DIRECTORY_NUMBER),
+        decoder.get(cells, DISPLAY_NAME),
+        decoder.get(cells, PHONE_NUMBER),
+        deviceNumbers.build());
+  }
+
+  /** Returns the cells of this row in the default layout. */
+  public List<String> toCells() {
+    List<String> cells = new ArrayList<>();
+    set(cells, DEFAULT_COLUMNS[STREET][0], street);
+    set(cells, DEFAULT_COLUMNS[HOUSE_NUMBER][0], houseNumber);
+    set(cells, DEFAULT_COLUMNS[DIRECTORY_NUMBER][0], directoryNumber);
+    set(cells, DEFAULT_COLUMNS[DISPLAY_NAME][0], displayName);
+    set(cells, DEFAULT_COLUMNS[PHONE_NUMBER][0], phoneNumber);
+    for (int i = 0; i < deviceNumbers.size(); i++) {
+      set(cells, DEFAULT_COLUMNS[DEVICE_NUMBER][i], deviceNumbers.get(i));
+    }
+    return cells;
+  }
+
+  static void set(List<String> cells, int column, String value) {
+    if (value == null) {
+      return;
+    }
+    while (cells.size() <= column) {
+      cells.add("");
+    }
+    cells.set(column, value);
+  }
+}
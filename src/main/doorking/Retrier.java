@@ -0,0 +1,173 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.util.BackOff;
+import com.google.api.client.util.ExponentialBackOff;
+import com.google.common.base.Throwables;
+
+import doorking.Proto.Config;
+
+/**
+ * Calls the Sheets API with exponential backoff and jitter on throttling
+ * and server errors, an optional deadline per attempt, and an optional
+ * hedged second attempt when the first is slow. Latencies are recorded per
+ * call name.
+ */
+public class Retrier {
+  private static final int HTTP_TOO_MANY_REQUESTS = 429;
+  private static final int HTTP_SERVER_ERROR = 500;
+
+  private final Config config;
+  private final ExecutorService executor;
+  private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+  private final AtomicInteger retries = new AtomicInteger();
+  private final AtomicInteger hedges = new AtomicInteger();
+  private final Logger logger = Logger.getLogger(Retrier.class.getName());
+
+  /**
+   * Runs attempts with a deadline or hedge on {@code executor}, which the
+   * caller bounds and shuts down.
+   */
+  public Retrier(Config config, ExecutorService executor) {
+    this.config = config;
+    this.executor = executor;
+  }
+
+  /** Runs {@code call}, which must be safe to run more than once and concurrently. */
+  public <T> T call(String name, Callable<T> call) throws Exception {
+    BackOff backOff = new ExponentialBackOff.Builder()
+        .setInitialIntervalMillis(config.getInitialBackoffMillis())
+        .setMaxIntervalMillis(config.getMaxBackoffMillis())
+        .setMaxElapsedTimeMillis(Integer.MAX_VALUE)
+        .build();
+    LatencyHistogram histogram = getHistogram(name);
+    for (int attempt = 1; ; attempt++) {
+      long start = System.nanoTime();
+      try {
+        T result = attempt(name, call);
+        histogram.record(System.nanoTime() - start);
+        return result;
+      } catch (Exception e) {
+        histogram.record(System.nanoTime() - start);
+        long backOffMillis;
+        if (attempt >= config.getMaxAttempts() || !isRetryable(e)
+            || (backOffMillis = backOff.nextBackOffMillis()) == BackOff.STOP) {
+          throw e;
+        }
+        retries.incrementAndGet();
+        logger.warning(String.format("%s attempt %d failed (%s); retrying in %dms",
+            name, attempt, e, backOffMillis));
+        Thread.sleep(backOffMillis);
+      }
+    }
+  }
+
+  public LatencyHistogram getHistogram(String name) {
+    return histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+  }
+
+  public Map<String, LatencyHistogram> getHistograms() {
+    return histograms;
+  }
+
+  public int getRetries() {
+    return retries.get();
+  }
+
+  public int getHedges() {
+    return hedges.get();
+  }
+
+  /** Runs one attempt, hedged and bounded by the deadline if configured. */
+  private <T> T attempt(String name, Callable<T> call) throws Exception {
+    boolean hasDeadline = config.getCallDeadlineMillis() > 0;
+    // True until the hedge is sent; false throughout if hedging is off.
+    boolean mayHedge = config.getHedgeDelayMillis() > 0;
+    if (!hasDeadline && !mayHedge) {
+      return call.call();
+    }
+    long deadline = System.nanoTime()
+        + TimeUnit.MILLISECONDS.toNanos(config.getCallDeadlineMillis());
+    CompletionService<T> completion = new ExecutorCompletionService<>(executor);
+    List<Future<T>> futures = new ArrayList<>();
+    futures.add(completion.submit(call));
+    int pending = 1;
+    ExecutionException failure = null;
+    try {
+      while (pending > 0) {
+        long wait = hasDeadline ? deadline - System.nanoTime() : Long.MAX_VALUE;
+        if (wait <= 0) {
+          throw new TimeoutException(String.format("%s exceeded deadline of %dms",
+              name, config.getCallDeadlineMillis()));
+        }
+        if (mayHedge) {
+          wait = Math.min(wait, TimeUnit.MILLISECONDS.toNanos(config.getHedgeDelayMillis()));
+        }
+        Future<T> done = completion.poll(wait, TimeUnit.NANOSECONDS);
+        if (done == null) {
+          if (mayHedge) {
+            mayHedge = false;
+            hedges.incrementAndGet();
+            logger.info("Hedging slow call " + name);
+            futures.add(completion.submit(call));
+            pending++;
+          }
+          continue;
+        }
+        pending--;
+        try {
+          return done.get();
+        } catch (ExecutionException e) {
+          failure = e;
+        }
+      }
+      Throwables.throwIfInstanceOf(failure.getCause(), Exception.class);
+      throw failure;
+    } finally {
+      futures.forEach(future -> future.cancel(true));
+    }
+  }
+
+  private static boolean isRetryable(Exception e) {
+    if (e instanceof HttpResponseException) {
+      int status = ((HttpResponseException) e).getStatusCode();
+      return status == HTTP_TOO_MANY_REQUESTS || status >= HTTP_SERVER_ERROR;
+    }
+    return e instanceof IOException || e instanceof TimeoutException;
+  }
+}
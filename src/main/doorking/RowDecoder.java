@@ -0,0 +1,54 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+/**
+ * Reads the fields of a row from precomputed cell indexes. Fields are
+ * numbered in the order of the row class's FIELDS.
+ */
+public class RowDecoder {
+  private final int[][] columns;
+  private final int lastColumn;
+
+  RowDecoder(int[][] columns) {
+    this.columns = columns;
+    int last = 0;
+    for (int[] fieldColumns : columns) {
+      for (int column : fieldColumns) {
+        last = Math.max(last, column);
+      }
+    }
+    this.lastColumn = last;
+  }
+
+  /** Returns the cell of a single column field, or null if it is past the end. */
+  public String get(Cells cells, int field) {
+    return cells.get(columns[field][0]);
+  }
+
+  /** Returns the columns of a repeated field. */
+  public int[] getColumns(int field) {
+    return columns[field];
+  }
+
+  public int getLastColumn() {
+    return lastColumn;
+  }
+}
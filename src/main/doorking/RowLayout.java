@@ -0,0 +1,142 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+import doorking.Proto.ColumnLayout;
+import doorking.Proto.ColumnMapping;
+import doorking.Proto.Config;
+
+/**
+ * The column layout of one value range, from a {@link ColumnLayout}. It is
+ * compiled into a {@link RowDecoder} up front, or from the header row if
+ * columns are mapped by header.
+ */
+public class RowLayout {
+  private final List<String> fields;
+  private final int[][] defaultColumns;
+  private final ColumnLayout layout;
+  /** Null until the header row is read if columns are mapped by header. */
+  private final RowDecoder decoder;
+
+  RowLayout(List<String> fields, int[][] defaultColumns, ColumnLayout layout) {
+    this.fields = fields;
+    this.defaultColumns = defaultColumns;
+    this.layout = layout;
+    boolean byHeader = false;
+    for (ColumnMapping mapping : layout.getColumnList()) {
+      Preconditions.checkArgument(fields.contains(mapping.getField()),
+          "Unknown field %s; expected one of %s", mapping.getField(), fields);
+      Preconditions.checkArgument(mapping.hasColumn() != mapping.hasHeader(),
+          "Field %s needs either a column or a header", mapping.getField());
+      Preconditions.checkArgument(!mapping.hasHeader() || layout.getHeaderRow(),
+          "Field %s is mapped by header without a header_row", mapping.getField());
+      byHeader |= mapping.hasHeader();
+    }
+    this.decoder = byHeader ? null : compile(null);
+  }
+
+  /** Returns the layouts of each range, in {@link GoogleRetriever.Result} order. */
+  public static List<RowLayout> forConfig(Config config) {
+    return ImmutableList.of(
+        ResidentRow.layout(config.getTelephoneEntryLayout()),
+        EntryCodeRow.layout(config.getEntryCodeLayout()),
+        DeletedCodeRow.layout(config.getDeletedEntryCodeLayout()));
+  }
+
+  /** Returns the default layout of each range. */
+  public static List<RowLayout> defaults() {
+    return forConfig(Config.getDefaultInstance());
+  }
+
+  public boolean hasHeaderRow() {
+    return layout.getHeaderRow();
+  }
+
+  /** Returns a header row naming each field in its default columns. */
+  public List<String> getDefaultHeader() {
+    List<String> header = new ArrayList<>();
+    for (int field = 0; field < fields.size(); field++) {
+      for (int column : defaultColumns[field]) {
+        while (header.size() <= column) {
+          header.add("");
+        }
+        header.set(column, fields.get(field));
+      }
+    }
+    return header;
+  }
+
+  /** Returns the decoder, or null if it depends on the header row. */
+  public RowDecoder getDecoder() {
+    return decoder;
+  }
+
+  /**
+   * Returns the last column read, or -1 if it is not known until the header
+   * row is read.
+   */
+  public int getLastColumn() {
+    return decoder == null ? -1 : decoder.getLastColumn();
+  }
+
+  /** Compiles the layout, looking up headers in {@code header}. */
+  public RowDecoder compile(Cells header) {
+    if (decoder != null) {
+      return decoder;
+    }
+    List<List<Integer>> columns = new ArrayList<>();
+    for (int i = 0; i < fields.size(); i++) {
+      columns.add(new ArrayList<>());
+    }
+    for (ColumnMapping mapping : layout.getColumnList()) {
+      columns.get(fields.indexOf(mapping.getField())).add(mapping.hasColumn()
+          ? A1Range.toColumnIndex(mapping.getColumn().toUpperCase())
+          : findHeader(header, mapping.getHeader()));
+    }
+    int[][] compiled = new int[fields.size()][];
+    for (int field = 0; field < compiled.length; field++) {
+      List<Integer> fieldColumns = columns.get(field);
+      if (fieldColumns.isEmpty()) {
+        compiled[field] = defaultColumns[field];
+      } else {
+        Preconditions.checkArgument(fieldColumns.size() == 1 || defaultColumns[field].length > 1,
+            "Field %s takes one column", fields.get(field));
+        compiled[field] = fieldColumns.stream().mapToInt(Integer::intValue).toArray();
+      }
+    }
+    return new RowDecoder(compiled);
+  }
+
+  private static int findHeader(Cells header, String name) {
+    for (int column = 0; column < header.size(); column++) {
+      String cell = header.get(column);
+      if (cell != null && cell.trim().equalsIgnoreCase(name.trim())) {
+        return column;
+      }
+    }
+    throw new IllegalStateException("No column with header " + name);
+  }
+}
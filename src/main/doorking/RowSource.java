@@ -0,0 +1,43 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import doorking.GoogleRetriever.Result;
+
+/** A source of spreadsheet rows for the adapters. */
+public interface RowSource extends Closeable {
+  Result retrieve() throws Exception;
+
+  /** Called once the last result has been exported. */
+  default void commit() throws IOException {
+  }
+
+  /** Adds the metrics of the last {@link #retrieve()}, such as fetch times. */
+  default void addMetrics(SyncMetrics metrics) {
+  }
+
+  /** Stops any threads of this source. */
+  @Override
+  default void close() throws IOException {
+  }
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import com.google.common.base.Joiner;
+import com.google.common.hash.Hashing;
+import doorking.Proto.Config;
+
+/**
+ * On-disk snapshots of Sheets responses, keyed by output file, sheet id and
+ * range, used to revalidate with If-None-Match and to detect unchanged data.
+ * Each snapshot records a hash of the settings it was exported with, so that
+ * a snapshot taken under different settings does not count as unchanged.
+ */
+public class SnapshotCache {
+  private final File directory;
+  private final String outputFile;
+  private final String configHash;
+
+  public SnapshotCache(File dataStoreDirectory, Config config) {
+    this.directory = new File(dataStoreDirectory, "snapshots");
+    this.outputFile = config.getOutputFile();
+    this.configHash = getConfigHash(config);
+  }
+
+  public static class Snapshot {
+    public final byte[] body;
+    public final String eTag;
+    final String configHash;
+
+    public Snapshot(byte[] body, String eTag) {
+      this(body, eTag, null);
+    }
+
+    Snapshot(byte[] body, String eTag, String configHash) {
+      this.body = body;
+      this.eTag = eTag;
+      this.configHash = configHash;
+    }
+  }
+
+  /**
+   * Returns true if {@code snapshot} was stored with the same output settings
+   * as this cache was created with.
+   */
+  public boolean isCurrent(Snapshot snapshot) {
+    return configHash.equals(snapshot.configHash);
+  }
+
+  /** Returns the stored snapshot, or null if there is none. */
+  public Snapshot load(String sheetId, List<String> ranges) throws IOException {
+    String key = getKey(sheetId, ranges);
+    File body = new File(directory, key + ".json");
+    if (!body.isFile()) {
+      return null;
+    }
+    return new Snapshot(Files.readAllBytes(body.toPath()),
+        read(new File(directory, key + ".etag")),
+        read(new File(directory, key + ".config")));
+  }
+
+  public void store(String sheetId, List<String> ranges, Snapshot snapshot)
+      throws IOException {
+    Files.createDirectories(directory.toPath());
+    String key = getKey(sheetId, ranges);
+    write(new File(directory, key + ".json"), snapshot.body);
+    File eTag = new File(directory, key + ".etag");
+    if (snapshot.eTag == null) {
+      Files.deleteIfExists(eTag.toPath());
+    } else {
+      write(eTag, snapshot.eTag.getBytes(StandardCharsets.UTF_8));
+    }
+    write(new File(directory, key + ".config"), configHash.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String read(File file) throws IOException {
+    return file.isFile()
+        ? new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8)
+        : null;
+  }
+
+  private void write(File file, byte[] content) throws IOException {
+    File temp = new File(directory, file.getName() + ".tmp");
+    Files.write(temp.toPath(), content);
+    Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Returns a hash of the settings which change what is exported for the
+   * same sheet data.
+   */
+  static String getConfigHash(Config config) {
+    Config outputs = Config.newBuilder()
+        .addAllSecurityLevelMapping(config.getSecurityLevelMappingList())
+        .setAccountName(config.getAccountName())
+        .setLocalPhonePrefix(config.getLocalPhonePrefix())
+        .setTelephoneEntryLayout(config.getTelephoneEntryLayout())
+        .setEntryCodeLayout(config.getEntryCodeLayout())
+        .setDeletedEntryCodeLayout(config.getDeletedEntryCodeLayout())
+        .setSkipInvalidRows(config.getSkipInvalidRows())
+        .setDeltaExport(config.getDeltaExport())
+        .setEntrySnapshot(config.getEntrySnapshot())
+        .setDumpDirectory(config.getDumpDirectory())
+        .build();
+    return Hashing.sha256().hashBytes(outputs.toByteArray()).toString();
+  }
+
+  /**
+   * Sites reading the same sheet have separate snapshots, since each one's
+   * export is only as recent as its own last sync.
+   */
+  private String getKey(String sheetId, List<String> ranges) {
+    return Hashing.sha256()
+        .hashString(outputFile + "\n" + sheetId + "\n" + Joiner.on('\n').join(ranges),
+            StandardCharsets.UTF_8)
+        .toString();
+  }
+}
@@ -19,47 +19,391 @@
 
 package doorking;
 
-import java.nio.charset.StandardCharsets;
+import java.io.File;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterables;
 import com.google.protobuf.TextFormat;
 
+import doorking.EntryCode.EntryCodeType;
 import doorking.EntryCodeAdapter.EntryCodes;
 import doorking.GoogleRetriever.Result;
 import doorking.Proto.Config;
+import doorking.Proto.Config.RowSourceType;
+import doorking.Proto.Site;
 
 /** Generates a CSV file for import into DoorKing Account Manager. */
 public class Sync {
-  public static void main(String args[]) throws Exception {
-    new Sync().run();
+  private static final String DELTA_HEADER = "ACCOUNT," + Entry.getHeaders();
+
+  /**
+   * The last export of each output file, kept by the daemon as the base of
+   * the next delta instead of reloading the snapshot.
+   */
+  private final Map<Path, EntryTable> lastExports = new ConcurrentHashMap<>();
+  private final boolean keepLastExports;
+
+  public Sync() {
+    this(false);
+  }
+
+  public Sync(boolean keepLastExports) {
+    this.keepLastExports = keepLastExports;
   }
 
-  private static final String OUTPUT_FILE = "/tmp/doorking.csv";
+  public static void main(String args[]) throws Exception {
+    if (args.length > 0 && args[0].equals("--daemon")) {
+      new Sync(true).runDaemon();
+    } else if (args.length > 1 && args[0].equals("--allocate")) {
+      new Sync().allocate(EntryCodeType.valueOf(args[1].toUpperCase()),
+          args.length > 2 ? Integer.parseInt(args[2]) : 1);
+    } else {
+      new Sync().run();
+    }
+  }
 
   public void run() throws Exception {
     Config config = readConfig();
-    Result result = new GoogleRetriever(config).retrieve();
+    Map<String, Config> sites = getSites(config);
+    Transports.setMaxConnections(sites.values());
+    if (sites.size() == 1) {
+      Map.Entry<String, Config> site = Iterables.getOnlyElement(sites.entrySet());
+      try (RowSource rowSource = newRowSource(site.getValue())) {
+        sync(site.getKey(), site.getValue(), rowSource);
+      }
+      return;
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(config.getMaxConcurrentSites());
+    Map<String, Future<?>> futures = new LinkedHashMap<>();
+    sites.forEach((name, siteConfig) -> futures.put(name, executor.submit(() -> {
+      try (RowSource rowSource = newRowSource(siteConfig)) {
+        sync(name, siteConfig, rowSource);
+      }
+      return null;
+    })));
+    executor.shutdown();
+    int failures = 0;
+    for (Map.Entry<String, Future<?>> future : futures.entrySet()) {
+      try {
+        future.getValue().get();
+      } catch (ExecutionException e) {
+        failures++;
+        System.err.println("Sync of site " + future.getKey() + " failed:");
+        e.getCause().printStackTrace();
+      }
+    }
+    Preconditions.checkState(failures == 0, "%s of %s sites failed", failures, sites.size());
+  }
 
-    DeletedEntryCodeAdapter deletedEntryCodeAdapter = new DeletedEntryCodeAdapter(result.deletedCodes);
-    Set<Integer> deletedCodes = deletedEntryCodeAdapter.adapt();
+  /**
+   * Polls every site every poll_interval_seconds, keeping credentials and
+   * connections warm. Unchanged sheets are not adapted or rewritten.
+   */
+  public void runDaemon() throws Exception {
+    Config config = readConfig();
+    Map<String, Config> sites = getSites(config);
+    Transports.setMaxConnections(sites.values());
+    ScheduledExecutorService executor = Executors.newScheduledThreadPool(
+        config.getMaxConcurrentSites());
+    List<RowSource> rowSources = new CopyOnWriteArrayList<>();
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> stop(executor, rowSources)));
+    for (Map.Entry<String, Config> site : sites.entrySet()) {
+      Config siteConfig = site.getValue();
+      RowSource rowSource = newRowSource(siteConfig);
+      rowSources.add(rowSource);
+      executor.scheduleWithFixedDelay(() -> {
+        try {
+          sync(site.getKey(), siteConfig, rowSource);
+        } catch (Throwable e) {
+          // Keep polling; anything thrown, even an Error, would cancel the schedule.
+          System.err.println("Sync of site " + site.getKey() + " failed:");
+          e.printStackTrace();
+        }
+      }, 0, siteConfig.getPollIntervalSeconds(), TimeUnit.SECONDS);
+    }
+    executor.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+  }
+
+  /**
+   * Stops the daemon's schedules, giving running syncs a few seconds to
+   * finish, and closes the row sources.
+   */
+  private static void stop(ExecutorService executor, List<RowSource> rowSources) {
+    executor.shutdownNow();
+    try {
+      executor.awaitTermination(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    for (RowSource rowSource : rowSources) {
+      try {
+        rowSource.close();
+      } catch (IOException e) {
+        System.err.println("Could not close row source: " + e);
+      }
+    }
+  }
+
+  /**
+   * Prints {@code count} free codes of {@code type} for each site, following
+   * the code_allocation policy.
+   */
+  public void allocate(EntryCodeType type, int count) throws Exception {
+    Config config = readConfig();
+    Map<String, Config> sites = getSites(config);
+    Transports.setMaxConnections(sites.values());
+    for (Map.Entry<String, Config> site : sites.entrySet()) {
+      Config siteConfig = site.getValue();
+      Result result;
+      try (RowSource rowSource = newRowSource(siteConfig)) {
+        result = rowSource.retrieve();
+      }
+      EntryCodeSet deletedCodes = new DeletedEntryCodeAdapter(result.deletedCodes).adapt();
+      EntryCodes entryCodes = new EntryCodeAdapter(result.codes, deletedCodes).adapt();
+      CodeAllocator allocator = new CodeAllocator(siteConfig.getCodeAllocation(),
+          entryCodes.usedCodes, deletedCodes);
+      for (int i = 0; i < count; i++) {
+        String code = String.format("%04d", allocator.allocate(type));
+        System.out.println(sites.size() == 1 ? code : site.getKey() + "," + code);
+      }
+    }
+  }
+
+  /**
+   * Retrieves, adapts and writes the output of one site, and then its metrics
+   * labelled with the {@code site} name if metrics_report is set, whether or
+   * not the sync succeeded.
+   */
+  void sync(String site, Config config, RowSource rowSource) throws Exception {
+    Path outputFile = Paths.get(config.getOutputFile());
+    SyncMetrics metrics = new SyncMetrics();
+    try {
+      sync(config, rowSource, outputFile, metrics);
+      metrics.setSuccess(true);
+    } finally {
+      if (config.getMetricsReport()) {
+        try {
+          metrics.write(outputFile, site);
+        } catch (IOException e) {
+          System.err.println("Could not write metrics of " + outputFile + ": " + e);
+        }
+      }
+    }
+  }
+
+  private void sync(Config config, RowSource rowSource, Path outputFile, SyncMetrics metrics)
+      throws Exception {
+    long start = SyncMetrics.startPhase();
+    Result result;
+    try {
+      result = rowSource.retrieve();
+    } finally {
+      metrics.endPhase("retrieve", start);
+      rowSource.addMetrics(metrics);
+    }
+    metrics.addCount("entry_rows", result.entries.size());
+    metrics.addCount("code_rows", result.codes.size());
+    metrics.addCount("deleted_code_rows", result.deletedCodes.size());
+    if (result.unchanged && Files.exists(outputFile)) {
+      metrics.addCount("unchanged", 1);
+      System.err.println("Unchanged; keeping " + outputFile);
+      if (config.getDeltaExport()) {
+        // Nothing changed since the previous export, so neither did its delta.
+        new EntryDelta(Collections.emptyMap(), Collections.emptyMap())
+            .write(outputFile, DELTA_HEADER);
+      }
+      return;
+    }
+
+    start = SyncMetrics.startPhase();
+    Validator.Report report = new Validator().validate(result);
+    metrics.endPhase("validate", start);
+    metrics.addCount("invalid_rows", report.problems.size());
+    if (!report.isEmpty()) {
+      Preconditions.checkState(config.getSkipInvalidRows(), report);
+      System.err.println("Skipping " + report);
+    }
+    Result valid = report.valid;
+
+    start = SyncMetrics.startPhase();
+    DeletedEntryCodeAdapter deletedEntryCodeAdapter = new DeletedEntryCodeAdapter(valid.deletedCodes);
+    EntryCodeSet deletedCodes = deletedEntryCodeAdapter.adapt();
+    metrics.endPhase("adapt_deleted_codes", start);
     
-    EntryCodeAdapter entryCodeAdapter = new EntryCodeAdapter(result.codes, deletedCodes);
-    EntryCodes entryCodes = entryCodeAdapter.adapt();
+    start = SyncMetrics.startPhase();
+    EntryCodeAdapter entryCodeAdapter = new EntryCodeAdapter(valid.codes, deletedCodes);
+    EntryCodes entryCodes = config.getParallelAdaptation()
+        ? entryCodeAdapter.adapt(ForkJoinPool.commonPool(), config.getAdaptationChunkSize())
+        : entryCodeAdapter.adapt();
+    metrics.endPhase("adapt_codes", start);
+
+    EntryAdapter adapter = new EntryAdapter(config, valid.entries, entryCodes);
+
+    // Entries flow from the adapter to every consumer without being collected.
+    EntrySnapshotStore snapshotStore = EntrySnapshotStore.forOutputFile(outputFile);
+    Map<String, String> current = config.getDeltaExport() ? new LinkedHashMap<>() : null;
+    EntryTable.Builder table = config.getDeltaExport() && keepLastExports
+        ? EntryTable.newBuilder(config.getAccountName())
+        : null;
+    try (EntrySnapshotStore.Writer snapshot = config.getEntrySnapshot() || config.getDeltaExport()
+        ? snapshotStore.newWriter(config, valid.codes, deletedCodes)
+        : null) {
+      // Adapting the entries includes writing them, as they are streamed.
+      start = SyncMetrics.startPhase();
+      try (CsvExport export = new CsvExport(outputFile, config.getAccountName())) {
+        EntrySink sink = export;
+        if (snapshot != null) {
+          sink = sink.andThen(snapshot);
+        }
+        if (current != null) {
+          EntryDelta.Keys keys = new EntryDelta.Keys();
+          sink = sink.andThen(entry ->
+              current.put(keys.get(entry), Entry.toCsv(config.getAccountName(), entry::writeCsv)));
+        }
+        if (table != null) {
+          sink = sink.andThen(table);
+        }
+        if (config.getParallelAdaptation()) {
+          adapter.adapt(sink, ForkJoinPool.commonPool(), config.getAdaptationChunkSize());
+        } else {
+          adapter.adapt(sink);
+        }
+        export.commit();
+        metrics.addCount("entries", export.getEntryCount());
+      }
+      metrics.endPhase("adapt_entries_and_export", start);
+      metrics.addCount("output_bytes", Files.size(outputFile));
 
-    EntryAdapter adapter = new EntryAdapter(config, result.entries, entryCodes);
-    List<Entry> entries = adapter.adapt();
+      if (current != null) {
+        start = SyncMetrics.startPhase();
+        writeDelta(outputFile, lastExports.get(outputFile), snapshotStore, current);
+        metrics.endPhase("delta", start);
+      }
+      if (table != null) {
+        lastExports.put(outputFile, table.build());
+      }
+      // The previous snapshot is only replaced once the delta has been read.
+      if (snapshot != null) {
+        start = SyncMetrics.startPhase();
+        snapshot.commit();
+        metrics.endPhase("snapshot", start);
+      }
+    }
+    start = SyncMetrics.startPhase();
+    rowSource.commit();
+    if (config.getRowSource() == RowSourceType.GOOGLE_SHEETS && config.hasDumpDirectory()) {
+      new FileRowSource(new File(config.getDumpDirectory())).write(result);
+    }
+    metrics.endPhase("commit", start);
 
-    List<String> lines = new ArrayList<>();
-    lines.add("ACCOUNT," + Entry.getHeaders());
-    entries.forEach(entry -> lines.add(config.getAccountName() + "," + entry));
-    Files.write(Paths.get(OUTPUT_FILE), lines, StandardCharsets.UTF_8);
+    System.err.println("Wrote " + outputFile + ": " + metrics);
+  }
+
+  /**
+   * Writes the changes from the previous export to the {@code current} lines
+   * by key next to the output. The previous export is {@code previous} if this
+   * process kept it, or else read from the stored snapshot an entry at a time.
+   */
+  private void writeDelta(Path outputFile, EntryTable previous,
+      EntrySnapshotStore snapshotStore, Map<String, String> current) throws IOException {
+    EntryDelta.Keys keys = new EntryDelta.Keys();
+    EntryDelta delta = new EntryDelta(consumer -> {
+      if (previous != null) {
+        for (int i = 0; i < previous.size(); i++) {
+          EntryTable.View entry = previous.get(i);
+          consumer.accept(keys.get(entry), Entry.toCsv(previous.getAccountName(), entry));
+        }
+      } else {
+        snapshotStore.forEachEntry((accountName, entry) ->
+            consumer.accept(keys.get(entry), Entry.toCsv(accountName, entry::writeCsv)));
+      }
+    }, current);
+    delta.write(outputFile, DELTA_HEADER);
+    System.err.println("Delta " + delta);
+  }
+
+  private static RowSource newRowSource(Config config) throws Exception {
+    switch (config.getRowSource()) {
+      case FILE:
+        return new FileRowSource(new File(config.getDumpDirectory()),
+            RowLayout.forConfig(config));
+      case REPLAY:
+        return new ReplayRowSource(config);
+      default:
+        RowSource rowSource = new GoogleRetriever(config);
+        if (config.hasDumpDirectory() && config.getFailoverTimeoutSeconds() > 0) {
+          rowSource = new FailoverRowSource(rowSource,
+              new FileRowSource(new File(config.getDumpDirectory())),
+              TimeUnit.SECONDS.toMillis(config.getFailoverTimeoutSeconds()));
+        }
+        return rowSource;
+    }
+  }
+
+  /**
+   * Returns the effective config of each site by name, or the config itself
+   * if it has no sites.
+   */
+  public static Map<String, Config> getSites(Config config) {
+    Map<String, Config> sites = new LinkedHashMap<>();
+    if (config.getSiteCount() == 0) {
+      sites.put(config.getAccountName(), config);
+      return sites;
+    }
+    for (Site site : config.getSiteList()) {
+      Preconditions.checkState(site.hasName(), "Site without a name");
+      Config.Builder builder = config.toBuilder().clearSite();
+      if (site.getConfig().getSecurityLevelMappingCount() > 0) {
+        builder.clearSecurityLevelMapping();
+      }
+      // Merging would append the column mappings and reserved ranges.
+      if (site.getConfig().hasTelephoneEntryLayout()) {
+        builder.clearTelephoneEntryLayout();
+      }
+      if (site.getConfig().hasEntryCodeLayout()) {
+        builder.clearEntryCodeLayout();
+      }
+      if (site.getConfig().hasDeletedEntryCodeLayout()) {
+        builder.clearDeletedEntryCodeLayout();
+      }
+      if (site.getConfig().hasCodeAllocation()) {
+        builder.clearCodeAllocation();
+      }
+      builder.mergeFrom(site.getConfig());
+      if (!site.getConfig().hasOutputFile()) {
+        builder.setOutputFile(appendToFileName(config.getOutputFile(), "-" + site.getName()));
+      }
+      if (config.hasDumpDirectory() && !site.getConfig().hasDumpDirectory()) {
+        builder.setDumpDirectory(new File(config.getDumpDirectory(), site.getName()).getPath());
+      }
+      Preconditions.checkState(sites.put(site.getName(), builder.build()) == null,
+          "Duplicate site " + site.getName());
+    }
+    return sites;
+  }
 
-    System.err.println("Wrote " + OUTPUT_FILE);
+  private static String appendToFileName(String path, String suffix) {
+    int dot = path.lastIndexOf('.');
+    return dot > path.lastIndexOf(File.separatorChar)
+        ? path.substring(0, dot) + suffix + path.substring(dot)
+        : path + suffix;
   }
 
   public static Config readConfig() throws Exception {
@@ -0,0 +1,150 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import com.google.api.client.json.JsonGenerator;
+
+/**
+ * Durations of the phases of one sync, and counts such as rows, entries and
+ * payload bytes. Written next to the output as a Prometheus text file, for
+ * the node_exporter textfile collector, and as a JSON run report.
+ */
+public class SyncMetrics {
+  private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+  private final Map<String, Long> counts = new LinkedHashMap<>();
+  private final long timestampMillis = System.currentTimeMillis();
+  private boolean success;
+
+  /** Returns the start time of a phase, to pass to {@link #endPhase}. */
+  public static long startPhase() {
+    return System.nanoTime();
+  }
+
+  /** Adds the time since {@code startNanos} to {@code phase}. */
+  public void endPhase(String phase, long startNanos) {
+    addPhase(phase, System.nanoTime() - startNanos);
+  }
+
+  public synchronized void addPhase(String phase, long nanos) {
+    phaseNanos.merge(phase, nanos, Long::sum);
+  }
+
+  public synchronized void addCount(String name, long value) {
+    counts.merge(name, value, Long::sum);
+  }
+
+  /** Adds the phases and counts of {@code other}. */
+  public synchronized void addAll(SyncMetrics other) {
+    synchronized (other) {
+      other.phaseNanos.forEach(this::addPhase);
+      other.counts.forEach(this::addCount);
+    }
+  }
+
+  public synchronized void setSuccess(boolean success) {
+    this.success = success;
+  }
+
+  /** Writes {@code <output>.prom} and {@code <output>.report.json}. */
+  public synchronized void write(Path outputFile, String site) throws IOException {
+    Path prom = Paths.get(outputFile + ".prom");
+    Path promTemp = Paths.get(prom + ".tmp");
+    try (Writer out = Files.newBufferedWriter(promTemp, StandardCharsets.UTF_8)) {
+      String labels = "site=\"" + escape(site) + "\"";
+      out.write("# HELP doorking_phase_seconds Duration of each phase of the last sync.\n");
+      out.write("# TYPE doorking_phase_seconds gauge\n");
+      for (Map.Entry<String, Long> phase : phaseNanos.entrySet()) {
+        out.write(String.format(Locale.ROOT, "doorking_phase_seconds{%s,phase=\"%s\"} %.6f\n",
+            labels, escape(phase.getKey()), phase.getValue() / 1e9));
+      }
+      for (Map.Entry<String, Long> count : counts.entrySet()) {
+        String name = "doorking_" + count.getKey();
+        out.write("# TYPE " + name + " gauge\n");
+        out.write(name + "{" + labels + "} " + count.getValue() + "\n");
+      }
+      out.write("# TYPE doorking_success gauge\n");
+      out.write("doorking_success{" + labels + "} " + (success ? 1 : 0) + "\n");
+      out.write("# TYPE doorking_last_run_timestamp_seconds gauge\n");
+      out.write("doorking_last_run_timestamp_seconds{" + labels + "} "
+          + timestampMillis / 1000 + "\n");
+    }
+    Files.move(promTemp, prom,
+        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+    Path json = Paths.get(outputFile + ".report.json");
+    Path jsonTemp = Paths.get(json + ".tmp");
+    try (OutputStream out = Files.newOutputStream(jsonTemp)) {
+      JsonGenerator generator = Transports.getJsonFactory()
+          .createJsonGenerator(out, StandardCharsets.UTF_8);
+      generator.enablePrettyPrint();
+      generator.writeStartObject();
+      generator.writeFieldName("site");
+      generator.writeString(site);
+      generator.writeFieldName("timestamp_millis");
+      generator.writeNumber(timestampMillis);
+      generator.writeFieldName("success");
+      generator.writeBoolean(success);
+      generator.writeFieldName("phase_millis");
+      generator.writeStartObject();
+      for (Map.Entry<String, Long> phase : phaseNanos.entrySet()) {
+        generator.writeFieldName(phase.getKey());
+        generator.writeNumber(phase.getValue() / 1e6);
+      }
+      generator.writeEndObject();
+      generator.writeFieldName("counts");
+      generator.writeStartObject();
+      for (Map.Entry<String, Long> count : counts.entrySet()) {
+        generator.writeFieldName(count.getKey());
+        generator.writeNumber(count.getValue());
+      }
+      generator.writeEndObject();
+      generator.writeEndObject();
+      generator.flush();
+    }
+    Files.move(jsonTemp, json,
+        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /** Escapes a Prometheus label value. */
+  private static String escape(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  @Override
+  public synchronized String toString() {
+    StringBuilder text = new StringBuilder();
+    phaseNanos.forEach((phase, nanos) -> text.append(text.length() == 0 ? "" : ", ")
+        .append(phase).append(' ').append(nanos / 1000000).append(" ms"));
+    counts.forEach((name, value) -> text.append(", ").append(name).append(' ').append(value));
+    return text.toString();
+  }
+}
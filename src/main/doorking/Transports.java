@@ -0,0 +1,97 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+
+import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.jackson2.JacksonFactory;
+
+import doorking.Proto.Config;
+
+/**
+ * The process-wide HTTP transport and JSON factory. Sharing one transport
+ * lets HttpURLConnection reuse kept-alive TLS connections across ranges,
+ * sheets and repeated syncs.
+ */
+public class Transports {
+  private static HttpTransport httpTransport;
+
+  private Transports() {
+  }
+
+  /**
+   * Sets the JDK's kept-alive connections per host to the largest
+   * max_connections of the {@code sites}. The setting is process-wide and
+   * read once by the keep-alive cache, so this is called before any site
+   * connects.
+   */
+  public static synchronized void setMaxConnections(Iterable<Config> sites) {
+    int maxConnections = 0;
+    for (Config config : sites) {
+      if (config.hasMaxConnections()) {
+        maxConnections = Math.max(maxConnections, config.getMaxConnections());
+      }
+    }
+    if (maxConnections > 0) {
+      System.setProperty("http.maxConnections", Integer.toString(maxConnections));
+    }
+  }
+
+  public static synchronized HttpTransport getHttpTransport()
+      throws GeneralSecurityException, IOException {
+    if (httpTransport == null) {
+      // Read once by the JDK keep-alive cache, so set before the first connection.
+      System.setProperty("http.keepAlive", "true");
+      httpTransport = GoogleNetHttpTransport.newTrustedTransport();
+    }
+    return httpTransport;
+  }
+
+  public static JsonFactory getJsonFactory() {
+    return JacksonFactory.getDefaultInstance();
+  }
+
+  /**
+   * Google APIs only gzip responses for user agents containing "gzip";
+   * Accept-Encoding: gzip is already sent by default.
+   */
+  public static String getApplicationName(Config config) {
+    return config.getApplicationName() + " (gzip)";
+  }
+
+  /** Applies the configured timeouts after {@code delegate}. */
+  public static HttpRequestInitializer withTimeouts(Config config,
+      HttpRequestInitializer delegate) {
+    return request -> {
+      delegate.initialize(request);
+      if (config.hasConnectTimeoutMillis()) {
+        request.setConnectTimeout(config.getConnectTimeoutMillis());
+      }
+      if (config.hasReadTimeoutMillis()) {
+        request.setReadTimeout(config.getReadTimeoutMillis());
+      }
+    };
+  }
+}
@@ -0,0 +1,238 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.google.common.base.Joiner;
+
+import doorking.EntryCode.EntryCodeType;
+import doorking.GoogleRetriever.Result;
+
+/**
+ * Checks every row before adaptation and reports all problems at once, with
+ * the sheet row of each. Rows are checked on their own in parallel; checks
+ * across rows, such as deleted codes in use, follow in row order.
+ */
+public class Validator {
+  /** A problem with one row. */
+  public static class Problem {
+    public final int range;
+    /** Index of the row in its range of the {@link Result}. */
+    public final int row;
+    public final String message;
+
+    Problem(int range, int row, String message) {
+      this.range = range;
+      this.row = row;
+      this.message = message;
+    }
+  }
+
+  /** The problems found and the rows without any. */
+  public static class Report {
+    public final List<Problem> problems;
+    /** The result without the rows that have problems. */
+    public final Result valid;
+
+    Report(List<Problem> problems, Result valid) {
+      this.problems = problems;
+      this.valid = valid;
+    }
+
+    public boolean isEmpty() {
+      return problems.isEmpty();
+    }
+
+    /** Returns {@code problem} with its range and sheet row. */
+    public String format(Problem problem) {
+      return String.format("%s row %d: %s", valid.rangeNames.get(problem.range),
+          valid.getSheetRow(problem.range, problem.row), problem.message);
+    }
+
+    @Override
+    public String toString() {
+      return problems.size() + " invalid rows:" + System.lineSeparator()
+          + Joiner.on(System.lineSeparator()).join(
+              problems.stream().map(this::format).iterator());
+    }
+  }
+
+  public Report validate(Result result) {
+    List<Problem> problems = new ArrayList<>();
+
+    problems.addAll(checkRows(Result.DELETED_CODES, result.deletedCodes,
+        row -> checkCode(row.entryCode)));
+    EntryCodeSet deletedCodes = new EntryCodeSet();
+    Set<Integer> invalidDeletedCodes = rowsOf(problems, Result.DELETED_CODES);
+    for (int i = 0; i < result.deletedCodes.size(); i++) {
+      if (!invalidDeletedCodes.contains(i)
+          && !deletedCodes.add(Integer.parseInt(result.deletedCodes.get(i).entryCode))) {
+        problems.add(new Problem(Result.DELETED_CODES, i, String.format(
+            "Duplicate deleted entry code %s", result.deletedCodes.get(i).entryCode)));
+      }
+    }
+
+    problems.addAll(checkRows(Result.ENTRIES, result.entries,
+        Validator::checkResident));
+    Set<Integer> invalidEntries = rowsOf(problems, Result.ENTRIES);
+    Set<AddressKey> residents = new HashSet<>();
+    for (int i = 0; i < result.entries.size(); i++) {
+      ResidentRow row = result.entries.get(i);
+      if (!invalidEntries.contains(i) && row.displayName != null
+          && !row.displayName.isEmpty()) {
+        residents.add(AddressKey.of(row.street, row.houseNumber));
+      }
+    }
+
+    problems.addAll(checkRows(Result.CODES, result.codes,
+        row -> checkEntryCode(row, deletedCodes)));
+    Set<Integer> invalidCodes = rowsOf(problems, Result.CODES);
+    Map<String, Integer> vendors = new HashMap<>();
+    Map<String, Integer> legacyResidents = new HashMap<>();
+    for (int i = 0; i < result.codes.size(); i++) {
+      EntryCodeRow row = result.codes.get(i);
+      if (invalidCodes.contains(i) || row.entryCode == null) {
+        continue;
+      }
+      String message = null;
+      if (row.street != null && !row.street.isEmpty()) {
+        AddressKey key = AddressKey.of(row.street, row.houseNumber);
+        if (!residents.contains(key)) {
+          message = "Code " + row.entryCode + " is for " + key
+              + ", which has no valid resident row";
+        }
+      } else if (row.name != null && !row.name.isEmpty()) {
+        if (vendors.putIfAbsent(row.name, i) != null) {
+          message = "Unsupported: multiple codes for vendor " + row.name;
+        }
+      } else if (legacyResidents.putIfAbsent(String.valueOf(row.notes), i) != null) {
+        message = "Unsupported: multiple codes for legacy resident " + row.notes;
+      }
+      if (message != null) {
+        problems.add(new Problem(Result.CODES, i, message));
+      }
+    }
+
+    Collections.sort(problems, (a, b) -> a.range != b.range
+        ? Integer.compare(a.range, b.range)
+        : Integer.compare(a.row, b.row));
+    return new Report(problems, result.withRows(
+        withoutRows(result.entries, rowsOf(problems, Result.ENTRIES)),
+        withoutRows(result.codes, rowsOf(problems, Result.CODES)),
+        withoutRows(result.deletedCodes, rowsOf(problems, Result.DELETED_CODES))));
+  }
+
+  /** Checks each row on its own, in parallel, keeping row order. */
+  private static <T> List<Problem> checkRows(int range, List<T> rows,
+      Function<T, String> check) {
+    return IntStream.range(0, rows.size()).parallel()
+        .mapToObj(i -> {
+          String message = check.apply(rows.get(i));
+          return message == null ? null : new Problem(range, i, message);
+        })
+        .filter(problem -> problem != null)
+        .collect(Collectors.toList());
+  }
+
+  private static String checkCode(String code) {
+    if (code == null || code.isEmpty()) {
+      return "Missing entry code";
+    }
+    if (code.length() > 4 || !code.chars().allMatch(c -> c >= '0' && c <= '9')) {
+      return "Entry code " + code + " is not 4 digits";
+    }
+    return null;
+  }
+
+  private static String checkResident(ResidentRow row) {
+    if (row.displayName == null || row.displayName.isEmpty()) {
+      return null;  // not exported
+    }
+    String directoryNumber = row.directoryNumber;
+    if (directoryNumber == null || !directoryNumber.matches("#[0-9]{1,9}")) {
+      return "Directory number " + directoryNumber + " is not # and digits";
+    }
+    String phoneNumber = row.phoneNumber;
+    if (phoneNumber == null || phoneNumber.length() <= 3 || phoneNumber.charAt(3) != '-') {
+      return "Phone number " + phoneNumber + " is not in ###-#### form";
+    }
+    return null;
+  }
+
+  private static String checkEntryCode(EntryCodeRow row, EntryCodeSet deletedCodes) {
+    if (row.entryCode == null) {
+      return null;  // no code specified on this row
+    }
+    String message = checkCode(row.entryCode);
+    if (message != null) {
+      return message;
+    }
+    if (deletedCodes.contains(Integer.parseInt(row.entryCode))) {
+      return "Code " + row.entryCode + " is present on the deleted entry codes tab";
+    }
+    if (row.entryCodeType == null) {
+      return "Code " + row.entryCode + " has no type";
+    }
+    try {
+      EntryCodeType type = EntryCodeType.valueOf(row.entryCodeType.toUpperCase());
+      boolean legacy = (row.street == null || row.street.isEmpty())
+          && (row.name == null || row.name.isEmpty());
+      if (legacy && type != EntryCodeType.PERMANENT) {
+        return "Legacy resident code " + row.entryCode + " is not permanent";
+      }
+    } catch (IllegalArgumentException e) {
+      return "Code " + row.entryCode + " has unknown type " + row.entryCodeType;
+    }
+    return null;
+  }
+
+  private static Set<Integer> rowsOf(List<Problem> problems, int range) {
+    Set<Integer> rows = new HashSet<>();
+    for (Problem problem : problems) {
+      if (problem.range == range) {
+        rows.add(problem.row);
+      }
+    }
+    return rows;
+  }
+
+  private static <T> List<T> withoutRows(List<T> rows, Set<Integer> invalid) {
+    if (invalid.isEmpty()) {
+      return rows;
+    }
+    List<T> valid = new ArrayList<>(rows.size() - invalid.size());
+    for (int i = 0; i < rows.size(); i++) {
+      if (!invalid.contains(i)) {
+        valid.add(rows.get(i));
+      }
+    }
+    return valid;
+  }
+}
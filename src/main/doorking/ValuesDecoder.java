@@ -0,0 +1,113 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.JsonParser;
+import com.google.api.client.json.JsonToken;
+import com.google.common.base.Preconditions;
+
+/**
+ * Streams the rows of a Sheets ValueRange or BatchGetValuesResponse to a
+ * {@link RowHandler}, one reused {@link Cells} buffer at a time, without
+ * building the generic List&lt;List&lt;Object&gt;&gt; object graph.
+ */
+public class ValuesDecoder {
+  public interface RowHandler {
+    /** Called for each row; {@code range} is the index of the value range. */
+    void row(int range, Cells cells);
+  }
+
+  private final JsonFactory jsonFactory;
+
+  public ValuesDecoder(JsonFactory jsonFactory) {
+    this.jsonFactory = jsonFactory;
+  }
+
+  /** Decodes {@code in}, returning the number of value ranges seen. */
+  public int decode(InputStream in, RowHandler handler) throws IOException {
+    JsonParser parser = jsonFactory.createJsonParser(in, StandardCharsets.UTF_8);
+    try {
+      Preconditions.checkState(parser.nextToken() == JsonToken.START_OBJECT,
+          "Expected a JSON object");
+      Cells cells = new Cells();
+      int ranges = 0;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.getCurrentName();
+        parser.nextToken();
+        if (name.equals("valueRanges")) {
+          expect(parser, JsonToken.START_ARRAY);
+          while (parser.nextToken() == JsonToken.START_OBJECT) {
+            decodeValueRange(parser, ranges++, cells, handler);
+          }
+        } else if (name.equals("values")) {
+          decodeValues(parser, ranges++, cells, handler);
+        } else {
+          parser.skipChildren();
+        }
+      }
+      return ranges;
+    } finally {
+      parser.close();
+    }
+  }
+
+  private void decodeValueRange(JsonParser parser, int range, Cells cells,
+      RowHandler handler) throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.getCurrentName();
+      parser.nextToken();
+      if (name.equals("values")) {
+        decodeValues(parser, range, cells, handler);
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  private void decodeValues(JsonParser parser, int range, Cells cells,
+      RowHandler handler) throws IOException {
+    expect(parser, JsonToken.START_ARRAY);
+    while (parser.nextToken() == JsonToken.START_ARRAY) {
+      cells.clear();
+      JsonToken token;
+      while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+        if (token == JsonToken.VALUE_NULL) {
+          cells.add("");
+        } else if (token == JsonToken.START_ARRAY || token == JsonToken.START_OBJECT) {
+          parser.skipChildren();
+          cells.add("");
+        } else {
+          cells.add(parser.getText());
+        }
+      }
+      handler.row(range, cells);
+    }
+  }
+
+  private static void expect(JsonParser parser, JsonToken token) {
+    Preconditions.checkState(parser.getCurrentToken() == token,
+        "Expected %s but found %s", token, parser.getCurrentToken());
+  }
+}
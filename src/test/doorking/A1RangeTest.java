@@ -0,0 +1,61 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package doorking;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class A1RangeTest {
+  @Test
+  public void trimColumnsFromColumnA() {
+    assertEquals("Residents!A2:L", A1Range.trimColumns("Residents!A2:Z", 11));
+    assertEquals("Residents!A2:F9", A1Range.trimColumns("Residents!A2:Z9", 5));
+  }
+
+  @Test
+  public void trimColumnsCountsFromFirstColumn() {
+    assertEquals("Residents!B2:M", A1Range.trimColumns("Residents!B2:Z", 11));
+    assertEquals("C:H", A1Range.trimColumns("C:Z", 5));
+    assertEquals("'Entry Codes'!AA1:AC", A1Range.trimColumns("'Entry Codes'!AA1:AZ", 2));
+  }
+
+  @Test
+  public void trimColumnsKeepsNarrowerRanges() {
+    assertEquals("Residents!B2:E", A1Range.trimColumns("Residents!B2:E", 11));
+    assertEquals("Residents!B2:M", A1Range.trimColumns("Residents!B2:M", 11));
+  }
+
+  @Test
+  public void trimColumnsAddsMissingEndColumn() {
+    assertEquals("Residents!B2:D10", A1Range.trimColumns("Residents!B2:10", 2));
+  }
+
+  @Test
+  public void trimColumnsIgnoresNamedRanges() {
+    assertEquals("Residents", A1Range.trimColumns("Residents", 3));
+    assertEquals("Residents!B2", A1Range.trimColumns("Residents!B2", 3));
+  }
+
+  @Test
+  public void getFirstRow() {
+    assertEquals(2, A1Range.getFirstRow("Residents!B2:Z"));
+    assertEquals(1, A1Range.getFirstRow("Residents!B:Z"));
+  }
+}
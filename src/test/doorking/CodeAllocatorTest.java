@@ -0,0 +1,119 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import doorking.EntryCode.EntryCodeType;
+import doorking.Proto.CodeAllocation;
+import doorking.Proto.CodeRange;
+import org.junit.Test;
+
+public class CodeAllocatorTest {
+  @Test
+  public void skipsUsedAndDeletedCodes() {
+    CodeAllocator allocator = new CodeAllocator(CodeAllocation.getDefaultInstance(),
+        codes(0, 2), codes(1));
+    assertEquals(3, allocator.allocate(EntryCodeType.PERMANENT));
+    assertEquals(4, allocator.allocate(EntryCodeType.PERMANENT));
+  }
+
+  @Test
+  public void minDistanceKeepsCodesApart() {
+    CodeAllocator allocator = new CodeAllocator(
+        CodeAllocation.newBuilder().setMinDistance(2).build(), codes(0), codes());
+    // 0001 to 0010 differ from 0000 in one digit; 0011 differs in two.
+    assertEquals(11, allocator.allocate(EntryCodeType.PERMANENT));
+    // 0012 to 0021 are within one digit of 0000 or the new 0011.
+    assertEquals(22, allocator.allocate(EntryCodeType.PERMANENT));
+  }
+
+  @Test
+  public void randomCodesKeepMinDistance() {
+    CodeAllocator allocator = new CodeAllocator(
+        CodeAllocation.newBuilder().setMinDistance(3).setRandom(true).build(),
+        codes(1234), codes(), new Random(1));
+    int[] allocated = new int[20];
+    for (int i = 0; i < allocated.length; i++) {
+      allocated[i] = allocator.allocate(EntryCodeType.PERMANENT);
+      assertTrue(distance(allocated[i], 1234) >= 3);
+      for (int j = 0; j < i; j++) {
+        assertTrue(distance(allocated[i], allocated[j]) >= 3);
+      }
+    }
+  }
+
+  @Test
+  public void reservedRangesBelongToTheirType() {
+    CodeAllocation policy = CodeAllocation.newBuilder()
+        .addReservedRange(range("delivery", 0, 1))
+        .build();
+    CodeAllocator allocator = new CodeAllocator(policy, codes(), codes());
+    assertEquals(2, allocator.allocate(EntryCodeType.PERMANENT));
+    assertEquals(0, allocator.allocate(EntryCodeType.DELIVERY));
+    assertEquals(1, allocator.allocate(EntryCodeType.DELIVERY));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void exhaustedReservedRangeFails() {
+    CodeAllocation policy = CodeAllocation.newBuilder()
+        .addReservedRange(range("DELIVERY", 5000, 5001))
+        .build();
+    CodeAllocator allocator = new CodeAllocator(policy, codes(5000), codes(5001));
+    allocator.allocate(EntryCodeType.DELIVERY);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void minDistanceOverFourIsRejected() {
+    new CodeAllocator(CodeAllocation.newBuilder().setMinDistance(5).build(), codes(), codes());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void reservedRangeOfUnknownTypeIsRejected() {
+    new CodeAllocator(CodeAllocation.newBuilder().addReservedRange(range("GUEST", 0, 9)).build(),
+        codes(), codes());
+  }
+
+  private static EntryCodeSet codes(int... codes) {
+    EntryCodeSet set = new EntryCodeSet();
+    for (int code : codes) {
+      set.add(code);
+    }
+    return set;
+  }
+
+  private static CodeRange range(String type, int first, int last) {
+    return CodeRange.newBuilder().setEntryCodeType(type).setFirst(first).setLast(last).build();
+  }
+
+  /** Returns the number of digits in which two codes differ. */
+  private static int distance(int a, int b) {
+    int digits = 0;
+    for (int i = 0; i < 4; i++, a /= 10, b /= 10) {
+      if (a % 10 != b % 10) {
+        digits++;
+      }
+    }
+    return digits;
+  }
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+public class CsvWriterTest {
+  private final StringWriter out = new StringWriter();
+  private final CsvWriter csv = new CsvWriter(out);
+
+  @Test
+  public void quotesOnlyFieldsThatNeedIt() throws IOException {
+    csv.field("plain").field("Smith, John").field("say \"hi\"").field("two\nlines")
+        .field("cr\r").field("");
+    assertEquals("plain,\"Smith, John\",\"say \"\"hi\"\"\",\"two\nlines\",\"cr\r\",",
+        out.toString());
+  }
+
+  @Test
+  public void nullsAreEmptyFields() throws IOException {
+    csv.field((String) null).field(null, 3).field((String) null);
+    assertEquals(",,", out.toString());
+  }
+
+  @Test
+  public void zeroPadsNumbers() throws IOException {
+    csv.field(7, 4).field(42, 2).field(0, 3).field(12345, 4).field(-5, 3)
+        .field(Integer.MAX_VALUE, 4);
+    assertEquals("0007,42,000,12345,-005,2147483647", out.toString());
+  }
+
+  @Test
+  public void booleansAreYesOrNo() throws IOException {
+    csv.field(true).field(false);
+    assertEquals("Y,N", out.toString());
+  }
+
+  @Test
+  public void rawIsWrittenAsIs() throws IOException {
+    csv.raw("ACCOUNT").raw("A,B");
+    assertEquals("ACCOUNT,A,B", out.toString());
+  }
+
+  @Test
+  public void endRowStartsANewRow() throws IOException {
+    csv.field("a").field("b");
+    csv.endRow();
+    csv.field("c");
+    assertEquals("a,b" + System.lineSeparator() + "c", out.toString());
+  }
+}
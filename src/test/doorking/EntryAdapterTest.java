@@ -0,0 +1,125 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package doorking;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import com.google.common.collect.ImmutableList;
+
+import doorking.EntryCodeAdapter.EntryCodes;
+import doorking.Proto.Config;
+import doorking.Proto.SecurityLevelMapping;
+import org.junit.Test;
+
+public class EntryAdapterTest {
+  private static final Config CONFIG = Config.newBuilder()
+      .setAccountName("ACME")
+      .setLocalPhonePrefix("412")
+      .addSecurityLevelMapping(mapping("PERMANENT", 1))
+      .addSecurityLevelMapping(mapping("LIMITED", 2))
+      .addSecurityLevelMapping(mapping("DELIVERY", 3))
+      .build();
+
+  @Test
+  public void parallelAdaptationWritesSameCsv() throws Exception {
+    List<ResidentRow> residents = new ArrayList<>();
+    List<EntryCodeRow> codes = new ArrayList<>();
+    for (int house = 1; house <= 15; house++) {
+      String street = house % 2 == 0 ? "Oak St" : "Elm St";
+      String number = Integer.toString(house);
+      if (house % 3 == 0) {
+        // The owner is the first row with a display name, not the first row.
+        residents.add(resident(street, number, residents.size(), ""));
+      }
+      residents.add(resident(street, number, residents.size(), "Resident " + house));
+      if (house % 3 != 2) {
+        residents.add(resident(street, number, residents.size(), "Tenant " + house));
+      }
+      codes.add(code(street, number, 1000 + house, "permanent"));
+      if (house % 2 == 0) {
+        codes.add(code(street, number, 2000 + house, "permanent"));
+      }
+      if (house % 4 == 0) {
+        codes.add(code(street, number, 3000 + house, "limited"));
+      }
+      if (house % 5 == 0) {
+        codes.add(code(street, number, 4000 + house, "delivery"));
+      }
+    }
+    codes.add(new EntryCodeRow(null, null, "Bakery", "5001", "limited", null));
+    codes.add(new EntryCodeRow(null, null, null, "5002", "permanent", "Old Smith"));
+    List<DeletedCodeRow> deletedCodes = ImmutableList.of(new DeletedCodeRow("9999"));
+
+    String sequential = export(residents, codes, deletedCodes, 0);
+    for (int chunkSize : new int[] {1, 4, 7, 1000}) {
+      assertEquals("Chunks of " + chunkSize, sequential,
+          export(residents, codes, deletedCodes, chunkSize));
+    }
+  }
+
+  /** Adapts the rows, in chunks of {@code chunkSize} if it is positive. */
+  private static String export(List<ResidentRow> residents, List<EntryCodeRow> codes,
+      List<DeletedCodeRow> deletedCodes, int chunkSize) throws IOException {
+    EntryCodeSet deleted = new DeletedEntryCodeAdapter(deletedCodes).adapt();
+    EntryCodeAdapter codeAdapter = new EntryCodeAdapter(codes, deleted);
+    EntryCodes entryCodes = chunkSize > 0
+        ? codeAdapter.adapt(ForkJoinPool.commonPool(), chunkSize)
+        : codeAdapter.adapt();
+    EntryAdapter adapter = new EntryAdapter(CONFIG, residents, entryCodes);
+    Path file = Files.createTempFile("doorking", ".csv");
+    try (CsvExport export = new CsvExport(file, CONFIG.getAccountName())) {
+      if (chunkSize > 0) {
+        adapter.adapt(export, ForkJoinPool.commonPool(), chunkSize);
+      } else {
+        adapter.adapt(export);
+      }
+      export.commit();
+    }
+    String csv = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    Files.delete(file);
+    return csv;
+  }
+
+  private static ResidentRow resident(String street, String houseNumber, int index,
+      String displayName) {
+    return new ResidentRow(street, houseNumber, "#" + (100 + index), displayName,
+        (index % 2 == 0 ? "412" : "724") + "-555-" + (1000 + index),
+        ImmutableList.of("D" + index));
+  }
+
+  private static EntryCodeRow code(String street, String houseNumber, int code,
+      String type) {
+    return new EntryCodeRow(street, houseNumber, null, Integer.toString(code), type, null);
+  }
+
+  private static SecurityLevelMapping mapping(String entryCodeType, int securityLevel) {
+    return SecurityLevelMapping.newBuilder()
+        .setEntryCodeType(entryCodeType)
+        .setSecurityLevel(securityLevel)
+        .build();
+  }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package doorking;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class EntryDeltaTest {
+  @Test
+  public void changedHiddenCodeIsModified() throws Exception {
+    EntryDelta delta = new EntryDelta(
+        toLines(resident(12, 1234), hidden("Smith 2", "1 Main St limited", 5678)),
+        toLines(resident(12, 1234), hidden("Smith 2", "1 Main St limited", 5679)));
+
+    assertEquals(0, delta.added.size());
+    assertEquals(1, delta.modified.size());
+    assertEquals(0, delta.removed.size());
+  }
+
+  @Test
+  public void duplicateDirectoryNumbersAreComparedInOrder() throws Exception {
+    EntryDelta delta = new EntryDelta(
+        toLines(resident(12, 1234), resident(12, 2345)),
+        toLines(resident(12, 1234), resident(12, 2346), resident(12, 3456)));
+
+    assertEquals("[DIR 12 #3]", delta.added.keySet().toString());
+    assertEquals("[DIR 12 #2]", delta.modified.keySet().toString());
+    assertEquals(0, delta.removed.size());
+  }
+
+  private static Map<String, String> toLines(Entry... entries) {
+    EntryDelta.Keys keys = new EntryDelta.Keys();
+    Map<String, String> lines = new LinkedHashMap<>();
+    for (Entry entry : entries) {
+      lines.put(keys.get(entry), entry.toString());
+    }
+    return lines;
+  }
+
+  private static Entry resident(int directoryNumber, int entryCode) {
+    return Entry.newBuilder()
+        .setDirectoryDisplayName("Smith")
+        .setDirectoryNumber(directoryNumber)
+        .setEntryCode(entryCode)
+        .setSecurityLevel(1)
+        .setNotes("1 Main St")
+        .build();
+  }
+
+  private static Entry hidden(String displayName, String notes, int entryCode) {
+    return Entry.newBuilder()
+        .setDirectoryDisplayName(displayName)
+        .setEntryCode(entryCode)
+        .setSecurityLevel(1)
+        .setNotes(notes)
+        .markHidden()
+        .build();
+  }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package doorking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+import doorking.Proto.Config;
+import org.junit.Test;
+
+public class EntrySnapshotStoreTest {
+  private static final Config CONFIG = Config.newBuilder().setAccountName("ACME").build();
+
+  @Test
+  public void entriesAreReadBackInOrder() throws Exception {
+    EntrySnapshotStore store = newStore();
+    assertFalse(store.forEachEntry((accountName, entry) -> { }));
+
+    List<String> written = new ArrayList<>();
+    try (EntrySnapshotStore.Writer writer = store.newWriter(CONFIG,
+        ImmutableList.of(new EntryCodeRow("Oak St", "12", null, "1234", "permanent", null)),
+        new EntryCodeSet())) {
+      for (int i = 0; i < 3; i++) {
+        Entry entry = Entry.newBuilder()
+            .setDirectoryDisplayName("Resident " + i)
+            .setDirectoryNumber(100 + i)
+            .setEntryCode(1234 + i)
+            .setSecurityLevel(1)
+            .addDeviceNumber("D" + i)
+            .build();
+        writer.accept(entry);
+        written.add("ACME," + entry);
+      }
+      writer.commit();
+    }
+
+    assertEquals(written, read(store));
+  }
+
+  @Test
+  public void uncommittedWriterKeepsStoredSnapshot() throws Exception {
+    EntrySnapshotStore store = newStore();
+    try (EntrySnapshotStore.Writer writer = store.newWriter(CONFIG, ImmutableList.of(),
+        new EntryCodeSet())) {
+      writer.accept(Entry.newBuilder().setDirectoryNumber(100).build());
+      writer.commit();
+    }
+    try (EntrySnapshotStore.Writer writer = store.newWriter(CONFIG, ImmutableList.of(),
+        new EntryCodeSet())) {
+      writer.accept(Entry.newBuilder().setDirectoryNumber(200).build());
+    }
+
+    assertEquals(ImmutableList.of("ACME," + Entry.newBuilder().setDirectoryNumber(100).build()),
+        read(store));
+  }
+
+  private static EntrySnapshotStore newStore() throws Exception {
+    Path directory = Files.createTempDirectory("snapshot");
+    return EntrySnapshotStore.forOutputFile(directory.resolve("doorking.csv"));
+  }
+
+  private static List<String> read(EntrySnapshotStore store) throws Exception {
+    List<String> lines = new ArrayList<>();
+    store.forEachEntry((accountName, entry) -> lines.add(accountName + "," + entry));
+    return lines;
+  }
+}
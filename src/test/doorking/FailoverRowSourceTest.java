@@ -0,0 +1,118 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package doorking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import doorking.GoogleRetriever.Result;
+import org.junit.Test;
+
+public class FailoverRowSourceTest {
+  /** Blocks its first retrieve, ignoring interrupts, until released. */
+  private static class BlockingSource implements RowSource {
+    final Result result = newResult();
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger calls = new AtomicInteger();
+    volatile int maxRunning;
+    int commits;
+    boolean closed;
+
+    @Override
+    public Result retrieve() {
+      maxRunning = Math.max(maxRunning, running.incrementAndGet());
+      try {
+        if (calls.incrementAndGet() == 1) {
+          Uninterruptibles.awaitUninterruptibly(release);
+        }
+        return result;
+      } finally {
+        running.decrementAndGet();
+      }
+    }
+
+    @Override
+    public void commit() {
+      commits++;
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+
+  private static class CountingSource implements RowSource {
+    final Result result = newResult();
+    int commits;
+    boolean closed;
+
+    @Override
+    public Result retrieve() {
+      return result;
+    }
+
+    @Override
+    public void commit() {
+      commits++;
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+
+  @Test
+  public void abandonedPrimaryFinishesBeforeNextRetrieve() throws Exception {
+    BlockingSource primary = new BlockingSource();
+    CountingSource fallback = new CountingSource();
+    FailoverRowSource source = new FailoverRowSource(primary, fallback, 100);
+
+    assertTrue(source.retrieve() == fallback.result);
+    source.commit();
+    assertEquals(1, fallback.commits);
+    assertEquals(0, primary.commits);
+
+    // The first primary retrieve is still blocked, so this one cannot start.
+    assertTrue(source.retrieve() == fallback.result);
+    assertEquals(1, primary.calls.get());
+
+    primary.release.countDown();
+    assertTrue(source.retrieve() == primary.result);
+    source.commit();
+    assertEquals(1, primary.commits);
+    assertEquals(1, primary.maxRunning);
+
+    source.close();
+    assertTrue(primary.closed);
+    assertTrue(fallback.closed);
+  }
+
+  private static Result newResult() {
+    return new Result(ImmutableList.of(), ImmutableList.of(), ImmutableList.of());
+  }
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+import doorking.GoogleRetriever.Result;
+import doorking.Proto.ColumnLayout;
+import doorking.Proto.ColumnMapping;
+import doorking.Proto.Config;
+import org.junit.Test;
+
+public class FileRowSourceTest {
+  /** Residents mapped by header, and codes with the notes in column G. */
+  private static final List<RowLayout> LAYOUTS = RowLayout.forConfig(Config.newBuilder()
+      .setTelephoneEntryLayout(ColumnLayout.newBuilder()
+          .setHeaderRow(true)
+          .addColumn(header("display_name", "Name"))
+          .addColumn(header("street", "Street"))
+          .addColumn(header("house_number", "House")))
+      .setEntryCodeLayout(ColumnLayout.newBuilder()
+          .addColumn(ColumnMapping.newBuilder().setField("notes").setColumn("G")))
+      .build());
+
+  @Test
+  public void readsConfiguredLayouts() throws Exception {
+    File directory = Files.createTempDirectory("dump").toFile();
+    write(directory, "entries.csv", "Name,Street,House,Dir,,Phone\n"
+        + "Jane,Oak St,12,#101,,555-0101\n");
+    write(directory, "codes.csv", "Oak St,12,,1234,permanent,,gate\n");
+    write(directory, "deleted_codes.csv", "");
+
+    Result result = new FileRowSource(directory, LAYOUTS).retrieve();
+    ResidentRow resident = result.entries.get(0);
+    assertEquals("Jane", resident.displayName);
+    assertEquals("Oak St", resident.street);
+    assertEquals("12", resident.houseNumber);
+    assertEquals("#101", resident.directoryNumber);
+    assertEquals("gate", result.codes.get(0).notes);
+    assertEquals(2, result.getSheetRow(Result.ENTRIES, 0));
+    assertEquals(1, result.getSheetRow(Result.CODES, 0));
+  }
+
+  @Test
+  public void readsWrittenDumpInDefaultLayouts() throws Exception {
+    File directory = Files.createTempDirectory("dump").toFile();
+    new FileRowSource(directory).write(new Result(
+        ImmutableList.of(new ResidentRow("Oak St", "12", "#101", "Jane", "555-0101",
+            ImmutableList.of("D1", "D2"))),
+        ImmutableList.of(new EntryCodeRow("Oak St", "12", null, "1234", "permanent", "gate")),
+        ImmutableList.of(new DeletedCodeRow("9999"))));
+
+    Result result = new FileRowSource(directory, LAYOUTS).retrieve();
+    assertEquals(1, result.entries.size());
+    ResidentRow resident = result.entries.get(0);
+    assertEquals("Jane", resident.displayName);
+    assertEquals("Oak St", resident.street);
+    assertEquals("555-0101", resident.phoneNumber);
+    assertEquals(ImmutableList.of("D1", "D2"), resident.deviceNumbers);
+    assertEquals("gate", result.codes.get(0).notes);
+    assertEquals("9999", result.deletedCodes.get(0).entryCode);
+    assertEquals(2, result.getSheetRow(Result.DELETED_CODES, 0));
+  }
+
+  private static ColumnMapping header(String field, String header) {
+    return ColumnMapping.newBuilder().setField(field).setHeader(header).build();
+  }
+
+  private static void write(File directory, String name, String text) throws Exception {
+    Files.write(new File(directory, name).toPath(), text.getBytes(StandardCharsets.UTF_8));
+  }
+}
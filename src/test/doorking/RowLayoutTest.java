@@ -0,0 +1,105 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import com.google.common.collect.ImmutableList;
+
+import doorking.GoogleRetriever.Result;
+import doorking.Proto.ColumnLayout;
+import doorking.Proto.ColumnMapping;
+import doorking.Proto.Config;
+import org.junit.Test;
+
+public class RowLayoutTest {
+  private static final ColumnLayout BY_HEADER = ColumnLayout.newBuilder()
+      .setHeaderRow(true)
+      .addColumn(header("display_name", "Name"))
+      .addColumn(header("street", " STREET "))
+      .addColumn(header("house_number", "Unit"))
+      .addColumn(header("device_number", "Gate"))
+      .addColumn(header("device_number", "Garage"))
+      .build();
+
+  @Test
+  public void headerMappedLayoutCompilesFromHeaderRow() {
+    RowLayout layout = ResidentRow.layout(BY_HEADER);
+    assertNull(layout.getDecoder());
+    assertEquals(-1, layout.getLastColumn());
+
+    Result.Builder builder = new Result.Builder(
+        RowLayout.forConfig(Config.newBuilder().setTelephoneEntryLayout(BY_HEADER).build()),
+        ImmutableList.of("Residents!A1:Z", "Codes!A2:F", "Deleted!A2:A"));
+    // Directory and phone numbers are not mapped, so stay in D and F.
+    FileRowSource.parseCsv("Name,Street,Unit,Dir,Notes,Phone,Gate,Garage\n"
+        + "Jane,Oak St,12,#101,,555-0101,D1,D2\n", builder.forRange(Result.ENTRIES));
+    Result result = builder.build(false);
+
+    assertEquals(1, result.entries.size());
+    ResidentRow row = result.entries.get(0);
+    assertEquals("Jane", row.displayName);
+    assertEquals("Oak St", row.street);
+    assertEquals("12", row.houseNumber);
+    assertEquals("#101", row.directoryNumber);
+    assertEquals("555-0101", row.phoneNumber);
+    assertEquals(ImmutableList.of("D1", "D2"), row.deviceNumbers);
+    assertEquals(2, result.getSheetRow(Result.ENTRIES, 0));
+  }
+
+  @Test
+  public void columnMappedLayoutCompilesUpFront() {
+    RowLayout layout = EntryCodeRow.layout(ColumnLayout.newBuilder()
+        .addColumn(ColumnMapping.newBuilder().setField("notes").setColumn("h"))
+        .build());
+    assertNotNull(layout.getDecoder());
+    assertEquals(7, layout.getLastColumn());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void missingHeaderFails() {
+    ResidentRow.layout(BY_HEADER).compile(cells("Name", "Street", "Unit", "Gate"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void headerMappingNeedsHeaderRow() {
+    ResidentRow.layout(BY_HEADER.toBuilder().setHeaderRow(false).build());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void singleColumnFieldTakesOneMapping() {
+    ResidentRow.layout(BY_HEADER.toBuilder().addColumn(header("display_name", "Owner")).build())
+        .compile(cells("Name", "Owner", "Street", "Unit", "Gate", "Garage"));
+  }
+
+  private static ColumnMapping header(String field, String header) {
+    return ColumnMapping.newBuilder().setField(field).setHeader(header).build();
+  }
+
+  private static Cells cells(String... values) {
+    Cells cells = new Cells();
+    for (String value : values) {
+      cells.add(value);
+    }
+    return cells;
+  }
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package doorking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import doorking.Proto.Config;
+import doorking.Proto.SecurityLevelMapping;
+import doorking.SnapshotCache.Snapshot;
+import org.junit.Test;
+
+public class SnapshotCacheTest {
+  private static final List<String> RANGES = ImmutableList.of("Residents!A2:L");
+
+  @Test
+  public void snapshotIsCurrentForSameSettings() throws Exception {
+    File directory = Files.createTempDirectory("snapshots").toFile();
+    Config config = Config.newBuilder().setAccountName("Home").build();
+    new SnapshotCache(directory, config).store("sheet", RANGES, newSnapshot());
+
+    SnapshotCache cache = new SnapshotCache(directory, config.toBuilder().setMaxAttempts(2).build());
+    Snapshot snapshot = cache.load("sheet", RANGES);
+    assertEquals("etag", snapshot.eTag);
+    assertTrue(cache.isCurrent(snapshot));
+  }
+
+  @Test
+  public void snapshotIsStaleAfterOutputSettingsChange() throws Exception {
+    File directory = Files.createTempDirectory("snapshots").toFile();
+    Config config = Config.newBuilder().setAccountName("Home").build();
+    new SnapshotCache(directory, config).store("sheet", RANGES, newSnapshot());
+
+    assertStale(directory, config.toBuilder().setAccountName("Away").build());
+    assertStale(directory, config.toBuilder().setLocalPhonePrefix("412").build());
+    assertStale(directory, config.toBuilder().setSkipInvalidRows(true).build());
+    assertStale(directory, config.toBuilder().addSecurityLevelMapping(
+        SecurityLevelMapping.newBuilder().setSecurityLevel(1)).build());
+  }
+
+  @Test
+  public void sitesSharingASheetHaveSeparateSnapshots() throws Exception {
+    File directory = Files.createTempDirectory("snapshots").toFile();
+    Config north = Config.newBuilder().setOutputFile("/tmp/doorking-north.csv").build();
+    Config south = Config.newBuilder().setOutputFile("/tmp/doorking-south.csv").build();
+    new SnapshotCache(directory, north).store("sheet", RANGES, newSnapshot());
+
+    assertNull(new SnapshotCache(directory, south).load("sheet", RANGES));
+  }
+
+  private static void assertStale(File directory, Config config) throws Exception {
+    SnapshotCache cache = new SnapshotCache(directory, config);
+    assertFalse(cache.isCurrent(cache.load("sheet", RANGES)));
+  }
+
+  private static Snapshot newSnapshot() {
+    return new Snapshot("{}".getBytes(StandardCharsets.UTF_8), "etag");
+  }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package doorking;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Map;
+
+import doorking.Proto.CodeAllocation;
+import doorking.Proto.CodeRange;
+import doorking.Proto.ColumnLayout;
+import doorking.Proto.ColumnMapping;
+import doorking.Proto.Config;
+import doorking.Proto.Site;
+import org.junit.Test;
+
+public class SyncTest {
+  @Test
+  public void siteLayoutReplacesSharedLayout() {
+    Config config = Config.newBuilder()
+        .setOutputFile("/tmp/doorking.csv")
+        .setTelephoneEntryLayout(ColumnLayout.newBuilder()
+            .addColumn(ColumnMapping.newBuilder().setField("street").setColumn("A")))
+        .setCodeAllocation(CodeAllocation.newBuilder()
+            .addReservedRange(CodeRange.newBuilder().setFirst(1000).setLast(1999)))
+        .addSite(Site.newBuilder().setName("north").setConfig(Config.newBuilder()
+            .setTelephoneEntryLayout(ColumnLayout.newBuilder()
+                .addColumn(ColumnMapping.newBuilder().setField("street").setColumn("B")))
+            .setCodeAllocation(CodeAllocation.newBuilder()
+                .addReservedRange(CodeRange.newBuilder().setFirst(2000).setLast(2999)))))
+        .addSite(Site.newBuilder().setName("south"))
+        .build();
+
+    Map<String, Config> sites = Sync.getSites(config);
+
+    Config north = sites.get("north");
+    assertEquals(1, north.getTelephoneEntryLayout().getColumnCount());
+    assertEquals("B", north.getTelephoneEntryLayout().getColumn(0).getColumn());
+    assertEquals(1, north.getCodeAllocation().getReservedRangeCount());
+    assertEquals(2000, north.getCodeAllocation().getReservedRange(0).getFirst());
+    assertEquals("/tmp/doorking-north.csv", north.getOutputFile());
+
+    Config south = sites.get("south");
+    assertEquals(config.getTelephoneEntryLayout(), south.getTelephoneEntryLayout());
+    assertEquals(config.getCodeAllocation(), south.getCodeAllocation());
+    assertEquals("/tmp/doorking-south.csv", south.getOutputFile());
+  }
+}
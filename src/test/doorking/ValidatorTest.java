@@ -0,0 +1,122 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+import doorking.GoogleRetriever.Result;
+import doorking.Proto.ColumnLayout;
+import doorking.Proto.Config;
+import doorking.Proto.SecurityLevelMapping;
+import org.junit.Test;
+
+public class ValidatorTest {
+  private static final String RESIDENTS = "Oak,12,,#101,Smith,555-0101\n"
+      + "Oak,14,,101,Jones,555-0102\n";
+  private static final String CODES = "Oak,12,,1234,permanent\n"
+      + "Oak,14,,1235,permanent\n";
+
+  @Test
+  public void reportsSheetRowsBelowRangeStartAndHeader() throws Exception {
+    List<RowLayout> layouts = RowLayout.forConfig(Config.newBuilder()
+        .setTelephoneEntryLayout(ColumnLayout.newBuilder().setHeaderRow(true))
+        .build());
+    Result.Builder builder = new Result.Builder(layouts,
+        ImmutableList.of("Residents!A3:L", "Codes!A2:F", "Deleted!A5:A"));
+    FileRowSource.parseCsv("Street,House,,Dir,Name,Phone\n" + RESIDENTS,
+        builder.forRange(Result.ENTRIES));
+    FileRowSource.parseCsv(CODES, builder.forRange(Result.CODES));
+    FileRowSource.parseCsv("12a\n", builder.forRange(Result.DELETED_CODES));
+
+    Validator.Report report = new Validator().validate(builder.build(false));
+    assertEquals(3, report.problems.size());
+    assertEquals("Residents!A3:L row 5: Directory number 101 is not # and digits",
+        report.format(report.problems.get(0)));
+    assertTrue(report.format(report.problems.get(1)).startsWith("Codes!A2:F row 3: Code 1235"));
+    assertEquals("Deleted!A5:A row 5: Entry code 12a is not 4 digits",
+        report.format(report.problems.get(2)));
+
+    assertEquals(1, report.valid.entries.size());
+    assertEquals("Smith", report.valid.entries.get(0).displayName);
+    assertEquals(1, report.valid.codes.size());
+    assertEquals("1234", report.valid.codes.get(0).entryCode);
+    assertTrue(report.valid.deletedCodes.isEmpty());
+  }
+
+  @Test
+  public void reportsDumpFileRows() throws Exception {
+    Path dump = writeDump();
+    Validator.Report report = new Validator().validate(
+        new FileRowSource(dump.toFile()).retrieve());
+    assertEquals("entries.csv row 2: Directory number 101 is not # and digits",
+        report.format(report.problems.get(0)));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void invalidRowsFailTheSync() throws Exception {
+    sync(false);
+  }
+
+  @Test
+  public void skipInvalidRowsExportsTheRest() throws Exception {
+    String export = sync(true);
+    assertTrue(export.contains("Smith"));
+    assertFalse(export.contains("Jones"));
+    assertFalse(export.contains("1235"));
+  }
+
+  private static String sync(boolean skipInvalidRows) throws Exception {
+    Path dump = writeDump();
+    File output = new File(dump.toFile(), "doorking.csv");
+    Config config = Config.newBuilder()
+        .setAccountName("ACME")
+        .setLocalPhonePrefix("412")
+        .addSecurityLevelMapping(SecurityLevelMapping.newBuilder()
+            .setEntryCodeType("PERMANENT")
+            .setSecurityLevel(1))
+        .setOutputFile(output.getPath())
+        .setSkipInvalidRows(skipInvalidRows)
+        .build();
+    new Sync().sync("ACME", config, new FileRowSource(dump.toFile()));
+    return new String(Files.readAllBytes(output.toPath()), StandardCharsets.UTF_8);
+  }
+
+  private static Path writeDump() throws Exception {
+    Path dump = Files.createTempDirectory("dump");
+    write(dump.resolve("entries.csv"), RESIDENTS);
+    write(dump.resolve("codes.csv"), CODES);
+    write(dump.resolve("deleted_codes.csv"), "");
+    return dump;
+  }
+
+  private static void write(Path file, String text) throws Exception {
+    Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright 2018 Iron City Software LLC
+ *
+ * This file is part of DoorKing.
+ *
+ * DoorKing is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DoorKing is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with DoorKing.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package doorking;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+public class ValuesDecoderTest {
+  private final List<String> rows = new ArrayList<>();
+
+  @Test
+  public void decodesMixedValueTypesAsText() throws IOException {
+    int ranges = decode("{\"range\": \"Residents!A2:F\", \"majorDimension\": \"ROWS\","
+        + " \"values\": [[\"Oak St\", 12, true, null, \"#101\", 5550101],"
+        + " [\"Elm St\", 12.5, false, {\"ignored\": 1}, [2, 3], \"\"], []]}");
+    assertEquals(1, ranges);
+    assertEquals(ImmutableList.of(
+        "0: Oak St|12|true||#101|5550101",
+        "0: Elm St|12.5|false|||",
+        "0: "), rows);
+  }
+
+  @Test
+  public void decodesUnformattedValues() throws IOException {
+    // UNFORMATTED_VALUE sends numbers without their formatting, and dates as
+    // serial numbers with SERIAL_NUMBER.
+    decode("{\"values\": [[1234, 43101, 0.25, -1, 1e3]]}");
+    assertEquals(ImmutableList.of("0: 1234|43101|0.25|-1|1e3"), rows);
+  }
+
+  @Test
+  public void numbersValueRangesOfABatchInOrder() throws IOException {
+    int ranges = decode("{\"spreadsheetId\": \"sheet\", \"valueRanges\": ["
+        + "{\"range\": \"Residents!A2:F\", \"values\": [[\"a\"], [\"b\"]]},"
+        + "{\"range\": \"Codes!A2:F\"},"
+        + "{\"values\": [[\"c\", 1]], \"range\": \"Deleted!A2:A\"}]}");
+    assertEquals(3, ranges);
+    assertEquals(ImmutableList.of("0: a", "0: b", "2: c|1"), rows);
+  }
+
+  private int decode(String json) throws IOException {
+    return new ValuesDecoder(Transports.getJsonFactory()).decode(
+        new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+        (range, cells) -> {
+          StringBuilder row = new StringBuilder(range + ": ");
+          for (int i = 0; i < cells.size(); i++) {
+            row.append(i == 0 ? "" : "|").append(cells.get(i));
+          }
+          rows.add(row.toString());
+        });
+  }
+}